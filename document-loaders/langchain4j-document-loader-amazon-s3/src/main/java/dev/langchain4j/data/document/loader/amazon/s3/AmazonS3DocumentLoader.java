@@ -1,9 +1,21 @@
 package dev.langchain4j.data.document.loader.amazon.s3;
 
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.stream.Collectors.toList;
+import static software.amazon.awssdk.regions.Region.US_EAST_1;
+
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.amazon.s3.AmazonS3Source;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
@@ -15,17 +27,6 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.model.*;
 
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.util.ArrayList;
-import java.util.List;
-
-import static dev.langchain4j.internal.Utils.isNullOrBlank;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-import static java.util.stream.Collectors.toList;
-import static software.amazon.awssdk.regions.Region.US_EAST_1;
-
 public class AmazonS3DocumentLoader {
 
     private static final Logger log = LoggerFactory.getLogger(AmazonS3DocumentLoader.class);
@@ -109,6 +110,55 @@ public class AmazonS3DocumentLoader {
         return documents;
     }
 
+    /**
+     * Lazily loads all documents from an S3 bucket.
+     * Objects are listed page by page and only downloaded and parsed when the returned stream is consumed,
+     * so that only the documents currently being processed are held in memory.
+     * Skips any documents that fail to load.
+     *
+     * @param bucket S3 bucket to load from.
+     * @param prefix Only keys with the specified prefix will be loaded. Optional.
+     * @param parser The parser to be used for parsing text from the object.
+     * @return A stream of documents.
+     * @throws RuntimeException If {@link S3Exception} occurs.
+     */
+    public Stream<Document> streamDocuments(String bucket, String prefix, DocumentParser parser) {
+        ListObjectsV2Request listObjectsV2Request = ListObjectsV2Request.builder()
+                .bucket(ensureNotBlank(bucket, "bucket"))
+                .prefix(prefix)
+                .build();
+
+        return s3Client.listObjectsV2Paginator(listObjectsV2Request).contents().stream()
+                .filter(s3Object -> !s3Object.key().endsWith("/") && s3Object.size() > 0)
+                .map(s3Object -> {
+                    String key = s3Object.key();
+                    try {
+                        return loadDocument(bucket, key, parser);
+                    } catch (Exception e) {
+                        log.warn(
+                                "Failed to load an object with key '{}' from bucket '{}', skipping it.",
+                                key,
+                                bucket,
+                                e);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Lazily loads all documents from an S3 bucket.
+     * See {@link #streamDocuments(String, String, DocumentParser)}.
+     *
+     * @param bucket S3 bucket to load from.
+     * @param parser The parser to be used for parsing text from the object.
+     * @return A stream of documents.
+     * @throws RuntimeException If {@link S3Exception} occurs.
+     */
+    public Stream<Document> streamDocuments(String bucket, DocumentParser parser) {
+        return streamDocuments(bucket, null, parser);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,97 @@
+package dev.langchain4j.data.document.loader.amazon.s3;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+class AmazonS3DocumentLoaderTest {
+
+    private static final String TEST_BUCKET = "test-bucket";
+
+    S3Client s3Client = mock(S3Client.class);
+
+    AmazonS3DocumentLoader loader = new AmazonS3DocumentLoader(s3Client);
+
+    @BeforeEach
+    void beforeEach() {
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenAnswer(invocation -> new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(object("first.txt"), object("failing.txt"), object("third.txt"))
+                        .isTruncated(false)
+                        .build());
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            String key = invocation.<GetObjectRequest>getArgument(0).key();
+            if (key.equals("failing.txt")) {
+                throw S3Exception.builder().message("Access Denied").build();
+            }
+            return new ResponseInputStream<>(
+                    GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(("content of " + key).getBytes(UTF_8))));
+        });
+    }
+
+    @Test
+    void should_skip_documents_failing_to_load() {
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, new TextDocumentParser())) {
+            documents = stream.toList();
+        }
+
+        // then
+        assertThat(documents)
+                .extracting(Document::text)
+                .containsExactly("content of first.txt", "content of third.txt");
+    }
+
+    @Test
+    void should_load_documents_only_when_stream_is_consumed() {
+
+        // when
+        Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, new TextDocumentParser());
+
+        // then
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+
+        // when
+        Optional<Document> first = stream.findFirst();
+
+        // then
+        assertThat(first).map(Document::text).contains("content of first.txt");
+        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+        verify(s3Client)
+                .getObject(argThat((GetObjectRequest request) -> request.key().equals("first.txt")));
+    }
+
+    private static S3Object object(String key) {
+        return S3Object.builder().key(key).size(1L).build();
+    }
+}
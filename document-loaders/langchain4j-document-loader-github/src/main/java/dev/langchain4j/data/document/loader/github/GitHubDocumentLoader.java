@@ -1,21 +1,22 @@
 package dev.langchain4j.data.document.loader.github;
 
+import static dev.langchain4j.internal.RetryUtils.withRetry;
+
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.github.GitHubSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import static dev.langchain4j.internal.RetryUtils.withRetry;
-
 public class GitHubDocumentLoader {
 
     private static final Logger logger = LoggerFactory.getLogger(GitHubDocumentLoader.class);
@@ -60,9 +61,7 @@ public class GitHubDocumentLoader {
     public Document loadDocument(String owner, String repo, String branch, String path, DocumentParser parser) {
         GHContent content = null;
         try {
-            content = gitHub
-                    .getRepository(owner + "/" + repo)
-                    .getFileContent(path, branch);
+            content = gitHub.getRepository(owner + "/" + repo).getFileContent(path, branch);
         } catch (IOException ioException) {
             throw new RuntimeException(ioException);
         }
@@ -72,10 +71,10 @@ public class GitHubDocumentLoader {
     public List<Document> loadDocuments(String owner, String repo, String branch, String path, DocumentParser parser) {
         List<Document> documents = new ArrayList<>();
         try {
-            gitHub
-                    .getRepository(owner + "/" + repo)
+            gitHub.getRepository(owner + "/" + repo)
                     .getDirectoryContent(path, branch)
-                    .forEach(ghDirectoryContent -> GitHubDocumentLoader.scanDirectory(ghDirectoryContent, documents, parser));
+                    .forEach(ghDirectoryContent ->
+                            GitHubDocumentLoader.scanDirectory(ghDirectoryContent, documents, parser));
         } catch (IOException ioException) {
             throw new RuntimeException(ioException);
         }
@@ -86,10 +85,69 @@ public class GitHubDocumentLoader {
         return loadDocuments(owner, repo, branch, "", parser);
     }
 
+    /**
+     * Lazily loads documents from the specified path of a GitHub repository and all its subdirectories.
+     * Directories are listed and files are downloaded and parsed only when the returned stream is consumed,
+     * so that only the documents currently being processed are held in memory.
+     * Skips any documents that fail to load.
+     *
+     * @param owner  the owner of the repository.
+     * @param repo   the name of the repository.
+     * @param branch the branch to load from.
+     * @param path   the path of the directory to load from.
+     * @param parser the parser to be used for parsing text from each file.
+     * @return a stream of documents.
+     */
+    public Stream<Document> streamDocuments(
+            String owner, String repo, String branch, String path, DocumentParser parser) {
+        try {
+            return gitHub.getRepository(owner + "/" + repo).getDirectoryContent(path, branch).stream()
+                    .flatMap(ghDirectoryContent -> GitHubDocumentLoader.streamDirectory(ghDirectoryContent, parser));
+        } catch (IOException ioException) {
+            throw new RuntimeException(ioException);
+        }
+    }
+
+    /**
+     * Lazily loads documents from the root of a GitHub repository and all its subdirectories.
+     * See {@link #streamDocuments(String, String, String, String, DocumentParser)}.
+     *
+     * @param owner  the owner of the repository.
+     * @param repo   the name of the repository.
+     * @param branch the branch to load from.
+     * @param parser the parser to be used for parsing text from each file.
+     * @return a stream of documents.
+     */
+    public Stream<Document> streamDocuments(String owner, String repo, String branch, DocumentParser parser) {
+        return streamDocuments(owner, repo, branch, "", parser);
+    }
+
+    private static Stream<Document> streamDirectory(GHContent ghContent, DocumentParser parser) {
+        if (ghContent.isDirectory()) {
+            try {
+                return StreamSupport.stream(ghContent.listDirectoryContent().spliterator(), false)
+                        .flatMap(
+                                ghDirectoryContent -> GitHubDocumentLoader.streamDirectory(ghDirectoryContent, parser));
+            } catch (IOException ioException) {
+                logger.error("Failed to read directory from GitHub: {}", ghContent.getHtmlUrl(), ioException);
+                return Stream.empty();
+            }
+        }
+        try {
+            return Stream.of(withRetry(() -> fromGitHub(parser, ghContent), 3));
+        } catch (RuntimeException runtimeException) {
+            logger.error("Failed to read document from GitHub: {}", ghContent.getHtmlUrl(), runtimeException);
+            return Stream.empty();
+        }
+    }
+
     private static void scanDirectory(GHContent ghContent, List<Document> documents, DocumentParser parser) {
         if (ghContent.isDirectory()) {
             try {
-                ghContent.listDirectoryContent().forEach(ghDirectoryContent -> GitHubDocumentLoader.scanDirectory(ghDirectoryContent, documents, parser));
+                ghContent
+                        .listDirectoryContent()
+                        .forEach(ghDirectoryContent ->
+                                GitHubDocumentLoader.scanDirectory(ghDirectoryContent, documents, parser));
             } catch (IOException ioException) {
                 logger.error("Failed to read directory from GitHub: {}", ghContent.getHtmlUrl(), ioException);
             }
@@ -113,7 +171,8 @@ public class GitHubDocumentLoader {
                 GitHubSource source = new GitHubSource(content);
                 return DocumentLoader.load(source, parser);
             } else {
-                throw new IllegalArgumentException("Content must be a file, and not a directory: " + content.getHtmlUrl());
+                throw new IllegalArgumentException(
+                        "Content must be a file, and not a directory: " + content.getHtmlUrl());
             }
         } catch (IOException ioException) {
             throw new RuntimeException("Failed to load document from GitHub: {}", ioException);
@@ -0,0 +1,135 @@
+package dev.langchain4j.data.document.loader.github;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedIterable;
+
+class GitHubDocumentLoaderTest {
+
+    private static final String TEST_OWNER = "owner";
+    private static final String TEST_REPO = "repo";
+    private static final String TEST_BRANCH = "main";
+
+    GitHub gitHub = mock(GitHub.class);
+
+    GitHubDocumentLoader loader = new GitHubDocumentLoader(gitHub);
+
+    GHContent first = file("first.txt");
+    GHContent failing = failingFile("failing.txt");
+    GHContent third = file("directory/third.txt");
+    GHContent directory = directory("directory", third);
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        GHRepository repository = mock(GHRepository.class);
+        when(gitHub.getRepository(TEST_OWNER + "/" + TEST_REPO)).thenReturn(repository);
+        when(repository.getDirectoryContent("", TEST_BRANCH)).thenReturn(List.of(first, failing, directory));
+    }
+
+    @Test
+    void should_skip_documents_failing_to_load() {
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream =
+                loader.streamDocuments(TEST_OWNER, TEST_REPO, TEST_BRANCH, new TextDocumentParser())) {
+            documents = stream.toList();
+        }
+
+        // then
+        assertThat(documents)
+                .extracting(Document::text)
+                .containsExactly("content of first.txt", "content of directory/third.txt");
+    }
+
+    @Test
+    void should_load_documents_only_when_stream_is_consumed() throws IOException {
+
+        // when
+        Stream<Document> stream = loader.streamDocuments(TEST_OWNER, TEST_REPO, TEST_BRANCH, new TextDocumentParser());
+
+        // then
+        verify(first, never()).read();
+
+        // when
+        Optional<Document> document = stream.findFirst();
+
+        // then
+        assertThat(document).map(Document::text).contains("content of first.txt");
+        verify(first).read();
+        verify(failing, never()).read();
+        verify(directory, never()).listDirectoryContent();
+    }
+
+    private static GHContent file(String path) {
+        GHContent file = metadataOf(path);
+        try {
+            when(file.read())
+                    .thenAnswer(invocation -> new ByteArrayInputStream(("content of " + path).getBytes(UTF_8)));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return file;
+    }
+
+    private static GHContent failingFile(String path) {
+        GHContent file = metadataOf(path);
+        try {
+            when(file.read()).thenThrow(new IOException("Not Found"));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return file;
+    }
+
+    private static GHContent metadataOf(String path) {
+        GHContent file = mock(GHContent.class);
+        when(file.isFile()).thenReturn(true);
+        when(file.getGitUrl()).thenReturn("https://api.github.com/git/" + path);
+        when(file.getHtmlUrl()).thenReturn("https://github.com/" + path);
+        when(file.getUrl()).thenReturn("https://api.github.com/" + path);
+        when(file.getName()).thenReturn(path.substring(path.lastIndexOf('/') + 1));
+        when(file.getPath()).thenReturn(path);
+        when(file.getSha()).thenReturn("sha");
+        when(file.getEncoding()).thenReturn("base64");
+        try {
+            when(file.getDownloadUrl()).thenReturn("https://raw.githubusercontent.com/" + path);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return file;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GHContent directory(String path, GHContent... contents) {
+        GHContent directory = mock(GHContent.class);
+        when(directory.isDirectory()).thenReturn(true);
+        when(directory.getHtmlUrl()).thenReturn("https://github.com/" + path);
+        PagedIterable<GHContent> directoryContent = mock(PagedIterable.class);
+        when(directoryContent.spliterator())
+                .thenAnswer(invocation -> List.of(contents).spliterator());
+        try {
+            when(directory.listDirectoryContent()).thenReturn(directoryContent);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return directory;
+    }
+}
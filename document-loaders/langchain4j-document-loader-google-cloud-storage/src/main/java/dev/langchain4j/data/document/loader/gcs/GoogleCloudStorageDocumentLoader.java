@@ -1,27 +1,32 @@
 package dev.langchain4j.data.document.loader.gcs;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import com.google.api.gax.paging.Page;
 import com.google.auth.Credentials;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
-import com.google.api.gax.paging.Page;
-
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.source.gcs.GcsSource;
-
 import java.util.ArrayList;
 import java.util.List;
-
-import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Google Cloud Storage Document Loader to load documents from Google Cloud Storage buckets.
  */
 public class GoogleCloudStorageDocumentLoader {
 
+    private static final Logger log = LoggerFactory.getLogger(GoogleCloudStorageDocumentLoader.class);
+
     private final Storage storage;
 
     private GoogleCloudStorageDocumentLoader(String project, Credentials credentials) {
@@ -38,6 +43,10 @@ public class GoogleCloudStorageDocumentLoader {
         this.storage = storageBuilder.build().getService();
     }
 
+    GoogleCloudStorageDocumentLoader(Storage storage) {
+        this.storage = ensureNotNull(storage, "storage");
+    }
+
     /**
      * Loads a single document from the specified Google Cloud Storage bucket based on the specified object key.
      *
@@ -65,13 +74,9 @@ public class GoogleCloudStorageDocumentLoader {
      * @return A list of documents from the bucket that match the glob pattern.
      */
     public List<Document> loadDocuments(String bucket, String globPattern, DocumentParser parser) {
-        Page<Blob> blobs = globPattern != null ?
-            storage.list(bucket, Storage.BlobListOption.currentDirectory(), Storage.BlobListOption.matchGlob(globPattern)) :
-            storage.list(bucket, Storage.BlobListOption.currentDirectory());
-
         List<Document> documents = new ArrayList<>();
 
-        for (Blob blob : blobs.iterateAll()) {
+        for (Blob blob : listBlobs(bucket, globPattern).iterateAll()) {
             GcsSource gcsSource = new GcsSource(blob);
             documents.add(DocumentLoader.load(gcsSource, ensureNotNull(parser, "parser")));
         }
@@ -90,6 +95,56 @@ public class GoogleCloudStorageDocumentLoader {
         return loadDocuments(bucket, null, parser);
     }
 
+    /**
+     * Lazily loads documents from the specified bucket, filtered with a glob pattern.
+     * Blobs are listed page by page and only downloaded and parsed when the returned stream is consumed,
+     * so that only the documents currently being processed are held in memory.
+     * Skips any documents that fail to load.
+     *
+     * @param bucket the bucket to load files from
+     * @param globPattern filter only files matching the glob pattern, see https://cloud.google.com/storage/docs/json_api/v1/objects/list#list-object-glob
+     * @param parser the parser to use to parse the document
+     * @return A stream of documents from the bucket that match the glob pattern.
+     */
+    public Stream<Document> streamDocuments(String bucket, String globPattern, DocumentParser parser) {
+        ensureNotNull(parser, "parser");
+        return StreamSupport.stream(listBlobs(bucket, globPattern).iterateAll().spliterator(), false)
+                .map(blob -> {
+                    try {
+                        return DocumentLoader.load(new GcsSource(blob), parser);
+                    } catch (Exception e) {
+                        log.warn(
+                                "Failed to load an object with name '{}' from bucket '{}', skipping it.",
+                                blob.getName(),
+                                bucket,
+                                e);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Lazily loads all documents from an GCS bucket.
+     * See {@link #streamDocuments(String, String, DocumentParser)}.
+     *
+     * @param bucket the bucket to load from.
+     * @param parser The parser to be used for parsing text from the object.
+     * @return A stream of documents.
+     */
+    public Stream<Document> streamDocuments(String bucket, DocumentParser parser) {
+        return streamDocuments(bucket, null, parser);
+    }
+
+    private Page<Blob> listBlobs(String bucket, String globPattern) {
+        return globPattern != null
+                ? storage.list(
+                        bucket,
+                        Storage.BlobListOption.currentDirectory(),
+                        Storage.BlobListOption.matchGlob(globPattern))
+                : storage.list(bucket, Storage.BlobListOption.currentDirectory());
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,120 @@
+package dev.langchain4j.data.document.loader.gcs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GoogleCloudStorageDocumentLoaderTest {
+
+    private static final String TEST_BUCKET = "test-bucket";
+
+    Storage storage = mock(Storage.class);
+
+    GoogleCloudStorageDocumentLoader loader = new GoogleCloudStorageDocumentLoader(storage);
+
+    Blob first = blob("first.txt");
+    Blob failing = failingBlob("failing.txt");
+    Blob third = blob("third.txt");
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        Page<Blob> page = mock(Page.class);
+        when(page.iterateAll()).thenReturn(List.of(first, failing, third));
+        when(storage.list(eq(TEST_BUCKET), any(Storage.BlobListOption.class))).thenReturn(page);
+    }
+
+    @Test
+    void should_skip_documents_failing_to_load() {
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, new TextDocumentParser())) {
+            documents = stream.toList();
+        }
+
+        // then
+        assertThat(documents)
+                .extracting(Document::text)
+                .containsExactly("content of first.txt", "content of third.txt");
+    }
+
+    @Test
+    void should_load_documents_only_when_stream_is_consumed() {
+
+        // when
+        Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, new TextDocumentParser());
+
+        // then
+        verify(first, never()).reader();
+
+        // when
+        Optional<Document> document = stream.findFirst();
+
+        // then
+        assertThat(document).map(Document::text).contains("content of first.txt");
+        verify(first).reader();
+        verify(failing, never()).reader();
+        verify(third, never()).reader();
+    }
+
+    private static Blob blob(String name) {
+        Blob blob = metadataOf(name);
+        when(blob.reader()).thenAnswer(invocation -> readChannel("content of " + name));
+        return blob;
+    }
+
+    private static Blob failingBlob(String name) {
+        Blob blob = metadataOf(name);
+        when(blob.reader()).thenThrow(new StorageException(403, "Access Denied"));
+        return blob;
+    }
+
+    private static Blob metadataOf(String name) {
+        Blob blob = mock(Blob.class);
+        when(blob.getBucket()).thenReturn(TEST_BUCKET);
+        when(blob.getName()).thenReturn(name);
+        when(blob.getContentType()).thenReturn("text/plain");
+        when(blob.getSize()).thenReturn(1L);
+        when(blob.getCreateTimeOffsetDateTime()).thenReturn(OffsetDateTime.MIN);
+        when(blob.getUpdateTimeOffsetDateTime()).thenReturn(OffsetDateTime.MIN);
+        return blob;
+    }
+
+    private static ReadChannel readChannel(String content) throws Exception {
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(UTF_8));
+        ReadChannel readChannel = mock(ReadChannel.class);
+        when(readChannel.isOpen()).thenReturn(true);
+        when(readChannel.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            if (!bytes.hasRemaining()) {
+                return -1;
+            }
+            ByteBuffer target = invocation.getArgument(0);
+            int length = Math.min(target.remaining(), bytes.remaining());
+            target.put(bytes.slice().limit(length));
+            bytes.position(bytes.position() + length);
+            return length;
+        });
+        return readChannel;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.langchain4j.http.client.jdk;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the written bytes in a list of arrays, so that a large body is never copied into one contiguous array
+ * and can be published to the connection array by array.
+ */
+class ByteArraysOutputStream extends OutputStream {
+
+    private static final int MIN_ARRAY_SIZE = 8 * 1024;
+    private static final int MAX_ARRAY_SIZE = 1024 * 1024;
+
+    private final List<byte[]> arrays = new ArrayList<>();
+    private byte[] current = new byte[MIN_ARRAY_SIZE];
+    private int position;
+    private long size;
+
+    @Override
+    public void write(int b) {
+        if (position == current.length) {
+            nextArray();
+        }
+        current[position++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            if (position == current.length) {
+                nextArray();
+            }
+            int toCopy = Math.min(length, current.length - position);
+            System.arraycopy(bytes, offset, current, position, toCopy);
+            position += toCopy;
+            offset += toCopy;
+            length -= toCopy;
+            size += toCopy;
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * @return the written bytes, in order.
+     */
+    List<byte[]> toByteArrays() {
+        List<byte[]> result = new ArrayList<>(arrays.size() + 1);
+        result.addAll(arrays);
+        if (position > 0) {
+            result.add(position == current.length ? current : Arrays.copyOf(current, position));
+        }
+        return result;
+    }
+
+    private void nextArray() {
+        arrays.add(current);
+        current = new byte[Math.min(current.length * 2, MAX_ARRAY_SIZE)];
+        position = 0;
+    }
+}
@@ -1,72 +1,230 @@
 package dev.langchain4j.http.client.jdk;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
-
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
-
-import static dev.langchain4j.internal.Utils.getOrDefault;
-import static java.util.stream.Collectors.joining;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class JdkHttpClient implements HttpClient {
 
+    /**
+     * The time to wait for the response of each server in {@link #warmUp(String...)},
+     * when no read timeout is configured.
+     */
+    public static final Duration DEFAULT_WARM_UP_TIMEOUT = Duration.ofSeconds(10);
+
     private final java.net.http.HttpClient delegate;
+    private final RequestStatistics statistics;
     private final Duration readTimeout;
+    private final Executor listenerExecutor;
 
     public JdkHttpClient(JdkHttpClientBuilder builder) {
-        java.net.http.HttpClient.Builder httpClientBuilder =
-                getOrDefault(builder.httpClientBuilder(), java.net.http.HttpClient::newBuilder);
+        if (builder.registry() != null && builder.httpClientBuilder() == null) {
+            JdkHttpClientRegistry.SharedHttpClient sharedHttpClient =
+                    builder.registry().httpClient(builder);
+            this.delegate = sharedHttpClient.httpClient();
+            this.statistics = sharedHttpClient.statistics();
+        } else {
+            java.net.http.HttpClient.Builder httpClientBuilder =
+                    getOrDefault(builder.httpClientBuilder(), java.net.http.HttpClient::newBuilder);
+            this.delegate = createHttpClient(httpClientBuilder, builder);
+            this.statistics = new RequestStatistics();
+        }
+        this.readTimeout = builder.readTimeout();
+        this.listenerExecutor = builder.listenerExecutor();
+    }
+
+    static java.net.http.HttpClient createHttpClient(
+            java.net.http.HttpClient.Builder httpClientBuilder, JdkHttpClientBuilder builder) {
         if (builder.connectTimeout() != null) {
             httpClientBuilder.connectTimeout(builder.connectTimeout());
         }
-        this.delegate = httpClientBuilder.build();
-        this.readTimeout = builder.readTimeout();
+        if (builder.httpVersion() != null) {
+            httpClientBuilder.version(builder.httpVersion());
+        }
+        if (builder.executor() != null) {
+            httpClientBuilder.executor(builder.executor());
+        }
+        return httpClientBuilder.build();
     }
 
     public static JdkHttpClientBuilder builder() {
         return new JdkHttpClientBuilder();
     }
 
+    /**
+     * Returns the metrics of the underlying {@link java.net.http.HttpClient}.
+     * When it is shared through a {@link JdkHttpClientRegistry},
+     * the requests of all {@link JdkHttpClient}s that share it are counted.
+     *
+     * @return the metrics of the underlying {@link java.net.http.HttpClient}.
+     */
+    public JdkHttpClientMetrics metrics() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * Opens connections to the given URLs ahead of the first request, e.g. right after deployment,
+     * so that the first request does not have to wait for DNS resolution, TCP connect and TLS handshake.
+     * <p>
+     * A {@code HEAD} request is sent to every URL and the response, whatever its status code, is discarded.
+     * The connections are then kept in the pool of the underlying {@link java.net.http.HttpClient}
+     * (which may be shared through a {@link JdkHttpClientRegistry}) until their keep-alive timeout expires.
+     * With HTTP/1.1, the same URL can be passed several times to open several connections to it.
+     * <p>
+     * Every request times out after the read timeout of this client,
+     * or after {@link #DEFAULT_WARM_UP_TIMEOUT} when none is configured.
+     *
+     * @param urls the URLs of the servers to connect to, e.g. the base URL of the model provider.
+     * @return a future that completes when all connections have been opened,
+     * or completes exceptionally if any of the servers could not be reached.
+     */
+    public CompletableFuture<Void> warmUp(String... urls) {
+        ensureNotEmpty(urls, "urls");
+        return warmUp(delegate, getOrDefault(readTimeout, DEFAULT_WARM_UP_TIMEOUT), urls);
+    }
+
+    static CompletableFuture<Void> warmUp(java.net.http.HttpClient httpClient, Duration timeout, String... urls) {
+        return CompletableFuture.allOf(Arrays.stream(urls)
+                .map(url -> {
+                    java.net.http.HttpRequest request = java.net.http.HttpRequest.newBuilder()
+                            .uri(URI.create(url))
+                            .method("HEAD", BodyPublishers.noBody())
+                            .timeout(timeout)
+                            .build();
+                    return httpClient.sendAsync(request, BodyHandlers.discarding());
+                })
+                .toArray(CompletableFuture[]::new));
+    }
+
     @Override
     public SuccessfulHttpResponse execute(HttpRequest request) throws HttpException {
-        try {
-            java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+        java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
 
-            java.net.http.HttpResponse<String> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofString());
+        statistics.requestStarted();
+        boolean successful = false;
+        try {
+            java.net.http.HttpResponse<byte[]> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofByteArray());
 
-            if (!isSuccessful(jdkResponse)) {
-                throw new HttpException(jdkResponse.statusCode(), jdkResponse.body());
+            if (!isSuccessful(jdkResponse.statusCode())) {
+                throw new HttpException(jdkResponse.statusCode(), new String(jdkResponse.body(), UTF_8));
             }
 
+            successful = true;
             return fromJdkResponse(jdkResponse, jdkResponse.body());
         } catch (IOException | InterruptedException e) {
             throw new RuntimeException(e);
+        } finally {
+            statistics.requestCompleted(successful);
         }
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+
+        statistics.requestStarted();
+        return delegate.sendAsync(jdkRequest, BodyHandlers.ofByteArray())
+                .whenComplete((jdkResponse, throwable) ->
+                        statistics.requestCompleted(throwable == null && isSuccessful(jdkResponse.statusCode())))
+                .thenApply(jdkResponse -> {
+                    if (!isSuccessful(jdkResponse.statusCode())) {
+                        throw new HttpException(jdkResponse.statusCode(), new String(jdkResponse.body(), UTF_8));
+                    }
+                    return fromJdkResponse(jdkResponse, jdkResponse.body());
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the {@link DefaultServerSentEventParser} is used, the response body is decoded chunk by chunk
+     * as it arrives, and no thread is blocked while waiting for the next chunk.
+     * The listener is called on the {@link JdkHttpClientBuilder#listenerExecutor(Executor)}, if configured.
+     * Any other parser reads the response body as an {@link InputStream}, blocking a thread of the HTTP client.
+     */
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
 
-        delegate.sendAsync(jdkRequest, BodyHandlers.ofInputStream())
-                .thenAccept(jdkResponse -> {
+        if (parser.getClass() == DefaultServerSentEventParser.class) {
+            stream(jdkRequest, listener);
+        } else {
+            streamBlocking(jdkRequest, parser, listener);
+        }
+    }
+
+    private void stream(java.net.http.HttpRequest jdkRequest, ServerSentEventListener listener) {
+        AtomicBoolean responseReceived = new AtomicBoolean();
+
+        statistics.requestStarted();
+        delegate.sendAsync(jdkRequest, responseInfo -> {
+                    responseReceived.set(true);
+
+                    if (!isSuccessful(responseInfo.statusCode())) {
+                        return BodySubscribers.mapping(BodySubscribers.ofString(UTF_8), body -> {
+                            onError(listener, new HttpException(responseInfo.statusCode(), body));
+                            return null;
+                        });
+                    }
+
+                    SuccessfulHttpResponse response = SuccessfulHttpResponse.builder()
+                            .statusCode(responseInfo.statusCode())
+                            .headers(responseInfo.headers().map())
+                            .build();
+                    return new ServerSentEventBodySubscriber(response, listener, listenerExecutor);
+                })
+                .whenComplete((jdkResponse, throwable) ->
+                        statistics.requestCompleted(throwable == null && isSuccessful(jdkResponse.statusCode())))
+                .exceptionally(throwable -> {
+                    // failures while receiving the body are passed to the listener by the body subscriber
+                    if (!responseReceived.get()) {
+                        onError(listener, throwable);
+                    }
+                    return null;
+                });
+    }
+
+    private void onError(ServerSentEventListener listener, Throwable throwable) {
+        if (listenerExecutor == null) {
+            listener.onError(throwable);
+        } else {
+            listenerExecutor.execute(() -> listener.onError(throwable));
+        }
+    }
 
-                    if (!isSuccessful(jdkResponse)) {
+    private void streamBlocking(
+            java.net.http.HttpRequest jdkRequest, ServerSentEventParser parser, ServerSentEventListener listener) {
+        statistics.requestStarted();
+        delegate.sendAsync(jdkRequest, BodyHandlers.ofInputStream())
+                .thenApply(jdkResponse -> {
+                    if (!isSuccessful(jdkResponse.statusCode())) {
                         listener.onError(new HttpException(jdkResponse.statusCode(), readBody(jdkResponse)));
-                        return;
+                        return false;
                     }
 
                     SuccessfulHttpResponse response = fromJdkResponse(jdkResponse, null);
@@ -78,7 +236,9 @@ public class JdkHttpClient implements HttpClient {
                     } catch (IOException e) {
                         throw new RuntimeException(e);
                     }
+                    return true;
                 })
+                .whenComplete((successful, throwable) -> statistics.requestCompleted(throwable == null && successful))
                 .exceptionally(throwable -> {
                     if (throwable.getCause() instanceof HttpTimeoutException) {
                         listener.onError(throwable);
@@ -88,8 +248,8 @@ public class JdkHttpClient implements HttpClient {
     }
 
     private java.net.http.HttpRequest toJdkRequest(HttpRequest request) {
-        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder()
-                .uri(URI.create(request.url()));
+        java.net.http.HttpRequest.Builder builder =
+                java.net.http.HttpRequest.newBuilder().uri(URI.create(request.url()));
 
         request.headers().forEach((name, values) -> {
             if (values != null) {
@@ -97,13 +257,7 @@ public class JdkHttpClient implements HttpClient {
             }
         });
 
-        BodyPublisher bodyPublisher;
-        if (request.body() != null) {
-            bodyPublisher = BodyPublishers.ofString(request.body());
-        } else {
-            bodyPublisher = BodyPublishers.noBody();
-        }
-        builder.method(request.method().name(), bodyPublisher);
+        builder.method(request.method().name(), toBodyPublisher(request));
 
         if (readTimeout != null) {
             builder.timeout(readTimeout);
@@ -112,7 +266,29 @@ public class JdkHttpClient implements HttpClient {
         return builder.build();
     }
 
-    private static SuccessfulHttpResponse fromJdkResponse(java.net.http.HttpResponse<?> response, String body) {
+    private static BodyPublisher toBodyPublisher(HttpRequest request) {
+        if (request.bodyWriter() != null) {
+            ByteArraysOutputStream outputStream = new ByteArraysOutputStream();
+            try {
+                request.bodyWriter().writeTo(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (outputStream.size() == 0) {
+                return BodyPublishers.noBody();
+            }
+            return BodyPublishers.fromPublisher(
+                    BodyPublishers.ofByteArrays(outputStream.toByteArrays()), outputStream.size());
+        } else if (request.bodyBytes() != null) {
+            return BodyPublishers.ofByteArray(request.bodyBytes());
+        } else if (request.body() != null) {
+            return BodyPublishers.ofString(request.body());
+        } else {
+            return BodyPublishers.noBody();
+        }
+    }
+
+    private static SuccessfulHttpResponse fromJdkResponse(java.net.http.HttpResponse<?> response, byte[] body) {
         return SuccessfulHttpResponse.builder()
                 .statusCode(response.statusCode())
                 .headers(response.headers().map())
@@ -120,14 +296,13 @@ public class JdkHttpClient implements HttpClient {
                 .build();
     }
 
-    private static boolean isSuccessful(java.net.http.HttpResponse<?> response) {
-        int statusCode = response.statusCode();
+    private static boolean isSuccessful(int statusCode) {
         return statusCode >= 200 && statusCode < 300;
     }
 
     private static String readBody(java.net.http.HttpResponse<InputStream> response) {
         try (InputStream inputStream = response.body();
-             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
             return reader.lines().collect(joining(System.lineSeparator()));
         } catch (IOException e) {
             return "Cannot read error response body: " + e.getMessage();
@@ -1,14 +1,19 @@
 package dev.langchain4j.http.client.jdk;
 
 import dev.langchain4j.http.client.HttpClientBuilder;
-
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 public class JdkHttpClientBuilder implements HttpClientBuilder {
 
     private java.net.http.HttpClient.Builder httpClientBuilder;
     private Duration connectTimeout;
     private Duration readTimeout;
+    private Executor listenerExecutor;
+    private java.net.http.HttpClient.Version httpVersion;
+    private Executor executor;
+    private JdkHttpClientRegistry registry;
 
     public java.net.http.HttpClient.Builder httpClientBuilder() {
         return httpClientBuilder;
@@ -41,6 +46,79 @@ public class JdkHttpClientBuilder implements HttpClientBuilder {
         return this;
     }
 
+    public Executor listenerExecutor() {
+        return listenerExecutor;
+    }
+
+    /**
+     * Sets the executor on which the {@link ServerSentEventListener} is called when streaming.
+     * The events of a single response are still delivered one after another, in order.
+     * By default, the listener is called on the threads of the HTTP client.
+     *
+     * @param listenerExecutor the executor on which the listener is called.
+     * @return this builder.
+     */
+    public JdkHttpClientBuilder listenerExecutor(Executor listenerExecutor) {
+        this.listenerExecutor = listenerExecutor;
+        return this;
+    }
+
+    public java.net.http.HttpClient.Version httpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Sets the preferred HTTP version.
+     * By default, HTTP/2 is attempted and the client falls back to HTTP/1.1 if the server does not support it.
+     * With HTTP/2, concurrent requests to the same host are multiplexed over a single connection.
+     *
+     * @param httpVersion the preferred HTTP version.
+     * @return this builder.
+     */
+    public JdkHttpClientBuilder httpVersion(java.net.http.HttpClient.Version httpVersion) {
+        this.httpVersion = httpVersion;
+        return this;
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor of the {@link java.net.http.HttpClient}, which is used for asynchronous and dependent tasks.
+     * By default, the {@link java.net.http.HttpClient} creates its own cached thread pool.
+     * <p>
+     * With a {@link #registry(JdkHttpClientRegistry) registry}, the same executor instance must be passed to all
+     * clients that should share a {@link java.net.http.HttpClient}, see {@link JdkHttpClientRegistry}.
+     *
+     * @param executor the executor of the HTTP client.
+     * @return this builder.
+     */
+    public JdkHttpClientBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public JdkHttpClientRegistry registry() {
+        return registry;
+    }
+
+    /**
+     * Sets the registry from which a shared {@link java.net.http.HttpClient} is taken,
+     * instead of building a new one for this client. See {@link JdkHttpClientRegistry} for details.
+     * The registry is not used when an {@link #httpClientBuilder(java.net.http.HttpClient.Builder)} is set.
+     * <p>
+     * The builders created through {@link dev.langchain4j.http.client.HttpClientBuilderLoader}
+     * use the {@link JdkHttpClientRegistry#defaultRegistry()} by default.
+     *
+     * @param registry the registry, or {@code null} to build a dedicated {@link java.net.http.HttpClient}.
+     * @return this builder.
+     */
+    public JdkHttpClientBuilder registry(JdkHttpClientRegistry registry) {
+        this.registry = registry;
+        return this;
+    }
+
     @Override
     public JdkHttpClient build() {
         return new JdkHttpClient(this);
@@ -6,6 +6,6 @@ public class JdkHttpClientBuilderFactory implements HttpClientBuilderFactory {
 
     @Override
     public JdkHttpClientBuilder create() {
-        return JdkHttpClient.builder();
+        return JdkHttpClient.builder().registry(JdkHttpClientRegistry.defaultRegistry());
     }
 }
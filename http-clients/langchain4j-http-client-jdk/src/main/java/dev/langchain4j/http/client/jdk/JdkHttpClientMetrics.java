@@ -0,0 +1,88 @@
+package dev.langchain4j.http.client.jdk;
+
+import dev.langchain4j.Experimental;
+
+/**
+ * A snapshot of the requests sent through one or more {@link java.net.http.HttpClient}s.
+ * <p>
+ * The {@link java.net.http.HttpClient} does not expose the state of its connection pool,
+ * so the number of requests in flight is the closest available measure of the connections in use:
+ * with HTTP/1.1 every active request holds its own connection, while with HTTP/2 they are multiplexed
+ * over one connection per host. The peak number of active requests shows how many connections
+ * a pre-warmed HTTP/1.1 pool should have.
+ * <p>
+ * This class is currently experimental and subject to change.
+ */
+@Experimental
+public class JdkHttpClientMetrics {
+
+    private final int httpClients;
+    private final int activeRequests;
+    private final int peakActiveRequests;
+    private final long successfulRequests;
+    private final long failedRequests;
+
+    JdkHttpClientMetrics(
+            int httpClients, int activeRequests, int peakActiveRequests, long successfulRequests, long failedRequests) {
+        this.httpClients = httpClients;
+        this.activeRequests = activeRequests;
+        this.peakActiveRequests = peakActiveRequests;
+        this.successfulRequests = successfulRequests;
+        this.failedRequests = failedRequests;
+    }
+
+    /**
+     * @return the number of {@link java.net.http.HttpClient}s (and thus of independent connection pools).
+     */
+    public int httpClients() {
+        return httpClients;
+    }
+
+    /**
+     * @return the number of requests that are currently in flight, including streaming responses being received.
+     */
+    public int activeRequests() {
+        return activeRequests;
+    }
+
+    /**
+     * @return the highest number of requests that were in flight at the same time.
+     * When summed over several HTTP clients, the peaks may have happened at different times.
+     */
+    public int peakActiveRequests() {
+        return peakActiveRequests;
+    }
+
+    /**
+     * @return the number of requests that completed with a 2xx status code.
+     */
+    public long successfulRequests() {
+        return successfulRequests;
+    }
+
+    /**
+     * @return the number of requests that failed or completed with a non-2xx status code.
+     */
+    public long failedRequests() {
+        return failedRequests;
+    }
+
+    JdkHttpClientMetrics plus(JdkHttpClientMetrics other) {
+        return new JdkHttpClientMetrics(
+                httpClients + other.httpClients,
+                activeRequests + other.activeRequests,
+                peakActiveRequests + other.peakActiveRequests,
+                successfulRequests + other.successfulRequests,
+                failedRequests + other.failedRequests);
+    }
+
+    @Override
+    public String toString() {
+        return "JdkHttpClientMetrics {" + " httpClients = "
+                + httpClients + ", activeRequests = "
+                + activeRequests + ", peakActiveRequests = "
+                + peakActiveRequests + ", successfulRequests = "
+                + successfulRequests + ", failedRequests = "
+                + failedRequests + " }";
+    }
+}
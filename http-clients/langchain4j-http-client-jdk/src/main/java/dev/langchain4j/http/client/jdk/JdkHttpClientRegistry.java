@@ -0,0 +1,126 @@
+package dev.langchain4j.http.client.jdk;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.http.client.HttpClientBuilderLoader;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Shares {@link java.net.http.HttpClient}s, and thus their connection pools and selector threads,
+ * between {@link JdkHttpClient}s that are configured the same way.
+ * <p>
+ * Without a registry, every model instance builds its own {@link java.net.http.HttpClient},
+ * so N models calling the same provider keep N independent pools of connections to it.
+ * {@link JdkHttpClient}s built with the same {@link JdkHttpClientBuilder#registry(JdkHttpClientRegistry) registry},
+ * connect timeout, {@link JdkHttpClientBuilder#httpVersion(java.net.http.HttpClient.Version) HTTP version}
+ * and {@link JdkHttpClientBuilder#executor(Executor) executor} send their requests through
+ * the same {@link java.net.http.HttpClient}. The read timeout and the listener executor are applied per request,
+ * so they can still differ between the clients.
+ * <p>
+ * The {@link #defaultRegistry() default registry} is used by the builders that are created through
+ * {@link HttpClientBuilderLoader}, so all provider modules that load the HTTP client this way
+ * share their connections by default.
+ * <p>
+ * A registry keeps its {@link java.net.http.HttpClient}s until they are {@link #remove(Executor) removed},
+ * and executors are compared by identity. An executor passed to {@link JdkHttpClientBuilder#executor(Executor)}
+ * must therefore be shared by all clients that use it, not created per client, otherwise every client adds
+ * a {@link java.net.http.HttpClient} to the registry, which keeps it and its executor reachable.
+ * When such an executor is shut down, the {@link java.net.http.HttpClient}s using it should be removed.
+ * <p>
+ * The size of the connection pool and the keep-alive timeout of idle connections can only be configured
+ * through the {@code jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout}
+ * system properties of the JDK.
+ * <p>
+ * This class is currently experimental and subject to change.
+ */
+@Experimental
+public class JdkHttpClientRegistry {
+
+    private static final JdkHttpClientRegistry DEFAULT = new JdkHttpClientRegistry();
+
+    private final Map<Key, SharedHttpClient> httpClients = new ConcurrentHashMap<>();
+
+    /**
+     * @return the registry that is shared by the whole application.
+     */
+    public static JdkHttpClientRegistry defaultRegistry() {
+        return DEFAULT;
+    }
+
+    /**
+     * Opens connections to the given URLs in all {@link java.net.http.HttpClient}s of this registry,
+     * see {@link JdkHttpClient#warmUp(String...)}.
+     * The warm-up fails for the servers that do not respond within {@link JdkHttpClient#DEFAULT_WARM_UP_TIMEOUT}.
+     *
+     * @param urls the URLs of the servers to connect to, e.g. the base URLs of the model providers.
+     * @return a future that completes when all connections have been opened.
+     */
+    public CompletableFuture<Void> warmUp(String... urls) {
+        return warmUp(JdkHttpClient.DEFAULT_WARM_UP_TIMEOUT, urls);
+    }
+
+    /**
+     * Opens connections to the given URLs in all {@link java.net.http.HttpClient}s of this registry,
+     * see {@link JdkHttpClient#warmUp(String...)}.
+     *
+     * @param timeout the time to wait for the response of each server.
+     * @param urls    the URLs of the servers to connect to, e.g. the base URLs of the model providers.
+     * @return a future that completes when all connections have been opened,
+     * or completes exceptionally if any of the servers could not be reached within the timeout.
+     */
+    public CompletableFuture<Void> warmUp(Duration timeout, String... urls) {
+        ensureNotNull(timeout, "timeout");
+        ensureNotEmpty(urls, "urls");
+        return CompletableFuture.allOf(httpClients.values().stream()
+                .map(sharedHttpClient -> JdkHttpClient.warmUp(sharedHttpClient.httpClient(), timeout, urls))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Removes the {@link java.net.http.HttpClient}s using the given executor from this registry,
+     * e.g. before shutting the executor down.
+     * The {@link JdkHttpClient}s already built keep using them, while the ones built afterwards get a new one.
+     *
+     * @param executor the executor passed to {@link JdkHttpClientBuilder#executor(Executor)},
+     *                 or {@code null} for the clients using the default executor of the JDK.
+     * @return the number of removed {@link java.net.http.HttpClient}s.
+     */
+    public int remove(Executor executor) {
+        int removed = 0;
+        for (Key key : httpClients.keySet()) {
+            if (key.executor() == executor && httpClients.remove(key) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @return the metrics of all {@link java.net.http.HttpClient}s of this registry, summed up.
+     */
+    public JdkHttpClientMetrics metrics() {
+        return httpClients.values().stream()
+                .map(sharedHttpClient -> sharedHttpClient.statistics().snapshot())
+                .reduce(JdkHttpClientMetrics::plus)
+                .orElseGet(() -> new JdkHttpClientMetrics(0, 0, 0, 0, 0));
+    }
+
+    SharedHttpClient httpClient(JdkHttpClientBuilder builder) {
+        Key key = new Key(builder.connectTimeout(), builder.httpVersion(), builder.executor());
+        return httpClients.computeIfAbsent(
+                key,
+                ignored -> new SharedHttpClient(
+                        JdkHttpClient.createHttpClient(java.net.http.HttpClient.newBuilder(), builder),
+                        new RequestStatistics()));
+    }
+
+    record SharedHttpClient(java.net.http.HttpClient httpClient, RequestStatistics statistics) {}
+
+    private record Key(Duration connectTimeout, java.net.http.HttpClient.Version httpVersion, Executor executor) {}
+}
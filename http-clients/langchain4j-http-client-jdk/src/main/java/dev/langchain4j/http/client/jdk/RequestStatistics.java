@@ -0,0 +1,35 @@
+package dev.langchain4j.http.client.jdk;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the requests sent through one {@link java.net.http.HttpClient}, which may be shared by several
+ * {@link JdkHttpClient}s.
+ */
+class RequestStatistics {
+
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger peakActiveRequests = new AtomicInteger();
+    private final LongAdder successfulRequests = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+
+    void requestStarted() {
+        int active = activeRequests.incrementAndGet();
+        peakActiveRequests.accumulateAndGet(active, Math::max);
+    }
+
+    void requestCompleted(boolean successful) {
+        activeRequests.decrementAndGet();
+        if (successful) {
+            successfulRequests.increment();
+        } else {
+            failedRequests.increment();
+        }
+    }
+
+    JdkHttpClientMetrics snapshot() {
+        return new JdkHttpClientMetrics(
+                1, activeRequests.get(), peakActiveRequests.get(), successfulRequests.sum(), failedRequests.sum());
+    }
+}
@@ -0,0 +1,147 @@
+package dev.langchain4j.http.client.jdk;
+
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEventDecoder;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes server-sent events from the chunks of the response body as they arrive,
+ * so that no thread is blocked while waiting for the next chunk.
+ * <p>
+ * The next chunk is requested only after the previous one has been processed by the listener,
+ * so a slow listener slows down reading from the connection.
+ * If the listener throws an exception, the subscription is cancelled, which closes the connection,
+ * and the exception is logged. Like with {@link JdkHttpClient}'s blocking parsing,
+ * exceptions thrown by the listener are not passed to {@link ServerSentEventListener#onError(Throwable)}.
+ */
+class ServerSentEventBodySubscriber implements BodySubscriber<Void> {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerSentEventBodySubscriber.class);
+
+    private final SuccessfulHttpResponse response;
+    private final ServerSentEventListener listener;
+    private final ServerSentEventDecoder decoder;
+    private final Executor executor;
+    private final CompletableFuture<Void> body = new CompletableFuture<>();
+
+    private volatile Flow.Subscription subscription;
+    private volatile boolean cancelled;
+
+    /**
+     * @param response the response, without body.
+     * @param listener the listener to pass the events to.
+     * @param executor the executor on which the listener is called,
+     *                 or {@code null} to call it on the thread that delivers the chunks.
+     */
+    ServerSentEventBodySubscriber(
+            SuccessfulHttpResponse response, ServerSentEventListener listener, Executor executor) {
+        this.response = response;
+        this.listener = listener;
+        this.decoder = new ServerSentEventDecoder(listener);
+        this.executor = executor == null ? Runnable::run : new SequentialExecutor(executor);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        executor.execute(() -> {
+            if (process(() -> listener.onOpen(response))) {
+                subscription.request(1);
+            }
+        });
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        executor.execute(() -> {
+            if (process(() -> buffers.forEach(decoder::decode))) {
+                subscription.request(1);
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        body.completeExceptionally(throwable);
+        executor.execute(() -> {
+            if (!cancelled) {
+                listener.onError(throwable);
+            }
+        });
+    }
+
+    @Override
+    public void onComplete() {
+        executor.execute(() -> process(() -> {
+            decoder.finish();
+            listener.onClose();
+        }));
+        body.complete(null);
+    }
+
+    @Override
+    public CompletionStage<Void> getBody() {
+        return body;
+    }
+
+    private boolean process(Runnable step) {
+        if (cancelled) {
+            return false;
+        }
+        try {
+            step.run();
+            return true;
+        } catch (RuntimeException e) {
+            cancelled = true;
+            body.completeExceptionally(e);
+            subscription.cancel();
+            log.warn("The listener failed, the streaming of server-sent events is cancelled", e);
+            return false;
+        }
+    }
+
+    /**
+     * Runs the tasks on the delegate executor one after another, in the order in which they were submitted.
+     */
+    private static class SequentialExecutor implements Executor {
+
+        private final Executor delegate;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+
+        SequentialExecutor(Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+            if (pendingTasks.getAndIncrement() == 0) {
+                delegate.execute(this::runTasks);
+            }
+        }
+
+        private void runTasks() {
+            do {
+                try {
+                    tasks.poll().run();
+                } catch (RuntimeException e) {
+                    // a failing task must not keep the tasks queued behind it from running
+                    log.warn("Failed to run a task of the listener", e);
+                }
+            } while (pendingTasks.decrementAndGet() > 0);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package dev.langchain4j.http.client.jdk;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.HttpClientBuilderLoader;
+import dev.langchain4j.http.client.HttpMethod;
+import dev.langchain4j.http.client.HttpRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JdkHttpClientRegistryTest {
+
+    private HttpServer server;
+    private final List<String> methods = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            methods.add(exchange.getRequestMethod());
+            int statusCode = exchange.getRequestURI().getPath().equals("/error") ? 500 : 200;
+            byte[] body = "ok".getBytes(UTF_8);
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void afterEach() {
+        server.stop(0);
+    }
+
+    @Test
+    void should_share_http_client_between_clients_with_same_configuration() {
+
+        // given
+        JdkHttpClientRegistry registry = new JdkHttpClientRegistry();
+
+        JdkHttpClient client1 = JdkHttpClient.builder()
+                .registry(registry)
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(10))
+                .build();
+        JdkHttpClient client2 = JdkHttpClient.builder()
+                .registry(registry)
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(20))
+                .build();
+        JdkHttpClient client3 = JdkHttpClient.builder()
+                .registry(registry)
+                .connectTimeout(Duration.ofSeconds(5))
+                .httpVersion(Version.HTTP_1_1)
+                .build();
+
+        // when
+        client1.execute(request("/"));
+        client2.execute(request("/"));
+        client3.execute(request("/"));
+        assertThatThrownBy(() -> client2.execute(request("/error"))).isExactlyInstanceOf(HttpException.class);
+
+        // then
+        assertThat(client1.metrics().successfulRequests()).isEqualTo(2);
+        assertThat(client1.metrics().failedRequests()).isEqualTo(1);
+        assertThat(client1.metrics().activeRequests()).isZero();
+        assertThat(client1.metrics().peakActiveRequests()).isEqualTo(1);
+        assertThat(client3.metrics().successfulRequests()).isEqualTo(1);
+        assertThat(client3.metrics().failedRequests()).isZero();
+
+        JdkHttpClientMetrics metrics = registry.metrics();
+        assertThat(metrics.httpClients()).isEqualTo(2);
+        assertThat(metrics.successfulRequests()).isEqualTo(3);
+        assertThat(metrics.failedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_share_http_client_without_registry() {
+
+        // given
+        JdkHttpClient client1 = JdkHttpClient.builder().build();
+        JdkHttpClient client2 = JdkHttpClient.builder().build();
+
+        // when
+        client1.execute(request("/"));
+
+        // then
+        assertThat(client1.metrics().successfulRequests()).isEqualTo(1);
+        assertThat(client2.metrics().successfulRequests()).isZero();
+    }
+
+    @Test
+    void should_use_default_registry_when_loaded_through_factory() {
+
+        assertThat(((JdkHttpClientBuilder) HttpClientBuilderLoader.loadHttpClientBuilder()).registry())
+                .isSameAs(JdkHttpClientRegistry.defaultRegistry());
+    }
+
+    @Test
+    void should_warm_up_connections() throws Exception {
+
+        // given
+        JdkHttpClientRegistry registry = new JdkHttpClientRegistry();
+        JdkHttpClient client = JdkHttpClient.builder().registry(registry).build();
+
+        // when
+        client.warmUp(url("/")).get(5, SECONDS);
+        registry.warmUp(url("/"), url("/error")).get(5, SECONDS);
+
+        // then
+        assertThat(methods).containsExactly("HEAD", "HEAD", "HEAD");
+        assertThat(client.metrics().successfulRequests()).isZero();
+    }
+
+    @Test
+    void should_time_out_warm_up_of_server_that_does_not_respond() throws Exception {
+
+        // given
+        JdkHttpClientRegistry registry = new JdkHttpClientRegistry();
+        JdkHttpClient client = JdkHttpClient.builder()
+                .registry(registry)
+                .readTimeout(Duration.ofMillis(200))
+                .build();
+
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            String url = "http://localhost:" + serverSocket.getLocalPort() + "/";
+
+            // when-then
+            assertThatThrownBy(() -> client.warmUp(url).get(5, SECONDS))
+                    .isExactlyInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(HttpTimeoutException.class);
+            assertThatThrownBy(
+                            () -> registry.warmUp(Duration.ofMillis(200), url).get(5, SECONDS))
+                    .isExactlyInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(HttpTimeoutException.class);
+        }
+    }
+
+    @Test
+    void should_remove_http_clients_using_executor() {
+
+        // given
+        JdkHttpClientRegistry registry = new JdkHttpClientRegistry();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            JdkHttpClient client1 = JdkHttpClient.builder()
+                    .registry(registry)
+                    .executor(executor)
+                    .build();
+            JdkHttpClient client2 = JdkHttpClient.builder().registry(registry).build();
+            client1.execute(request("/"));
+            client2.execute(request("/"));
+
+            // when
+            int removed = registry.remove(executor);
+
+            // then
+            assertThat(removed).isOne();
+            assertThat(registry.metrics().httpClients()).isOne();
+            assertThat(registry.metrics().successfulRequests()).isOne();
+
+            client1.execute(request("/"));
+            assertThat(client1.metrics().successfulRequests()).isEqualTo(2);
+            JdkHttpClient client3 = JdkHttpClient.builder()
+                    .registry(registry)
+                    .executor(executor)
+                    .build();
+            assertThat(client3.metrics().successfulRequests()).isZero();
+            assertThat(registry.metrics().httpClients()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.builder().method(HttpMethod.GET).url(url(path)).build();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
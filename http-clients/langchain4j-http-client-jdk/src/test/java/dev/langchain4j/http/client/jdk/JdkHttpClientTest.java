@@ -0,0 +1,253 @@
+package dev.langchain4j.http.client.jdk;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.HttpMethod;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JdkHttpClientTest {
+
+    private HttpServer server;
+    private ExecutorService listenerExecutor;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/stream", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (String chunk :
+                        List.of("data: first\n", "\ndata: sec", "ond\r\n\r\nevent: last\ndata: thi", "rd\n\n")) {
+                    body.write(chunk.getBytes(UTF_8));
+                    body.flush();
+                    sleep();
+                }
+            }
+        });
+        server.createContext("/error", exchange -> {
+            byte[] body = "{\"error\":\"bad request\"}".getBytes(UTF_8);
+            exchange.sendResponseHeaders(400, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.createContext("/echo", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        listenerExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "listener"));
+    }
+
+    @AfterEach
+    void afterEach() {
+        server.stop(0);
+        listenerExecutor.shutdown();
+    }
+
+    @Test
+    void should_stream_events_on_listener_executor() throws Exception {
+
+        // given
+        JdkHttpClient client =
+                JdkHttpClient.builder().listenerExecutor(listenerExecutor).build();
+        RecordingListener listener = new RecordingListener();
+
+        // when
+        client.execute(request("/stream"), listener);
+
+        // then
+        assertThat(listener.closed.get(5, SECONDS)).isTrue();
+        assertThat(listener.events)
+                .containsExactly(
+                        new ServerSentEvent(null, "first"),
+                        new ServerSentEvent(null, "second"),
+                        new ServerSentEvent("last", "third"));
+        assertThat(listener.statusCode).isEqualTo(200);
+        assertThat(listener.threads).containsOnly("listener");
+    }
+
+    @Test
+    void should_stop_streaming_without_calling_on_error_when_listener_fails() throws Exception {
+
+        // given
+        JdkHttpClient client = JdkHttpClient.builder().build();
+        RecordingListener listener = new RecordingListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event) {
+                super.onEvent(event);
+                throw new RuntimeException("listener failed");
+            }
+        };
+
+        // when
+        client.execute(request("/stream"), listener);
+
+        // then
+        for (int i = 0; i < 100 && client.metrics().failedRequests() == 0; i++) {
+            sleep();
+        }
+        assertThat(client.metrics().failedRequests()).isEqualTo(1);
+        assertThat(client.metrics().activeRequests()).isZero();
+        sleep();
+        assertThat(listener.events).containsExactly(new ServerSentEvent(null, "first"));
+        assertThat(listener.error).isNotDone();
+        assertThat(listener.closed).isNotDone();
+    }
+
+    @Test
+    void should_pass_unsuccessful_response_to_listener() throws Exception {
+
+        // given
+        JdkHttpClient client = JdkHttpClient.builder().build();
+        RecordingListener listener = new RecordingListener();
+
+        // when
+        client.execute(request("/error"), listener);
+
+        // then
+        assertThat(listener.error.get(5, SECONDS))
+                .isExactlyInstanceOf(HttpException.class)
+                .hasMessage("{\"error\":\"bad request\"}");
+        assertThat(listener.events).isEmpty();
+    }
+
+    @Test
+    void should_pass_connection_failure_to_listener_on_listener_executor() throws Exception {
+
+        // given
+        JdkHttpClient client =
+                JdkHttpClient.builder().listenerExecutor(listenerExecutor).build();
+        RecordingListener listener = new RecordingListener();
+        HttpRequest request = request("/stream");
+        server.stop(0);
+
+        // when
+        client.execute(request, listener);
+
+        // then
+        assertThat(listener.error.get(5, SECONDS)).isNotNull();
+        assertThat(listener.threads).containsExactly("listener");
+    }
+
+    @Test
+    void should_execute_request_asynchronously() throws Exception {
+
+        // given
+        JdkHttpClient client = JdkHttpClient.builder().build();
+
+        // when
+        CompletableFuture<SuccessfulHttpResponse> response = client.executeAsync(request("/stream"));
+        CompletableFuture<SuccessfulHttpResponse> errorResponse = client.executeAsync(request("/error"));
+
+        // then
+        assertThat(response.get(5, SECONDS).body())
+                .isEqualTo("data: first\n\ndata: second\r\n\r\nevent: last\ndata: third\n\n");
+        assertThatThrownBy(() -> errorResponse.get(5, SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .cause()
+                .isExactlyInstanceOf(HttpException.class)
+                .hasMessage("{\"error\":\"bad request\"}");
+    }
+
+    @Test
+    void should_send_and_receive_body_as_bytes() {
+
+        // given
+        JdkHttpClient client = JdkHttpClient.builder().build();
+        byte[] largeBody = new byte[100_000];
+        Arrays.fill(largeBody, (byte) 'a');
+
+        // when
+        SuccessfulHttpResponse bytesResponse = client.execute(
+                post("/echo").body("{\"a\":\"é\"}".getBytes(UTF_8)).build());
+        SuccessfulHttpResponse writerResponse = client.execute(post("/echo")
+                .body(outputStream -> outputStream.write(largeBody))
+                .build());
+
+        // then
+        assertThat(bytesResponse.bodyBytes()).isEqualTo("{\"a\":\"é\"}".getBytes(UTF_8));
+        assertThat(bytesResponse.body()).isEqualTo("{\"a\":\"é\"}");
+        assertThat(writerResponse.bodyBytes()).isEqualTo(largeBody);
+    }
+
+    private HttpRequest.Builder post(String path) {
+        return HttpRequest.builder()
+                .method(HttpMethod.POST)
+                .url("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.builder()
+                .method(HttpMethod.GET)
+                .url("http://localhost:" + server.getAddress().getPort() + path)
+                .build();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class RecordingListener implements ServerSentEventListener {
+
+        final List<ServerSentEvent> events = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Boolean> closed = new CompletableFuture<>();
+        final CompletableFuture<Throwable> error = new CompletableFuture<>();
+        volatile int statusCode;
+
+        @Override
+        public void onOpen(SuccessfulHttpResponse response) {
+            statusCode = response.statusCode();
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void onEvent(ServerSentEvent event) {
+            events.add(event);
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            threads.add(Thread.currentThread().getName());
+            error.complete(throwable);
+        }
+
+        @Override
+        public void onClose() {
+            threads.add(Thread.currentThread().getName());
+            closed.complete(true);
+        }
+    }
+}
@@ -1,5 +1,15 @@
 package dev.langchain4j.model.azure;
 
+import static dev.langchain4j.data.embedding.Embedding.from;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.model.azure.AzureOpenAiEmbeddingModelName.TEXT_EMBEDDING_ADA_002;
+import static dev.langchain4j.model.azure.InternalAzureOpenAiHelper.setupSyncClient;
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.util.stream.Collectors.toList;
+
 import com.azure.ai.openai.OpenAIClient;
 import com.azure.ai.openai.models.EmbeddingItem;
 import com.azure.ai.openai.models.Embeddings;
@@ -15,19 +25,11 @@ import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.embedding.TokenCountEstimator;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
-
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static dev.langchain4j.data.embedding.Embedding.from;
-import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.model.azure.AzureOpenAiEmbeddingModelName.TEXT_EMBEDDING_ADA_002;
-import static dev.langchain4j.model.azure.InternalAzureOpenAiHelper.setupSyncClient;
-import static dev.langchain4j.spi.ServiceHelper.loadFactories;
-import static java.util.stream.Collectors.toList;
-
 /**
  * Represents an OpenAI embedding model, hosted on Azure, such as text-embedding-ada-002.
  * <p>
@@ -61,73 +63,121 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
     private final String deploymentName;
     private final Tokenizer tokenizer;
     private final Integer dimensions;
-
-    private AzureOpenAiEmbeddingModel(OpenAIClient client,
-                                      String deploymentName,
-                                      Tokenizer tokenizer,
-                                      Integer dimensions) {
-        this(deploymentName, tokenizer, dimensions);
+    private final Integer maxTokensPerBatch;
+    private final int maxConcurrentBatches;
+
+    private AzureOpenAiEmbeddingModel(
+            OpenAIClient client,
+            String deploymentName,
+            Tokenizer tokenizer,
+            Integer dimensions,
+            Integer maxTokensPerBatch,
+            Integer maxConcurrentBatches) {
+        this(deploymentName, tokenizer, dimensions, maxTokensPerBatch, maxConcurrentBatches);
         this.client = client;
     }
 
-    public AzureOpenAiEmbeddingModel(String endpoint,
-                                     String serviceVersion,
-                                     String apiKey,
-                                     String deploymentName,
-                                     Tokenizer tokenizer,
-                                     Duration timeout,
-                                     Integer maxRetries,
-                                     ProxyOptions proxyOptions,
-                                     boolean logRequestsAndResponses,
-                                     String userAgentSuffix,
-                                     Integer dimensions,
-                                     Map<String, String> customHeaders) {
-
-        this(deploymentName, tokenizer, dimensions);
-        this.client = setupSyncClient(endpoint, serviceVersion, apiKey, timeout, maxRetries, proxyOptions, logRequestsAndResponses, userAgentSuffix, customHeaders);
+    public AzureOpenAiEmbeddingModel(
+            String endpoint,
+            String serviceVersion,
+            String apiKey,
+            String deploymentName,
+            Tokenizer tokenizer,
+            Duration timeout,
+            Integer maxRetries,
+            ProxyOptions proxyOptions,
+            boolean logRequestsAndResponses,
+            String userAgentSuffix,
+            Integer dimensions,
+            Map<String, String> customHeaders,
+            Integer maxTokensPerBatch,
+            Integer maxConcurrentBatches) {
+
+        this(deploymentName, tokenizer, dimensions, maxTokensPerBatch, maxConcurrentBatches);
+        this.client = setupSyncClient(
+                endpoint,
+                serviceVersion,
+                apiKey,
+                timeout,
+                maxRetries,
+                proxyOptions,
+                logRequestsAndResponses,
+                userAgentSuffix,
+                customHeaders);
     }
 
-    public AzureOpenAiEmbeddingModel(String endpoint,
-                                     String serviceVersion,
-                                     KeyCredential keyCredential,
-                                     String deploymentName,
-                                     Tokenizer tokenizer,
-                                     Duration timeout,
-                                     Integer maxRetries,
-                                     ProxyOptions proxyOptions,
-                                     boolean logRequestsAndResponses,
-                                     String userAgentSuffix,
-                                     Integer dimensions,
-                                     Map<String, String> customHeaders) {
-
-        this(deploymentName, tokenizer, dimensions);
-        this.client = setupSyncClient(endpoint, serviceVersion, keyCredential, timeout, maxRetries, proxyOptions, logRequestsAndResponses, userAgentSuffix, customHeaders);
+    public AzureOpenAiEmbeddingModel(
+            String endpoint,
+            String serviceVersion,
+            KeyCredential keyCredential,
+            String deploymentName,
+            Tokenizer tokenizer,
+            Duration timeout,
+            Integer maxRetries,
+            ProxyOptions proxyOptions,
+            boolean logRequestsAndResponses,
+            String userAgentSuffix,
+            Integer dimensions,
+            Map<String, String> customHeaders,
+            Integer maxTokensPerBatch,
+            Integer maxConcurrentBatches) {
+
+        this(deploymentName, tokenizer, dimensions, maxTokensPerBatch, maxConcurrentBatches);
+        this.client = setupSyncClient(
+                endpoint,
+                serviceVersion,
+                keyCredential,
+                timeout,
+                maxRetries,
+                proxyOptions,
+                logRequestsAndResponses,
+                userAgentSuffix,
+                customHeaders);
     }
 
-    public AzureOpenAiEmbeddingModel(String endpoint,
-                                     String serviceVersion,
-                                     TokenCredential tokenCredential,
-                                     String deploymentName,
-                                     Tokenizer tokenizer,
-                                     Duration timeout,
-                                     Integer maxRetries,
-                                     ProxyOptions proxyOptions,
-                                     boolean logRequestsAndResponses,
-                                     String userAgentSuffix,
-                                     Integer dimensions,
-                                     Map<String, String> customHeaders) {
-
-        this(deploymentName, tokenizer, dimensions);
-        this.client = setupSyncClient(endpoint, serviceVersion, tokenCredential, timeout, maxRetries, proxyOptions, logRequestsAndResponses, userAgentSuffix, customHeaders);
+    public AzureOpenAiEmbeddingModel(
+            String endpoint,
+            String serviceVersion,
+            TokenCredential tokenCredential,
+            String deploymentName,
+            Tokenizer tokenizer,
+            Duration timeout,
+            Integer maxRetries,
+            ProxyOptions proxyOptions,
+            boolean logRequestsAndResponses,
+            String userAgentSuffix,
+            Integer dimensions,
+            Map<String, String> customHeaders,
+            Integer maxTokensPerBatch,
+            Integer maxConcurrentBatches) {
+
+        this(deploymentName, tokenizer, dimensions, maxTokensPerBatch, maxConcurrentBatches);
+        this.client = setupSyncClient(
+                endpoint,
+                serviceVersion,
+                tokenCredential,
+                timeout,
+                maxRetries,
+                proxyOptions,
+                logRequestsAndResponses,
+                userAgentSuffix,
+                customHeaders);
     }
 
-    private AzureOpenAiEmbeddingModel(String deploymentName,
-                                      Tokenizer tokenizer,
-                                      Integer dimensions) {
+    private AzureOpenAiEmbeddingModel(
+            String deploymentName,
+            Tokenizer tokenizer,
+            Integer dimensions,
+            Integer maxTokensPerBatch,
+            Integer maxConcurrentBatches) {
 
         this.deploymentName = getOrDefault(deploymentName, TEXT_EMBEDDING_ADA_002.modelName());
         this.tokenizer = getOrDefault(tokenizer, AzureOpenAiTokenizer::new);
         this.dimensions = dimensions;
+        this.maxTokensPerBatch =
+                maxTokensPerBatch == null ? null : ensureGreaterThanZero(maxTokensPerBatch, "maxTokensPerBatch");
+        this.maxConcurrentBatches =
+                ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
     }
 
     /**
@@ -140,37 +190,30 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
 
-        List<String> texts = textSegments.stream()
-                .map(TextSegment::text)
-                .collect(toList());
+        List<String> texts = textSegments.stream().map(TextSegment::text).collect(toList());
 
         return embedTexts(texts);
     }
 
     private Response<List<Embedding>> embedTexts(List<String> texts) {
 
-        List<Embedding> embeddings = new ArrayList<>();
+        List<List<String>> batches = partition(texts, BATCH_SIZE, maxTokensPerBatch, this::estimateTokenCount);
 
-        int inputTokenCount = 0;
-        for (int i = 0; i < texts.size(); i += BATCH_SIZE) {
+        return embedInBatches(batches, this::embedBatch, maxConcurrentBatches);
+    }
 
-            List<String> batch = texts.subList(i, Math.min(i + BATCH_SIZE, texts.size()));
+    private Response<List<Embedding>> embedBatch(List<String> batch) {
 
-            EmbeddingsOptions options = new EmbeddingsOptions(batch).setDimensions(dimensions);
-            Embeddings response = client.getEmbeddings(deploymentName, options);
+        EmbeddingsOptions options = new EmbeddingsOptions(batch).setDimensions(dimensions);
+        Embeddings response = client.getEmbeddings(deploymentName, options);
 
-            for (EmbeddingItem embeddingItem : response.getData()) {
-                Embedding embedding = from(embeddingItem.getEmbedding());
-                embeddings.add(embedding);
-            }
-
-            inputTokenCount += response.getUsage().getPromptTokens();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (EmbeddingItem embeddingItem : response.getData()) {
+            Embedding embedding = from(embeddingItem.getEmbedding());
+            embeddings.add(embedding);
         }
 
-        return Response.from(
-                embeddings,
-                new TokenUsage(inputTokenCount)
-        );
+        return Response.from(embeddings, new TokenUsage(response.getUsage().getPromptTokens()));
     }
 
     @Override
@@ -179,7 +222,8 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
     }
 
     public static Builder builder() {
-        for (AzureOpenAiEmbeddingModelBuilderFactory factory : loadFactories(AzureOpenAiEmbeddingModelBuilderFactory.class)) {
+        for (AzureOpenAiEmbeddingModelBuilderFactory factory :
+                loadFactories(AzureOpenAiEmbeddingModelBuilderFactory.class)) {
             return factory.get();
         }
         return new Builder();
@@ -187,8 +231,7 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
 
     @Override
     protected Integer knownDimension() {
-        if(dimensions != null)
-            return dimensions;
+        if (dimensions != null) return dimensions;
         return AzureOpenAiEmbeddingModelName.knownDimension(deploymentName);
     }
 
@@ -209,6 +252,8 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
         private String userAgentSuffix;
         private Integer dimensions;
         private Map<String, String> customHeaders;
+        private Integer maxTokensPerBatch;
+        private Integer maxConcurrentBatches;
 
         /**
          * Sets the Azure OpenAI endpoint. This is a mandatory parameter.
@@ -319,7 +364,7 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
             return this;
         }
 
-        public Builder dimensions(Integer dimensions){
+        public Builder dimensions(Integer dimensions) {
             this.dimensions = dimensions;
             return this;
         }
@@ -329,6 +374,30 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
             return this;
         }
 
+        /**
+         * Sets the maximum number of tokens in a single request, as estimated by the {@link #tokenizer(Tokenizer)}.
+         * Batches of 16 text segments are made smaller when needed to stay under this limit. Optional.
+         *
+         * @param maxTokensPerBatch the maximum number of tokens per request
+         * @return builder
+         */
+        public Builder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests that are sent at the same time when the text segments
+         * passed to {@code embedAll()} are split into several batches. Default: 1 (batches are sent one after another).
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent requests
+         * @return builder
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
         public AzureOpenAiEmbeddingModel build() {
             if (openAIClient == null) {
                 if (tokenCredential != null) {
@@ -344,8 +413,9 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
                             logRequestsAndResponses,
                             userAgentSuffix,
                             dimensions,
-                            customHeaders
-                    );
+                            customHeaders,
+                            maxTokensPerBatch,
+                            maxConcurrentBatches);
                 } else if (keyCredential != null) {
                     return new AzureOpenAiEmbeddingModel(
                             endpoint,
@@ -359,8 +429,9 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
                             logRequestsAndResponses,
                             userAgentSuffix,
                             dimensions,
-                            customHeaders
-                    );
+                            customHeaders,
+                            maxTokensPerBatch,
+                            maxConcurrentBatches);
                 }
                 return new AzureOpenAiEmbeddingModel(
                         endpoint,
@@ -374,15 +445,12 @@ public class AzureOpenAiEmbeddingModel extends DimensionAwareEmbeddingModel impl
                         logRequestsAndResponses,
                         userAgentSuffix,
                         dimensions,
-                        customHeaders
-                );
+                        customHeaders,
+                        maxTokensPerBatch,
+                        maxConcurrentBatches);
             } else {
                 return new AzureOpenAiEmbeddingModel(
-                        openAIClient,
-                        deploymentName,
-                        tokenizer,
-                        dimensions
-                );
+                        openAIClient, deploymentName, tokenizer, dimensions, maxTokensPerBatch, maxConcurrentBatches);
             }
         }
     }
@@ -0,0 +1,79 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Random;
+
+/**
+ * Generates deterministic benchmark data, so that results are comparable across runs and releases.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42;
+
+    private static final String[] WORDS = {
+        "the",
+        "quick",
+        "brown",
+        "fox",
+        "jumps",
+        "over",
+        "lazy",
+        "dog",
+        "embedding",
+        "vector",
+        "store",
+        "retrieval",
+        "augmented",
+        "generation",
+        "language",
+        "model",
+        "token",
+        "segment",
+        "document",
+        "query",
+        "similarity",
+        "search",
+        "index",
+        "metadata",
+        "filter",
+        "prompt"
+    };
+
+    private BenchmarkData() {}
+
+    static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    static Embedding randomEmbedding(Random random, int dimension) {
+        return Embedding.from(randomVector(random, dimension));
+    }
+
+    /**
+     * Generates text consisting of sentences of 5 to 20 words, grouped into paragraphs of 3 to 8 sentences.
+     */
+    static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 200);
+        while (text.length() < length) {
+            int sentences = 3 + random.nextInt(6);
+            for (int s = 0; s < sentences; s++) {
+                int words = 5 + random.nextInt(16);
+                for (int w = 0; w < words; w++) {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    if (w == 0) {
+                        text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+                    } else {
+                        text.append(' ').append(word);
+                    }
+                }
+                text.append(". ");
+            }
+            text.append("\n\n");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures (de)serialization of a chat memory using the default {@code ChatMessageJsonCodec}
+ * (Jackson-based, unless another codec is found on the classpath).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatMessageJsonCodecBenchmark {
+
+    @Param({"10", "100"})
+    int messageCount;
+
+    List<ChatMessage> messages;
+    String json;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        messages = new ArrayList<>(messageCount);
+        messages.add(SystemMessage.from(BenchmarkData.randomText(random, 500)));
+        for (int i = 1; messages.size() < messageCount; i++) {
+            messages.add(UserMessage.from(BenchmarkData.randomText(random, 200)));
+            if (i % 3 == 0) {
+                String id = "call_" + i;
+                messages.add(AiMessage.from(ToolExecutionRequest.builder()
+                        .id(id)
+                        .name("search")
+                        .arguments("{\"query\":\""
+                                + BenchmarkData.randomText(random, 30).trim() + "\"}")
+                        .build()));
+                messages.add(ToolExecutionResultMessage.from(id, "search", BenchmarkData.randomText(random, 300)));
+            }
+            messages.add(AiMessage.from(BenchmarkData.randomText(random, 400)));
+        }
+        json = ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> fromJson() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+}
@@ -0,0 +1,88 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures retrieval of several (e.g., expanded) queries with an {@link EmbeddingStoreContentRetriever}
+ * backed by an {@link InMemoryEmbeddingStore}. A {@link StubEmbeddingModel} replaces the remote embedding model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentRetrieverBenchmark {
+
+    @Param({"10000"})
+    int corpusSize;
+
+    @Param({"384"})
+    int dimension;
+
+    @Param({"1", "5"})
+    int queryCount;
+
+    ContentRetriever retriever;
+    List<Query> queries;
+
+    @Setup
+    public void setUp() {
+        EmbeddingModel embeddingModel = new StubEmbeddingModel(dimension);
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+
+        Random random = new Random(BenchmarkData.SEED);
+        List<TextSegment> segments = new ArrayList<>(corpusSize);
+        for (int i = 0; i < corpusSize; i++) {
+            segments.add(TextSegment.from(BenchmarkData.randomText(random, 200), new Metadata().put("index", i)));
+        }
+        store.addAll(embeddingModel.embedAll(segments).content(), segments);
+
+        retriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(store)
+                .embeddingModel(embeddingModel)
+                .maxResults(5)
+                .build();
+
+        queries = new ArrayList<>(queryCount);
+        for (int i = 0; i < queryCount; i++) {
+            queries.add(Query.from(BenchmarkData.randomText(random, 50)));
+        }
+    }
+
+    @Benchmark
+    public List<List<Content>> retrieveEach() {
+        List<List<Content>> contents = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            contents.add(retriever.retrieve(query));
+        }
+        return contents;
+    }
+
+    @Benchmark
+    public List<List<Content>> retrieveAll() {
+        return retriever.retrieveAll(queries);
+    }
+}
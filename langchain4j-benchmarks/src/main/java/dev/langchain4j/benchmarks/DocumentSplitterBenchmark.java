@@ -0,0 +1,54 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.document.splitter.HierarchicalDocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures splitting a {@link Document} with the recursive {@link HierarchicalDocumentSplitter}
+ * (paragraphs, then lines, sentences, words and characters).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentSplitterBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int documentLength;
+
+    @Param({"300", "1000"})
+    int maxSegmentSize;
+
+    Document document;
+    DocumentSplitter splitter;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(BenchmarkData.randomText(new Random(BenchmarkData.SEED), documentLength));
+        splitter = DocumentSplitters.recursive(maxSegmentSize, maxSegmentSize / 10);
+    }
+
+    @Benchmark
+    public List<TextSegment> split() {
+        return splitter.split(document);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures evaluating a {@link Filter} against the {@link Metadata} of {@code corpusSize} entries,
+ * both interpreted ({@link Filter#test(Object)}) and compiled ({@link Filter#compile()}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterBenchmark {
+
+    private static final int BUCKETS = 100;
+
+    @Param({"10000"})
+    int corpusSize;
+
+    @Param({"1.0", "0.1", "0.01"})
+    double filterSelectivity;
+
+    List<Metadata> metadatas;
+    Filter filter;
+    Predicate<Metadata> compiledFilter;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        metadatas = new ArrayList<>(corpusSize);
+        for (int i = 0; i < corpusSize; i++) {
+            metadatas.add(new Metadata()
+                    .put("bucket", random.nextInt(BUCKETS))
+                    .put("tenant", "tenant-" + random.nextInt(10))
+                    .put("score", random.nextDouble()));
+        }
+
+        int maxBucket = (int) Math.round(filterSelectivity * BUCKETS);
+        filter = metadataKey("bucket")
+                .isLessThan(maxBucket)
+                .and(metadataKey("tenant")
+                        .isIn(
+                                "tenant-0",
+                                "tenant-1",
+                                "tenant-2",
+                                "tenant-3",
+                                "tenant-4",
+                                "tenant-5",
+                                "tenant-6",
+                                "tenant-7",
+                                "tenant-8",
+                                "tenant-9"))
+                .and(metadataKey("score").isGreaterThanOrEqualTo(0d));
+        compiledFilter = filter.compile();
+    }
+
+    @Benchmark
+    public int test() {
+        int matches = 0;
+        for (Metadata metadata : metadatas) {
+            if (filter.test(metadata)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int testCompiled() {
+        int matches = 0;
+        for (Metadata metadata : metadatas) {
+            if (compiledFilter.test(metadata)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
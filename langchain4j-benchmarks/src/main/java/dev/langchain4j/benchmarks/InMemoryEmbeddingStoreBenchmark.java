@@ -0,0 +1,117 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.StorageMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures exact (exhaustive) search in an {@link InMemoryEmbeddingStore}.
+ * <br>
+ * Each entry has an integer {@code bucket} metadata entry in {@code [0..100)},
+ * so that {@code filterSelectivity} is the fraction of the entries matching the filter
+ * ({@code 1.0} means no filter).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class InMemoryEmbeddingStoreBenchmark {
+
+    private static final int BUCKETS = 100;
+    private static final int QUERIES = 8;
+
+    @Param({"10000", "100000"})
+    int corpusSize;
+
+    @Param({"384", "1536"})
+    int dimension;
+
+    @Param({"1.0", "0.1", "0.01"})
+    double filterSelectivity;
+
+    @Param({"ENTRIES", "CONTIGUOUS"})
+    StorageMode storageMode;
+
+    @Param({"false", "true"})
+    boolean metadataIndex;
+
+    InMemoryEmbeddingStore<TextSegment> store;
+    List<EmbeddingSearchRequest> requests;
+
+    @Setup
+    public void setUp() {
+        InMemoryEmbeddingStore.Builder<TextSegment> builder =
+                InMemoryEmbeddingStore.<TextSegment>builder().storageMode(storageMode);
+        if (metadataIndex) {
+            builder.metadataIndex("bucket");
+        }
+        store = builder.build();
+
+        Random random = new Random(BenchmarkData.SEED);
+        List<Embedding> embeddings = new ArrayList<>(corpusSize);
+        List<TextSegment> segments = new ArrayList<>(corpusSize);
+        for (int i = 0; i < corpusSize; i++) {
+            embeddings.add(BenchmarkData.randomEmbedding(random, dimension));
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("bucket", i % BUCKETS)));
+        }
+        store.addAll(embeddings, segments);
+
+        Filter filter = filterSelectivity >= 1.0
+                ? null
+                : metadataKey("bucket").isLessThan((int) Math.round(filterSelectivity * BUCKETS));
+        requests = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            requests.add(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(BenchmarkData.randomEmbedding(random, dimension))
+                    .maxResults(10)
+                    .filter(filter)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        return store.search(requests.get(0));
+    }
+
+    /**
+     * Searches for {@value #QUERIES} queries one by one, to be compared with {@link #searchAll()}.
+     */
+    @Benchmark
+    public List<EmbeddingSearchResult<TextSegment>> searchEach() {
+        List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(requests.size());
+        for (EmbeddingSearchRequest request : requests) {
+            results.add(store.search(request));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<EmbeddingSearchResult<TextSegment>> searchAll() {
+        return store.searchAll(requests);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering of a {@link PromptTemplate} (using the default {@code PromptTemplateFactory}),
+ * both with a template created once and with a template created for every rendering,
+ * as done for AI service method templates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PromptTemplateBenchmark {
+
+    @Param({"1", "10", "50"})
+    int variableCount;
+
+    String template;
+    PromptTemplate promptTemplate;
+    Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        StringBuilder templateBuilder = new StringBuilder();
+        variables = new HashMap<>();
+        for (int i = 0; i < variableCount; i++) {
+            templateBuilder
+                    .append(BenchmarkData.randomText(random, 100).trim())
+                    .append(" {{variable")
+                    .append(i)
+                    .append("}} ");
+            variables.put("variable" + i, "value of variable " + i);
+        }
+        template = templateBuilder.toString();
+        promptTemplate = PromptTemplate.from(template);
+    }
+
+    @Benchmark
+    public Prompt apply() {
+        return promptTemplate.apply(variables);
+    }
+
+    @Benchmark
+    public Prompt createAndApply() {
+        return PromptTemplate.from(template).apply(variables);
+    }
+}
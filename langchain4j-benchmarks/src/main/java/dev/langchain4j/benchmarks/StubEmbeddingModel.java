@@ -0,0 +1,37 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A deterministic local replacement of a remote {@link EmbeddingModel}:
+ * the same text is always embedded into the same pseudo-random vector, without any network calls.
+ */
+class StubEmbeddingModel implements EmbeddingModel {
+
+    private final int dimension;
+
+    StubEmbeddingModel(int dimension) {
+        this.dimension = dimension;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
+            Random random = new Random(textSegment.text().hashCode());
+            embeddings.add(BenchmarkData.randomEmbedding(random, dimension));
+        }
+        return Response.from(embeddings);
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+}
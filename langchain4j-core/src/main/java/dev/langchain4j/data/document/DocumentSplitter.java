@@ -1,10 +1,14 @@
 package dev.langchain4j.data.document;
 
-import dev.langchain4j.data.segment.TextSegment;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.stream.Collectors.toList;
 
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.segment.TextSegment;
 import java.util.List;
-
-import static java.util.stream.Collectors.toList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Defines the interface for splitting a document into text segments.
@@ -33,8 +37,34 @@ public interface DocumentSplitter {
      * @return A list of TextSegment objects derived from the input Documents.
      */
     default List<TextSegment> splitAll(List<Document> documents) {
-        return documents.stream()
-                .flatMap(document -> split(document).stream())
+        return documents.stream().flatMap(document -> split(document).stream()).collect(toList());
+    }
+
+    /**
+     * Splits a list of Documents into a list of TextSegment objects, splitting the documents in parallel
+     * on the provided {@link Executor} (for example, {@link java.util.concurrent.ForkJoinPool#commonPool()}).
+     * The segments are returned in the same order as {@link #splitAll(List)} would return them.
+     * <br>
+     * The {@link #split(Document)} method of this splitter must be safe to call from several threads at the same time.
+     * This is the case for all splitters in the {@code dev.langchain4j:langchain4j} module.
+     *
+     * @param documents The list of Documents to be split.
+     * @param executor  The executor on which the documents are split.
+     * @return A list of TextSegment objects derived from the input Documents.
+     */
+    @Experimental
+    default List<TextSegment> splitAll(List<Document> documents, Executor executor) {
+        ensureNotNull(executor, "executor");
+        List<CompletableFuture<List<TextSegment>>> futures = documents.stream()
+                .map(document -> CompletableFuture.supplyAsync(() -> split(document), executor))
                 .collect(toList());
+        try {
+            return futures.stream().flatMap(future -> future.join().stream()).collect(toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,170 @@
+package dev.langchain4j.internal;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Utility methods for embedding models that split their input into several requests.
+ */
+public final class EmbeddingBatchUtils {
+
+    private EmbeddingBatchUtils() {}
+
+    /**
+     * Splits the items into consecutive batches of at most {@code maxItemsPerBatch} items
+     * and, if {@code maxTokensPerBatch} is not {@code null}, at most {@code maxTokensPerBatch} tokens.
+     * An item that alone exceeds {@code maxTokensPerBatch} is put into a batch of its own.
+     *
+     * @param items             the items to split.
+     * @param maxItemsPerBatch  the maximum number of items in a batch.
+     * @param maxTokensPerBatch the maximum number of tokens in a batch, or {@code null} if unlimited.
+     * @param tokenCounter      estimates the number of tokens of an item. Only used if {@code maxTokensPerBatch} is set.
+     * @param <T>               the type of the items.
+     * @return the batches.
+     */
+    public static <T> List<List<T>> partition(
+            List<T> items, int maxItemsPerBatch, Integer maxTokensPerBatch, ToIntFunction<T> tokenCounter) {
+        List<List<T>> batches = new ArrayList<>();
+        int from = 0;
+        int tokens = 0;
+        for (int i = 0; i < items.size(); i++) {
+            int itemTokens = maxTokensPerBatch == null ? 0 : tokenCounter.applyAsInt(items.get(i));
+            boolean full = i - from == maxItemsPerBatch
+                    || (maxTokensPerBatch != null && i > from && tokens + itemTokens > maxTokensPerBatch);
+            if (full) {
+                batches.add(items.subList(from, i));
+                from = i;
+                tokens = 0;
+            }
+            tokens += itemTokens;
+        }
+        if (from < items.size()) {
+            batches.add(items.subList(from, items.size()));
+        }
+        return batches;
+    }
+
+    /**
+     * Embeds the batches, up to {@code maxConcurrentBatches} of them at the same time,
+     * and concatenates the embeddings in the order of the batches.
+     * The token usages of all batches are summed up.
+     * <br>
+     * The embedder blocks the thread it runs on, so the concurrent batches are embedded
+     * on daemon threads that only live for the duration of this call.
+     * Embedding models whose client can send requests without blocking a thread should use
+     * {@link #embedInBatchesAsync(List, Function, int)} instead.
+     * <br>
+     * If embedding a batch fails, no further batches are started and the exception is rethrown.
+     *
+     * @param batches              the batches to embed.
+     * @param embedder             embeds a single batch.
+     * @param maxConcurrentBatches the maximum number of batches embedded at the same time.
+     * @param <T>                  the type of the items.
+     * @return the embeddings of all batches.
+     */
+    public static <T> Response<List<Embedding>> embedInBatches(
+            List<List<T>> batches, Function<List<T>, Response<List<Embedding>>> embedder, int maxConcurrentBatches) {
+        if (batches.size() <= 1 || maxConcurrentBatches <= 1) {
+            List<Response<List<Embedding>>> responses = new ArrayList<>(batches.size());
+            for (List<T> batch : batches) {
+                responses.add(embedder.apply(batch));
+            }
+            return concatenate(responses);
+        }
+
+        ExecutorService executor =
+                Executors.newFixedThreadPool(Math.min(maxConcurrentBatches, batches.size()), runnable -> {
+                    Thread thread = new Thread(runnable, "embedding-batch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            return embedInBatchesAsync(
+                    batches,
+                    batch -> CompletableFuture.supplyAsync(() -> embedder.apply(batch), executor),
+                    maxConcurrentBatches);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Embeds the batches, up to {@code maxConcurrentBatches} of them at the same time,
+     * and concatenates the embeddings in the order of the batches.
+     * The token usages of all batches are summed up.
+     * <br>
+     * The embedder only starts embedding a batch and returns a future of its embeddings,
+     * so no thread is blocked per batch: the calling thread waits for a free slot before starting the next batch,
+     * and then for all embeddings.
+     * <br>
+     * If embedding a batch fails, no further batches are started and the exception is rethrown.
+     *
+     * @param batches              the batches to embed.
+     * @param embedder             starts embedding a single batch.
+     * @param maxConcurrentBatches the maximum number of batches embedded at the same time.
+     * @param <T>                  the type of the items.
+     * @return the embeddings of all batches.
+     */
+    public static <T> Response<List<Embedding>> embedInBatchesAsync(
+            List<List<T>> batches,
+            Function<List<T>, CompletableFuture<Response<List<Embedding>>>> embedder,
+            int maxConcurrentBatches) {
+        Semaphore permits = new Semaphore(Math.max(maxConcurrentBatches, 1));
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Response<List<Embedding>>>> futures = new ArrayList<>(batches.size());
+        for (List<T> batch : batches) {
+            permits.acquireUninterruptibly();
+            if (failed.get()) {
+                permits.release();
+                break;
+            }
+            CompletableFuture<Response<List<Embedding>>> future;
+            try {
+                future = embedder.apply(batch);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((response, error) -> {
+                if (error != null) {
+                    failed.set(true);
+                }
+                permits.release();
+            });
+            futures.add(future);
+        }
+
+        List<Response<List<Embedding>>> responses = new ArrayList<>(futures.size());
+        for (CompletableFuture<Response<List<Embedding>>> future : futures) {
+            try {
+                responses.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+        return concatenate(responses);
+    }
+
+    private static Response<List<Embedding>> concatenate(List<Response<List<Embedding>>> responses) {
+        List<Embedding> embeddings = new ArrayList<>();
+        TokenUsage tokenUsage = null;
+        for (Response<List<Embedding>> response : responses) {
+            embeddings.addAll(response.content());
+            tokenUsage = TokenUsage.sum(tokenUsage, response.tokenUsage());
+        }
+        return Response.from(embeddings, tokenUsage);
+    }
+}
@@ -1,10 +1,15 @@
 package dev.langchain4j.internal;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Utility class for retrying actions.
@@ -118,11 +123,7 @@ public final class RetryUtils {
          * @param jitterScale The jitter scale.
          * @param backoffExp The backoff exponent.
          */
-        public RetryPolicy(
-                int maxAttempts,
-                int delayMillis,
-                double jitterScale,
-                double backoffExp) {
+        public RetryPolicy(int maxAttempts, int delayMillis, double jitterScale, double backoffExp) {
             this.maxAttempts = maxAttempts;
             this.delayMillis = delayMillis;
             this.jitterScale = jitterScale;
@@ -202,6 +203,43 @@ public final class RetryUtils {
                 attempt++;
             }
         }
+
+        /**
+         * This method attempts to complete a given asynchronous action up to a specified number of times.
+         * No thread is blocked while waiting for the delay between two attempts.
+         * If the action fails on all attempts, the returned future is completed with a RuntimeException.
+         *
+         * @param action      Starts the action and returns its future.
+         * @param maxAttempts The maximum number of attempts to execute the action.
+         * @param <T> The type of the result of the action.
+         * @return The future of the result of the first successful attempt.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<CompletableFuture<T>> action, int maxAttempts) {
+            return withRetryAsync(action, maxAttempts, 1);
+        }
+
+        private <T> CompletableFuture<T> withRetryAsync(
+                Supplier<CompletableFuture<T>> action, int maxAttempts, int attempt) {
+            CompletableFuture<T> future;
+            try {
+                future = action.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            return future.exceptionallyCompose(error -> {
+                Throwable cause =
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (attempt >= maxAttempts) {
+                    return CompletableFuture.failedFuture(new RuntimeException(cause));
+                }
+
+                log.warn(String.format("Exception was thrown on attempt %s of %s", attempt, maxAttempts), cause);
+
+                Executor delayed = CompletableFuture.delayedExecutor(jitterDelayMillis(attempt), MILLISECONDS);
+                return CompletableFuture.supplyAsync(() -> null, delayed)
+                        .thenCompose(ignored -> withRetryAsync(action, maxAttempts, attempt + 1));
+            });
+        }
     }
 
     /**
@@ -241,4 +279,17 @@ public final class RetryUtils {
     public static <T> T withRetry(Callable<T> action) {
         return DEFAULT_RETRY_POLICY.withRetry(action);
     }
+
+    /**
+     * This method attempts to complete a given asynchronous action up to a specified number of times.
+     * If the action fails on all attempts, the returned future is completed with a RuntimeException.
+     *
+     * @param action      Starts the action and returns its future.
+     * @param maxAttempts The maximum number of attempts to execute the action.
+     * @param <T> The type of the result of the action.
+     * @return The future of the result of the first successful attempt.
+     */
+    public static <T> CompletableFuture<T> withRetryAsync(Supplier<CompletableFuture<T>> action, int maxAttempts) {
+        return DEFAULT_RETRY_POLICY.withRetryAsync(action, maxAttempts);
+    }
 }
@@ -0,0 +1,283 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link EmbeddingModel} that caches the {@link Embedding}s produced by another {@code EmbeddingModel}.
+ * <br>
+ * Embeddings are cached by the hash of the model name, the dimension and the text of a {@link TextSegment}.
+ * Recently used embeddings are kept in memory (up to {@link Builder#maxSize(Integer)} entries,
+ * least recently used ones are evicted first).
+ * Optionally, all embeddings are also persisted to a {@link Builder#cacheFile(Path)},
+ * so that they survive restarts. The file can be shared by several instances, also in different processes;
+ * the {@link Builder#modelName(String) model name} must then identify the model of each instance.
+ * <br>
+ * {@link #embedAll(List)} only sends the texts that are not cached to the underlying model, in a single call,
+ * and returns the embeddings in the order of the given segments.
+ * The {@link Response#tokenUsage()} only covers the texts that were actually embedded.
+ * <br>
+ * Cache efficiency can be monitored using {@link #hitCount()} and {@link #missCount()}.
+ * <br>
+ * When a cache file is used, this model should be {@link #close() closed} when it is no longer needed.
+ */
+@Experimental
+public class CachingEmbeddingModel implements EmbeddingModel, AutoCloseable {
+
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final EmbeddingModel delegate;
+    private final byte[] keyPrefix;
+    private final Map<ByteBuffer, Embedding> memoryCache;
+    private final EmbeddingFileCache fileCache;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CachingEmbeddingModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        if (builder.cacheFile != null && isNullOrBlank(builder.modelName)) {
+            // the class name of the delegate does not tell apart two models of the same provider sharing the file
+            throw illegalArgument("The modelName must be set when a cacheFile is used");
+        }
+        String modelName = getOrDefault(builder.modelName, delegate.getClass().getName());
+        Integer dimension = getOrDefault(builder.dimension, () -> knownDimension(delegate));
+        this.keyPrefix = String.format("%s\0%s\0", modelName, dimension == null ? "" : dimension)
+                .getBytes(UTF_8);
+        int maxSize = ensureGreaterThanZero(getOrDefault(builder.maxSize, DEFAULT_MAX_SIZE), "maxSize");
+        this.memoryCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Embedding> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.fileCache = builder.cacheFile == null ? null : new EmbeddingFileCache(builder.cacheFile);
+    }
+
+    private static Integer knownDimension(EmbeddingModel embeddingModel) {
+        if (embeddingModel instanceof DimensionAwareEmbeddingModel dimensionAwareEmbeddingModel) {
+            return dimensionAwareEmbeddingModel.knownDimension();
+        }
+        return null;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+        // the same text can occur several times, but is embedded only once
+        Map<ByteBuffer, List<Integer>> misses = new LinkedHashMap<>();
+
+        for (int i = 0; i < textSegments.size(); i++) {
+            byte[] key = key(textSegments.get(i));
+            Embedding embedding = get(key);
+            if (embedding != null) {
+                embeddings[i] = embedding;
+                continue;
+            }
+            misses.computeIfAbsent(ByteBuffer.wrap(key), k -> new ArrayList<>()).add(i);
+        }
+
+        // other instances sharing the cache file may have added some of the missing embeddings,
+        // which are read at most once per call
+        if (!misses.isEmpty() && fileCache != null && fileCache.refresh()) {
+            misses.entrySet().removeIf(miss -> {
+                Embedding embedding = get(miss.getKey().array());
+                if (embedding == null) {
+                    return false;
+                }
+                miss.getValue().forEach(index -> embeddings[index] = embedding);
+                return true;
+            });
+        }
+
+        hitCount.addAndGet(textSegments.size() - countOf(misses));
+        missCount.addAndGet(countOf(misses));
+
+        if (misses.isEmpty()) {
+            return Response.from(Arrays.asList(embeddings));
+        }
+
+        List<TextSegment> missingSegments = new ArrayList<>(misses.size());
+        misses.values().forEach(indexes -> missingSegments.add(textSegments.get(indexes.get(0))));
+
+        Response<List<Embedding>> response = delegate.embedAll(missingSegments);
+        ensureEq(
+                response.content().size(),
+                missingSegments.size(),
+                "Expected %s embeddings, but got %s",
+                missingSegments.size(),
+                response.content().size());
+
+        int i = 0;
+        for (Map.Entry<ByteBuffer, List<Integer>> miss : misses.entrySet()) {
+            Embedding embedding = response.content().get(i++);
+            put(miss.getKey(), embedding);
+            for (int index : miss.getValue()) {
+                embeddings[index] = embedding;
+            }
+        }
+
+        return Response.from(Arrays.asList(embeddings), response.tokenUsage(), response.finishReason());
+    }
+
+    private static long countOf(Map<ByteBuffer, List<Integer>> misses) {
+        return misses.values().stream().mapToLong(List::size).sum();
+    }
+
+    private Embedding get(byte[] key) {
+        ByteBuffer mapKey = ByteBuffer.wrap(key);
+        synchronized (memoryCache) {
+            Embedding embedding = memoryCache.get(mapKey);
+            if (embedding != null || fileCache == null) {
+                return embedding;
+            }
+        }
+        Embedding embedding = fileCache.get(key);
+        if (embedding != null) {
+            synchronized (memoryCache) {
+                memoryCache.put(mapKey, embedding);
+            }
+        }
+        return embedding;
+    }
+
+    private void put(ByteBuffer key, Embedding embedding) {
+        synchronized (memoryCache) {
+            memoryCache.put(key, embedding);
+        }
+        if (fileCache != null) {
+            fileCache.put(key.array(), embedding);
+        }
+    }
+
+    private byte[] key(TextSegment textSegment) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(keyPrefix);
+        return digest.digest(textSegment.text().getBytes(UTF_8));
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    /**
+     * Returns the number of texts whose embeddings were found in the cache (in memory or in the cache file).
+     *
+     * @return the number of cache hits.
+     */
+    public long hitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of texts whose embeddings were not found in the cache
+     * and were embedded by the underlying model.
+     *
+     * @return the number of cache misses.
+     */
+    public long missCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Closes the cache file, if any.
+     */
+    @Override
+    public void close() {
+        if (fileCache != null) {
+            fileCache.close();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private String modelName;
+        private Integer dimension;
+        private Integer maxSize;
+        private Path cacheFile;
+
+        /**
+         * @param delegate the embedding model whose embeddings are cached. Mandatory.
+         * @return {@code this}
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param modelName the name of the model, which is part of the cache key.
+         *                  Mandatory when a {@link #cacheFile(Path) cache file} is used, so that embeddings
+         *                  of different models are not mixed. Otherwise, default: the class name of the delegate.
+         * @return {@code this}
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param dimension the dimension of the embeddings, which is part of the cache key.
+         *                  Default: the dimension of the delegate, if it is known without calling the model.
+         * @return {@code this}
+         */
+        public Builder dimension(Integer dimension) {
+            this.dimension = dimension;
+            return this;
+        }
+
+        /**
+         * @param maxSize the maximum number of embeddings kept in memory. Default: 10000.
+         * @return {@code this}
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param cacheFile the file in which all embeddings are persisted. Optional.
+         *                  It is created if it does not exist. Requires the {@link #modelName(String)}.
+         * @return {@code this}
+         */
+        public Builder cacheFile(Path cacheFile) {
+            this.cacheFile = cacheFile;
+            return this;
+        }
+
+        public CachingEmbeddingModel build() {
+            return new CachingEmbeddingModel(this);
+        }
+    }
+}
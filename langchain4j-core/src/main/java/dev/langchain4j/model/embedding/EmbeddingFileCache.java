@@ -0,0 +1,280 @@
+package dev.langchain4j.model.embedding;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An append-only file of {@link Embedding}s, keyed by a 32-byte hash.
+ * Each record consists of the key, the dimension and the vector of the embedding.
+ * Only the offsets of the records are kept in memory; vectors are read from the file on demand.
+ * <br>
+ * The file can be shared by several instances, in the same or in different processes.
+ * Records are only appended while holding a lock on the file, after reading the records appended by other instances,
+ * so a record is never written twice or over another one. Lookups only use the records already read;
+ * the records appended by other instances in the meantime are read by {@link #refresh()}.
+ * The lock is a {@link FileLock}, which other processes only respect if they use this class as well.
+ * <br>
+ * An incomplete record at the end of the file (for example, after a crash) is discarded under the same lock.
+ */
+class EmbeddingFileCache implements AutoCloseable {
+
+    static final int KEY_SIZE = 32;
+
+    private static final int MAGIC = 0x4c34_4543; // "L4EC"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = KEY_SIZE + Integer.BYTES;
+
+    /**
+     * A {@link FileLock} is held on behalf of the whole JVM, so the instances of this JVM sharing a file
+     * additionally serialize their access to it with these locks.
+     * A lock is removed when the last instance using its file is closed.
+     */
+    static final Map<Path, JvmLock> JVM_LOCKS = new HashMap<>();
+
+    private final FileChannel channel;
+    private final JvmLock jvmLock;
+    private final Map<ByteBuffer, Long> offsets = new HashMap<>();
+    private long size;
+
+    EmbeddingFileCache(Path file) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            this.channel = FileChannel.open(file, CREATE, READ, WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        JvmLock jvmLock = null;
+        boolean initialized = false;
+        try {
+            jvmLock = JvmLock.acquire(file.toRealPath());
+            this.jvmLock = jvmLock;
+            locked(() -> {
+                if (channel.size() == 0) {
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                            .putInt(MAGIC)
+                            .putInt(VERSION)
+                            .flip();
+                    writeFully(header, 0);
+                    size = HEADER_SIZE;
+                } else {
+                    readHeader(file);
+                    size = readIndex(HEADER_SIZE);
+                    channel.truncate(size);
+                }
+            });
+            initialized = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!initialized) {
+                if (jvmLock != null) {
+                    jvmLock.release();
+                }
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // the failure to initialize is reported instead
+                }
+            }
+        }
+    }
+
+    private void readHeader(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.read(header, 0) < HEADER_SIZE || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IllegalArgumentException(String.format("'%s' is not an embedding cache file", file));
+        }
+    }
+
+    /**
+     * Adds the complete records starting at the given position to the index.
+     *
+     * @return the position after the last complete record.
+     */
+    private long readIndex(long position) throws IOException {
+        long fileSize = channel.size();
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        while (position + RECORD_HEADER_SIZE <= fileSize) {
+            recordHeader.clear();
+            readFully(recordHeader, position);
+            int dimension = recordHeader.getInt(KEY_SIZE);
+            long recordSize = RECORD_HEADER_SIZE + (long) dimension * Float.BYTES;
+            if (dimension < 0 || position + recordSize > fileSize) {
+                break;
+            }
+            byte[] key = new byte[KEY_SIZE];
+            recordHeader.get(0, key);
+            offsets.put(ByteBuffer.wrap(key), position);
+            position += recordSize;
+        }
+        return position;
+    }
+
+    /**
+     * Reads the records appended by other instances since the last read.
+     * The file is only locked if it has grown in the meantime.
+     *
+     * @return {@code true} if new records were read.
+     */
+    synchronized boolean refresh() {
+        try {
+            if (channel.size() <= size) {
+                return false;
+            }
+            int knownRecords = offsets.size();
+            locked(() -> size = readIndex(size));
+            return offsets.size() > knownRecords;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Embedding get(byte[] key) {
+        Long offset;
+        synchronized (this) {
+            offset = offsets.get(ByteBuffer.wrap(key));
+        }
+        if (offset == null) {
+            return null;
+        }
+
+        try {
+            ByteBuffer dimensionBuffer = ByteBuffer.allocate(Integer.BYTES);
+            readFully(dimensionBuffer, offset + KEY_SIZE);
+            int dimension = dimensionBuffer.getInt(0);
+            ByteBuffer vectorBuffer = ByteBuffer.allocate(dimension * Float.BYTES);
+            readFully(vectorBuffer, offset + RECORD_HEADER_SIZE);
+            float[] vector = new float[dimension];
+            vectorBuffer.flip().asFloatBuffer().get(vector);
+            return Embedding.from(vector);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized void put(byte[] key, Embedding embedding) {
+        ByteBuffer mapKey = ByteBuffer.wrap(key.clone());
+        if (offsets.containsKey(mapKey)) {
+            return;
+        }
+
+        float[] vector = embedding.vector();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + vector.length * Float.BYTES);
+        record.put(key).putInt(vector.length);
+        record.asFloatBuffer().put(vector);
+        record.clear();
+        try {
+            locked(() -> {
+                // other instances may have appended records, possibly including this one
+                size = readIndex(size);
+                if (offsets.containsKey(mapKey)) {
+                    return;
+                }
+                // an incomplete record could otherwise remain after the new one
+                channel.truncate(size);
+                writeFully(record, size);
+                offsets.put(mapKey, size);
+                size += record.capacity();
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized int size() {
+        return offsets.size();
+    }
+
+    /**
+     * Runs the given action while holding the locks of the file.
+     */
+    private void locked(IOAction action) throws IOException {
+        jvmLock.lock();
+        try (FileLock ignored = channel.lock()) {
+            action.run();
+        } finally {
+            jvmLock.unlock();
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of the embedding cache file");
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOAction {
+
+        void run() throws IOException;
+    }
+
+    /**
+     * A {@link ReentrantLock} shared by the open instances of this JVM using the same file.
+     */
+    static class JvmLock extends ReentrantLock {
+
+        private final Path file;
+        private int users;
+
+        private JvmLock(Path file) {
+            this.file = file;
+        }
+
+        static JvmLock acquire(Path file) {
+            synchronized (JVM_LOCKS) {
+                JvmLock jvmLock = JVM_LOCKS.computeIfAbsent(file, JvmLock::new);
+                jvmLock.users++;
+                return jvmLock;
+            }
+        }
+
+        void release() {
+            synchronized (JVM_LOCKS) {
+                if (--users == 0) {
+                    JVM_LOCKS.remove(file);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            jvmLock.release();
+        }
+    }
+}
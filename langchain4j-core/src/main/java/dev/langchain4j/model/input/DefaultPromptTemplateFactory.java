@@ -1,16 +1,17 @@
 package dev.langchain4j.model.input;
 
-import dev.langchain4j.spi.prompt.PromptTemplateFactory;
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
+import dev.langchain4j.spi.prompt.PromptTemplateFactory;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static dev.langchain4j.internal.Exceptions.illegalArgument;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
-
 class DefaultPromptTemplateFactory implements PromptTemplateFactory {
 
     @Override
@@ -18,37 +19,64 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         return new DefaultTemplate(input.getTemplate());
     }
 
+    /**
+     * A template that is parsed once into literal and variable segments,
+     * and rendered in a single pass.
+     */
     static class DefaultTemplate implements Template {
 
         @SuppressWarnings("RegExpRedundantEscape")
         private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{(.+?)\\}\\}");
 
-        private final String template;
         private final Set<String> allVariables;
+        /**
+         * The literal texts between the variables. There is always one more literal than there are variables.
+         */
+        private final String[] literals;
+        /**
+         * The names of the variables, in the order of their occurrence in the template.
+         */
+        private final String[] variables;
+
+        private final int literalsLength;
 
         public DefaultTemplate(String template) {
-            this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
+            ensureNotBlank(template, "template");
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            List<String> literals = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
+            int literalStart = 0;
             while (matcher.find()) {
+                literals.add(template.substring(literalStart, matcher.start()));
                 variables.add(matcher.group(1));
+                literalStart = matcher.end();
             }
-            return variables;
+            literals.add(template.substring(literalStart));
+
+            this.allVariables = new HashSet<>(variables);
+            this.literals = literals.toArray(new String[0]);
+            this.variables = variables.toArray(new String[0]);
+            this.literalsLength = template.length()
+                    - variables.stream().mapToInt(name -> name.length() + 4).sum();
         }
 
         public String render(Map<String, Object> variables) {
             ensureAllVariablesProvided(variables);
+            ensureNoNullValues(variables);
 
-            String result = template;
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+            String[] values = new String[this.variables.length];
+            int length = literalsLength;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = variables.get(this.variables[i]).toString();
+                length += values[i].length();
             }
 
-            return result;
+            StringBuilder result = new StringBuilder(length);
+            for (int i = 0; i < values.length; i++) {
+                result.append(literals[i]).append(values[i]);
+            }
+            return result.append(literals[values.length]).toString();
         }
 
         private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
@@ -59,15 +87,13 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
             }
         }
 
-        private static String replaceAll(String template, String variable, Object value) {
-            if (value == null || value.toString() == null) {
-                throw illegalArgument("Value for the variable '%s' is null", variable);
+        private static void ensureNoNullValues(Map<String, Object> providedVariables) {
+            for (Map.Entry<String, Object> entry : providedVariables.entrySet()) {
+                Object value = entry.getValue();
+                if (value == null || value.toString() == null) {
+                    throw illegalArgument("Value for the variable '%s' is null", entry.getKey());
+                }
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
-        }
-
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
         }
     }
 }
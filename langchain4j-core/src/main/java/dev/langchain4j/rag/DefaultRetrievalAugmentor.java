@@ -17,11 +17,12 @@ import dev.langchain4j.rag.query.transformer.QueryTransformer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -38,7 +39,6 @@ import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toMap;
 
 /**
  * The default implementation of {@link RetrievalAugmentor} intended to be suitable for the majority of use cases.
@@ -100,6 +100,11 @@ import static java.util.stream.Collectors.toMap;
  * When there is only a single {@link Query} and a single {@link ContentRetriever},
  * query routing and content retrieval are performed in the same thread.
  * Otherwise, an {@link Executor} is used to parallelize the processing.
+ * When there are multiple {@link Query}s, all {@link Query}s routed to a {@link ContentRetriever}
+ * that overrides {@link ContentRetriever#retrieveAll(List)} are passed to it at once,
+ * so that, for example, an {@link dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever}
+ * can embed and search for all of them in a single batch.
+ * Other {@link ContentRetriever}s are still called for each {@link Query} in parallel.
  * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
  * is used, but you can provide a custom {@link Executor} instance.
  *
@@ -188,35 +193,84 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
                 return emptyMap();
             }
         } else if (queries.size() > 1) {
-            Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents = new ConcurrentHashMap<>();
-            queries.forEach(query -> {
-                CompletableFuture<Collection<List<Content>>> futureContents =
-                    supplyAsync(() -> {
-                            Collection<ContentRetriever> retrievers = queryRouter.route(query);
-                            log(query, retrievers);
-                            return retrievers;
-                        },
-                        executor
-                    ).thenCompose(retrievers -> retrieveFromAll(retrievers, query));
-                queryToFutureContents.put(query, futureContents);
-            });
-            return join(queryToFutureContents);
+            Map<Query, CompletableFuture<Collection<ContentRetriever>>> queryToFutureRetrievers = new LinkedHashMap<>();
+            queries.forEach(query -> queryToFutureRetrievers.put(
+                    query,
+                    supplyAsync(
+                            () -> {
+                                Collection<ContentRetriever> retrievers = queryRouter.route(query);
+                                log(query, retrievers);
+                                return retrievers;
+                            },
+                            executor)));
+            return retrieveInBatches(join(queryToFutureRetrievers));
         } else {
             return emptyMap();
         }
     }
 
-    private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
-                                                                         Query query) {
-        List<CompletableFuture<List<Content>>> futureContents = retrievers.stream()
-            .map(retriever -> supplyAsync(() -> retrieve(retriever, query), executor))
-            .collect(Collectors.toList());
-
-        return allOf(futureContents.toArray(new CompletableFuture[0]))
-            .thenApply(ignored ->
-                futureContents.stream()
-                    .map(CompletableFuture::join)
-                    .collect(Collectors.toList()));
+    /**
+     * Groups the queries by retriever, so that each {@link ContentRetriever} overriding
+     * {@link ContentRetriever#retrieveAll(List)} is called only once with all queries routed to it.
+     */
+    private Map<Query, Collection<List<Content>>> retrieveInBatches(
+            Map<Query, Collection<ContentRetriever>> queryToRetrievers) {
+
+        Map<ContentRetriever, List<Query>> retrieverToQueries = new LinkedHashMap<>();
+        queryToRetrievers.forEach((query, retrievers) -> retrievers.forEach(retriever -> retrieverToQueries
+                .computeIfAbsent(retriever, ignored -> new ArrayList<>())
+                .add(query)));
+
+        Map<ContentRetriever, CompletableFuture<List<List<Content>>>> retrieverToFutureContents = new LinkedHashMap<>();
+        retrieverToQueries.forEach((retriever, retrieverQueries) -> retrieverToFutureContents.put(
+                retriever,
+                overridesRetrieveAll(retriever)
+                        ? supplyAsync(() -> retrieveAll(retriever, retrieverQueries), executor)
+                        : retrieveEach(retriever, retrieverQueries)));
+        Map<ContentRetriever, List<List<Content>>> retrieverToContents = join(retrieverToFutureContents);
+
+        Map<Query, Collection<List<Content>>> queryToContents = new LinkedHashMap<>();
+        queryToRetrievers.forEach((query, retrievers) -> {
+            List<List<Content>> contents = new ArrayList<>(retrievers.size());
+            for (ContentRetriever retriever : retrievers) {
+                int index = retrieverToQueries.get(retriever).indexOf(query);
+                contents.add(retrieverToContents.get(retriever).get(index));
+            }
+            queryToContents.put(query, contents);
+        });
+        return queryToContents;
+    }
+
+    private CompletableFuture<List<List<Content>>> retrieveFromAll(
+            Collection<ContentRetriever> retrievers, Query query) {
+        return joinAll(retrievers.stream()
+                .map(retriever -> supplyAsync(() -> retrieve(retriever, query), executor))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Retrieves for each query in parallel, as the default {@link ContentRetriever#retrieveAll(List)}
+     * would retrieve for them one after another.
+     */
+    private CompletableFuture<List<List<Content>>> retrieveEach(ContentRetriever retriever, List<Query> queries) {
+        return joinAll(queries.stream()
+                .map(query -> supplyAsync(() -> retrieve(retriever, query), executor))
+                .collect(Collectors.toList()));
+    }
+
+    private static <T> CompletableFuture<List<T>> joinAll(List<CompletableFuture<T>> futures) {
+        return allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(
+                        ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    private static boolean overridesRetrieveAll(ContentRetriever retriever) {
+        try {
+            return retriever.getClass().getMethod("retrieveAll", List.class).getDeclaringClass()
+                    != ContentRetriever.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
     }
 
     private static List<Content> retrieve(ContentRetriever retriever, Query query) {
@@ -225,16 +279,26 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         return contents;
     }
 
-    private static Map<Query, Collection<List<Content>>> join(
-        Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents) {
-        return allOf(queryToFutureContents.values().toArray(new CompletableFuture[0]))
-            .thenApply(ignored ->
-                queryToFutureContents.entrySet().stream()
-                    .collect(toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().join()
-                    ))
-            ).join();
+    private static List<List<Content>> retrieveAll(ContentRetriever retriever, List<Query> queries) {
+        List<List<Content>> contents = retriever.retrieveAll(queries);
+        if (contents.size() != queries.size()) {
+            throw new IllegalStateException(
+                    String.format("%s returned %s results for %s queries", retriever, contents.size(), queries.size()));
+        }
+        for (int i = 0; i < queries.size(); i++) {
+            log(queries.get(i), retriever, contents.get(i));
+        }
+        return contents;
+    }
+
+    private static <K, V> Map<K, V> join(Map<K, CompletableFuture<V>> keyToFutureValues) {
+        return allOf(keyToFutureValues.values().toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<K, V> keyToValues = new LinkedHashMap<>();
+                    keyToFutureValues.forEach((key, futureValue) -> keyToValues.put(key, futureValue.join()));
+                    return keyToValues;
+                })
+                .join();
     }
 
     private static void logQueries(Query originalQuery, Collection<Query> queries) {
@@ -1,8 +1,10 @@
 package dev.langchain4j.rag.content.retriever;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,4 +37,25 @@ public interface ContentRetriever {
      * @return A list of retrieved {@link Content}s.
      */
     List<Content> retrieve(Query query);
+
+    /**
+     * Retrieves relevant {@link Content}s for each of the given {@link Query}s.
+     * <br>
+     * Implementations can override this method to retrieve for all queries at once
+     * (e.g., using a single batch search request), which is cheaper than retrieving for each query separately.
+     * By default, {@link #retrieve(Query)} is called for each query, one after another.
+     * {@link dev.langchain4j.rag.DefaultRetrievalAugmentor} only calls this method when it is overridden,
+     * and otherwise calls {@link #retrieve(Query)} for the queries in parallel.
+     *
+     * @param queries The {@link Query}s to use for retrieval.
+     * @return A list of retrieved {@link Content}s for each query, in the same order as the queries.
+     */
+    @Experimental
+    default List<List<Content>> retrieveAll(List<Query> queries) {
+        List<List<Content>> contents = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            contents.add(retrieve(query));
+        }
+        return contents;
+    }
 }
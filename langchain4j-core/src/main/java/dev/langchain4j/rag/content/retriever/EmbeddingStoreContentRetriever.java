@@ -12,6 +12,7 @@ import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -231,15 +232,45 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
         Embedding embeddedQuery = embeddingModel.embed(query.text()).content();
 
-        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+        EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(toSearchRequest(query, embeddedQuery));
+
+        return toContents(searchResult);
+    }
+
+    /**
+     * Embeds all queries using a single {@link EmbeddingModel#embedAll(List)} call
+     * and searches for all of them using a single {@link EmbeddingStore#searchAll(List)} call.
+     */
+    @Override
+    public List<List<Content>> retrieveAll(List<Query> queries) {
+        if (queries.size() == 1) {
+            return List.of(retrieve(queries.get(0)));
+        }
+
+        List<TextSegment> queryTexts =
+                queries.stream().map(query -> TextSegment.from(query.text())).collect(Collectors.toList());
+        List<Embedding> embeddedQueries = embeddingModel.embedAll(queryTexts).content();
+
+        List<EmbeddingSearchRequest> searchRequests = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            searchRequests.add(toSearchRequest(queries.get(i), embeddedQueries.get(i)));
+        }
+
+        return embeddingStore.searchAll(searchRequests).stream()
+                .map(EmbeddingStoreContentRetriever::toContents)
+                .collect(Collectors.toList());
+    }
+
+    private EmbeddingSearchRequest toSearchRequest(Query query, Embedding embeddedQuery) {
+        return EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddedQuery)
                 .maxResults(maxResultsProvider.apply(query))
                 .minScore(minScoreProvider.apply(query))
                 .filter(filterProvider.apply(query))
                 .build();
+    }
 
-        EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest);
-
+    private static List<Content> toContents(EmbeddingSearchResult<TextSegment> searchResult) {
         return searchResult.matches().stream()
                 .map(embeddingMatch -> Content.from(
                         embeddingMatch.embedded(),
@@ -0,0 +1,17 @@
+package dev.langchain4j.spi.store.embedding.similarity;
+
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+
+/**
+ * A factory for creating {@link SimilarityKernel} instances through SPI.
+ */
+public interface SimilarityKernelFactory {
+
+    /**
+     * Create a new {@link SimilarityKernel}.
+     *
+     * @return the new {@link SimilarityKernel},
+     * or {@code null} if it cannot be used on the current JVM (e.g., a required module is not available).
+     */
+    SimilarityKernel create();
+}
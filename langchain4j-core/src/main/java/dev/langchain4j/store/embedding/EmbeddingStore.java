@@ -153,6 +153,26 @@ public interface EmbeddingStore<Embedded> {
         return new EmbeddingSearchResult<>(matches);
     }
 
+    /**
+     * Performs several searches at once.
+     * <br>
+     * This is useful when several queries (e.g., the expansions of a single user query) hit the same store.
+     * Implementations can override this method to score all queries in a single pass over the stored
+     * embeddings or to map the requests to a native batch search endpoint.
+     * By default, the requests are executed one after another using {@link #search(EmbeddingSearchRequest)}.
+     *
+     * @param requests The requests to execute.
+     * @return The {@link EmbeddingSearchResult}s, in the same order as the requests.
+     */
+    @Experimental
+    default List<EmbeddingSearchResult<Embedded>> searchAll(List<EmbeddingSearchRequest> requests) {
+        List<EmbeddingSearchResult<Embedded>> results = new ArrayList<>(requests.size());
+        for (EmbeddingSearchRequest request : requests) {
+            results.add(search(request));
+        }
+        return results;
+    }
+
     /**
      * Finds the most relevant (closest in space) embeddings to the provided reference embedding.
      * By default, minScore is set to 0, which means that the results may include embeddings with low relevance.
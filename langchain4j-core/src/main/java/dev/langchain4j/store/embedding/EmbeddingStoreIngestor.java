@@ -1,27 +1,49 @@
 package dev.langchain4j.store.embedding;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.RetryUtils.DEFAULT_RETRY_POLICY;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+
+import dev.langchain4j.Experimental;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
+import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-
-import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-import static dev.langchain4j.spi.ServiceHelper.loadFactories;
-import static java.util.Arrays.asList;
-import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.toList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@code EmbeddingStoreIngestor} represents an ingestion pipeline and is responsible
@@ -48,16 +70,43 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * By default, all documents are transformed, split, embedded and stored in consecutive phases,
+ * and a failure in any phase aborts the whole ingestion.
+ * When a {@link Builder#batchSize(Integer)} or {@link Builder#maxConcurrentBatches(Integer)} is configured,
+ * documents are processed one by one instead, and their {@code TextSegment}s are embedded and stored in batches,
+ * several of them concurrently. Every batch is retried independently, and batches that still fail
+ * are reported in {@link IngestionResult#failedBatches()} without aborting the ingestion of the others.
+ * Documents provided as a {@link Stream} or an {@link Iterator} (see {@link #ingest(Stream)})
+ * are always ingested this way, so that large collections of documents can be ingested
+ * without loading all of them into memory.
+ * <br>
+ * <br>
+ * Optionally, the {@code EmbeddingStoreIngestor} can keep an {@link IngestionManifest} of ingested documents,
+ * so that repeated ingestions only embed new and changed documents (see {@link Builder#manifest(IngestionManifest)}).
  */
 public class EmbeddingStoreIngestor {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreIngestor.class);
 
+    private static final int DEFAULT_BATCH_SIZE = 128;
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final boolean batched;
+    private final int batchSize;
+    private final int maxConcurrentBatches;
+    private final int maxAttempts;
+    private final Executor executor;
+    private final IngestionManifest manifest;
+    private final Function<Document, String> documentIdProvider;
+    private final boolean purgeDeletedDocuments;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -70,26 +119,66 @@ public class EmbeddingStoreIngestor {
      *                               If none is specified, it tries to load one through SPI (see {@link EmbeddingModelFactory}).
      * @param embeddingStore         The {@link EmbeddingStore} to use. Mandatory.
      */
-    public EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
-                                  DocumentSplitter documentSplitter,
-                                  TextSegmentTransformer textSegmentTransformer,
-                                  EmbeddingModel embeddingModel,
-                                  EmbeddingStore<TextSegment> embeddingStore) {
+    public EmbeddingStoreIngestor(
+            DocumentTransformer documentTransformer,
+            DocumentSplitter documentSplitter,
+            TextSegmentTransformer textSegmentTransformer,
+            EmbeddingModel embeddingModel,
+            EmbeddingStore<TextSegment> embeddingStore) {
+        this(
+                documentTransformer,
+                documentSplitter,
+                textSegmentTransformer,
+                embeddingModel,
+                embeddingStore,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    private EmbeddingStoreIngestor(
+            DocumentTransformer documentTransformer,
+            DocumentSplitter documentSplitter,
+            TextSegmentTransformer textSegmentTransformer,
+            EmbeddingModel embeddingModel,
+            EmbeddingStore<TextSegment> embeddingStore,
+            Integer batchSize,
+            Integer maxConcurrentBatches,
+            Integer maxAttempts,
+            Executor executor,
+            IngestionManifest manifest,
+            Function<Document, String> documentIdProvider,
+            Boolean purgeDeletedDocuments) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
         this.embeddingModel = ensureNotNull(
-                getOrDefault(embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel),
-                "embeddingModel"
-        );
+                getOrDefault(embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel), "embeddingModel");
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.batched = batchSize != null || maxConcurrentBatches != null;
+        this.batchSize = ensureGreaterThanZero(getOrDefault(batchSize, DEFAULT_BATCH_SIZE), "batchSize");
+        this.maxConcurrentBatches = ensureGreaterThanZero(
+                getOrDefault(maxConcurrentBatches, DEFAULT_MAX_CONCURRENT_BATCHES), "maxConcurrentBatches");
+        this.maxAttempts = ensureGreaterThanZero(getOrDefault(maxAttempts, DEFAULT_MAX_ATTEMPTS), "maxAttempts");
+        this.executor = getOrDefault(executor, EmbeddingStoreIngestor::createDefaultExecutor);
+        this.manifest = manifest;
+        this.documentIdProvider = getOrDefault(documentIdProvider, EmbeddingStoreIngestor::defaultDocumentId);
+        this.purgeDeletedDocuments = getOrDefault(purgeDeletedDocuments, false);
+    }
+
+    private static Executor createDefaultExecutor() {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, SECONDS, new SynchronousQueue<>());
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
         Collection<DocumentSplitterFactory> factories = loadFactories(DocumentSplitterFactory.class);
         if (factories.size() > 1) {
-            throw new RuntimeException("Conflict: multiple document splitters have been found in the classpath. " +
-                    "Please explicitly specify the one you wish to use.");
+            throw new RuntimeException("Conflict: multiple document splitters have been found in the classpath. "
+                    + "Please explicitly specify the one you wish to use.");
         }
 
         for (DocumentSplitterFactory factory : factories) {
@@ -104,8 +193,8 @@ public class EmbeddingStoreIngestor {
     private static EmbeddingModel loadEmbeddingModel() {
         Collection<EmbeddingModelFactory> factories = loadFactories(EmbeddingModelFactory.class);
         if (factories.size() > 1) {
-            throw new RuntimeException("Conflict: multiple embedding models have been found in the classpath. " +
-                    "Please explicitly specify the one you wish to use.");
+            throw new RuntimeException("Conflict: multiple embedding models have been found in the classpath. "
+                    + "Please explicitly specify the one you wish to use.");
         }
 
         for (EmbeddingModelFactory factory : factories) {
@@ -178,6 +267,11 @@ public class EmbeddingStoreIngestor {
      */
     public IngestionResult ingest(List<Document> documents) {
 
+        if (batched || manifest != null) {
+            log.debug("Starting to ingest {} documents in batches of {}", documents.size(), batchSize);
+            return ingestInBatches(documents.iterator());
+        }
+
         log.debug("Starting to ingest {} documents", documents.size());
 
         if (documentTransformer != null) {
@@ -189,21 +283,17 @@ public class EmbeddingStoreIngestor {
             segments = documentSplitter.splitAll(documents);
             log.debug("Documents were split into {} text segments", segments.size());
         } else {
-            segments = documents.stream()
-                    .map(Document::toTextSegment)
-                    .collect(toList());
+            segments = documents.stream().map(Document::toTextSegment).collect(toList());
         }
         if (textSegmentTransformer != null) {
             segments = textSegmentTransformer.transformAll(segments);
             log.debug("Text segments were transformed into {} text segments", documents.size());
         }
 
-        // TODO handle failures, parallelize
         log.debug("Starting to embed {} text segments", segments.size());
         Response<List<Embedding>> embeddingsResponse = embeddingModel.embedAll(segments);
         log.debug("Finished embedding {} text segments", segments.size());
 
-        // TODO handle failures, parallelize
         log.debug("Starting to store {} text segments into the embedding store", segments.size());
         embeddingStore.addAll(embeddingsResponse.content(), segments);
         log.debug("Finished storing {} text segments into the embedding store", segments.size());
@@ -211,6 +301,245 @@ public class EmbeddingStoreIngestor {
         return new IngestionResult(embeddingsResponse.tokenUsage());
     }
 
+    /**
+     * Ingests documents from the specified {@link Stream} into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Documents are consumed from the stream one by one and ingested in batches
+     * (see {@link Builder#batchSize(Integer)} and {@link Builder#maxConcurrentBatches(Integer)}),
+     * so at any time only the batches in flight are held in memory, regardless of the number of documents.
+     * Batches that fail to be ingested are reported in {@link IngestionResult#failedBatches()}.
+     * <br>
+     * The stream is not closed by this method.
+     *
+     * @param documents the documents to ingest, for example
+     *                  {@code FileSystemDocumentLoader.streamDocumentsRecursively(directoryPath)}.
+     * @return result including information related to ingestion process.
+     */
+    @Experimental
+    public IngestionResult ingest(Stream<Document> documents) {
+        return ingest(documents.iterator());
+    }
+
+    /**
+     * Ingests documents from the specified {@link Iterator} into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}.
+     * See {@link #ingest(Stream)}.
+     *
+     * @param documents the documents to ingest.
+     * @return result including information related to ingestion process.
+     */
+    @Experimental
+    public IngestionResult ingest(Iterator<Document> documents) {
+        log.debug("Starting to ingest documents in batches of {}", batchSize);
+        return ingestInBatches(documents);
+    }
+
+    private IngestionResult ingestInBatches(Iterator<Document> documents) {
+
+        Semaphore permits = new Semaphore(maxConcurrentBatches);
+        AtomicReference<TokenUsage> tokenUsage = new AtomicReference<>();
+        Queue<IngestionResult.FailedBatch> failedBatches = new ConcurrentLinkedQueue<>();
+        Set<String> failedSegmentIds = ConcurrentHashMap.newKeySet();
+        List<ChangedDocument> changedDocuments = new ArrayList<>();
+        Set<String> documentIds = new HashSet<>();
+        boolean completed = false;
+
+        try {
+            List<TextSegment> batch = new ArrayList<>(batchSize);
+            List<String> batchIds = manifest == null ? null : new ArrayList<>(batchSize);
+            while (documents.hasNext()) {
+                Document document = documents.next();
+                List<TextSegment> segments;
+                List<String> segmentIds = null;
+                if (manifest == null) {
+                    segments = toTextSegments(document);
+                } else {
+                    String documentId = ensureNotNull(documentIdProvider.apply(document), "documentId");
+                    String contentHash = IngestionManifest.contentHash(document);
+                    documentIds.add(documentId);
+                    IngestionManifest.Entry entry = manifest.get(documentId);
+                    if (entry != null && entry.contentHash().equals(contentHash)) {
+                        log.debug("Skipping unchanged document '{}'", documentId);
+                        continue;
+                    }
+                    segments = toTextSegments(document);
+                    segmentIds = embeddingStore.generateIds(segments.size());
+                    changedDocuments.add(new ChangedDocument(documentId, contentHash, segmentIds));
+                }
+                for (int i = 0; i < segments.size(); i++) {
+                    batch.add(segments.get(i));
+                    if (batchIds != null) {
+                        batchIds.add(segmentIds.get(i));
+                    }
+                    if (batch.size() == batchSize) {
+                        submit(batch, batchIds, permits, tokenUsage, failedBatches, failedSegmentIds);
+                        batch = new ArrayList<>(batchSize);
+                        batchIds = batchIds == null ? null : new ArrayList<>(batchSize);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batch, batchIds, permits, tokenUsage, failedBatches, failedSegmentIds);
+            }
+            completed = true;
+        } finally {
+            // waits until all batches in flight are finished
+            permits.acquireUninterruptibly(maxConcurrentBatches);
+            if (manifest != null) {
+                updateManifest(changedDocuments, failedSegmentIds, completed ? documentIds : null);
+            }
+        }
+
+        if (!failedBatches.isEmpty()) {
+            log.warn("Failed to ingest {} batches of text segments", failedBatches.size());
+        }
+        return new IngestionResult(tokenUsage.get(), new ArrayList<>(failedBatches));
+    }
+
+    /**
+     * Replaces the segments of the changed documents that were completely stored,
+     * removes the partially stored segments of the others,
+     * and, if all documents were read, purges the documents that were not among them.
+     */
+    private void updateManifest(
+            List<ChangedDocument> changedDocuments, Set<String> failedSegmentIds, Set<String> documentIds) {
+        try {
+            for (ChangedDocument document : changedDocuments) {
+                if (document.segmentIds().stream().anyMatch(failedSegmentIds::contains)) {
+                    removeAll(document.segmentIds().stream()
+                            .filter(segmentId -> !failedSegmentIds.contains(segmentId))
+                            .collect(toList()));
+                    continue;
+                }
+                IngestionManifest.Entry previous = manifest.get(document.documentId());
+                if (previous != null) {
+                    removeAll(previous.segmentIds());
+                }
+                manifest.put(document.documentId(), document.contentHash(), document.segmentIds());
+            }
+            if (purgeDeletedDocuments && documentIds != null) {
+                for (String documentId : manifest.documentIds()) {
+                    if (!documentIds.contains(documentId)) {
+                        log.debug("Removing deleted document '{}'", documentId);
+                        removeAll(manifest.get(documentId).segmentIds());
+                        manifest.remove(documentId);
+                    }
+                }
+            }
+            log.debug("{} new or changed documents were ingested", changedDocuments.size());
+        } finally {
+            manifest.save();
+        }
+    }
+
+    private void removeAll(List<String> segmentIds) {
+        if (!segmentIds.isEmpty()) {
+            DEFAULT_RETRY_POLICY.withRetry(
+                    () -> {
+                        embeddingStore.removeAll(segmentIds);
+                        return null;
+                    },
+                    maxAttempts);
+        }
+    }
+
+    private static String defaultDocumentId(Document document) {
+        Metadata metadata = document.metadata();
+        if (metadata.containsKey(Document.URL)) {
+            return metadata.getString(Document.URL);
+        }
+        if (metadata.containsKey(Document.ABSOLUTE_DIRECTORY_PATH) && metadata.containsKey(Document.FILE_NAME)) {
+            return Paths.get(
+                            metadata.getString(Document.ABSOLUTE_DIRECTORY_PATH),
+                            metadata.getString(Document.FILE_NAME))
+                    .toString();
+        }
+        if (metadata.containsKey("source")) {
+            return metadata.getString("source");
+        }
+        throw illegalArgument(
+                "Cannot determine the ID of a document with metadata %s, please specify a documentIdProvider",
+                metadata.toMap());
+    }
+
+    private record ChangedDocument(String documentId, String contentHash, List<String> segmentIds) {}
+
+    private List<TextSegment> toTextSegments(Document document) {
+        List<Document> documents = singletonList(document);
+        if (documentTransformer != null) {
+            documents = documentTransformer.transformAll(documents);
+        }
+        List<TextSegment> segments;
+        if (documentSplitter != null) {
+            segments = documentSplitter.splitAll(documents);
+        } else {
+            segments = documents.stream().map(Document::toTextSegment).collect(toList());
+        }
+        if (textSegmentTransformer != null) {
+            segments = textSegmentTransformer.transformAll(segments);
+        }
+        return segments;
+    }
+
+    /**
+     * Blocks while {@code maxConcurrentBatches} batches are in flight,
+     * so that documents are not read and split faster than they can be embedded and stored.
+     */
+    private void submit(
+            List<TextSegment> batch,
+            List<String> ids,
+            Semaphore permits,
+            AtomicReference<TokenUsage> tokenUsage,
+            Queue<IngestionResult.FailedBatch> failedBatches,
+            Set<String> failedSegmentIds) {
+        permits.acquireUninterruptibly();
+        try {
+            executor.execute(() -> {
+                try {
+                    TokenUsage batchTokenUsage = ingestBatch(batch, ids);
+                    tokenUsage.accumulateAndGet(batchTokenUsage, TokenUsage::sum);
+                } catch (Exception e) {
+                    log.warn("Failed to ingest a batch of {} text segments", batch.size(), e);
+                    failedBatches.add(new IngestionResult.FailedBatch(batch, e));
+                    if (ids != null) {
+                        failedSegmentIds.addAll(ids);
+                    }
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private TokenUsage ingestBatch(List<TextSegment> batch, List<String> ids) throws Exception {
+        log.debug("Starting to embed a batch of {} text segments", batch.size());
+        Response<List<Embedding>> embeddingsResponse = withRetry(() -> embeddingModel.embedAll(batch));
+        log.debug("Starting to store a batch of {} text segments into the embedding store", batch.size());
+        withRetry(() -> {
+            if (ids == null) {
+                embeddingStore.addAll(embeddingsResponse.content(), batch);
+            } else {
+                embeddingStore.addAll(ids, embeddingsResponse.content(), batch);
+            }
+            return null;
+        });
+        log.debug("Finished ingesting a batch of {} text segments", batch.size());
+        return embeddingsResponse.tokenUsage();
+    }
+
+    private <T> T withRetry(Callable<T> action) throws Exception {
+        try {
+            return DEFAULT_RETRY_POLICY.withRetry(action, maxAttempts);
+        } catch (RuntimeException e) {
+            // RetryPolicy wraps the last failure
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
     /**
      * Creates a new EmbeddingStoreIngestor builder.
      *
@@ -230,12 +559,18 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Integer batchSize;
+        private Integer maxConcurrentBatches;
+        private Integer maxAttempts;
+        private Executor executor;
+        private IngestionManifest manifest;
+        private Function<Document, String> documentIdProvider;
+        private Boolean purgeDeletedDocuments;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
          */
-        public Builder() {
-        }
+        public Builder() {}
 
         /**
          * Sets the document transformer. Optional.
@@ -296,6 +631,111 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the maximum number of {@link TextSegment}s that are embedded and stored together. Optional.
+         * Setting it enables batched ingestion (see {@link EmbeddingStoreIngestor}). Default: 128.
+         *
+         * @param batchSize the maximum number of text segments in a batch.
+         * @return {@code this}
+         */
+        @Experimental
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches that are embedded and stored concurrently. Optional.
+         * When this many batches are in flight, reading and splitting further documents is paused.
+         * Setting it enables batched ingestion (see {@link EmbeddingStoreIngestor}). Default: 4.
+         *
+         * @param maxConcurrentBatches the maximum number of batches in flight.
+         * @return {@code this}
+         */
+        @Experimental
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets how many times embedding and storing a batch is attempted before the batch is reported
+         * in {@link IngestionResult#failedBatches()}. Only used by batched ingestion. Default: 3.
+         *
+         * @param maxAttempts the maximum number of attempts per batch.
+         * @return {@code this}
+         */
+        @Experimental
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} that embeds and stores batches. Only used by batched ingestion.
+         * By default, a cached thread pool is used.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        @Experimental
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link IngestionManifest} that enables incremental ingestion. Optional.
+         * <br>
+         * Documents whose content (text and metadata) has not changed since they were last ingested are skipped
+         * before they are transformed, split or embedded.
+         * The previously stored segments of changed documents are removed from the {@link EmbeddingStore}
+         * once their new segments have been stored.
+         * Documents are ingested in batches (see {@link EmbeddingStoreIngestor}),
+         * and the embedding store must support {@link EmbeddingStore#addAll(List, List, List)}
+         * and {@link EmbeddingStore#removeAll(Collection)}.
+         * <br>
+         * The manifest is saved at the end of every ingestion.
+         *
+         * @param manifest the manifest, for example {@code IngestionManifest.load(Path.of("ingestion.manifest"))}.
+         * @return {@code this}
+         */
+        @Experimental
+        public Builder manifest(IngestionManifest manifest) {
+            this.manifest = manifest;
+            return this;
+        }
+
+        /**
+         * Sets the function that identifies a {@link Document} across ingestions. Only used with a {@link #manifest}.
+         * By default, the {@link Document#URL} metadata entry is used, then the file path
+         * ({@link Document#ABSOLUTE_DIRECTORY_PATH} and {@link Document#FILE_NAME}), then the {@code source} entry.
+         *
+         * @param documentIdProvider the document ID provider.
+         * @return {@code this}
+         */
+        @Experimental
+        public Builder documentIdProvider(Function<Document, String> documentIdProvider) {
+            this.documentIdProvider = documentIdProvider;
+            return this;
+        }
+
+        /**
+         * Sets whether the segments of documents that are recorded in the {@link #manifest} but were not among
+         * the ingested documents are removed from the {@link EmbeddingStore}. Default: false.
+         * <br>
+         * Enable it only when each call to {@code ingest()} is given the complete collection of documents,
+         * for example all files of a directory, so that deleted files are removed from the embedding store.
+         *
+         * @param purgeDeletedDocuments whether to remove the segments of deleted documents.
+         * @return {@code this}
+         */
+        @Experimental
+        public Builder purgeDeletedDocuments(Boolean purgeDeletedDocuments) {
+            this.purgeDeletedDocuments = purgeDeletedDocuments;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -307,8 +747,14 @@ public class EmbeddingStoreIngestor {
                     documentSplitter,
                     textSegmentTransformer,
                     embeddingModel,
-                    embeddingStore
-            );
+                    embeddingStore,
+                    batchSize,
+                    maxConcurrentBatches,
+                    maxAttempts,
+                    executor,
+                    manifest,
+                    documentIdProvider,
+                    purgeDeletedDocuments);
         }
     }
 }
@@ -0,0 +1,213 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.segment.TextSegment;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps track of the {@link Document}s that were ingested by an {@link EmbeddingStoreIngestor}:
+ * for every document ID, the hash of the document content and the IDs of the stored {@link TextSegment}s.
+ * <br>
+ * When a manifest is configured (see {@link EmbeddingStoreIngestor.Builder#manifest(IngestionManifest)}),
+ * the ingestor skips documents whose content has not changed since the last ingestion,
+ * and replaces the segments of documents whose content has changed.
+ * <br>
+ * A manifest can be persisted to a compact binary file (see {@link #load(Path)}),
+ * which is rewritten atomically at the end of every ingestion.
+ * <br>
+ * This class is thread-safe.
+ *
+ * @see EmbeddingStoreIngestor.Builder#purgeDeletedDocuments(Boolean)
+ */
+@Experimental
+public class IngestionManifest {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+
+    private IngestionManifest(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Creates an empty manifest that is only kept in memory.
+     *
+     * @return the manifest.
+     */
+    public static IngestionManifest inMemory() {
+        return new IngestionManifest(null, new LinkedHashMap<>());
+    }
+
+    /**
+     * Loads a manifest from the specified file.
+     * If the file does not exist, an empty manifest is created, and the file is written on the first {@link #save()}.
+     *
+     * @param file the manifest file.
+     * @return the manifest.
+     */
+    public static IngestionManifest load(Path file) {
+        ensureNotNull(file, "file");
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return new IngestionManifest(file, entries);
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException(
+                        String.format("Unsupported version %s of the manifest file '%s'", version, file));
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String documentId = in.readUTF();
+                String contentHash = in.readUTF();
+                int segmentCount = in.readInt();
+                List<String> segmentIds = new ArrayList<>(segmentCount);
+                for (int j = 0; j < segmentCount; j++) {
+                    segmentIds.add(in.readUTF());
+                }
+                entries.put(documentId, new Entry(contentHash, segmentIds));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new IngestionManifest(file, entries);
+    }
+
+    /**
+     * Returns the entry of the specified document.
+     *
+     * @param documentId the ID of the document.
+     * @return the entry, or {@code null} if the document has not been ingested.
+     */
+    public synchronized Entry get(String documentId) {
+        return entries.get(documentId);
+    }
+
+    /**
+     * Records that the specified document has been ingested.
+     *
+     * @param documentId  the ID of the document.
+     * @param contentHash the hash of the document content (see {@link #contentHash(Document)}).
+     * @param segmentIds  the IDs under which the segments of the document are stored.
+     */
+    public synchronized void put(String documentId, String contentHash, List<String> segmentIds) {
+        entries.put(ensureNotNull(documentId, "documentId"), new Entry(contentHash, segmentIds));
+    }
+
+    /**
+     * Removes the entry of the specified document.
+     *
+     * @param documentId the ID of the document.
+     * @return the removed entry, or {@code null} if the document has not been ingested.
+     */
+    public synchronized Entry remove(String documentId) {
+        return entries.remove(documentId);
+    }
+
+    /**
+     * @return the IDs of all ingested documents.
+     */
+    public synchronized Set<String> documentIds() {
+        return new LinkedHashSet<>(entries.keySet());
+    }
+
+    /**
+     * Writes this manifest to its file, if it has one.
+     */
+    public synchronized void save() {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(entry.getValue().contentHash());
+                    out.writeInt(entry.getValue().segmentIds().size());
+                    for (String segmentId : entry.getValue().segmentIds()) {
+                        out.writeUTF(segmentId);
+                    }
+                }
+            }
+            Files.move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Calculates the SHA-256 hash of the text and the metadata of the specified document.
+     *
+     * @param document the document.
+     * @return the hex-encoded hash.
+     */
+    public static String contentHash(Document document) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(document.text().getBytes(UTF_8));
+        digest.update((byte) 0);
+        digest.update(new TreeMap<>(document.metadata().toMap()).toString().getBytes(UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * The content hash and the segment IDs of an ingested document.
+     */
+    public static class Entry {
+
+        private final String contentHash;
+        private final List<String> segmentIds;
+
+        public Entry(String contentHash, List<String> segmentIds) {
+            this.contentHash = ensureNotNull(contentHash, "contentHash");
+            this.segmentIds = List.copyOf(ensureNotNull(segmentIds, "segmentIds"));
+        }
+
+        public String contentHash() {
+            return contentHash;
+        }
+
+        public List<String> segmentIds() {
+            return segmentIds;
+        }
+    }
+}
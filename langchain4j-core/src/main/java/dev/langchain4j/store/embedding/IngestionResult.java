@@ -1,6 +1,12 @@
 package dev.langchain4j.store.embedding;
 
+import static dev.langchain4j.internal.Utils.copyIfNotNull;
+import static java.util.Collections.emptyList;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.List;
 
 /**
  * Represents the result of a {@link EmbeddingStoreIngestor} ingestion process.
@@ -10,13 +16,58 @@ public class IngestionResult {
      * The token usage information.
      */
     private final TokenUsage tokenUsage;
-
+    /**
+     * The batches that could not be ingested.
+     */
+    private final List<FailedBatch> failedBatches;
 
     public IngestionResult(TokenUsage tokenUsage) {
+        this(tokenUsage, null);
+    }
+
+    @Experimental
+    public IngestionResult(TokenUsage tokenUsage, List<FailedBatch> failedBatches) {
         this.tokenUsage = tokenUsage;
+        this.failedBatches = failedBatches == null ? emptyList() : copyIfNotNull(failedBatches);
     }
 
     public TokenUsage tokenUsage() {
         return tokenUsage;
     }
+
+    /**
+     * Returns the batches of {@link TextSegment}s that could not be embedded or stored,
+     * even after retrying. Only batched ingestion
+     * (see {@link EmbeddingStoreIngestor.Builder#batchSize(Integer)}) continues after a failed batch,
+     * otherwise the exception is thrown from {@code ingest()}.
+     *
+     * @return the failed batches, or an empty list if all {@link TextSegment}s were ingested.
+     */
+    @Experimental
+    public List<FailedBatch> failedBatches() {
+        return failedBatches;
+    }
+
+    /**
+     * A batch of {@link TextSegment}s that could not be ingested.
+     */
+    @Experimental
+    public static class FailedBatch {
+
+        private final List<TextSegment> textSegments;
+        private final Throwable error;
+
+        public FailedBatch(List<TextSegment> textSegments, Throwable error) {
+            this.textSegments = copyIfNotNull(textSegments);
+            this.error = error;
+        }
+
+        public List<TextSegment> textSegments() {
+            return textSegments;
+        }
+
+        public Throwable error() {
+            return error;
+        }
+    }
 }
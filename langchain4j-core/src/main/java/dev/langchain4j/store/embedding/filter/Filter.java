@@ -1,5 +1,7 @@
 package dev.langchain4j.store.embedding.filter;
 
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.comparison.ContainsString;
 import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
@@ -13,6 +15,7 @@ import dev.langchain4j.store.embedding.filter.comparison.IsNotIn;
 import dev.langchain4j.store.embedding.filter.logical.And;
 import dev.langchain4j.store.embedding.filter.logical.Not;
 import dev.langchain4j.store.embedding.filter.logical.Or;
+import java.util.function.Predicate;
 
 /**
  * This class represents a filter that can be applied during search in an {@link EmbeddingStore}.
@@ -49,6 +52,21 @@ public interface Filter {
      */
     boolean test(Object object);
 
+    /**
+     * Compiles this {@link Filter} into a {@link Predicate} that is meant to be created once and then
+     * tested against many {@link Metadata} objects, e.g., against all entries of an embedding store during a search.
+     * <br>
+     * The compiled predicate gives the same results (and throws the same exceptions) as {@link #test(Object)},
+     * but can prepare its comparison values upfront, so that testing each {@link Metadata} is cheaper.
+     * The default implementation simply delegates to {@link #test(Object)}.
+     *
+     * @return the compiled predicate.
+     */
+    @Experimental
+    default Predicate<Metadata> compile() {
+        return this::test;
+    }
+
     default Filter and(Filter filter) {
         return and(this, filter);
     }
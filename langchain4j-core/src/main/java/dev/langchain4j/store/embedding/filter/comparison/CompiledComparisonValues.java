@@ -0,0 +1,85 @@
+package dev.langchain4j.store.embedding.filter.comparison;
+
+import static dev.langchain4j.store.embedding.filter.comparison.NumberComparator.containsAsBigDecimals;
+import static dev.langchain4j.store.embedding.filter.comparison.NumberComparator.toExactDouble;
+import static dev.langchain4j.store.embedding.filter.comparison.TypeChecker.ensureTypesAreCompatible;
+import static dev.langchain4j.store.embedding.filter.comparison.UUIDComparator.containsAsUUID;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The comparison values of {@link IsIn} and {@link IsNotIn}, converted once when the filter is compiled,
+ * so that they can be looked up without allocating:
+ * numbers as the sorted bit patterns of their {@code double} values, and UUIDs as a {@link HashSet}.
+ * <p>
+ * Lookups give the same results (and throw the same exceptions) as {@link IsIn#test(Object)}.
+ * Values that cannot be converted exactly are looked up the same way as there.
+ */
+class CompiledComparisonValues {
+
+    private final String key;
+    private final Collection<?> comparisonValues;
+    private final Object firstComparisonValue;
+    private final long[] sortedNumberBits;
+    private final Set<UUID> uuids;
+
+    CompiledComparisonValues(String key, Collection<?> comparisonValues) {
+        this.key = key;
+        this.comparisonValues = comparisonValues;
+        this.firstComparisonValue = comparisonValues.iterator().next();
+        this.sortedNumberBits = firstComparisonValue instanceof Number ? toSortedBits(comparisonValues) : null;
+        this.uuids = firstComparisonValue instanceof UUID ? toUUIDs(comparisonValues) : null;
+    }
+
+    boolean contains(Object actualValue) {
+        ensureTypesAreCompatible(actualValue, firstComparisonValue, key);
+
+        if (firstComparisonValue instanceof Number) {
+            double actualNumber = toExactDouble(actualValue);
+            if (sortedNumberBits == null || Double.isNaN(actualNumber)) {
+                return containsAsBigDecimals(actualValue, comparisonValues);
+            }
+            return Arrays.binarySearch(sortedNumberBits, Double.doubleToLongBits(actualNumber)) >= 0;
+        }
+        if (firstComparisonValue instanceof UUID) {
+            if (uuids == null) {
+                return containsAsUUID(actualValue, comparisonValues);
+            }
+            return actualValue instanceof UUID uuid
+                    ? uuids.contains(uuid)
+                    : uuids.contains(UUID.fromString(actualValue.toString()));
+        }
+
+        return comparisonValues.contains(actualValue);
+    }
+
+    private static long[] toSortedBits(Collection<?> comparisonNumbers) {
+        long[] bits = new long[comparisonNumbers.size()];
+        int i = 0;
+        for (Object comparisonNumber : comparisonNumbers) {
+            double value = toExactDouble(comparisonNumber);
+            if (Double.isNaN(value)) {
+                return null;
+            }
+            bits[i++] = Double.doubleToLongBits(value);
+        }
+        Arrays.sort(bits);
+        return bits;
+    }
+
+    private static Set<UUID> toUUIDs(Collection<?> comparisonUUIDs) {
+        Set<UUID> uuids = new HashSet<>();
+        for (Object comparisonUUID : comparisonUUIDs) {
+            if (comparisonUUID instanceof UUID uuid) {
+                uuids.add(uuid);
+            } else {
+                return null;
+            }
+        }
+        return uuids;
+    }
+}
@@ -36,12 +36,11 @@ public class ContainsString implements Filter {
             return false;
         }
 
-        if (!metadata.containsKey(key)) {
+        Object actualValue = metadata.getObject(key);
+        if (actualValue == null) {
             return false;
         }
 
-        Object actualValue = metadata.toMap().get(key);
-
         if (actualValue instanceof String str) {
             return str.contains(comparisonValue);
         }
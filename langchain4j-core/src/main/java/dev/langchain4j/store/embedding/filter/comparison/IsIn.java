@@ -1,14 +1,5 @@
 package dev.langchain4j.store.embedding.filter.comparison;
 
-import dev.langchain4j.data.document.Metadata;
-import dev.langchain4j.store.embedding.filter.Filter;
-
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
-import java.util.UUID;
-
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -17,6 +8,15 @@ import static dev.langchain4j.store.embedding.filter.comparison.TypeChecker.ensu
 import static dev.langchain4j.store.embedding.filter.comparison.UUIDComparator.containsAsUUID;
 import static java.util.Collections.unmodifiableSet;
 
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
 public class IsIn implements Filter {
 
     private final String key;
@@ -43,11 +43,11 @@ public class IsIn implements Filter {
             return false;
         }
 
-        if (!metadata.containsKey(key)) {
+        Object actualValue = metadata.getObject(key);
+        if (actualValue == null) {
             return false;
         }
 
-        Object actualValue = metadata.toMap().get(key);
         ensureTypesAreCompatible(actualValue, comparisonValues.iterator().next(), key);
 
         if (comparisonValues.iterator().next() instanceof Number) {
@@ -60,19 +60,29 @@ public class IsIn implements Filter {
         return comparisonValues.contains(actualValue);
     }
 
+    @Override
+    public Predicate<Metadata> compile() {
+        CompiledComparisonValues compiledComparisonValues = new CompiledComparisonValues(key, comparisonValues);
+        return metadata -> {
+            Object actualValue = metadata.getObject(key);
+            if (actualValue == null) {
+                return false;
+            }
+            return compiledComparisonValues.contains(actualValue);
+        };
+    }
+
     public boolean equals(final Object o) {
         if (o == this) return true;
         if (!(o instanceof IsIn other)) return false;
 
-        return Objects.equals(this.key, other.key)
-                && Objects.equals(this.comparisonValues, other.comparisonValues);
+        return Objects.equals(this.key, other.key) && Objects.equals(this.comparisonValues, other.comparisonValues);
     }
 
     public int hashCode() {
         return Objects.hash(key, comparisonValues);
     }
 
-
     public String toString() {
         return "IsIn(key=" + this.key + ", comparisonValues=" + this.comparisonValues + ")";
     }
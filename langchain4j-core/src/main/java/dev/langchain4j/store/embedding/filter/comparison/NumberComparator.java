@@ -5,7 +5,51 @@ import java.util.Collection;
 
 class NumberComparator {
 
+    /**
+     * Integers up to this magnitude are exactly representable as {@code double}s.
+     */
+    private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+
+    /**
+     * Integers up to this magnitude are exactly representable as {@code float}s.
+     */
+    private static final long MAX_EXACT_FLOAT_INTEGER = 1L << 24;
+
+    /**
+     * Compares two numbers by their decimal string representations, as {@link BigDecimal}s.
+     * <p>
+     * The most common combinations of types (integers with integers, and floating-point numbers with
+     * integers or with floating-point numbers of the same type) are compared on primitives, without allocating.
+     * The result is the same, because the shortest decimal representation of a {@code float} or a {@code double}
+     * is always closer to it than to any other value of its type.
+     */
     static int compareAsBigDecimals(Object actualNumber, Object comparisonNumber) {
+        if (isIntegral(actualNumber) && isIntegral(comparisonNumber)) {
+            return Long.compare(((Number) actualNumber).longValue(), ((Number) comparisonNumber).longValue());
+        }
+        if (actualNumber instanceof Double actualDouble && Double.isFinite(actualDouble)) {
+            if (comparisonNumber instanceof Double comparisonDouble && Double.isFinite(comparisonDouble)) {
+                return compare(actualDouble, comparisonDouble);
+            }
+            if (isIntegral(comparisonNumber, MAX_EXACT_DOUBLE_INTEGER)) {
+                return compare(actualDouble, ((Number) comparisonNumber).longValue());
+            }
+        } else if (actualNumber instanceof Float actualFloat && Float.isFinite(actualFloat)) {
+            if (comparisonNumber instanceof Float comparisonFloat && Float.isFinite(comparisonFloat)) {
+                return compare(actualFloat, comparisonFloat);
+            }
+            if (isIntegral(comparisonNumber, MAX_EXACT_FLOAT_INTEGER)) {
+                return compare(actualFloat, (float) ((Number) comparisonNumber).longValue());
+            }
+        } else if (comparisonNumber instanceof Double comparisonDouble && Double.isFinite(comparisonDouble)) {
+            if (isIntegral(actualNumber, MAX_EXACT_DOUBLE_INTEGER)) {
+                return compare(((Number) actualNumber).longValue(), comparisonDouble);
+            }
+        } else if (comparisonNumber instanceof Float comparisonFloat && Float.isFinite(comparisonFloat)) {
+            if (isIntegral(actualNumber, MAX_EXACT_FLOAT_INTEGER)) {
+                return compare((float) ((Number) actualNumber).longValue(), comparisonFloat);
+            }
+        }
         return new BigDecimal(actualNumber.toString()).compareTo(new BigDecimal(comparisonNumber.toString()));
     }
 
@@ -17,6 +61,27 @@ class NumberComparator {
                         comparisonNumberAsBigDecimal.compareTo(actualNumberAsBigDecimal) == 0);
     }
 
+    /**
+     * Returns the value of the given number as a {@code double}, if {@link #containsAsBigDecimals} considers
+     * two such numbers equal exactly when their {@code double} values are equal.
+     * Negative zero is returned as positive zero.
+     *
+     * @return the value of the given number, or {@link Double#NaN} if it is not of a supported type,
+     * is not finite or is an integer that cannot be represented exactly as a {@code double}.
+     */
+    static double toExactDouble(Object number) {
+        if (number instanceof Integer integer) {
+            return integer;
+        } else if (isIntegral(number, MAX_EXACT_DOUBLE_INTEGER)) {
+            return ((Long) number).doubleValue();
+        } else if (number instanceof Float float1 && Float.isFinite(float1)) {
+            return float1 + 0.0;
+        } else if (number instanceof Double double1 && Double.isFinite(double1)) {
+            return double1 + 0.0;
+        }
+        return Double.NaN;
+    }
+
     private static BigDecimal toBigDecimal(Object actualNumber) {
         if (actualNumber instanceof Integer integer) {
             return BigDecimal.valueOf(integer);
@@ -28,6 +93,28 @@ class NumberComparator {
             return BigDecimal.valueOf(double1);
         }
 
-        throw new IllegalArgumentException("Unsupported type: " + actualNumber.getClass().getName());
+        throw new IllegalArgumentException(
+                "Unsupported type: " + actualNumber.getClass().getName());
+    }
+
+    private static boolean isIntegral(Object number) {
+        return number instanceof Integer || number instanceof Long;
+    }
+
+    private static boolean isIntegral(Object number, long maxExactMagnitude) {
+        if (number instanceof Integer integer) {
+            return Math.abs((long) integer) <= maxExactMagnitude;
+        }
+        if (number instanceof Long long1) {
+            return -maxExactMagnitude <= long1 && long1 <= maxExactMagnitude;
+        }
+        return false;
+    }
+
+    /**
+     * Unlike {@link Double#compare}, considers {@code -0.0} and {@code 0.0} equal, like {@link BigDecimal#compareTo}.
+     */
+    private static int compare(double a, double b) {
+        return a < b ? -1 : (a > b ? 1 : 0);
     }
 }
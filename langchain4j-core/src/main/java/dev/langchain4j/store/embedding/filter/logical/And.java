@@ -1,10 +1,11 @@
 package dev.langchain4j.store.embedding.filter.logical;
 
-import dev.langchain4j.store.embedding.filter.Filter;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.Filter;
 import java.util.Objects;
-
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import java.util.function.Predicate;
 
 public class And implements Filter {
 
@@ -29,6 +30,13 @@ public class And implements Filter {
         return left().test(object) && right().test(object);
     }
 
+    @Override
+    public Predicate<Metadata> compile() {
+        Predicate<Metadata> compiledLeft = left.compile();
+        Predicate<Metadata> compiledRight = right.compile();
+        return metadata -> compiledLeft.test(metadata) && compiledRight.test(metadata);
+    }
+
     public boolean equals(final Object o) {
         if (o == this) return true;
         if (!(o instanceof And other)) return false;
@@ -5,6 +5,7 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.store.embedding.filter.Filter;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 public class Not implements Filter {
 
@@ -26,6 +27,11 @@ public class Not implements Filter {
         return !expression.test(object);
     }
 
+    @Override
+    public Predicate<Metadata> compile() {
+        return expression.compile().negate();
+    }
+
     public boolean equals(final Object o) {
         if (o == this) return true;
         if (!(o instanceof Not other)) return false;
@@ -0,0 +1,99 @@
+package dev.langchain4j.store.embedding.similarity;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+
+/**
+ * A portable {@link SimilarityKernel} implemented in plain Java.
+ * <p>
+ * Dot products and distances are unrolled with independent accumulators, which lets the CPU execute several
+ * multiply-adds in parallel instead of waiting on a single accumulator.
+ * <p>
+ * Cosine similarities and norms are accumulated in {@code double}, in the same order as the original
+ * {@link CosineSimilarity#between} implementation, so that they are identical to it at any dimension,
+ * also when the norms are cached.
+ */
+@Experimental
+public class ScalarSimilarityKernel implements SimilarityKernel {
+
+    @Override
+    public float dotProduct(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int i = 0;
+        for (int upperBound = length & ~3; i < upperBound; i += 4) {
+            sum0 += a[aOffset + i] * b[bOffset + i];
+            sum1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            sum2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            sum3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    @Override
+    public float squaredEuclideanDistance(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int i = 0;
+        for (int upperBound = length & ~3; i < upperBound; i += 4) {
+            float difference0 = a[aOffset + i] - b[bOffset + i];
+            float difference1 = a[aOffset + i + 1] - b[bOffset + i + 1];
+            float difference2 = a[aOffset + i + 2] - b[bOffset + i + 2];
+            float difference3 = a[aOffset + i + 3] - b[bOffset + i + 3];
+            sum0 += difference0 * difference0;
+            sum1 += difference1 * difference1;
+            sum2 += difference2 * difference2;
+            sum3 += difference3 * difference3;
+        }
+        for (; i < length; i++) {
+            float difference = a[aOffset + i] - b[bOffset + i];
+            sum0 += difference * difference;
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    @Override
+    public double cosineSimilarity(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        // accumulated in double, which keeps the results identical to the original CosineSimilarity implementation
+        double dotProduct = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+
+        for (int i = 0; i < length; i++) {
+            float valueA = a[aOffset + i];
+            float valueB = b[bOffset + i];
+            dotProduct += valueA * valueB;
+            normA += valueA * valueA;
+            normB += valueB * valueB;
+        }
+
+        return dotProduct / Math.max(Math.sqrt(normA) * Math.sqrt(normB), CosineSimilarity.EPSILON);
+    }
+
+    @Override
+    public double cosineSimilarity(
+            float[] a, int aOffset, double aNorm, float[] b, int bOffset, double bNorm, int length) {
+        double dotProduct = 0.0;
+        for (int i = 0; i < length; i++) {
+            dotProduct += a[aOffset + i] * b[bOffset + i];
+        }
+        return dotProduct / Math.max(aNorm * bNorm, CosineSimilarity.EPSILON);
+    }
+
+    @Override
+    public double norm(float[] vector, int offset, int length) {
+        double squaredNorm = 0.0;
+        for (int i = 0; i < length; i++) {
+            float value = vector[offset + i];
+            squaredNorm += value * value;
+        }
+        return Math.sqrt(squaredNorm);
+    }
+}
@@ -0,0 +1,85 @@
+package dev.langchain4j.store.embedding.similarity;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.spi.store.embedding.similarity.SimilarityKernelFactory;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+
+/**
+ * Computes similarities and distances between dense {@code float} vectors.
+ * <p>
+ * Vectors are addressed by an array and an offset, so that vectors packed into a larger array
+ * can be compared without copying. Callers are responsible for checking that both ranges are valid.
+ * <p>
+ * The kernel used by default is {@link SimilarityKernels#defaultKernel()}.
+ * Custom implementations can be provided through SPI (see {@link SimilarityKernelFactory}).
+ */
+@Experimental
+public interface SimilarityKernel {
+
+    /**
+     * Calculates the dot product of two vectors.
+     *
+     * @param a       the array containing the first vector.
+     * @param aOffset the offset of the first vector in {@code a}.
+     * @param b       the array containing the second vector.
+     * @param bOffset the offset of the second vector in {@code b}.
+     * @param length  the dimension of both vectors.
+     * @return the dot product.
+     */
+    float dotProduct(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * Calculates the squared Euclidean (L2) distance between two vectors.
+     *
+     * @param a       the array containing the first vector.
+     * @param aOffset the offset of the first vector in {@code a}.
+     * @param b       the array containing the second vector.
+     * @param bOffset the offset of the second vector in {@code b}.
+     * @param length  the dimension of both vectors.
+     * @return the squared Euclidean distance.
+     */
+    float squaredEuclideanDistance(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * Calculates the cosine similarity between two vectors, computing the dot product and both norms in a single pass.
+     * Vectors of all zeros are considered orthogonal to all other vectors.
+     *
+     * @param a       the array containing the first vector.
+     * @param aOffset the offset of the first vector in {@code a}.
+     * @param b       the array containing the second vector.
+     * @param bOffset the offset of the second vector in {@code b}.
+     * @param length  the dimension of both vectors.
+     * @return cosine similarity in the range [-1..1]
+     */
+    double cosineSimilarity(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * Calculates the cosine similarity between two vectors whose norms are already known,
+     * which reduces it to a single dot product.
+     *
+     * @param a       the array containing the first vector.
+     * @param aOffset the offset of the first vector in {@code a}.
+     * @param aNorm   the norm of the first vector, see {@link #norm(float[], int, int)}.
+     * @param b       the array containing the second vector.
+     * @param bOffset the offset of the second vector in {@code b}.
+     * @param bNorm   the norm of the second vector, see {@link #norm(float[], int, int)}.
+     * @param length  the dimension of both vectors.
+     * @return cosine similarity in the range [-1..1]
+     */
+    default double cosineSimilarity(
+            float[] a, int aOffset, double aNorm, float[] b, int bOffset, double bNorm, int length) {
+        return dotProduct(a, aOffset, b, bOffset, length) / Math.max(aNorm * bNorm, CosineSimilarity.EPSILON);
+    }
+
+    /**
+     * Calculates the Euclidean (L2) norm of a vector.
+     *
+     * @param vector the array containing the vector.
+     * @param offset the offset of the vector in {@code vector}.
+     * @param length the dimension of the vector.
+     * @return the norm.
+     */
+    default double norm(float[] vector, int offset, int length) {
+        return Math.sqrt(dotProduct(vector, offset, vector, offset, length));
+    }
+}
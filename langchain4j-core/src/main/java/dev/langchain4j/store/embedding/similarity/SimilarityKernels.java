@@ -0,0 +1,49 @@
+package dev.langchain4j.store.embedding.similarity;
+
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.spi.store.embedding.similarity.SimilarityKernelFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the default {@link SimilarityKernel}.
+ * <p>
+ * The first kernel provided through SPI (see {@link SimilarityKernelFactory}) that can be used on the current JVM
+ * is selected. For example, {@code langchain4j-similarity-kernel-vector-api} provides a kernel
+ * using the JDK Vector API when the {@code jdk.incubator.vector} module is available.
+ * If there is none, {@link ScalarSimilarityKernel} is used.
+ */
+@Experimental
+public class SimilarityKernels {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarityKernels.class);
+
+    private SimilarityKernels() {}
+
+    /**
+     * Returns the default {@link SimilarityKernel}, loaded once per class loader.
+     *
+     * @return the default {@link SimilarityKernel}.
+     */
+    public static SimilarityKernel defaultKernel() {
+        return Holder.DEFAULT_KERNEL;
+    }
+
+    private static SimilarityKernel loadKernel() {
+        for (SimilarityKernelFactory factory : loadFactories(SimilarityKernelFactory.class)) {
+            SimilarityKernel kernel = factory.create();
+            if (kernel != null) {
+                log.debug("Loaded the following similarity kernel through SPI: {}", kernel);
+                return kernel;
+            }
+        }
+        return new ScalarSimilarityKernel();
+    }
+
+    private static class Holder {
+
+        private static final SimilarityKernel DEFAULT_KERNEL = loadKernel();
+    }
+}
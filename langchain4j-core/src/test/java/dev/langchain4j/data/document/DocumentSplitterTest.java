@@ -4,6 +4,8 @@ import dev.langchain4j.data.segment.TextSegment;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
@@ -34,4 +36,20 @@ class DocumentSplitterTest implements WithAssertions {
                         new TextSegment("abc", Metadata.metadata("foo", "bar")),
                         new TextSegment("def", Metadata.metadata("foo", "bar")));
     }
+
+    @Test
+    void split_all_in_parallel() {
+        List<Document> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(Document.document(i + " " + (i + 1)));
+        }
+
+        WhitespaceSplitter splitter = new WhitespaceSplitter();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertThat(splitter.splitAll(docs, executor)).containsExactlyElementsOf(splitter.splitAll(docs));
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,158 @@
+package dev.langchain4j.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class EmbeddingBatchUtilsTest {
+
+    @Test
+    void should_partition_by_number_of_items_and_tokens() {
+
+        // given
+        List<String> texts = List.of("a", "bb", "ccc", "dddd", "e", "ffffffffff", "g");
+
+        // when-then
+        assertThat(EmbeddingBatchUtils.partition(texts, 3, null, String::length))
+                .containsExactly(List.of("a", "bb", "ccc"), List.of("dddd", "e", "ffffffffff"), List.of("g"));
+
+        assertThat(EmbeddingBatchUtils.partition(texts, 3, 5, String::length))
+                .containsExactly(
+                        List.of("a", "bb"), List.of("ccc"), List.of("dddd", "e"), List.of("ffffffffff"), List.of("g"));
+
+        assertThat(EmbeddingBatchUtils.partition(List.<String>of(), 3, 5, String::length))
+                .isEmpty();
+    }
+
+    @Test
+    void should_embed_batches_concurrently_and_keep_order() {
+
+        // given
+        List<List<Integer>> batches = List.of(List.of(1, 2), List.of(3), List.of(4, 5), List.of(6));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        Response<List<Embedding>> response = EmbeddingBatchUtils.embedInBatches(
+                batches,
+                batch -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        // the first batches take the longest
+                        Thread.sleep(50L * (7 - batch.get(0)));
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    running.decrementAndGet();
+                    List<Embedding> embeddings = batch.stream()
+                            .map(i -> Embedding.from(new float[] {i}))
+                            .toList();
+                    return Response.from(embeddings, new TokenUsage(batch.size()));
+                },
+                2);
+
+        // then
+        assertThat(response.content())
+                .extracting(embedding -> embedding.vector()[0])
+                .containsExactly(1f, 2f, 3f, 4f, 5f, 6f);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(6);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_embed_batches_on_daemon_threads() {
+
+        // given
+        List<List<Integer>> batches = List.of(List.of(1), List.of(2));
+        List<Boolean> daemon = new CopyOnWriteArrayList<>();
+
+        // when
+        EmbeddingBatchUtils.embedInBatches(
+                batches,
+                batch -> {
+                    daemon.add(Thread.currentThread().isDaemon());
+                    return Response.from(List.of(Embedding.from(new float[] {batch.get(0)})));
+                },
+                2);
+
+        // then
+        assertThat(daemon).containsExactly(true, true);
+    }
+
+    @Test
+    void should_start_batches_asynchronously_up_to_max_concurrent_batches() throws Exception {
+
+        // given
+        List<List<Integer>> batches = List.of(List.of(1, 2), List.of(3), List.of(4));
+        List<CompletableFuture<Response<List<Embedding>>>> started = new CopyOnWriteArrayList<>();
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+
+        try {
+            // when
+            Future<Response<List<Embedding>>> response = caller.submit(() -> EmbeddingBatchUtils.embedInBatchesAsync(
+                    batches,
+                    batch -> {
+                        CompletableFuture<Response<List<Embedding>>> future = new CompletableFuture<>();
+                        started.add(future);
+                        return future;
+                    },
+                    2));
+
+            // then
+            Thread.sleep(100);
+            assertThat(started).hasSize(2);
+
+            started.get(1).complete(response(3));
+            Thread.sleep(100);
+            assertThat(started).hasSize(3);
+
+            started.get(2).complete(response(4));
+            started.get(0).complete(response(1, 2));
+            assertThat(response.get(5, SECONDS).content())
+                    .extracting(embedding -> embedding.vector()[0])
+                    .containsExactly(1f, 2f, 3f, 4f);
+            assertThat(response.get().tokenUsage().inputTokenCount()).isEqualTo(4);
+        } finally {
+            caller.shutdown();
+        }
+    }
+
+    @Test
+    void should_rethrow_failure_of_a_batch() {
+
+        // given
+        List<List<Integer>> batches = List.of(List.of(1), List.of(2), List.of(3));
+
+        // when-then
+        assertThatThrownBy(() -> EmbeddingBatchUtils.embedInBatches(
+                        batches,
+                        batch -> {
+                            if (batch.get(0) == 2) {
+                                throw new IllegalStateException("failed");
+                            }
+                            return Response.from(List.of(Embedding.from(new float[] {batch.get(0)})));
+                        },
+                        3))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+    }
+
+    private static Response<List<Embedding>> response(Integer... items) {
+        List<Embedding> embeddings =
+                Stream.of(items).map(i -> Embedding.from(new float[] {i})).toList();
+        return Response.from(embeddings, new TokenUsage(items.length));
+    }
+}
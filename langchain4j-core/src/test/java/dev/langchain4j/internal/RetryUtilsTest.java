@@ -1,5 +1,6 @@
 package dev.langchain4j.internal;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -9,6 +10,9 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class RetryUtilsTest {
@@ -124,4 +128,43 @@ class RetryUtilsTest {
         verify(mockAction, times(1)).call();
         verifyNoMoreInteractions(mockAction);
     }
+
+    @Test
+    void with_retry_async() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> attempts.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(new IllegalStateException("failed"))
+                        : CompletableFuture.completedFuture("Success"),
+                3);
+
+        assertThat(result.get(5, SECONDS)).isEqualTo("Success");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void with_retry_async_fails_after_max_attempts() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    return CompletableFuture.failedFuture(new IllegalStateException("failed"));
+                },
+                2);
+
+        assertThatThrownBy(() -> result.get(5, SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .cause()
+                .isExactlyInstanceOf(RuntimeException.class)
+                .cause()
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+        assertThat(attempts).hasValue(2);
+    }
 }
@@ -0,0 +1,251 @@
+package dev.langchain4j.model.embedding;
+
+import static java.util.Arrays.asList;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingEmbeddingModelTest implements WithAssertions {
+
+    @TempDir
+    Path tempDir;
+
+    static class RecordingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> requests = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            requests.add(textSegments.stream().map(TextSegment::text).toList());
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(
+                            new float[] {segment.text().length(), segment.text().hashCode()}))
+                    .toList();
+            return Response.from(embeddings, new TokenUsage(textSegments.size(), 0));
+        }
+    }
+
+    @Test
+    void should_embed_only_cache_misses_and_keep_order() {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        CachingEmbeddingModel model =
+                CachingEmbeddingModel.builder().delegate(delegate).build();
+        List<Embedding> expected =
+                delegate.embedAll(segments("a", "bb", "a", "ccc")).content();
+        delegate.requests.clear();
+
+        model.embedAll(segments("bb"));
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments("a", "bb", "a", "ccc"));
+
+        // then
+        assertThat(response.content()).isEqualTo(expected);
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(2, 0));
+        assertThat(delegate.requests).containsExactly(List.of("bb"), List.of("a", "ccc"));
+        assertThat(model.hitCount()).isEqualTo(1);
+        assertThat(model.missCount()).isEqualTo(4);
+
+        // when
+        response = model.embedAll(segments("ccc", "a"));
+
+        // then
+        assertThat(response.content()).containsExactly(expected.get(3), expected.get(0));
+        assertThat(response.tokenUsage()).isNull();
+        assertThat(delegate.requests).hasSize(2);
+        assertThat(model.hitCount()).isEqualTo(3);
+        assertThat(model.embed("a").content()).isEqualTo(expected.get(0));
+    }
+
+    @Test
+    void should_evict_least_recently_used_embeddings() {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        CachingEmbeddingModel model =
+                CachingEmbeddingModel.builder().delegate(delegate).maxSize(2).build();
+
+        // when
+        model.embedAll(segments("a", "b"));
+        model.embed("a");
+        model.embed("c");
+        model.embedAll(segments("a", "b", "c"));
+
+        // then
+        assertThat(delegate.requests).containsExactly(List.of("a", "b"), List.of("c"), List.of("b"));
+    }
+
+    @Test
+    void should_persist_embeddings_in_cache_file() throws Exception {
+
+        // given
+        Path cacheFile = tempDir.resolve("embeddings.cache");
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        List<Embedding> expected;
+        try (CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model")
+                .cacheFile(cacheFile)
+                .build()) {
+            expected = model.embedAll(segments("a", "bb")).content();
+        }
+        // simulates a record that was not completely written
+        Files.write(cacheFile, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+
+        // when
+        try (CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model")
+                .maxSize(1)
+                .cacheFile(cacheFile)
+                .build()) {
+
+            // then
+            assertThat(model.embedAll(segments("a", "bb", "ccc")).content())
+                    .startsWith(expected.get(0), expected.get(1));
+            assertThat(delegate.requests).containsExactly(List.of("a", "bb"), List.of("ccc"));
+            assertThat(model.hitCount()).isEqualTo(2);
+        }
+
+        // when
+        try (CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("other model")
+                .cacheFile(cacheFile)
+                .build()) {
+            model.embedAll(segments("a", "ccc"));
+
+            // then
+            assertThat(delegate.requests).hasSize(3);
+            assertThat(delegate.requests.get(2)).containsExactly("a", "ccc");
+        }
+    }
+
+    @Test
+    void should_share_cache_file_between_open_instances() {
+
+        // given
+        Path cacheFile = tempDir.resolve("embeddings.cache");
+        RecordingEmbeddingModel delegate1 = new RecordingEmbeddingModel();
+        RecordingEmbeddingModel delegate2 = new RecordingEmbeddingModel();
+        try (CachingEmbeddingModel model1 = CachingEmbeddingModel.builder()
+                        .delegate(delegate1)
+                        .modelName("model")
+                        .cacheFile(cacheFile)
+                        .build();
+                CachingEmbeddingModel model2 = CachingEmbeddingModel.builder()
+                        .delegate(delegate2)
+                        .modelName("model")
+                        .cacheFile(cacheFile)
+                        .build()) {
+
+            // when
+            Embedding a = model1.embed("a").content();
+            Embedding b = model2.embed("b").content();
+
+            // then
+            assertThat(model2.embed("a").content()).isEqualTo(a);
+            assertThat(model1.embed("b").content()).isEqualTo(b);
+            assertThat(delegate1.requests).containsExactly(List.of("a"));
+            assertThat(delegate2.requests).containsExactly(List.of("b"));
+        }
+        try (EmbeddingFileCache fileCache = new EmbeddingFileCache(cacheFile)) {
+            assertThat(fileCache.size()).isEqualTo(2);
+        }
+        assertThat(EmbeddingFileCache.JVM_LOCKS).isEmpty();
+    }
+
+    @Test
+    void should_read_embeddings_added_by_other_instances_when_some_are_missing() {
+
+        // given
+        Path cacheFile = tempDir.resolve("embeddings.cache");
+        RecordingEmbeddingModel delegate1 = new RecordingEmbeddingModel();
+        RecordingEmbeddingModel delegate2 = new RecordingEmbeddingModel();
+        try (CachingEmbeddingModel model1 = CachingEmbeddingModel.builder()
+                        .delegate(delegate1)
+                        .modelName("model")
+                        .cacheFile(cacheFile)
+                        .build();
+                CachingEmbeddingModel model2 = CachingEmbeddingModel.builder()
+                        .delegate(delegate2)
+                        .modelName("model")
+                        .cacheFile(cacheFile)
+                        .build()) {
+            Embedding a = model1.embed("a").content();
+
+            // when
+            List<Embedding> embeddings =
+                    model2.embedAll(segments("a", "b", "a")).content();
+
+            // then
+            assertThat(embeddings.get(0)).isEqualTo(a);
+            assertThat(embeddings.get(2)).isEqualTo(a);
+            assertThat(delegate2.requests).containsExactly(List.of("b"));
+            assertThat(model2.hitCount()).isEqualTo(2);
+            assertThat(model2.missCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void should_read_records_appended_by_other_instances_only_when_refreshed() {
+
+        // given
+        Path cacheFile = tempDir.resolve("embeddings.cache");
+        try (EmbeddingFileCache fileCache1 = new EmbeddingFileCache(cacheFile);
+                EmbeddingFileCache fileCache2 = new EmbeddingFileCache(cacheFile)) {
+            byte[] key = new byte[EmbeddingFileCache.KEY_SIZE];
+
+            // when
+            fileCache1.put(key, Embedding.from(new float[] {1, 2}));
+
+            // then
+            assertThat(fileCache2.get(key)).isNull();
+            assertThat(fileCache2.refresh()).isTrue();
+            assertThat(fileCache2.refresh()).isFalse();
+            assertThat(fileCache2.get(key)).isEqualTo(Embedding.from(new float[] {1, 2}));
+        }
+    }
+
+    @Test
+    void should_release_cache_file_that_cannot_be_opened() throws Exception {
+
+        // given
+        Path cacheFile = tempDir.resolve("not-a-cache");
+        Files.writeString(cacheFile, "not an embedding cache file");
+
+        // when-then
+        assertThatThrownBy(() -> new EmbeddingFileCache(cacheFile))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not an embedding cache file");
+        assertThat(EmbeddingFileCache.JVM_LOCKS).isEmpty();
+    }
+
+    @Test
+    void should_fail_to_use_cache_file_without_model_name() {
+
+        // when-then
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder()
+                        .delegate(new RecordingEmbeddingModel())
+                        .cacheFile(tempDir.resolve("embeddings.cache"))
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The modelName must be set when a cacheFile is used");
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        return asList(texts).stream().map(TextSegment::from).toList();
+    }
+}
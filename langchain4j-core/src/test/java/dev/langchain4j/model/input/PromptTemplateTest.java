@@ -1,8 +1,9 @@
 package dev.langchain4j.model.input;
 
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -12,11 +13,9 @@ import java.time.LocalTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
-
-import static java.util.Collections.emptyMap;
-import static java.util.Collections.singletonMap;
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class PromptTemplateTest {
 
@@ -96,6 +95,23 @@ class PromptTemplateTest {
         assertThat(prompt.text()).isEqualTo("My name is Klaus, call me Klaus.");
     }
 
+    @Test
+    void should_insert_values_as_they_are() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("{{greeting}}, {{name}}!");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("greeting", "Hello {{name}}");
+        variables.put("name", "Klaus");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("Hello {{name}}, Klaus!");
+    }
+
     @Test
     void should_fail_when_value_is_missing() {
 
@@ -161,7 +177,8 @@ class PromptTemplateTest {
         // given
         Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
 
-        PromptTemplate promptTemplate = new PromptTemplate("My name is {{name}} and now is {{current_date_time}}", clock);
+        PromptTemplate promptTemplate =
+                new PromptTemplate("My name is {{name}} and now is {{current_date_time}}", clock);
 
         Map<String, Object> variables = new HashMap<>();
         variables.put("name", "Klaus");
@@ -174,23 +191,24 @@ class PromptTemplateTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {
-            "$",
-            "$$",
-            "{",
-            "{{",
-            "}",
-            "}}",
-            "{}",
-            "{{}}",
-            "*",
-            "**",
-            "\\",
-            "\\\\",
-            "${}*\\",
-            "${ *hello* }",
-            "\\$\\{ \\*hello\\* \\}"
-    })
+    @ValueSource(
+            strings = {
+                "$",
+                "$$",
+                "{",
+                "{{",
+                "}",
+                "}}",
+                "{}",
+                "{{}}",
+                "*",
+                "**",
+                "\\",
+                "\\\\",
+                "${}*\\",
+                "${ *hello* }",
+                "\\$\\{ \\*hello\\* \\}"
+            })
     void should_support_special_characters(String s) {
 
         // given
@@ -221,6 +221,56 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(executor);
     }
 
+    @Test
+    void should_batch_queries_only_for_retrievers_overriding_retrieve_all() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+
+        Content content1 = Content.from("content 1");
+        ContentRetriever batchingRetriever = spy(new TestBatchingContentRetriever(content1));
+
+        Content content2 = Content.from("content 2");
+        ContentRetriever contentRetriever = spy(new TestContentRetriever(content2));
+
+        Executor executor = spy(new TestExecutor());
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2))
+                .queryRouter(new DefaultQueryRouter(batchingRetriever, contentRetriever))
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .executor(executor)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        // when
+        UserMessage augmented = retrievalAugmentor.augment(userMessage, Metadata.from(userMessage, null, null));
+
+        // then
+        assertThat(augmented.singleText())
+                .isEqualTo(
+                        """
+                query
+                content 1
+                content 2
+                content 1
+                content 2""");
+
+        verify(batchingRetriever).retrieveAll(asList(query1, query2));
+        verifyNoMoreInteractions(batchingRetriever);
+
+        verify(contentRetriever).retrieve(query1);
+        verify(contentRetriever).retrieve(query2);
+        verifyNoMoreInteractions(contentRetriever);
+
+        // 2 routings, 1 batch, and 1 retrieval per query of the non-batching retriever
+        verify(executor, times(5)).execute(any());
+        verifyNoMoreInteractions(executor);
+    }
+
     private static class TestExecutor implements Executor {
 
         @Override
@@ -372,6 +422,25 @@ class DefaultRetrievalAugmentorTest {
         }
     }
 
+    static class TestBatchingContentRetriever implements ContentRetriever {
+
+        private final List<Content> contents;
+
+        TestBatchingContentRetriever(Content... contents) {
+            this.contents = asList(contents);
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            return contents;
+        }
+
+        @Override
+        public List<List<Content>> retrieveAll(List<Query> queries) {
+            return queries.stream().map(query -> contents).collect(toList());
+        }
+    }
+
     static class TestContentAggregator implements ContentAggregator {
 
         @Override
@@ -4,6 +4,7 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
@@ -13,6 +14,8 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -292,6 +295,57 @@ class EmbeddingStoreContentRetrieverTest {
         verifyNoMoreInteractions(EMBEDDING_MODEL);
     }
 
+    @Test
+    void should_retrieve_all_queries_in_a_single_batch() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        Embedding embedding1 = Embedding.from(asList(1f, 0f, 0f));
+        Embedding embedding2 = Embedding.from(asList(0f, 1f, 0f));
+        when(EMBEDDING_MODEL.embedAll(any())).thenReturn(Response.from(asList(embedding1, embedding2)));
+        when(EMBEDDING_STORE.searchAll(any()))
+                .thenReturn(asList(
+                        new EmbeddingSearchResult<>(
+                                asList(new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1")))),
+                        new EmbeddingSearchResult<>(
+                                asList(new EmbeddingMatch<>(0.8, "id 2", null, TextSegment.from("content 2"))))));
+
+        ContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .dynamicMaxResults(query -> query == query1 ? 1 : 2)
+                .build();
+
+        // when
+        List<List<Content>> contents = contentRetriever.retrieveAll(asList(query1, query2));
+
+        // then
+        assertThat(contents).hasSize(2);
+        assertThat(contents.get(0))
+                .extracting(content -> content.textSegment().text())
+                .containsExactly("content 1");
+        assertThat(contents.get(1))
+                .extracting(content -> content.textSegment().text())
+                .containsExactly("content 2");
+
+        verify(EMBEDDING_STORE)
+                .searchAll(asList(
+                        EmbeddingSearchRequest.builder()
+                                .queryEmbedding(embedding1)
+                                .maxResults(1)
+                                .minScore(DEFAULT_MIN_SCORE)
+                                .build(),
+                        EmbeddingSearchRequest.builder()
+                                .queryEmbedding(embedding2)
+                                .maxResults(2)
+                                .minScore(DEFAULT_MIN_SCORE)
+                                .build()));
+        verifyNoMoreInteractions(EMBEDDING_STORE);
+        verify(EMBEDDING_MODEL).embedAll(asList(TextSegment.from("query 1"), TextSegment.from("query 2")));
+        verifyNoMoreInteractions(EMBEDDING_MODEL);
+    }
+
     @Test
     void should_include_explicit_display_name_in_to_string() {
 
@@ -4,7 +4,13 @@ import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,10 +25,30 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 class EmbeddingStoreIngestorTest {
 
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
     @Test
     void should_extract_text_then_split_into_segments_then_embed_them_and_store_in_embedding_store() {
 
@@ -192,4 +218,299 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_ingest_in_batches() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            documents.add(Document.from("Document " + i));
+        }
+
+        Queue<List<TextSegment>> embeddedBatches = new ConcurrentLinkedQueue<>();
+        EmbeddingModel embeddingModel = segments -> {
+            embeddedBatches.add(segments);
+            return Response.from(embeddings(segments), new TokenUsage(segments.size(), 0));
+        };
+
+        Queue<TextSegment> storedSegments = new ConcurrentLinkedQueue<>();
+        EmbeddingStore<TextSegment> embeddingStore = storing(storedSegments);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(10)
+                .maxConcurrentBatches(2)
+                .executor(executor)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents);
+
+        // then
+        assertThat(embeddedBatches).extracting(List::size).containsExactlyInAnyOrder(10, 10, 5);
+        assertThat(storedSegments)
+                .extracting(TextSegment::text)
+                .containsExactlyInAnyOrderElementsOf(
+                        documents.stream().map(Document::text).toList());
+        assertThat(ingestionResult.tokenUsage()).isEqualTo(new TokenUsage(25, 0));
+        assertThat(ingestionResult.failedBatches()).isEmpty();
+    }
+
+    @Test
+    void should_limit_number_of_concurrent_batches() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            documents.add(Document.from("Document " + i));
+        }
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch saturated = new CountDownLatch(3);
+        EmbeddingModel embeddingModel = segments -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                saturated.countDown();
+                saturated.await(1, TimeUnit.SECONDS);
+                return Response.from(embeddings(segments));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+
+        Queue<TextSegment> storedSegments = new ConcurrentLinkedQueue<>();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(storing(storedSegments))
+                .batchSize(2)
+                .maxConcurrentBatches(3)
+                .executor(executor)
+                .build();
+
+        // when
+        ingestor.ingest(documents);
+
+        // then
+        assertThat(maxInFlight.get()).isEqualTo(3);
+        assertThat(storedSegments).hasSize(40);
+    }
+
+    @Test
+    void should_continue_ingestion_when_a_batch_fails() {
+
+        // given
+        List<Document> documents = asList(
+                Document.from("First"), Document.from("Second"), Document.from("Third"), Document.from("Fourth"));
+
+        RuntimeException error = new RuntimeException("Embedding failed");
+        EmbeddingModel embeddingModel = segments -> {
+            if (segments.get(0).text().equals("Third")) {
+                throw error;
+            }
+            return Response.from(embeddings(segments));
+        };
+
+        Queue<TextSegment> storedSegments = new ConcurrentLinkedQueue<>();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(storing(storedSegments))
+                .batchSize(2)
+                .maxAttempts(1)
+                .executor(executor)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents);
+
+        // then
+        assertThat(storedSegments).extracting(TextSegment::text).containsExactlyInAnyOrder("First", "Second");
+        assertThat(ingestionResult.failedBatches()).hasSize(1);
+        IngestionResult.FailedBatch failedBatch =
+                ingestionResult.failedBatches().get(0);
+        assertThat(failedBatch.textSegments()).extracting(TextSegment::text).containsExactly("Third", "Fourth");
+        assertThat(failedBatch.error()).isSameAs(error);
+    }
+
+    @Test
+    void should_retry_failed_batch() {
+
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        EmbeddingModel embeddingModel = segments -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RuntimeException("Temporary failure");
+            }
+            return Response.from(embeddings(segments));
+        };
+
+        Queue<TextSegment> storedSegments = new ConcurrentLinkedQueue<>();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(storing(storedSegments))
+                .batchSize(10)
+                .maxAttempts(2)
+                .executor(executor)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(Document.from("First"), Document.from("Second"));
+
+        // then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(storedSegments).extracting(TextSegment::text).containsExactly("First", "Second");
+        assertThat(ingestionResult.failedBatches()).isEmpty();
+    }
+
+    @Test
+    void should_ingest_stream_of_documents() {
+
+        // given
+        AtomicInteger loadedDocuments = new AtomicInteger();
+        Stream<Document> documents = Stream.generate(
+                        () -> Document.from("Document " + loadedDocuments.getAndIncrement()))
+                .limit(100);
+
+        EmbeddingModel embeddingModel =
+                segments -> Response.from(embeddings(segments), new TokenUsage(segments.size(), 0));
+        Queue<TextSegment> storedSegments = new ConcurrentLinkedQueue<>();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(storing(storedSegments))
+                .batchSize(8)
+                .executor(executor)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents);
+
+        // then
+        assertThat(loadedDocuments.get()).isEqualTo(100);
+        assertThat(storedSegments).hasSize(100);
+        assertThat(ingestionResult.tokenUsage()).isEqualTo(new TokenUsage(100, 0));
+        assertThat(ingestionResult.failedBatches()).isEmpty();
+    }
+
+    @Test
+    void should_ingest_only_new_and_changed_documents() {
+
+        // given
+        IngestionManifest manifest = IngestionManifest.inMemory();
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            return Response.from(embeddings(segments));
+        });
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.generateIds(anyInt())).thenAnswer(invocation -> {
+            int n = invocation.getArgument(0);
+            return IntStream.range(0, n)
+                    .mapToObj(i -> UUID.randomUUID().toString())
+                    .toList();
+        });
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .manifest(manifest)
+                .documentIdProvider(document -> document.metadata().getString("id"))
+                .purgeDeletedDocuments(true)
+                .executor(executor)
+                .build();
+
+        ingestor.ingest(
+                Document.from("First", Metadata.from("id", "1")),
+                Document.from("Second", Metadata.from("id", "2")),
+                Document.from("Third", Metadata.from("id", "3")));
+        List<String> firstSegmentIds = manifest.get("1").segmentIds();
+        List<String> secondSegmentIds = manifest.get("2").segmentIds();
+        List<String> thirdSegmentIds = manifest.get("3").segmentIds();
+        clearInvocations(embeddingModel, embeddingStore);
+
+        // when
+        ingestor.ingest(
+                Document.from("First", Metadata.from("id", "1")),
+                Document.from("Second, changed", Metadata.from("id", "2")),
+                Document.from("Fourth", Metadata.from("id", "4")));
+
+        // then
+        verify(embeddingModel)
+                .embedAll(asList(
+                        TextSegment.from(
+                                "Second, changed", Metadata.from("id", "2").put("index", "0")),
+                        TextSegment.from("Fourth", Metadata.from("id", "4").put("index", "0"))));
+        verify(embeddingStore)
+                .addAll(
+                        eq(asList(
+                                manifest.get("2").segmentIds().get(0),
+                                manifest.get("4").segmentIds().get(0))),
+                        anyList(),
+                        anyList());
+        verify(embeddingStore).removeAll(secondSegmentIds);
+        verify(embeddingStore).removeAll(thirdSegmentIds);
+        verify(embeddingStore, never()).removeAll(firstSegmentIds);
+
+        assertThat(manifest.documentIds()).containsExactlyInAnyOrder("1", "2", "4");
+        assertThat(manifest.get("1").segmentIds()).isEqualTo(firstSegmentIds);
+        assertThat(manifest.get("2").segmentIds()).doesNotContainAnyElementsOf(secondSegmentIds);
+    }
+
+    @Test
+    void should_keep_previous_segments_of_documents_that_failed_to_be_ingested() {
+
+        // given
+        IngestionManifest manifest = IngestionManifest.inMemory();
+        manifest.put("1", "outdated hash", singletonList("old segment id"));
+
+        EmbeddingModel embeddingModel = segments -> {
+            throw new RuntimeException("Embedding failed");
+        };
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.generateIds(anyInt())).thenReturn(singletonList("new segment id"));
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .manifest(manifest)
+                .documentIdProvider(document -> "1")
+                .maxAttempts(1)
+                .executor(executor)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(Document.from("First"));
+
+        // then
+        assertThat(ingestionResult.failedBatches()).hasSize(1);
+        assertThat(manifest.get("1").contentHash()).isEqualTo("outdated hash");
+        assertThat(manifest.get("1").segmentIds()).containsExactly("old segment id");
+        verify(embeddingStore, never()).removeAll(anyCollection());
+    }
+
+    private static List<Embedding> embeddings(List<TextSegment> segments) {
+        return segments.stream()
+                .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EmbeddingStore<TextSegment> storing(Queue<TextSegment> storedSegments) {
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.addAll(anyList(), anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(1);
+            storedSegments.addAll(segments);
+            return null;
+        });
+        return embeddingStore;
+    }
 }
@@ -420,6 +420,43 @@ public abstract class EmbeddingStoreWithoutMetadataIT {
                 .isEqualTo(relevant);
     }
 
+    @Test
+    void should_search_all() {
+        // given
+        Embedding firstEmbedding = embeddingModel().embed("hello").content();
+        embeddingStore().add(firstEmbedding);
+
+        Embedding secondEmbedding = embeddingModel().embed("hi").content();
+        embeddingStore().add(secondEmbedding);
+
+        Embedding thirdEmbedding = embeddingModel().embed("bye").content();
+        embeddingStore().add(thirdEmbedding);
+
+        awaitUntilAsserted(() -> assertThat(getAllEmbeddings()).hasSize(3));
+
+        List<EmbeddingSearchRequest> requests = asList(
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(firstEmbedding)
+                        .maxResults(1)
+                        .build(),
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(thirdEmbedding)
+                        .maxResults(3)
+                        .build());
+
+        // when
+        List<EmbeddingSearchResult<TextSegment>> results = embeddingStore().searchAll(requests);
+
+        // then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).matches()).hasSize(1);
+        assertThat(results.get(0).matches())
+                .isEqualTo(embeddingStore().search(requests.get(0)).matches());
+        assertThat(results.get(1).matches()).hasSize(3);
+        assertThat(results.get(1).matches())
+                .isEqualTo(embeddingStore().search(requests.get(1)).matches());
+    }
+
     protected List<EmbeddingMatch<TextSegment>> getAllEmbeddings() {
         EmbeddingSearchRequest embeddingSearchRequest = EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddingModel().embed("test").content())
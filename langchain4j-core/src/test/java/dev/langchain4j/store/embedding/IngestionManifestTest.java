@@ -0,0 +1,59 @@
+package dev.langchain4j.store.embedding;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.Metadata;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IngestionManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_save_and_load_manifest() {
+
+        // given
+        Path file = tempDir.resolve("ingestion.manifest");
+        IngestionManifest manifest = IngestionManifest.load(file);
+        assertThat(manifest.documentIds()).isEmpty();
+
+        manifest.put("/docs/a.txt", "hash-a", asList("id-1", "id-2"));
+        manifest.put("https://example.com/ü", "hash-b", emptyList());
+        manifest.put("/docs/c.txt", "hash-c", asList("id-3"));
+        manifest.remove("/docs/c.txt");
+
+        // when
+        manifest.save();
+        IngestionManifest loaded = IngestionManifest.load(file);
+
+        // then
+        assertThat(loaded.documentIds()).containsExactly("/docs/a.txt", "https://example.com/ü");
+        assertThat(loaded.get("/docs/a.txt").contentHash()).isEqualTo("hash-a");
+        assertThat(loaded.get("/docs/a.txt").segmentIds()).containsExactly("id-1", "id-2");
+        assertThat(loaded.get("https://example.com/ü").segmentIds()).isEmpty();
+        assertThat(tempDir).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    void content_hash_should_depend_on_text_and_metadata() {
+
+        // given
+        Document document = Document.from("text", new Metadata().put("a", 1).put("b", "2"));
+
+        // when-then
+        assertThat(IngestionManifest.contentHash(document))
+                .hasSize(64)
+                .isEqualTo(IngestionManifest.contentHash(
+                        Document.from("text", new Metadata().put("b", "2").put("a", 1))))
+                .isNotEqualTo(IngestionManifest.contentHash(
+                        Document.from("text.", new Metadata().put("a", 1).put("b", "2"))))
+                .isNotEqualTo(IngestionManifest.contentHash(
+                        Document.from("text", new Metadata().put("a", 2).put("b", "2"))));
+    }
+}
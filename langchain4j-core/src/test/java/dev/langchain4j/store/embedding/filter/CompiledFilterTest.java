@@ -0,0 +1,134 @@
+package dev.langchain4j.store.embedding.filter;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotIn;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CompiledFilterTest {
+
+    private static final UUID UUID_1 = UUID.fromString("6f1b6c8e-4c4e-4a8e-9a57-0c9c2b7e2b11");
+    private static final UUID UUID_2 = UUID.fromString("0d4c3b2a-1f0e-4d9c-8b7a-695847362510");
+
+    private static final List<Object> VALUES = List.of(
+            "a",
+            "b",
+            UUID_1.toString(),
+            UUID_1,
+            UUID_2,
+            0,
+            1,
+            -1,
+            2,
+            16_777_217,
+            Integer.MAX_VALUE,
+            1L,
+            9_007_199_254_740_993L,
+            Long.MIN_VALUE,
+            0f,
+            -0f,
+            1f,
+            1.1f,
+            16_777_216f,
+            Float.NaN,
+            0d,
+            -0d,
+            1d,
+            1.1d,
+            9_007_199_254_740_992d,
+            Double.POSITIVE_INFINITY);
+
+    static Stream<Filter> filters() {
+        List<Filter> filters = new ArrayList<>();
+        for (Object value : VALUES) {
+            filters.add(new IsEqualTo("key", value));
+            filters.add(new IsNotEqualTo("key", value));
+            filters.add(new IsIn("key", List.of(value)));
+            filters.add(new IsNotIn("key", List.of(value)));
+            if (!(value instanceof UUID)) {
+                filters.add(new IsGreaterThan("key", (Comparable<?>) value));
+                filters.add(new IsLessThanOrEqualTo("key", (Comparable<?>) value));
+            }
+        }
+        filters.add(new IsIn("key", List.of(1, 2L, 1.1f, 1.1d)));
+        filters.add(new IsNotIn("key", List.of(0, -0d, 16_777_217)));
+        filters.add(metadataKey("key").isIn(UUID_1, UUID_2));
+        filters.add(metadataKey("key").isIn("a", "b"));
+        filters.add(metadataKey("key").containsString("a"));
+        filters.add(metadataKey("key").isEqualTo(1).or(metadataKey("key").isEqualTo("a")));
+        filters.add(metadataKey("other").isIn(1, 2).and(metadataKey("key").isNotIn(1, 2)));
+        filters.add(Filter.not(metadataKey("key").isIn("a")));
+        return filters.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("filters")
+    void compiled_filter_should_behave_like_filter(Filter filter) {
+
+        // given
+        Predicate<Metadata> compiledFilter = filter.compile();
+
+        List<Metadata> metadatas = new ArrayList<>();
+        metadatas.add(new Metadata());
+        for (Object value : VALUES) {
+            metadatas.add(new Metadata(Map.of("key", value)));
+        }
+
+        for (Metadata metadata : metadatas) {
+
+            // when
+            Object expected;
+            try {
+                expected = filter.test(metadata);
+            } catch (RuntimeException e) {
+                expected = e;
+            }
+
+            // then
+            if (expected instanceof RuntimeException e) {
+                assertThatThrownBy(() -> compiledFilter.test(metadata))
+                        .as("%s on %s", filter, metadata)
+                        .isExactlyInstanceOf(e.getClass())
+                        .hasMessage(e.getMessage());
+            } else {
+                assertThat(compiledFilter.test(metadata))
+                        .as("%s on %s", filter, metadata)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void should_compare_numbers_of_different_types() {
+
+        // given
+        Metadata metadata = new Metadata().put("key", 1.1f);
+
+        // when-then
+        assertThat(metadataKey("key").isEqualTo(1.1d).test(metadata)).isTrue();
+        assertThat(metadataKey("key").isIn(1.1d).compile().test(metadata)).isFalse();
+        assertThat(metadataKey("key").isIn(1.1f).compile().test(metadata)).isTrue();
+        assertThat(metadataKey("key").isGreaterThan(1).test(metadata)).isTrue();
+        assertThat(metadataKey("key").isLessThan(2L).test(metadata)).isTrue();
+        assertThat(metadataKey("key").isEqualTo(-0d).test(new Metadata().put("key", 0)))
+                .isTrue();
+        assertThat(metadataKey("key").isIn(-0d).compile().test(new Metadata().put("key", 0)))
+                .isTrue();
+    }
+}
@@ -0,0 +1,69 @@
+package dev.langchain4j.store.embedding.filter.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NumberComparatorTest {
+
+    private static final List<Number> NUMBERS = List.of(
+            0,
+            1,
+            -1,
+            7,
+            16_777_216,
+            16_777_217,
+            -16_777_217,
+            Integer.MIN_VALUE,
+            Integer.MAX_VALUE,
+            0L,
+            1L,
+            9_007_199_254_740_992L,
+            9_007_199_254_740_993L,
+            -9_007_199_254_740_993L,
+            Long.MAX_VALUE,
+            0f,
+            -0f,
+            1f,
+            0.1f,
+            1.1f,
+            -1.1f,
+            16_777_216f,
+            16_777_218f,
+            3.4e38f,
+            Float.MIN_VALUE,
+            0d,
+            -0d,
+            1d,
+            0.1d,
+            1.1d,
+            -1.1d,
+            9_007_199_254_740_992d,
+            9_007_199_254_740_994d,
+            1e300,
+            Double.MIN_VALUE);
+
+    @Test
+    void should_compare_like_big_decimals() {
+        for (Number actual : NUMBERS) {
+            for (Number comparison : NUMBERS) {
+
+                // when
+                int result = NumberComparator.compareAsBigDecimals(actual, comparison);
+
+                // then
+                int expected = new BigDecimal(actual.toString()).compareTo(new BigDecimal(comparison.toString()));
+                assertThat(result)
+                        .as(
+                                "%s (%s) vs %s (%s)",
+                                actual,
+                                actual.getClass().getSimpleName(),
+                                comparison,
+                                comparison.getClass().getSimpleName())
+                        .isEqualTo(expected);
+            }
+        }
+    }
+}
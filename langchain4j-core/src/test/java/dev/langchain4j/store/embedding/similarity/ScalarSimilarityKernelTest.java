@@ -0,0 +1,85 @@
+package dev.langchain4j.store.embedding.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ScalarSimilarityKernelTest {
+
+    private final SimilarityKernel kernel = new ScalarSimilarityKernel();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 31, 384})
+    void should_compute_similarities_of_vectors_at_offsets(int dimension) {
+
+        // given
+        Random random = new Random(dimension);
+        int aOffset = 2;
+        int bOffset = 7;
+        float[] a = randomVector(random, aOffset + dimension);
+        float[] b = randomVector(random, bOffset + dimension);
+
+        double dotProduct = 0;
+        double squaredEuclideanDistance = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < dimension; i++) {
+            dotProduct += a[aOffset + i] * b[bOffset + i];
+            squaredEuclideanDistance += (a[aOffset + i] - b[bOffset + i]) * (a[aOffset + i] - b[bOffset + i]);
+            normA += a[aOffset + i] * a[aOffset + i];
+            normB += b[bOffset + i] * b[bOffset + i];
+        }
+        double cosineSimilarity = dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+
+        // when-then
+        assertThat((double) kernel.dotProduct(a, aOffset, b, bOffset, dimension))
+                .isCloseTo(dotProduct, within(1e-3));
+        assertThat((double) kernel.squaredEuclideanDistance(a, aOffset, b, bOffset, dimension))
+                .isCloseTo(squaredEuclideanDistance, within(1e-3));
+        assertThat(kernel.norm(a, aOffset, dimension)).isCloseTo(Math.sqrt(normA), within(1e-4));
+        assertThat(kernel.cosineSimilarity(a, aOffset, b, bOffset, dimension))
+                .isCloseTo(cosineSimilarity, within(1e-6));
+        assertThat(kernel.cosineSimilarity(a, aOffset, Math.sqrt(normA), b, bOffset, Math.sqrt(normB), dimension))
+                .isCloseTo(cosineSimilarity, within(1e-5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 384, 1536, 4096})
+    void cached_norm_cosine_similarity_should_be_identical_to_single_pass_cosine_similarity(int dimension) {
+
+        // given
+        Random random = new Random(dimension);
+        float[] a = randomVector(random, dimension);
+        float[] b = randomVector(random, dimension);
+
+        // when
+        double cachedNormSimilarity = kernel.cosineSimilarity(
+                a, 0, kernel.norm(a, 0, dimension), b, 0, kernel.norm(b, 0, dimension), dimension);
+
+        // then
+        assertThat(cachedNormSimilarity).isEqualTo(kernel.cosineSimilarity(a, 0, b, 0, dimension));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5})
+    void should_consider_zero_vectors_orthogonal(int dimension) {
+
+        // given
+        float[] zeros = new float[dimension];
+
+        // when-then
+        assertThat(kernel.cosineSimilarity(zeros, 0, zeros, 0, dimension)).isZero();
+        assertThat(kernel.cosineSimilarity(zeros, 0, 0, zeros, 0, 0, dimension)).isZero();
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -2,14 +2,39 @@ package dev.langchain4j.store.embedding.elasticsearch;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultisearchBody;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 
 import java.io.IOException;
+import java.util.List;
 
 public abstract class ElasticsearchConfiguration {
     abstract SearchResponse<Document> internalSearch(ElasticsearchClient client,
                                             String indexName,
                                             EmbeddingSearchRequest embeddingSearchRequest)
             throws ElasticsearchException, IOException;
+
+    /**
+     * Builds the body of a single search of a multi search request,
+     * equivalent to the search performed by {@link #internalSearch}.
+     */
+    abstract MultisearchBody internalSearchBody(EmbeddingSearchRequest embeddingSearchRequest) throws IOException;
+
+    /**
+     * Performs all searches using a single
+     * <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/search-multi-search.html">multi search</a> request.
+     */
+    MsearchResponse<Document> internalMultiSearch(
+            ElasticsearchClient client, String indexName, List<EmbeddingSearchRequest> embeddingSearchRequests)
+            throws ElasticsearchException, IOException {
+        MsearchRequest.Builder builder = new MsearchRequest.Builder().index(indexName);
+        for (EmbeddingSearchRequest embeddingSearchRequest : embeddingSearchRequests) {
+            MultisearchBody body = internalSearchBody(embeddingSearchRequest);
+            builder.searches(s -> s.header(h -> h).body(body));
+        }
+        return client.msearch(builder.build(), Document.class);
+    }
 }
@@ -4,6 +4,7 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.KnnQuery;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultisearchBody;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +54,27 @@ public class ElasticsearchConfigurationKnn extends ElasticsearchConfiguration {
     SearchResponse<Document> internalSearch(ElasticsearchClient client,
                                                    String indexName,
                                                    EmbeddingSearchRequest embeddingSearchRequest) throws ElasticsearchException, IOException {
+        KnnQuery knn = buildKnnQuery(embeddingSearchRequest);
+
+        log.trace("Searching for embeddings in index [{}] with query [{}].", indexName, knn);
+
+        return client.search(
+                sr -> sr.index(indexName)
+                        .size(embeddingSearchRequest.maxResults())
+                        .query(q -> q.knn(knn))
+                        .minScore(embeddingSearchRequest.minScore()),
+                Document.class);
+    }
+
+    @Override
+    MultisearchBody internalSearchBody(EmbeddingSearchRequest embeddingSearchRequest) {
+        KnnQuery knn = buildKnnQuery(embeddingSearchRequest);
+        return MultisearchBody.of(b -> b.size(embeddingSearchRequest.maxResults())
+                .query(q -> q.knn(knn))
+                .minScore(embeddingSearchRequest.minScore()));
+    }
+
+    private KnnQuery buildKnnQuery(EmbeddingSearchRequest embeddingSearchRequest) {
         KnnQuery.Builder krb = new KnnQuery.Builder()
                 .field("vector")
                 .queryVector(embeddingSearchRequest.queryEmbedding().vectorAsList());
@@ -65,15 +87,6 @@ public class ElasticsearchConfigurationKnn extends ElasticsearchConfiguration {
             krb.numCandidates(numCandidates);
         }
 
-        KnnQuery knn = krb.build();
-
-        log.trace("Searching for embeddings in index [{}] with query [{}].", indexName, knn);
-
-        return client.search(sr -> sr
-                        .index(indexName)
-                        .size(embeddingSearchRequest.maxResults())
-                        .query(q -> q.knn(knn))
-                        .minScore(embeddingSearchRequest.minScore())
-                , Document.class);
+        return krb.build();
     }
 }
@@ -8,8 +8,11 @@ import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.search.ResponseBody;
 import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
@@ -35,6 +38,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -297,6 +301,35 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         }
     }
 
+    /**
+     * Sends all requests to Elasticsearch in a single multi search request.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+        if (embeddingSearchRequests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        log.debug("searchAll({} requests)", embeddingSearchRequests.size());
+        try {
+            MsearchResponse<Document> response =
+                    configuration.internalMultiSearch(client, indexName, embeddingSearchRequests);
+            log.trace("found [{}] results", response);
+
+            List<EmbeddingSearchResult<TextSegment>> searchResults =
+                    new ArrayList<>(response.responses().size());
+            for (MultiSearchResponseItem<Document> item : response.responses()) {
+                if (item.isFailure()) {
+                    throw new ElasticsearchRequestFailedException(
+                            item.failure().error().toString());
+                }
+                searchResults.add(new EmbeddingSearchResult<>(toMatches(item.result())));
+            }
+            return searchResults;
+        } catch (ElasticsearchException | IOException e) {
+            throw new ElasticsearchRequestFailedException(e);
+        }
+    }
+
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
@@ -418,7 +451,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         handleBulkResponseErrors(response);
     }
 
-    private List<EmbeddingMatch<TextSegment>> toMatches(SearchResponse<Document> response) {
+    private List<EmbeddingMatch<TextSegment>> toMatches(ResponseBody<Document> response) {
         return response.hits().hits().stream()
                 .map(hit -> Optional.ofNullable(hit.source())
                         .map(document -> new EmbeddingMatch<>(
@@ -5,6 +5,7 @@ import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A client for executing HTTP requests both synchronously and asynchronously.
@@ -24,6 +25,28 @@ public interface HttpClient {
      */
     SuccessfulHttpResponse execute(HttpRequest request) throws HttpException, RuntimeException;
 
+    /**
+     * Executes a given HTTP request asynchronously and returns a future of the response.
+     * Implementations that support it do not block any thread while waiting for the response,
+     * so that a few threads can drive many concurrent requests.
+     * <p>
+     * The returned future is completed exceptionally with an {@link HttpException}
+     * if the server returns a client (4XX) or server (5XX) error response,
+     * or with another exception if an unexpected error occurs during request execution (e.g., network issues, timeouts).
+     * <p>
+     * The default implementation calls {@link #execute(HttpRequest)} on the calling thread.
+     *
+     * @param request the HTTP request to be executed.
+     * @return a future of the {@link SuccessfulHttpResponse} for successful HTTP requests (2XX status codes)
+     */
+    default CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        try {
+            return CompletableFuture.completedFuture(execute(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Executes a given HTTP request asynchronously with server-sent events (SSE) handling.
      * This method returns immediately while processing continues on a separate thread.
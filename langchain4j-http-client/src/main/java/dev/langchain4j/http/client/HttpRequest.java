@@ -1,18 +1,22 @@
 package dev.langchain4j.http.client;
 
-import dev.langchain4j.Experimental;
-
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 
+import dev.langchain4j.Experimental;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Experimental
 public class HttpRequest {
 
@@ -20,12 +24,16 @@ public class HttpRequest {
     private final String url;
     private final Map<String, List<String>> headers;
     private final String body;
+    private final byte[] bodyBytes;
+    private final BodyWriter bodyWriter;
 
     public HttpRequest(Builder builder) {
         this.method = ensureNotNull(builder.method, "method");
         this.url = ensureNotBlank(builder.url, "url");
         this.headers = builder.headers == null ? emptyMap() : new HashMap<>(builder.headers);
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
+        this.bodyWriter = builder.bodyWriter;
     }
 
     public HttpMethod method() {
@@ -40,23 +48,73 @@ public class HttpRequest {
         return headers;
     }
 
+    /**
+     * Returns the body as a string.
+     * A body provided as bytes is decoded as UTF-8, and a body provided as a {@link BodyWriter} is written
+     * into memory and decoded as UTF-8, so this method is mostly useful for logging.
+     *
+     * @return the body, or {@code null} if the request has no body.
+     */
     public String body() {
-        return body;
+        if (body != null) {
+            return body;
+        }
+        if (bodyBytes != null) {
+            return new String(bodyBytes, UTF_8);
+        }
+        if (bodyWriter != null) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try {
+                bodyWriter.writeTo(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return outputStream.toString(UTF_8);
+        }
+        return null;
+    }
+
+    /**
+     * @return the body, if it was provided as bytes, otherwise {@code null}. The array must not be modified.
+     */
+    public byte[] bodyBytes() {
+        return bodyBytes;
+    }
+
+    /**
+     * @return the writer of the body, if the body was provided as a {@link BodyWriter}, otherwise {@code null}.
+     */
+    public BodyWriter bodyWriter() {
+        return bodyWriter;
     }
 
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Writes the body of a request, e.g. serializes an object directly into the bytes sent over the connection,
+     * without building the body as a string first.
+     * <p>
+     * The writer can be called more than once (e.g. when the request is logged or retried)
+     * and must write the same body every time.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
     public static class Builder {
 
         private HttpMethod method;
         private String url;
         private Map<String, List<String>> headers;
         private String body;
+        private byte[] bodyBytes;
+        private BodyWriter bodyWriter;
 
-        private Builder() {
-        }
+        private Builder() {}
 
         public Builder method(HttpMethod method) {
             this.method = method;
@@ -111,6 +169,35 @@ public class HttpRequest {
 
         public Builder body(String body) {
             this.body = body;
+            this.bodyBytes = null;
+            this.bodyWriter = null;
+            return this;
+        }
+
+        /**
+         * Sets the body as bytes. The array must not be modified afterwards.
+         *
+         * @param body the body.
+         * @return this builder.
+         */
+        public Builder body(byte[] body) {
+            this.body = null;
+            this.bodyBytes = body;
+            this.bodyWriter = null;
+            return this;
+        }
+
+        /**
+         * Sets the body as a writer that writes it directly to the HTTP client.
+         *
+         * @param bodyWriter the writer of the body.
+         * @return this builder.
+         * @see BodyWriter
+         */
+        public Builder body(BodyWriter bodyWriter) {
+            this.body = null;
+            this.bodyBytes = null;
+            this.bodyWriter = bodyWriter;
             return this;
         }
 
@@ -1,25 +1,27 @@
 package dev.langchain4j.http.client;
 
-import dev.langchain4j.Experimental;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
 
+import dev.langchain4j.Experimental;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
-import static java.util.Collections.emptyMap;
-
 @Experimental
 public class SuccessfulHttpResponse {
 
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String body;
+    private final byte[] bodyBytes;
+    private String body;
 
     public SuccessfulHttpResponse(Builder builder) {
         this.statusCode = ensureBetween(builder.statusCode, 200, 299, "statusCode");
         this.headers = builder.headers == null ? emptyMap() : new HashMap<>(builder.headers);
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
     }
 
     public int statusCode() {
@@ -30,10 +32,31 @@ public class SuccessfulHttpResponse {
         return headers;
     }
 
+    /**
+     * Returns the body as a string. A body received as bytes is decoded as UTF-8 when this method is first called.
+     *
+     * @return the body, or {@code null} if the response has no body.
+     */
     public String body() {
+        if (body == null && bodyBytes != null) {
+            body = new String(bodyBytes, UTF_8);
+        }
         return body;
     }
 
+    /**
+     * Returns the body as bytes, e.g. to parse it without decoding it into a string first.
+     * A body received as a string is encoded as UTF-8. The array must not be modified.
+     *
+     * @return the body, or {@code null} if the response has no body.
+     */
+    public byte[] bodyBytes() {
+        if (bodyBytes == null && body != null) {
+            return body.getBytes(UTF_8);
+        }
+        return bodyBytes;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -43,9 +66,9 @@ public class SuccessfulHttpResponse {
         private int statusCode;
         private Map<String, List<String>> headers;
         private String body;
+        private byte[] bodyBytes;
 
-        private Builder() {
-        }
+        private Builder() {}
 
         public Builder statusCode(int statusCode) {
             this.statusCode = statusCode;
@@ -59,6 +82,19 @@ public class SuccessfulHttpResponse {
 
         public Builder body(String body) {
             this.body = body;
+            this.bodyBytes = null;
+            return this;
+        }
+
+        /**
+         * Sets the body as bytes. The array must not be modified afterwards.
+         *
+         * @param body the body.
+         * @return this builder.
+         */
+        public Builder body(byte[] body) {
+            this.body = null;
+            this.bodyBytes = body;
             return this;
         }
 
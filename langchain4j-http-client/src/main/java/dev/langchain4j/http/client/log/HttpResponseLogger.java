@@ -1,7 +1,9 @@
 package dev.langchain4j.http.client.log;
 
 import dev.langchain4j.Experimental;
+import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 
 import static dev.langchain4j.http.client.log.HttpRequestLogger.format;
@@ -22,4 +24,20 @@ class HttpResponseLogger {
             log.warn("Exception occurred while logging HTTP response: {}", e.getMessage());
         }
     }
+
+    static void log(Logger log, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof HttpException httpException) {
+            log.debug("""
+                            HTTP response:
+                            - status code: {}
+                            - body: {}
+                            """,
+                    httpException.statusCode(), httpException.getMessage());
+        } else {
+            log.debug("HTTP request failed", cause);
+        }
+    }
 }
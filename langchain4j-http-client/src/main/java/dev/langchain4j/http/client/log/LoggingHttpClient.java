@@ -1,5 +1,8 @@
 package dev.langchain4j.http.client.log;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
 import dev.langchain4j.Experimental;
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.HttpClient;
@@ -8,12 +11,10 @@ import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-
 @Experimental
 public class LoggingHttpClient implements HttpClient {
 
@@ -36,7 +37,15 @@ public class LoggingHttpClient implements HttpClient {
             HttpRequestLogger.log(log, request);
         }
 
-        SuccessfulHttpResponse response = delegateHttpClient.execute(request);
+        SuccessfulHttpResponse response;
+        try {
+            response = delegateHttpClient.execute(request);
+        } catch (RuntimeException e) {
+            if (logResponses) {
+                HttpResponseLogger.log(log, e);
+            }
+            throw e;
+        }
 
         if (logResponses) {
             HttpResponseLogger.log(log, response);
@@ -45,6 +54,25 @@ public class LoggingHttpClient implements HttpClient {
         return response;
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+
+        if (logRequests) {
+            HttpRequestLogger.log(log, request);
+        }
+
+        return delegateHttpClient.executeAsync(request).whenComplete((response, failure) -> {
+            if (!logResponses) {
+                return;
+            }
+            if (failure == null) {
+                HttpResponseLogger.log(log, response);
+            } else {
+                HttpResponseLogger.log(log, failure);
+            }
+        });
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener delegateListener) {
 
@@ -1,48 +1,33 @@
 package dev.langchain4j.http.client.sse;
 
 import dev.langchain4j.Experimental;
-
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 
+/**
+ * Parses server-sent events directly from the bytes of the response body, using a {@link ServerSentEventDecoder}.
+ * <p>
+ * HTTP clients that receive the response body in chunks can use a {@link ServerSentEventDecoder}
+ * instead of this parser, so that no thread has to block while waiting for the next chunk.
+ */
 @Experimental
 public class DefaultServerSentEventParser implements ServerSentEventParser {
 
+    private static final int BUFFER_SIZE = 8 * 1024;
+
     @Override
     public void parse(InputStream httpResponseBody, ServerSentEventListener listener) {
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(httpResponseBody))) {
-
-            String event = null;
-            StringBuilder data = new StringBuilder();
+        try (InputStream inputStream = httpResponseBody) {
 
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.isEmpty()) {
-                    if (!data.isEmpty()) {
-                        listener.onEvent(new ServerSentEvent(event, data.toString()));
-                        event = null;
-                        data.setLength(0);
-                    }
-                    continue;
-                }
-
-                if (line.startsWith("event:")) {
-                    event = line.substring("event:".length()).trim();
-                } else if (line.startsWith("data:")) {
-                    String content = line.substring("data:".length());
-                    if (!data.isEmpty()) {
-                        data.append("\n");
-                    }
-                    data.append(content.trim());
-                }
-            }
+            ServerSentEventDecoder decoder = new ServerSentEventDecoder(listener);
+            byte[] buffer = new byte[BUFFER_SIZE];
 
-            if (!data.isEmpty()) {
-                listener.onEvent(new ServerSentEvent(event, data.toString()));
+            int read;
+            while ((read = inputStream.read(buffer, 0, buffer.length)) != -1) {
+                decoder.decode(buffer, 0, read);
             }
+            decoder.finish();
         } catch (IOException e) {
             listener.onError(e);
         }
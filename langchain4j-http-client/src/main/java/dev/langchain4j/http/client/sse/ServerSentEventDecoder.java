@@ -0,0 +1,190 @@
+package dev.langchain4j.http.client.sse;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.Experimental;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Incrementally decodes server-sent events from the chunks of a response body, as they arrive,
+ * and delivers them to the provided {@link ServerSentEventListener}.
+ * <p>
+ * Chunks may end anywhere, even in the middle of a line or of a UTF-8 character.
+ * Complete lines are scanned in place, field names are matched on the bytes,
+ * and the data lines of an event are collected into a reusable byte buffer
+ * that is decoded (as UTF-8) only once per event.
+ * Lines can be terminated by {@code \n}, {@code \r} or {@code \r\n}.
+ * <p>
+ * This class is not thread-safe: the chunks of a single response must be passed one after another.
+ * <p>
+ * This class is currently experimental and subject to change.
+ */
+@Experimental
+public class ServerSentEventDecoder {
+
+    private static final byte[] EVENT_FIELD = {'e', 'v', 'e', 'n', 't', ':'};
+    private static final byte[] DATA_FIELD = {'d', 'a', 't', 'a', ':'};
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final ServerSentEventListener listener;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private boolean skipLineFeed;
+
+    private String event;
+    private byte[] data = new byte[256];
+    private int dataLength;
+
+    private byte[] chunk;
+
+    public ServerSentEventDecoder(ServerSentEventListener listener) {
+        this.listener = ensureNotNull(listener, "listener");
+    }
+
+    /**
+     * Decodes the next chunk of the response body.
+     * The {@link ServerSentEventListener#onEvent(ServerSentEvent)} is called for every event completed by this chunk.
+     *
+     * @param bytes  the bytes of the response body.
+     * @param offset the offset of the chunk in {@code bytes}.
+     * @param length the length of the chunk.
+     */
+    public void decode(byte[] bytes, int offset, int length) {
+        int lineStart = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            byte b = bytes[i];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n') {
+                    // second half of a "\r\n" terminator
+                    lineStart = i + 1;
+                    continue;
+                }
+            }
+            if (b == '\n' || b == '\r') {
+                if (lineLength == 0) {
+                    line(bytes, lineStart, i);
+                } else {
+                    // the line started in one of the previous chunks
+                    appendToLine(bytes, lineStart, i);
+                    line(line, 0, lineLength);
+                    lineLength = 0;
+                }
+                lineStart = i + 1;
+                skipLineFeed = b == '\r';
+            }
+        }
+        appendToLine(bytes, lineStart, end);
+    }
+
+    /**
+     * Decodes the next chunk of the response body, from its position to its limit.
+     * The position of the buffer is moved to its limit.
+     *
+     * @param buffer the chunk of the response body.
+     */
+    public void decode(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            decode(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.limit());
+        } else {
+            if (chunk == null || chunk.length < length) {
+                chunk = new byte[Math.max(length, 8 * 1024)];
+            }
+            buffer.get(chunk, 0, length);
+            decode(chunk, 0, length);
+        }
+    }
+
+    /**
+     * Signals the end of the response body.
+     * An incomplete last line is decoded as if it was terminated, and a pending event is delivered.
+     */
+    public void finish() {
+        if (lineLength > 0) {
+            line(line, 0, lineLength);
+            lineLength = 0;
+        }
+        dispatch();
+    }
+
+    private void line(byte[] buffer, int from, int to) {
+        if (from == to) {
+            dispatch();
+        } else if (startsWith(buffer, from, to, EVENT_FIELD)) {
+            int valueFrom = trimStart(buffer, from + EVENT_FIELD.length, to);
+            int valueTo = trimEnd(buffer, valueFrom, to);
+            event = new String(buffer, valueFrom, valueTo - valueFrom, UTF_8);
+        } else if (startsWith(buffer, from, to, DATA_FIELD)) {
+            int valueFrom = trimStart(buffer, from + DATA_FIELD.length, to);
+            int valueTo = trimEnd(buffer, valueFrom, to);
+            if (dataLength > 0) {
+                appendToData(NEW_LINE, 0, 1);
+            }
+            appendToData(buffer, valueFrom, valueTo);
+        }
+    }
+
+    private void dispatch() {
+        if (dataLength > 0) {
+            String eventData = new String(data, 0, dataLength, UTF_8);
+            String eventName = event;
+            event = null;
+            dataLength = 0;
+            listener.onEvent(new ServerSentEvent(eventName, eventData));
+        }
+    }
+
+    private void appendToLine(byte[] buffer, int from, int to) {
+        int length = to - from;
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(buffer, from, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private void appendToData(byte[] buffer, int from, int to) {
+        int length = to - from;
+        if (dataLength + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + length));
+        }
+        System.arraycopy(buffer, from, data, dataLength, length);
+        dataLength += length;
+    }
+
+    private static boolean startsWith(byte[] buffer, int from, int to, byte[] prefix) {
+        if (to - from < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer[from + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Skips the same characters as {@link String#trim()}: bytes up to and including the space,
+     * which in UTF-8 never occur inside a multibyte character.
+     */
+    private static int trimStart(byte[] buffer, int from, int to) {
+        while (from < to && (buffer[from] & 0xFF) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(byte[] buffer, int from, int to) {
+        while (to > from && (buffer[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+}
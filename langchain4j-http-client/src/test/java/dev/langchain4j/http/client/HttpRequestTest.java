@@ -1,17 +1,17 @@
 package dev.langchain4j.http.client;
 
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.MethodSource;
+import static dev.langchain4j.http.client.HttpMethod.GET;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
-
-import static dev.langchain4j.http.client.HttpMethod.GET;
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 class HttpRequestTest {
 
@@ -20,7 +20,8 @@ class HttpRequestTest {
     void should_correctly_concatenate_baseUrl_and_path(String baseUrl, String path, String expectedUrl) {
 
         // when
-        String result = HttpRequest.builder().method(GET).url(baseUrl, path).build().url();
+        String result =
+                HttpRequest.builder().method(GET).url(baseUrl, path).build().url();
 
         // then
         assertThat(result).isEqualTo(expectedUrl);
@@ -33,8 +34,7 @@ class HttpRequestTest {
                 Arguments.of("http://example.com", "api", "http://example.com/api"),
                 Arguments.of("http://example.com/", "api", "http://example.com/api"),
                 Arguments.of("http://example.com/v1", "/api", "http://example.com/v1/api"),
-                Arguments.of("http://example.com/v1/", "/api", "http://example.com/v1/api")
-        );
+                Arguments.of("http://example.com/v1/", "/api", "http://example.com/v1/api"));
     }
 
     @Test
@@ -75,8 +75,7 @@ class HttpRequestTest {
         builder.addHeader("Content-Type", "application/json");
 
         // then
-        assertThat(builder.build().headers())
-                .containsEntry("Content-Type", List.of("application/json"));
+        assertThat(builder.build().headers()).containsEntry("Content-Type", List.of("application/json"));
     }
 
     @Test
@@ -89,8 +88,7 @@ class HttpRequestTest {
         builder.addHeader("Accept", "application/json", "application/xml");
 
         // then
-        assertThat(builder.build().headers())
-                .containsEntry("Accept", List.of("application/json", "application/xml"));
+        assertThat(builder.build().headers()).containsEntry("Accept", List.of("application/json", "application/xml"));
     }
 
     @Test
@@ -118,8 +116,7 @@ class HttpRequestTest {
         HttpRequest.Builder builder = HttpRequest.builder().method(GET).url("http://example.com");
         Map<String, String> headers = Map.of(
                 "Content-Type", "application/json",
-                "Accept", "text/plain"
-        );
+                "Accept", "text/plain");
 
         // when
         builder.addHeaders(headers);
@@ -170,8 +167,7 @@ class HttpRequestTest {
         HttpRequest.Builder builder = HttpRequest.builder().method(GET).url("http://example.com");
 
         // when
-        builder.addHeader(singleHeaderName, singleHeaderValues)
-                .addHeaders(mapHeaders);
+        builder.addHeader(singleHeaderName, singleHeaderValues).addHeaders(mapHeaders);
 
         // then
         assertThat(builder.build().headers()).containsExactlyInAnyOrderEntriesOf(expectedHeaders);
@@ -181,35 +177,27 @@ class HttpRequestTest {
         return Stream.of(
                 Arguments.of(
                         "Content-Type",
-                        new String[]{"application/json"},
+                        new String[] {"application/json"},
                         Map.of("Accept", "text/plain"),
                         Map.of(
                                 "Content-Type", List.of("application/json"),
-                                "Accept", List.of("text/plain")
-                        )
-                ),
+                                "Accept", List.of("text/plain"))),
                 Arguments.of(
                         "Accept",
-                        new String[]{"application/json", "application/xml"},
+                        new String[] {"application/json", "application/xml"},
                         Map.of("Content-Type", "application/json"),
                         Map.of(
                                 "Accept", List.of("application/json", "application/xml"),
-                                "Content-Type", List.of("application/json")
-                        )
-                ),
+                                "Content-Type", List.of("application/json"))),
                 Arguments.of(
                         "X-Custom-Header",
-                        new String[]{"value1"},
+                        new String[] {"value1"},
                         Map.of(
                                 "X-Custom-Header", "value2",
-                                "Accept", "application/json"
-                        ),
+                                "Accept", "application/json"),
                         Map.of(
                                 "X-Custom-Header", List.of("value2"),
-                                "Accept", List.of("application/json")
-                        )
-                )
-        );
+                                "Accept", List.of("application/json"))));
     }
 
     @Test
@@ -219,11 +207,35 @@ class HttpRequestTest {
         HttpRequest.Builder builder = HttpRequest.builder().method(GET).url("http://example.com");
 
         // when
-        builder.addHeader("Accept", "application/json")
-                .addHeaders(Map.of("Accept", "text/plain"));
+        builder.addHeader("Accept", "application/json").addHeaders(Map.of("Accept", "text/plain"));
 
         // then
-        assertThat(builder.build().headers())
-                .containsEntry("Accept", List.of("text/plain"));
+        assertThat(builder.build().headers()).containsEntry("Accept", List.of("text/plain"));
+    }
+
+    @Test
+    void should_provide_body_as_string_for_every_body_variant() {
+
+        // given
+        HttpRequest.Builder builder = HttpRequest.builder().method(GET).url("http://example.com");
+
+        // when
+        HttpRequest stringBody = builder.body("{\"a\":\"é\"}").build();
+        HttpRequest bytesBody = builder.body("{\"a\":\"é\"}".getBytes(UTF_8)).build();
+        HttpRequest writerBody = builder.body(outputStream -> outputStream.write("{\"a\":\"é\"}".getBytes(UTF_8)))
+                .build();
+
+        // then
+        assertThat(stringBody.body()).isEqualTo("{\"a\":\"é\"}");
+        assertThat(stringBody.bodyBytes()).isNull();
+        assertThat(stringBody.bodyWriter()).isNull();
+
+        assertThat(bytesBody.body()).isEqualTo("{\"a\":\"é\"}");
+        assertThat(bytesBody.bodyBytes()).isEqualTo("{\"a\":\"é\"}".getBytes(UTF_8));
+        assertThat(bytesBody.bodyWriter()).isNull();
+
+        assertThat(writerBody.body()).isEqualTo("{\"a\":\"é\"}");
+        assertThat(writerBody.bodyBytes()).isNull();
+        assertThat(writerBody.bodyWriter()).isNotNull();
     }
 }
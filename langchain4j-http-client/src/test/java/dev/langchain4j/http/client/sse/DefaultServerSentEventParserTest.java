@@ -129,6 +129,40 @@ class DefaultServerSentEventParserTest {
         verify(listener, never()).onEvent(any());
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"\n", "\r", "\r\n"})
+    void shouldSupportAllLineTerminators(String lineTerminator) {
+
+        // given
+        String input =
+                String.join(lineTerminator, "event: first", "data: line 1", "data: line 2", "", "data: second", "");
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(new ServerSentEvent("first", "line 1\nline 2"));
+        verify(listener).onEvent(new ServerSentEvent(null, "second"));
+    }
+
+    @Test
+    void shouldParseEventsSpanningMultipleReads() {
+
+        // given
+        String longData = "x".repeat(20_000);
+        String input = "data: héllo wörld \r\n\r\ndata: " + longData + "\r\n\r\nevent: last\r\ndata: ✓\r\n\r\n";
+        InputStream stream = new OneByteAtATimeInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(new ServerSentEvent(null, "héllo wörld"));
+        verify(listener).onEvent(new ServerSentEvent(null, longData));
+        verify(listener).onEvent(new ServerSentEvent("last", "✓"));
+    }
+
     @Test
     void shouldHandleIOException() {
 
@@ -147,4 +181,16 @@ class DefaultServerSentEventParserTest {
         // then
         verify(listener).onError(simulatedIoException);
     }
+
+    private static class OneByteAtATimeInputStream extends ByteArrayInputStream {
+
+        OneByteAtATimeInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
 }
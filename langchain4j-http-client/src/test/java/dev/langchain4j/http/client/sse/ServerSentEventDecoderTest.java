@@ -0,0 +1,55 @@
+package dev.langchain4j.http.client.sse;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class ServerSentEventDecoderTest {
+
+    @Test
+    void shouldDecodeEventsFromChunksOfAnySize() {
+
+        // given
+        ServerSentEventListener listener = mock(ServerSentEventListener.class);
+        ServerSentEventDecoder decoder = new ServerSentEventDecoder(listener);
+        byte[] body =
+                "data: héllo\r\n\r\nevent: custom\r\ndata: ✓\r\ndata: second line\r\n\r\ndata: last".getBytes(UTF_8);
+
+        // when
+        for (int i = 0; i < body.length; i += 3) {
+            ByteBuffer chunk = ByteBuffer.allocateDirect(Math.min(3, body.length - i));
+            chunk.put(body, i, chunk.capacity()).flip();
+            decoder.decode(chunk.asReadOnlyBuffer());
+        }
+        decoder.finish();
+
+        // then
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onEvent(new ServerSentEvent(null, "héllo"));
+        inOrder.verify(listener).onEvent(new ServerSentEvent("custom", "✓\nsecond line"));
+        inOrder.verify(listener).onEvent(new ServerSentEvent(null, "last"));
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void shouldDecodeHeapBuffersWithOffset() {
+
+        // given
+        ServerSentEventListener listener = mock(ServerSentEventListener.class);
+        ServerSentEventDecoder decoder = new ServerSentEventDecoder(listener);
+        ByteBuffer buffer =
+                ByteBuffer.wrap("xxdata: message\n\nyy".getBytes(UTF_8), 2, 17).slice();
+
+        // when
+        decoder.decode(buffer);
+
+        // then
+        inOrder(listener).verify(listener).onEvent(new ServerSentEvent(null, "message"));
+        verifyNoMoreInteractions(listener);
+    }
+}
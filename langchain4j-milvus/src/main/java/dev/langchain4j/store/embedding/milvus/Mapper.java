@@ -68,24 +68,51 @@ class Mapper {
                                                                 FieldDefinition fieldDefinition,
                                                                 ConsistencyLevelEnum consistencyLevel,
                                                                 boolean queryForVectorOnSearch) {
-        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+        Map<String, Embedding> idToEmbedding = queryForVectorOnSearch
+                ? queryEmbeddings(milvusClient, resultsWrapper, collectionName, fieldDefinition, consistencyLevel)
+                : new HashMap<>();
+        return toEmbeddingMatches(resultsWrapper, 0, fieldDefinition, idToEmbedding);
+    }
 
+    /**
+     * Queries the embeddings of all rows found by all the search vectors.
+     */
+    static Map<String, Embedding> queryEmbeddings(
+            MilvusServiceClient milvusClient,
+            SearchResultsWrapper resultsWrapper,
+            String collectionName,
+            FieldDefinition fieldDefinition,
+            ConsistencyLevelEnum consistencyLevel) {
         Map<String, Embedding> idToEmbedding = new HashMap<>();
-        if (queryForVectorOnSearch) {
-            try {
-                List<String> rowIds = (List<String>) resultsWrapper.getFieldWrapper(fieldDefinition.getIdFieldName()).getFieldData();
-                idToEmbedding.putAll(queryEmbeddings(milvusClient, collectionName, fieldDefinition, rowIds, consistencyLevel));
-            } catch (ParamException e) {
-                // There is no way to check if the result is empty or not.
-                // If the result is empty, the exception will be thrown.
-            }
+        try {
+            List<String> rowIds = (List<String>) resultsWrapper
+                    .getFieldWrapper(fieldDefinition.getIdFieldName())
+                    .getFieldData();
+            idToEmbedding.putAll(
+                    queryEmbeddings(milvusClient, collectionName, fieldDefinition, rowIds, consistencyLevel));
+        } catch (ParamException e) {
+            // There is no way to check if the result is empty or not.
+            // If the result is empty, the exception will be thrown.
         }
+        return idToEmbedding;
+    }
+
+    /**
+     * Converts the results of the search vector with the given index into {@link EmbeddingMatch}es.
+     */
+    static List<EmbeddingMatch<TextSegment>> toEmbeddingMatches(
+            SearchResultsWrapper resultsWrapper,
+            int vectorIndex,
+            FieldDefinition fieldDefinition,
+            Map<String, Embedding> idToEmbedding) {
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
 
-        for (int i = 0; i < resultsWrapper.getRowRecords().size(); i++) {
-            double score = resultsWrapper.getIDScore(0).get(i).getScore();
-            String rowId = resultsWrapper.getIDScore(0).get(i).getStrID();
+        List<RowRecord> rowRecords = resultsWrapper.getRowRecords(vectorIndex);
+        for (int i = 0; i < rowRecords.size(); i++) {
+            double score = resultsWrapper.getIDScore(vectorIndex).get(i).getScore();
+            String rowId = resultsWrapper.getIDScore(vectorIndex).get(i).getStrID();
             Embedding embedding = idToEmbedding.get(rowId);
-            TextSegment textSegment = toTextSegment(resultsWrapper.getRowRecords().get(i), fieldDefinition);
+            TextSegment textSegment = toTextSegment(rowRecords.get(i), fieldDefinition);
             EmbeddingMatch<TextSegment> embeddingMatch = new EmbeddingMatch<>(
                     RelevanceScore.fromCosineSimilarity(score),
                     rowId,
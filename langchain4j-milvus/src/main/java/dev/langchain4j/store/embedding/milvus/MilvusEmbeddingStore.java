@@ -20,7 +20,11 @@ import io.milvus.response.SearchResultsWrapper;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
@@ -33,8 +37,10 @@ import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecuto
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.insert;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.loadCollectionInMemory;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.removeForVector;
+import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildBatchSearchRequest;
 import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildSearchRequest;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateRandomIds;
+import static dev.langchain4j.store.embedding.milvus.Mapper.queryEmbeddings;
 import static dev.langchain4j.store.embedding.milvus.Mapper.toEmbeddingMatches;
 import static dev.langchain4j.store.embedding.milvus.Mapper.toMetadataJsons;
 import static dev.langchain4j.store.embedding.milvus.Mapper.toScalars;
@@ -222,6 +228,55 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(result);
     }
 
+    /**
+     * Searches for all requests having the same {@link Filter} using a single Milvus search request
+     * with multiple query vectors.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+
+        Map<Filter, List<Integer>> filterToRequestIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < embeddingSearchRequests.size(); i++) {
+            filterToRequestIndexes
+                    .computeIfAbsent(embeddingSearchRequests.get(i).filter(), ignored -> new ArrayList<>())
+                    .add(i);
+        }
+
+        List<EmbeddingSearchResult<TextSegment>> results =
+                new ArrayList<>(Collections.nCopies(embeddingSearchRequests.size(), null));
+
+        filterToRequestIndexes.forEach((filter, requestIndexes) -> {
+            List<List<Float>> vectors = new ArrayList<>(requestIndexes.size());
+            int maxResults = 0;
+            for (int requestIndex : requestIndexes) {
+                EmbeddingSearchRequest embeddingSearchRequest = embeddingSearchRequests.get(requestIndex);
+                vectors.add(embeddingSearchRequest.queryEmbedding().vectorAsList());
+                maxResults = Math.max(maxResults, embeddingSearchRequest.maxResults());
+            }
+
+            SearchParam searchParam = buildBatchSearchRequest(
+                    collectionName, fieldDefinition, vectors, filter, maxResults, metricType, consistencyLevel);
+
+            SearchResultsWrapper resultsWrapper = CollectionOperationsExecutor.search(milvusClient, searchParam);
+
+            Map<String, Embedding> idToEmbedding = retrieveEmbeddingsOnSearch
+                    ? queryEmbeddings(milvusClient, resultsWrapper, collectionName, fieldDefinition, consistencyLevel)
+                    : new HashMap<>();
+
+            for (int i = 0; i < requestIndexes.size(); i++) {
+                EmbeddingSearchRequest embeddingSearchRequest = embeddingSearchRequests.get(requestIndexes.get(i));
+                List<EmbeddingMatch<TextSegment>> result =
+                        toEmbeddingMatches(resultsWrapper, i, fieldDefinition, idToEmbedding).stream()
+                                .limit(embeddingSearchRequest.maxResults())
+                                .filter(match -> match.score() >= embeddingSearchRequest.minScore())
+                                .collect(toList());
+                results.set(requestIndexes.get(i), new EmbeddingSearchResult<>(result));
+            }
+        });
+
+        return results;
+    }
+
     private void addInternal(String id, Embedding embedding, TextSegment textSegment) {
         addAll(
                 singletonList(id),
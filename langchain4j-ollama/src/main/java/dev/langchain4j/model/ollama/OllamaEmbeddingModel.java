@@ -1,22 +1,24 @@
 package dev.langchain4j.model.ollama;
 
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatches;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
+import static dev.langchain4j.internal.RetryUtils.withRetry;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.ollama.spi.OllamaEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
-
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static dev.langchain4j.internal.RetryUtils.withRetry;
-import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
-import static dev.langchain4j.spi.ServiceHelper.loadFactories;
-
 /**
  * <a href="https://github.com/jmorganca/ollama/blob/main/docs/api.md">Ollama API reference</a>
  */
@@ -25,15 +27,42 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final OllamaClient client;
     private final String modelName;
     private final Integer maxRetries;
+    private final Integer maxSegmentsPerBatch;
+    private final Integer maxConcurrentBatches;
+
+    public OllamaEmbeddingModel(
+            HttpClientBuilder httpClientBuilder,
+            String baseUrl,
+            String modelName,
+            Duration timeout,
+            Integer maxRetries,
+            Boolean logRequests,
+            Boolean logResponses,
+            Map<String, String> customHeaders) {
+        this(
+                httpClientBuilder,
+                baseUrl,
+                modelName,
+                timeout,
+                maxRetries,
+                logRequests,
+                logResponses,
+                customHeaders,
+                null,
+                null);
+    }
 
-    public OllamaEmbeddingModel(HttpClientBuilder httpClientBuilder,
-                                String baseUrl,
-                                String modelName,
-                                Duration timeout,
-                                Integer maxRetries,
-                                Boolean logRequests,
-                                Boolean logResponses,
-                                Map<String, String> customHeaders) {
+    public OllamaEmbeddingModel(
+            HttpClientBuilder httpClientBuilder,
+            String baseUrl,
+            String modelName,
+            Duration timeout,
+            Integer maxRetries,
+            Boolean logRequests,
+            Boolean logResponses,
+            Map<String, String> customHeaders,
+            Integer maxSegmentsPerBatch,
+            Integer maxConcurrentBatches) {
         this.client = OllamaClient.builder()
                 .httpClientBuilder(httpClientBuilder)
                 .baseUrl(baseUrl)
@@ -44,6 +73,10 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .build();
         this.modelName = ensureNotBlank(modelName, "modelName");
         this.maxRetries = getOrDefault(maxRetries, 3);
+        this.maxSegmentsPerBatch =
+                ensureGreaterThanZero(getOrDefault(maxSegmentsPerBatch, Integer.MAX_VALUE), "maxSegmentsPerBatch");
+        this.maxConcurrentBatches =
+                ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
     }
 
     public static OllamaEmbeddingModelBuilder builder() {
@@ -55,19 +88,19 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<String> input = textSegments.stream()
-                .map(TextSegment::text)
-                .collect(Collectors.toList());
+        List<String> input = textSegments.stream().map(TextSegment::text).collect(Collectors.toList());
 
-        EmbeddingRequest request = EmbeddingRequest.builder()
-                .model(modelName)
-                .input(input)
-                .build();
+        List<List<String>> batches = partition(input, maxSegmentsPerBatch, null, null);
+
+        return embedInBatches(batches, this::embedTexts, maxConcurrentBatches);
+    }
+
+    private Response<List<Embedding>> embedTexts(List<String> input) {
+        EmbeddingRequest request =
+                EmbeddingRequest.builder().model(modelName).input(input).build();
         EmbeddingResponse response = withRetry(() -> client.embed(request), maxRetries);
-        List<Embedding> embeddings = response.getEmbeddings()
-                .stream()
-                .map(Embedding::from)
-                .collect(Collectors.toList());
+        List<Embedding> embeddings =
+                response.getEmbeddings().stream().map(Embedding::from).collect(Collectors.toList());
 
         return Response.from(embeddings);
     }
@@ -82,6 +115,8 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
+        private Integer maxSegmentsPerBatch;
+        private Integer maxConcurrentBatches;
 
         public OllamaEmbeddingModelBuilder() {
             // This is public so it can be extended
@@ -135,8 +170,43 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * Sets the maximum number of text segments sent to Ollama in a single request.
+         * By default, all text segments passed to {@code embedAll()} are sent in a single request.
+         *
+         * @param maxSegmentsPerBatch the maximum number of text segments per request
+         * @return builder
+         */
+        public OllamaEmbeddingModelBuilder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests that are sent at the same time when the text segments
+         * are split into several batches (see {@link #maxSegmentsPerBatch(Integer)}).
+         * Default: 1 (batches are sent one after another).
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent requests
+         * @return builder
+         */
+        public OllamaEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
         public OllamaEmbeddingModel build() {
-            return new OllamaEmbeddingModel(httpClientBuilder, baseUrl, modelName, timeout, maxRetries, logRequests, logResponses, customHeaders);
+            return new OllamaEmbeddingModel(
+                    httpClientBuilder,
+                    baseUrl,
+                    modelName,
+                    timeout,
+                    maxRetries,
+                    logRequests,
+                    logResponses,
+                    customHeaders,
+                    maxSegmentsPerBatch,
+                    maxConcurrentBatches);
         }
     }
 }
@@ -1,5 +1,16 @@
 package dev.langchain4j.model.openai;
 
+import static dev.langchain4j.internal.EmbeddingBatchUtils.embedInBatchesAsync;
+import static dev.langchain4j.internal.EmbeddingBatchUtils.partition;
+import static dev.langchain4j.internal.RetryUtils.withRetryAsync;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.DEFAULT_OPENAI_URL;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.DEFAULT_USER_AGENT;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.tokenUsageFrom;
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.time.Duration.ofSeconds;
+
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClientBuilder;
@@ -11,22 +22,10 @@ import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
 import dev.langchain4j.model.openai.spi.OpenAiEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
-import dev.langchain4j.model.output.TokenUsage;
-
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-
-import static dev.langchain4j.internal.RetryUtils.withRetry;
-import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
-import static dev.langchain4j.model.openai.InternalOpenAiHelper.DEFAULT_OPENAI_URL;
-import static dev.langchain4j.model.openai.InternalOpenAiHelper.DEFAULT_USER_AGENT;
-import static dev.langchain4j.model.openai.InternalOpenAiHelper.tokenUsageFrom;
-import static dev.langchain4j.spi.ServiceHelper.loadFactories;
-import static java.time.Duration.ofSeconds;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents an OpenAI embedding model, such as text-embedding-ada-002.
@@ -39,13 +38,16 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
     private final String user;
     private final Integer maxRetries;
     private final Integer maxSegmentsPerBatch;
+    private final Integer maxTokensPerBatch;
+    private final Integer maxConcurrentBatches;
     private final Tokenizer tokenizer;
 
     public OpenAiEmbeddingModel(OpenAiEmbeddingModelBuilder builder) {
 
         if ("demo".equals(builder.apiKey)) {
             // TODO remove before releasing 1.0.0
-            throw new RuntimeException("""
+            throw new RuntimeException(
+                    """
                     If you wish to continue using the 'demo' key, please specify the base URL explicitly:
                     OpenAiEmbeddingModel.builder().baseUrl("http://langchain4j.dev/demo/openai/v1").apiKey("demo").build();
                     """);
@@ -70,6 +72,12 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
         this.maxRetries = getOrDefault(builder.maxRetries, 3);
         this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 2048);
         ensureGreaterThanZero(this.maxSegmentsPerBatch, "maxSegmentsPerBatch");
+        this.maxTokensPerBatch = builder.maxTokensPerBatch;
+        if (this.maxTokensPerBatch != null) {
+            ensureGreaterThanZero(this.maxTokensPerBatch, "maxTokensPerBatch");
+        }
+        this.maxConcurrentBatches = getOrDefault(builder.maxConcurrentBatches, 1);
+        ensureGreaterThanZero(this.maxConcurrentBatches, "maxConcurrentBatches");
         this.tokenizer = getOrDefault(builder.tokenizer, OpenAiTokenizer::new);
     }
 
@@ -91,39 +99,13 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
 
         List<String> texts = textSegments.stream().map(TextSegment::text).toList();
 
-        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch);
-
-        return embedBatchedTexts(textBatches);
-    }
-
-    private List<List<String>> partition(List<String> inputList, int size) {
-        List<List<String>> result = new ArrayList<>();
-        for (int i = 0; i < inputList.size(); i += size) {
-            int fromIndex = i;
-            int toIndex = Math.min(i + size, inputList.size());
-            result.add(inputList.subList(fromIndex, toIndex));
-        }
-        return result;
-    }
+        List<List<String>> textBatches =
+                partition(texts, maxSegmentsPerBatch, maxTokensPerBatch, this::estimateTokenCount);
 
-    private Response<List<Embedding>> embedBatchedTexts(List<List<String>> textBatches) {
-        List<Response<List<Embedding>>> responses = new ArrayList<>();
-        for (List<String> batch : textBatches) {
-            Response<List<Embedding>> response = embedTexts(batch);
-            responses.add(response);
-        }
-        return Response.from(
-                responses.stream()
-                        .flatMap(response -> response.content().stream())
-                        .toList(),
-                responses.stream()
-                        .map(Response::tokenUsage)
-                        .filter(Objects::nonNull)
-                        .reduce(TokenUsage::add)
-                        .orElse(null));
+        return embedInBatchesAsync(textBatches, this::embedTexts, maxConcurrentBatches);
     }
 
-    private Response<List<Embedding>> embedTexts(List<String> texts) {
+    private CompletableFuture<Response<List<Embedding>>> embedTexts(List<String> texts) {
 
         EmbeddingRequest request = EmbeddingRequest.builder()
                 .input(texts)
@@ -132,7 +114,11 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
                 .user(user)
                 .build();
 
-        EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries);
+        return withRetryAsync(() -> client.embedding(request).executeAsync(), maxRetries)
+                .thenApply(OpenAiEmbeddingModel::toResponse);
+    }
+
+    private static Response<List<Embedding>> toResponse(EmbeddingResponse response) {
 
         List<Embedding> embeddings = response.data().stream()
                 .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
@@ -177,6 +163,8 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
         private Duration timeout;
         private Integer maxRetries;
         private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+        private Integer maxConcurrentBatches;
         private Boolean logRequests;
         private Boolean logResponses;
         private Tokenizer tokenizer;
@@ -266,6 +254,33 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
             return this;
         }
 
+        /**
+         * Sets the maximum number of tokens in a single request, as estimated by the {@link #tokenizer(Tokenizer)}.
+         * Batches are made smaller when needed to stay under this limit. By default, only
+         * {@link #maxSegmentsPerBatch(Integer)} is taken into account.
+         * At the time of writing, OpenAI accepts up to 300000 tokens per embedding request.
+         *
+         * @param maxTokensPerBatch the maximum number of tokens per request
+         * @return builder
+         */
+        public OpenAiEmbeddingModelBuilder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests that are sent at the same time when the text segments
+         * passed to {@code embedAll()} are split into several batches. Default: 1 (batches are sent one after another).
+         * The requests are sent asynchronously, so no thread is blocked per request.
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent requests
+         * @return builder
+         */
+        public OpenAiEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
         public OpenAiEmbeddingModel build() {
             return new OpenAiEmbeddingModel(this);
         }
@@ -0,0 +1,69 @@
+package dev.langchain4j.model.openai.internal;
+
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpRequest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+class AsyncRequestExecutor<Response> {
+
+    private final HttpClient httpClient;
+    private final HttpRequest httpRequest;
+    private final Class<Response> responseClass;
+
+    AsyncRequestExecutor(HttpClient httpClient, HttpRequest httpRequest, Class<Response> responseClass) {
+        this.httpClient = httpClient;
+        this.httpRequest = httpRequest;
+        this.responseClass = responseClass;
+    }
+
+    CompletableFuture<Response> execute() {
+        return httpClient
+                .executeAsync(httpRequest)
+                .thenApply(successfulHttpResponse -> Json.fromJson(successfulHttpResponse.bodyBytes(), responseClass));
+    }
+
+    AsyncResponseHandling onResponse(Consumer<Response> responseHandler) {
+
+        return new AsyncResponseHandling() {
+
+            @Override
+            public ErrorHandling onError(Consumer<Throwable> errorHandler) {
+                return new ErrorHandling() {
+
+                    @Override
+                    public ResponseHandle execute() {
+                        return AsyncRequestExecutor.this.execute(responseHandler, errorHandler);
+                    }
+                };
+            }
+
+            @Override
+            public ErrorHandling ignoreErrors() {
+                return new ErrorHandling() {
+
+                    @Override
+                    public ResponseHandle execute() {
+                        return AsyncRequestExecutor.this.execute(responseHandler, (e) -> {
+                            // intentionally ignoring because user called ignoreErrors()
+                        });
+                    }
+                };
+            }
+        };
+    }
+
+    private ResponseHandle execute(Consumer<Response> responseHandler, Consumer<Throwable> errorHandler) {
+        execute().whenComplete((response, error) -> {
+            if (error == null) {
+                responseHandler.accept(response); // do not handle exception, fail-fast
+            } else if (error instanceof CompletionException && error.getCause() != null) {
+                errorHandler.accept(error.getCause());
+            } else {
+                errorHandler.accept(error);
+            }
+        });
+        return new ResponseHandle();
+    }
+}
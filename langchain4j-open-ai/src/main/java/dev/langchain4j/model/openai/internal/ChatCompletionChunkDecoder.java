@@ -0,0 +1,212 @@
+package dev.langchain4j.model.openai.internal;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NULL;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionChoice;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
+import dev.langchain4j.model.openai.internal.chat.Delta;
+import dev.langchain4j.model.openai.internal.chat.Role;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the chunks of a streaming chat completion with the streaming JSON parser,
+ * instead of binding every chunk through the {@link Json#OBJECT_MAPPER}.
+ * <p>
+ * Only the chunks that carry text (the vast majority of them) are decoded this way.
+ * For any other chunk (e.g. one with tool calls or token usage), {@code null} is returned,
+ * and the chunk should be bound with {@link Json#fromJson(String, Class)}.
+ */
+final class ChatCompletionChunkDecoder {
+
+    private static final JsonFactory JSON_FACTORY = Json.OBJECT_MAPPER.getFactory();
+
+    private ChatCompletionChunkDecoder() {}
+
+    /**
+     * @param json a chunk of a streaming chat completion.
+     * @return the decoded chunk, or {@code null} if it cannot be decoded by this decoder.
+     */
+    static ChatCompletionResponse decode(String json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != START_OBJECT) {
+                return null;
+            }
+            ChatCompletionResponse.Builder builder = ChatCompletionResponse.builder();
+            while (parser.nextToken() == FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "id" -> {
+                        if (!isStringOrNull(token)) {
+                            return null;
+                        }
+                        builder.id(parser.getValueAsString());
+                    }
+                    case "created" -> {
+                        if (token == VALUE_NUMBER_INT) {
+                            builder.created(parser.getIntValue());
+                        } else if (token != VALUE_NULL) {
+                            return null;
+                        }
+                    }
+                    case "model" -> {
+                        if (!isStringOrNull(token)) {
+                            return null;
+                        }
+                        builder.model(parser.getValueAsString());
+                    }
+                    case "system_fingerprint" -> {
+                        if (!isStringOrNull(token)) {
+                            return null;
+                        }
+                        builder.systemFingerprint(parser.getValueAsString());
+                    }
+                    case "service_tier" -> {
+                        if (!isStringOrNull(token)) {
+                            return null;
+                        }
+                        builder.serviceTier(parser.getValueAsString());
+                    }
+                    case "choices" -> {
+                        if (token == START_ARRAY) {
+                            List<ChatCompletionChoice> choices = decodeChoices(parser);
+                            if (choices == null) {
+                                return null;
+                            }
+                            builder.choices(choices);
+                        } else if (token != VALUE_NULL) {
+                            return null;
+                        }
+                    }
+                    case "usage" -> {
+                        if (token != VALUE_NULL) {
+                            return null;
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (!parser.hasToken(END_OBJECT) || parser.nextToken() != null) {
+                return null;
+            }
+            return builder.build();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static List<ChatCompletionChoice> decodeChoices(JsonParser parser) throws IOException {
+        List<ChatCompletionChoice> choices = new ArrayList<>(1);
+        JsonToken token;
+        while ((token = parser.nextToken()) != END_ARRAY) {
+            if (token != START_OBJECT) {
+                return null;
+            }
+            ChatCompletionChoice.Builder builder = ChatCompletionChoice.builder();
+            while (parser.nextToken() == FIELD_NAME) {
+                String field = parser.currentName();
+                token = parser.nextToken();
+                switch (field) {
+                    case "index" -> {
+                        if (token == VALUE_NUMBER_INT) {
+                            builder.index(parser.getIntValue());
+                        } else if (token != VALUE_NULL) {
+                            return null;
+                        }
+                    }
+                    case "delta" -> {
+                        if (token == START_OBJECT) {
+                            Delta delta = decodeDelta(parser);
+                            if (delta == null) {
+                                return null;
+                            }
+                            builder.delta(delta);
+                        } else if (token != VALUE_NULL) {
+                            return null;
+                        }
+                    }
+                    case "finish_reason" -> {
+                        if (!isStringOrNull(token)) {
+                            return null;
+                        }
+                        builder.finishReason(parser.getValueAsString());
+                    }
+                    case "message" -> {
+                        if (token != VALUE_NULL) {
+                            return null;
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (!parser.hasToken(END_OBJECT)) {
+                return null;
+            }
+            choices.add(builder.build());
+        }
+        return choices;
+    }
+
+    private static Delta decodeDelta(JsonParser parser) throws IOException {
+        Delta.Builder builder = Delta.builder();
+        while (parser.nextToken() == FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "role" -> {
+                    if (token == VALUE_STRING) {
+                        Role role = role(parser.getText());
+                        if (role == null) {
+                            return null;
+                        }
+                        builder.role(role);
+                    } else if (token != VALUE_NULL) {
+                        return null;
+                    }
+                }
+                case "content" -> {
+                    if (!isStringOrNull(token)) {
+                        return null;
+                    }
+                    builder.content(parser.getValueAsString());
+                }
+                case "tool_calls", "function_call" -> {
+                    if (token != VALUE_NULL) {
+                        return null;
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (!parser.hasToken(END_OBJECT)) {
+            return null;
+        }
+        return builder.build();
+    }
+
+    private static Role role(String role) {
+        return switch (role) {
+            case "system" -> Role.SYSTEM;
+            case "user" -> Role.USER;
+            case "assistant" -> Role.ASSISTANT;
+            case "tool" -> Role.TOOL;
+            default -> null;
+        };
+    }
+
+    private static boolean isStringOrNull(JsonToken token) {
+        return token == VALUE_STRING || token == VALUE_NULL;
+    }
+}
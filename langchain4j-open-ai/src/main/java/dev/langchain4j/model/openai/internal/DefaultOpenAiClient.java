@@ -1,5 +1,10 @@
 package dev.langchain4j.model.openai.internal;
 
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static java.time.Duration.ofSeconds;
+
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.http.client.HttpClientBuilderLoader;
@@ -15,15 +20,9 @@ import dev.langchain4j.model.openai.internal.image.GenerateImagesRequest;
 import dev.langchain4j.model.openai.internal.image.GenerateImagesResponse;
 import dev.langchain4j.model.openai.internal.moderation.ModerationRequest;
 import dev.langchain4j.model.openai.internal.moderation.ModerationResponse;
-
 import java.util.HashMap;
 import java.util.Map;
 
-import static dev.langchain4j.http.client.HttpMethod.POST;
-import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
-import static java.time.Duration.ofSeconds;
-
 public class DefaultOpenAiClient extends OpenAiClient {
 
     private final HttpClient httpClient;
@@ -36,8 +35,10 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 getOrDefault(builder.httpClientBuilder, HttpClientBuilderLoader::loadHttpClientBuilder);
 
         HttpClient httpClient = httpClientBuilder
-                .connectTimeout(getOrDefault(getOrDefault(builder.connectTimeout, httpClientBuilder.connectTimeout()), ofSeconds(15)))
-                .readTimeout(getOrDefault(getOrDefault(builder.readTimeout, httpClientBuilder.readTimeout()), ofSeconds(60)))
+                .connectTimeout(getOrDefault(
+                        getOrDefault(builder.connectTimeout, httpClientBuilder.connectTimeout()), ofSeconds(15)))
+                .readTimeout(
+                        getOrDefault(getOrDefault(builder.readTimeout, httpClientBuilder.readTimeout()), ofSeconds(60)))
                 .build();
 
         if (builder.logRequests || builder.logResponses) {
@@ -86,7 +87,8 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "completions")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(CompletionRequest.builder().from(request).stream(false).build()))
+                .body(Json.toJson(
+                        CompletionRequest.builder().from(request).stream(false).build()))
                 .build();
 
         HttpRequest streamingHttpRequest = HttpRequest.builder()
@@ -94,7 +96,8 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "completions")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(CompletionRequest.builder().from(request).stream(true).build()))
+                .body(Json.toJson(
+                        CompletionRequest.builder().from(request).stream(true).build()))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, streamingHttpRequest, CompletionResponse.class);
@@ -108,7 +111,8 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "chat/completions")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(ChatCompletionRequest.builder().from(request).stream(false).build()))
+                .body(Json.toJson(ChatCompletionRequest.builder().from(request).stream(false)
+                        .build()))
                 .build();
 
         HttpRequest streamingHttpRequest = HttpRequest.builder()
@@ -116,7 +120,8 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "chat/completions")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(ChatCompletionRequest.builder().from(request).stream(true).build()))
+                .body(Json.toJson(ChatCompletionRequest.builder().from(request).stream(true)
+                        .build()))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, streamingHttpRequest, ChatCompletionResponse.class);
@@ -130,7 +135,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "embeddings")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(request))
+                .body(outputStream -> Json.writeJson(request, outputStream))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, EmbeddingResponse.class);
@@ -157,7 +162,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .url(baseUrl, "images/generations")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
-                .body(Json.toJson(request))
+                .body(outputStream -> Json.writeJson(request, outputStream))
                 .build();
 
         return new RequestExecutor<>(httpClient, httpRequest, GenerateImagesResponse.class);
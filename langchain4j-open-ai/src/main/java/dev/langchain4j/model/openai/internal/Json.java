@@ -1,16 +1,18 @@
 package dev.langchain4j.model.openai.internal;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
 class Json {
 
-    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
-            .enable(INDENT_OUTPUT)
-            .disable(FAIL_ON_IGNORED_PROPERTIES);
+    static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().enable(INDENT_OUTPUT).disable(FAIL_ON_IGNORED_PROPERTIES);
 
     static String toJson(Object o) {
         try {
@@ -20,6 +22,10 @@ class Json {
         }
     }
 
+    static void writeJson(Object o, OutputStream outputStream) throws IOException {
+        OBJECT_MAPPER.writeValue(outputStream, o);
+    }
+
     static <T> T fromJson(String json, Class<T> type) {
         try {
             return OBJECT_MAPPER.readValue(json, type);
@@ -27,4 +33,14 @@ class Json {
             throw new RuntimeException(jpe);
         }
     }
+
+    static <T> T fromJson(byte[] json, Class<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(json, type);
+        } catch (JsonProcessingException jpe) {
+            throw new RuntimeException(jpe);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
 }
@@ -4,6 +4,7 @@ import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import java.util.function.Consumer;
 
 class StreamingRequestExecutor<Response> {
@@ -106,7 +107,7 @@ class StreamingRequestExecutor<Response> {
                         errorHandler.accept(new RuntimeException(event.data()));
                         return;
                     }
-                    Response response = Json.fromJson(event.data(), responseClass);
+                    Response response = parse(event.data());
                     if (response != null) {
                         partialResponseHandler.accept(response); // do not handle exception, fail-fast
                     }
@@ -130,4 +131,14 @@ class StreamingRequestExecutor<Response> {
 
         return new ResponseHandle();
     }
+
+    private Response parse(String data) {
+        if (responseClass == ChatCompletionResponse.class) {
+            ChatCompletionResponse chunk = ChatCompletionChunkDecoder.decode(data);
+            if (chunk != null) {
+                return responseClass.cast(chunk);
+            }
+        }
+        return Json.fromJson(data, responseClass);
+    }
 }
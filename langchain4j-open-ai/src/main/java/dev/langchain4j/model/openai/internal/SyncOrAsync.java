@@ -1,10 +1,18 @@
 package dev.langchain4j.model.openai.internal;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public interface SyncOrAsync<ResponseContent> {
 
     ResponseContent execute();
 
+    /**
+     * Executes the request without blocking the calling thread.
+     *
+     * @return a future of the response, completed exceptionally if the request fails.
+     */
+    CompletableFuture<ResponseContent> executeAsync();
+
     AsyncResponseHandling onResponse(Consumer<ResponseContent> responseHandler);
 }
@@ -18,6 +18,6 @@ class SyncRequestExecutor<Response> {
 
     Response execute() {
         SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
-        return Json.fromJson(successfulHttpResponse.body(), responseClass);
+        return Json.fromJson(successfulHttpResponse.bodyBytes(), responseClass);
     }
 }
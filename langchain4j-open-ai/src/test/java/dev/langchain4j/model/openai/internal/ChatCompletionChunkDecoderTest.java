@@ -0,0 +1,60 @@
+package dev.langchain4j.model.openai.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
+import dev.langchain4j.model.openai.internal.chat.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ChatCompletionChunkDecoderTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"system_fingerprint\":\"fp_1\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"\",\"refusal\":null},\"logprobs\":null,\"finish_reason\":null}]}",
+                "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\" Hello \\\"world\\\" \\u00e9\\n\"},\"finish_reason\":null}]}",
+                "{\"id\":\"chatcmpl-1\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"service_tier\":\"default\",\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}],\"usage\":null}",
+                "{\"id\":\"chatcmpl-1\",\"choices\":[]}",
+                "{\"id\":\"chatcmpl-1\",\"extra\":{\"nested\":[1,{\"a\":true}]},\"choices\":[{\"delta\":{\"content\":\"a\",\"extra\":[]}}]}"
+            })
+    void should_decode_text_chunks_like_object_mapper(String json) {
+
+        // when
+        ChatCompletionResponse decoded = ChatCompletionChunkDecoder.decode(json);
+
+        // then
+        assertThat(decoded).isNotNull().isEqualTo(Json.fromJson(json, ChatCompletionResponse.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "{\"id\":\"chatcmpl-1\",\"choices\":[{\"index\":0,\"delta\":{\"tool_calls\":[{\"index\":0,\"id\":\"call_1\",\"type\":\"function\",\"function\":{\"name\":\"f\",\"arguments\":\"\"}}]}}]}",
+                "{\"id\":\"chatcmpl-1\",\"choices\":[],\"usage\":{\"prompt_tokens\":1,\"completion_tokens\":2,\"total_tokens\":3}}",
+                "{\"id\":\"chatcmpl-1\",\"choices\":[{\"delta\":{\"role\":\"function\"}}]}",
+                "{\"id\":1}",
+                "[]",
+                "{\"id\":\"chatcmpl-1\"",
+                "not json"
+            })
+    void should_not_decode_other_chunks(String json) {
+
+        assertThat(ChatCompletionChunkDecoder.decode(json)).isNull();
+    }
+
+    @Test
+    void should_decode_content_and_role() {
+
+        // given
+        String json = "{\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"Hi\"}}]}";
+
+        // when
+        ChatCompletionResponse decoded = ChatCompletionChunkDecoder.decode(json);
+
+        // then
+        assertThat(decoded.choices().get(0).delta().role()).isEqualTo(Role.ASSISTANT);
+        assertThat(decoded.choices().get(0).delta().content()).isEqualTo("Hi");
+    }
+}
@@ -0,0 +1,100 @@
+package dev.langchain4j.model.openai.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpMethod;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+class RequestExecutorTest {
+
+    private static final HttpRequest HTTP_REQUEST = HttpRequest.builder()
+            .url("http://localhost:8080/embeddings")
+            .method(HttpMethod.POST)
+            .body("{}")
+            .build();
+
+    @Test
+    void should_execute_request_asynchronously() throws Exception {
+
+        // given
+        CompletableFuture<SuccessfulHttpResponse> httpResponse = new CompletableFuture<>();
+        RequestExecutor<EmbeddingResponse> executor =
+                new RequestExecutor<>(new AsyncHttpClient(httpResponse), HTTP_REQUEST, EmbeddingResponse.class);
+        CompletableFuture<EmbeddingResponse> handledResponse = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<EmbeddingResponse> response = executor.executeAsync();
+        executor.onResponse(handledResponse::complete)
+                .onError(handledResponse::completeExceptionally)
+                .execute();
+
+        // then
+        assertThat(response).isNotDone();
+        assertThat(handledResponse).isNotDone();
+
+        // when
+        httpResponse.complete(SuccessfulHttpResponse.builder()
+                .statusCode(200)
+                .body("{\"model\":\"text-embedding-3-small\"}")
+                .build());
+
+        // then
+        assertThat(response.get().model()).isEqualTo("text-embedding-3-small");
+        assertThat(handledResponse.get().model()).isEqualTo("text-embedding-3-small");
+    }
+
+    @Test
+    void should_pass_unwrapped_error_to_error_handler() {
+
+        // given
+        HttpException httpException = new HttpException(429, "Too many requests");
+        RequestExecutor<EmbeddingResponse> executor = new RequestExecutor<>(
+                new AsyncHttpClient(CompletableFuture.failedFuture(httpException)),
+                HTTP_REQUEST,
+                EmbeddingResponse.class);
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        // when
+        executor.onResponse(response -> {}).onError(error::complete).execute();
+
+        // then
+        assertThat(error).isCompletedWithValue(httpException);
+        assertThatThrownBy(() -> executor.executeAsync().get())
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasCause(httpException);
+    }
+
+    private static class AsyncHttpClient implements HttpClient {
+
+        private final CompletableFuture<SuccessfulHttpResponse> response;
+
+        AsyncHttpClient(CompletableFuture<SuccessfulHttpResponse> response) {
+            this.response = response;
+        }
+
+        @Override
+        public SuccessfulHttpResponse execute(HttpRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+            return response;
+        }
+
+        @Override
+        public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
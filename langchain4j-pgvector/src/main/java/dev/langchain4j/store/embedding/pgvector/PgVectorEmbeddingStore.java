@@ -274,38 +274,13 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        Embedding referenceEmbedding = request.queryEmbedding();
-        int maxResults = request.maxResults();
-        double minScore = request.minScore();
-        Filter filter = request.filter();
-
         List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
         try (Connection connection = getConnection()) {
-            String referenceVector = Arrays.toString(referenceEmbedding.vector());
-            String whereClause = (filter == null) ? "" : metadataHandler.whereClause(filter);
-            whereClause = (whereClause.isEmpty()) ? "" : "AND " + whereClause;
-            String query = String.format(
-                    "SELECT (2 - (embedding <=> '%s')) / 2 AS score, embedding_id, embedding, text, %s FROM %s " +
-                    "WHERE round(cast(float8 (embedding <=> '%s') as numeric), 8) <= round(2 - 2 * %s, 8) %s " +                    "ORDER BY embedding <=> '%s' LIMIT %s;",
-                    referenceVector, join(",", metadataHandler.columnsNames()), table, referenceVector,
-                    minScore, whereClause, referenceVector, maxResults
-            );
+            String query = searchQuery(request, "") + ";";
             try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
                 try (ResultSet resultSet = selectStmt.executeQuery()) {
                     while (resultSet.next()) {
-                        double score = resultSet.getDouble("score");
-                        String embeddingId = resultSet.getString("embedding_id");
-
-                        PGvector vector = (PGvector) resultSet.getObject("embedding");
-                        Embedding embedding = new Embedding(vector.toArray());
-
-                        String text = resultSet.getString("text");
-                        TextSegment textSegment = null;
-                        if (isNotNullOrBlank(text)) {
-                            Metadata metadata = metadataHandler.fromResultSet(resultSet);
-                            textSegment = TextSegment.from(text, metadata);
-                        }
-                        result.add(new EmbeddingMatch<>(score, embeddingId, embedding, textSegment));
+                        result.add(toEmbeddingMatch(resultSet));
                     }
                 }
             }
@@ -315,6 +290,76 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(result);
     }
 
+    /**
+     * Performs all searches using a single SQL statement (a {@code UNION ALL} of the individual searches),
+     * so that only one connection and one database round trip are needed.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> requests) {
+        if (requests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<List<EmbeddingMatch<TextSegment>>> results = new ArrayList<>(requests.size());
+        List<String> queries = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(new ArrayList<>());
+            queries.add("(" + searchQuery(requests.get(i), i + " AS query_index, ") + ")");
+        }
+        try (Connection connection = getConnection()) {
+            String query = join(" UNION ALL ", queries) + " ORDER BY query_index, score DESC;";
+            try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
+                try (ResultSet resultSet = selectStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        results.get(resultSet.getInt("query_index")).add(toEmbeddingMatch(resultSet));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+        return results.stream().map(EmbeddingSearchResult::new).collect(toList());
+    }
+
+    private String searchQuery(EmbeddingSearchRequest request, String extraColumns) {
+        Embedding referenceEmbedding = request.queryEmbedding();
+        int maxResults = request.maxResults();
+        double minScore = request.minScore();
+        Filter filter = request.filter();
+
+        String referenceVector = Arrays.toString(referenceEmbedding.vector());
+        String whereClause = (filter == null) ? "" : metadataHandler.whereClause(filter);
+        whereClause = (whereClause.isEmpty()) ? "" : "AND " + whereClause;
+        return String.format(
+                "SELECT %s(2 - (embedding <=> '%s')) / 2 AS score, embedding_id, embedding, text, %s FROM %s "
+                        + "WHERE round(cast(float8 (embedding <=> '%s') as numeric), 8) <= round(2 - 2 * %s, 8) %s "
+                        + "ORDER BY embedding <=> '%s' LIMIT %s",
+                extraColumns,
+                referenceVector,
+                join(",", metadataHandler.columnsNames()),
+                table,
+                referenceVector,
+                minScore,
+                whereClause,
+                referenceVector,
+                maxResults);
+    }
+
+    private EmbeddingMatch<TextSegment> toEmbeddingMatch(ResultSet resultSet) throws SQLException {
+        double score = resultSet.getDouble("score");
+        String embeddingId = resultSet.getString("embedding_id");
+
+        PGvector vector = (PGvector) resultSet.getObject("embedding");
+        Embedding embedding = new Embedding(vector.toArray());
+
+        String text = resultSet.getString("text");
+        TextSegment textSegment = null;
+        if (isNotNullOrBlank(text)) {
+            Metadata metadata = metadataHandler.fromResultSet(resultSet);
+            textSegment = TextSegment.from(text, metadata);
+        }
+        return new EmbeddingMatch<>(score, embeddingId, embedding, textSegment);
+    }
+
     private void addInternal(String id, Embedding embedding, TextSegment embedded) {
         addAll(
                 singletonList(id),
@@ -1,23 +1,24 @@
 package dev.langchain4j.classification;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Comparator.comparingDouble;
+import static java.util.stream.Collectors.toList;
+
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.RelevanceScore;
-
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
-import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-import static java.util.Comparator.comparingDouble;
-import static java.util.stream.Collectors.toList;
-
 /**
  * A {@link TextClassifier} that uses an {@link EmbeddingModel} and predefined examples to perform classification.
  * Classification is done by comparing the embedding of the text being classified with the embeddings of predefined examples.
@@ -48,8 +49,10 @@ import static java.util.stream.Collectors.toList;
  */
 public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
 
+    private static final SimilarityKernel KERNEL = SimilarityKernels.defaultKernel();
+
     private final EmbeddingModel embeddingModel;
-    private final Map<L, List<Embedding>> exampleEmbeddingsByLabel;
+    private final Map<L, List<ExampleEmbedding>> exampleEmbeddingsByLabel;
     private final int maxResults;
     private final double minScore;
     private final double meanToMaxScoreRatio;
@@ -62,8 +65,8 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
      * @param examplesByLabel A map containing examples of texts for each label.
      *                        The more examples, the better. Examples can be easily generated by the LLM.
      */
-    public EmbeddingModelTextClassifier(EmbeddingModel embeddingModel,
-                                        Map<L, ? extends Collection<String>> examplesByLabel) {
+    public EmbeddingModelTextClassifier(
+            EmbeddingModel embeddingModel, Map<L, ? extends Collection<String>> examplesByLabel) {
         this(embeddingModel, examplesByLabel, 1, 0, 0.5);
     }
 
@@ -88,22 +91,21 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
      *                            A value of 0.5 means that both scores will contribute equally to the final score.
      *                            A value of 1 means that only the max score will be used for ranking labels.
      */
-    public EmbeddingModelTextClassifier(EmbeddingModel embeddingModel,
-                                        Map<L, ? extends Collection<String>> examplesByLabel,
-                                        int maxResults,
-                                        double minScore,
-                                        double meanToMaxScoreRatio) {
+    public EmbeddingModelTextClassifier(
+            EmbeddingModel embeddingModel,
+            Map<L, ? extends Collection<String>> examplesByLabel,
+            int maxResults,
+            double minScore,
+            double meanToMaxScoreRatio) {
         this.embeddingModel = ensureNotNull(embeddingModel, "embeddingModel");
         ensureNotNull(examplesByLabel, "examplesByLabel");
 
         this.exampleEmbeddingsByLabel = new HashMap<>();
-        examplesByLabel.forEach((label, examples) ->
-                exampleEmbeddingsByLabel.put(label, embeddingModel.embedAll(
-                        examples.stream()
-                                .map(TextSegment::from)
-                                .collect(toList())).content()
-                )
-        );
+        examplesByLabel.forEach((label, examples) -> exampleEmbeddingsByLabel.put(
+                label,
+                embeddingModel.embedAll(examples.stream().map(TextSegment::from).collect(toList())).content().stream()
+                        .map(ExampleEmbedding::from)
+                        .collect(toList())));
 
         this.maxResults = ensureGreaterThanZero(maxResults, "maxResults");
         this.minScore = ensureBetween(minScore, 0.0, 1.0, "minScore");
@@ -113,15 +115,15 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
     @Override
     public ClassificationResult<L> classifyWithScores(String text) {
 
-        Embedding textEmbedding = embeddingModel.embed(text).content();
+        float[] textVector = embeddingModel.embed(text).content().vector();
+        double textNorm = KERNEL.norm(textVector, 0, textVector.length);
 
         List<ScoredLabel<L>> scoredLabels = new ArrayList<>();
         exampleEmbeddingsByLabel.forEach((label, exampleEmbeddings) -> {
-
             double meanScore = 0;
             double maxScore = 0;
-            for (Embedding exampleEmbedding : exampleEmbeddings) {
-                double cosineSimilarity = CosineSimilarity.between(textEmbedding, exampleEmbedding);
+            for (ExampleEmbedding exampleEmbedding : exampleEmbeddings) {
+                double cosineSimilarity = exampleEmbedding.cosineSimilarity(textVector, textNorm);
                 double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
                 meanScore += score;
                 maxScore = Math.max(score, maxScore);
@@ -134,16 +136,34 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
             }
         });
 
-        return new ClassificationResult<>(
-                scoredLabels.stream()
-                        // sorting in descending order to return highest score first
-                        .sorted(comparingDouble(classificationResult -> 1 - classificationResult.score()))
-                        .limit(maxResults)
-                        .collect(toList())
-        );
+        return new ClassificationResult<>(scoredLabels.stream()
+                // sorting in descending order to return highest score first
+                .sorted(comparingDouble(classificationResult -> 1 - classificationResult.score()))
+                .limit(maxResults)
+                .collect(toList()));
     }
 
     private double aggregatedScore(double meanScore, double maxScore) {
         return (meanToMaxScoreRatio * meanScore) + ((1 - meanToMaxScoreRatio) * maxScore);
     }
+
+    /**
+     * The embedding of an example, with its norm computed once, so that classification only computes dot products.
+     */
+    private record ExampleEmbedding(float[] vector, double norm) {
+
+        private static ExampleEmbedding from(Embedding embedding) {
+            float[] vector = embedding.vector();
+            return new ExampleEmbedding(vector, KERNEL.norm(vector, 0, vector.length));
+        }
+
+        private double cosineSimilarity(float[] textVector, double textNorm) {
+            if (textVector.length != vector.length) {
+                throw illegalArgument(
+                        "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        textVector.length, vector.length);
+            }
+            return KERNEL.cosineSimilarity(textVector, 0, textNorm, vector, 0, norm, vector.length);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static java.nio.file.Files.isDirectory;
 import static java.nio.file.Files.isRegularFile;
+import static java.util.stream.Collectors.toCollection;
 
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
@@ -19,6 +20,7 @@ import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -482,11 +484,157 @@ public class FileSystemDocumentLoader {
         return loadDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
     }
 
+    /**
+     * Lazily loads matching {@link Document}s from the specified directory. Does not use recursion.
+     * <br>
+     * Unlike {@link #loadDocuments(Path, PathMatcher, DocumentParser)}, files are only read and parsed
+     * when the returned {@link Stream} is consumed, so that only the documents currently being processed
+     * are held in memory. The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths (relative to {@code directoryPath}) match
+     *                       the provided {@link PathMatcher} will be loaded.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see dev.langchain4j.data.document.source.FileSystemSource FileSystemSource
+     */
+    public static Stream<Document> streamDocuments(
+            Path directoryPath, PathMatcher pathMatcher, DocumentParser documentParser) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        try {
+            return streamDocuments(Files.list(directoryPath), pathMatcher, directoryPath, documentParser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Lazily loads matching {@link Document}s from the specified directory, using the default {@link DocumentParser}.
+     * See {@link #streamDocuments(Path, PathMatcher, DocumentParser)}.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @param pathMatcher   Only files whose paths (relative to {@code directoryPath}) match
+     *                      the provided {@link PathMatcher} will be loaded.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocuments(Path directoryPath, PathMatcher pathMatcher) {
+        return streamDocuments(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Lazily loads all {@link Document}s from the specified directory.
+     * See {@link #streamDocuments(Path, PathMatcher, DocumentParser)}.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocuments(Path directoryPath, DocumentParser documentParser) {
+        return streamDocuments(directoryPath, (path) -> true, documentParser);
+    }
+
+    /**
+     * Lazily loads all {@link Document}s from the specified directory, using the default {@link DocumentParser}.
+     * See {@link #streamDocuments(Path, PathMatcher, DocumentParser)}.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocuments(Path directoryPath) {
+        return streamDocuments(directoryPath, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Lazily and recursively loads matching {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * Unlike {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)}, files are only read and parsed
+     * when the returned {@link Stream} is consumed, so that only the documents currently being processed
+     * are held in memory. The returned {@code Stream} holds open directories and must be closed,
+     * for example using a try-with-resources statement.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths (relative to {@code directoryPath}) match
+     *                       the provided {@link PathMatcher} will be loaded.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see dev.langchain4j.data.document.source.FileSystemSource FileSystemSource
+     */
+    public static Stream<Document> streamDocumentsRecursively(
+            Path directoryPath, PathMatcher pathMatcher, DocumentParser documentParser) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        try {
+            return streamDocuments(Files.walk(directoryPath), pathMatcher, directoryPath, documentParser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Lazily and recursively loads matching {@link Document}s from the specified directory and its subdirectories,
+     * using the default {@link DocumentParser}.
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser)}.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @param pathMatcher   Only files whose paths (relative to {@code directoryPath}) match
+     *                      the provided {@link PathMatcher} will be loaded.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath, PathMatcher pathMatcher) {
+        return streamDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Lazily and recursively loads all {@link Document}s from the specified directory and its subdirectories.
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser)}.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath, DocumentParser documentParser) {
+        return streamDocumentsRecursively(directoryPath, (path) -> true, documentParser);
+    }
+
+    /**
+     * Lazily and recursively loads all {@link Document}s from the specified directory and its subdirectories,
+     * using the default {@link DocumentParser}.
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser)}.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath) {
+        return streamDocumentsRecursively(directoryPath, DEFAULT_DOCUMENT_PARSER);
+    }
+
     private static List<Document> loadDocuments(
             Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot, DocumentParser documentParser) {
-        List<Document> documents = new ArrayList<>();
+        return streamDocuments(pathStream, pathMatcher, pathMatcherRoot, documentParser)
+                .collect(toCollection(ArrayList::new));
+    }
 
-        pathStream
+    private static Stream<Document> streamDocuments(
+            Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot, DocumentParser documentParser) {
+        return pathStream
                 .filter(Files::isRegularFile)
                 // converting absolute path into relative before using pathMatcher
                 // because patterns defined in pathMatcher are relative to pathMatcherRoot (directoryPath)
@@ -494,18 +642,18 @@ public class FileSystemDocumentLoader {
                 .filter(pathMatcher::matches)
                 // converting relative path back into absolute before loading document
                 .map(pathMatcherRoot::resolve)
-                .forEach(file -> {
+                .map(file -> {
                     try {
-                        Document document = loadDocument(file, documentParser);
-                        documents.add(document);
+                        return loadDocument(file, documentParser);
                     } catch (BlankDocumentException ignored) {
                         // blank/empty documents are ignored
+                        return null;
                     } catch (Exception e) {
                         String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
                         log.warn("Failed to load '{}': {}", file, message);
+                        return null;
                     }
-                });
-
-        return documents;
+                })
+                .filter(Objects::nonNull);
     }
 }
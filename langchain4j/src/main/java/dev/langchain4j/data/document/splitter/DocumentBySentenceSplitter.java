@@ -4,11 +4,10 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.Tokenizer;
+import java.io.InputStream;
 import opennlp.tools.sentdetect.SentenceDetectorME;
 import opennlp.tools.sentdetect.SentenceModel;
 
-import java.io.InputStream;
-
 /**
  * Splits the provided {@link Document} into sentences and attempts to fit as many sentences as possible
  * into a single {@link TextSegment}, adhering to the limit set by {@code maxSegmentSize}.
@@ -31,31 +30,28 @@ import java.io.InputStream;
 public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
     private final SentenceModel sentenceModel;
+    // SentenceDetectorME is not thread-safe, so each thread gets its own instance
+    private final ThreadLocal<SentenceDetectorME> sentenceDetector =
+            ThreadLocal.withInitial(this::createSentenceDetector);
 
-    public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
-                                      int maxOverlapSizeInChars) {
+    public DocumentBySentenceSplitter(int maxSegmentSizeInChars, int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
         this.sentenceModel = createSentenceModel();
     }
 
-    public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
-                                      int maxOverlapSizeInChars,
-                                      DocumentSplitter subSplitter) {
+    public DocumentBySentenceSplitter(
+            int maxSegmentSizeInChars, int maxOverlapSizeInChars, DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
         this.sentenceModel = createSentenceModel();
     }
 
-    public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
-                                      int maxOverlapSizeInTokens,
-                                      Tokenizer tokenizer) {
+    public DocumentBySentenceSplitter(int maxSegmentSizeInTokens, int maxOverlapSizeInTokens, Tokenizer tokenizer) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, null);
         this.sentenceModel = createSentenceModel();
     }
 
-    public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
-                                      int maxOverlapSizeInTokens,
-                                      Tokenizer tokenizer,
-                                      DocumentSplitter subSplitter) {
+    public DocumentBySentenceSplitter(
+            int maxSegmentSizeInTokens, int maxOverlapSizeInTokens, Tokenizer tokenizer, DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, subSplitter);
         this.sentenceModel = createSentenceModel();
     }
@@ -69,10 +65,18 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
         }
     }
 
+    private SentenceDetectorME createSentenceDetector() {
+        return new SentenceDetectorME(sentenceModel);
+    }
+
     @Override
     public String[] split(String text) {
-        SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
-        return sentenceDetector.sentDetect(text);
+        return sentenceDetector.get().sentDetect(text);
+    }
+
+    @Override
+    boolean splitsIntoSentences() {
+        return true;
     }
 
     @Override
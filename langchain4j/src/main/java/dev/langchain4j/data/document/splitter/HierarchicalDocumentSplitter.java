@@ -1,36 +1,44 @@
 package dev.langchain4j.data.document.splitter;
 
+import static dev.langchain4j.internal.Utils.firstChars;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.Tokenizer;
-
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import static dev.langchain4j.internal.Utils.firstChars;
-import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
-import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-
 /**
  * Base class for hierarchical document splitters.
  *
  * <p>Extends {@link DocumentSplitter} and provides machinery for sub-splitting documents
  * when a single segment is too long.
+ *
+ * <p>Instances are thread-safe (as long as {@link #split(String)} is), so documents can be split in parallel
+ * using {@link #splitAll(List, java.util.concurrent.Executor)}.
  */
 public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
-    private HierarchicalDocumentSplitter overlapSentenceSplitter;
+    private volatile HierarchicalDocumentSplitter overlapSentenceSplitter;
 
     private HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
-        if (overlapSentenceSplitter == null) {
-            overlapSentenceSplitter = new DocumentBySentenceSplitter(1, 0, null, null);
+        HierarchicalDocumentSplitter splitter = overlapSentenceSplitter;
+        if (splitter == null) {
+            synchronized (this) {
+                splitter = overlapSentenceSplitter;
+                if (splitter == null) {
+                    splitter = new DocumentBySentenceSplitter(1, 0, null, null);
+                    overlapSentenceSplitter = splitter;
+                }
+            }
         }
-        return overlapSentenceSplitter;
+        return splitter;
     }
 
     private static final String INDEX = "index";
@@ -57,9 +65,8 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
      * @param maxOverlapSizeInChars The maximum size of the overlap between segments in characters.
      * @param subSplitter           The sub-splitter to use when a single segment is too long.
      */
-    protected HierarchicalDocumentSplitter(int maxSegmentSizeInChars,
-                                           int maxOverlapSizeInChars,
-                                           HierarchicalDocumentSplitter subSplitter) {
+    protected HierarchicalDocumentSplitter(
+            int maxSegmentSizeInChars, int maxOverlapSizeInChars, HierarchicalDocumentSplitter subSplitter) {
         this(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
     }
 
@@ -70,9 +77,8 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
      * @param maxOverlapSizeInTokens The maximum size of the overlap between segments in tokens.
      * @param tokenizer              The tokenizer to use to estimate the number of tokens in a text.
      */
-    protected HierarchicalDocumentSplitter(int maxSegmentSizeInTokens,
-                                           int maxOverlapSizeInTokens,
-                                           Tokenizer tokenizer) {
+    protected HierarchicalDocumentSplitter(
+            int maxSegmentSizeInTokens, int maxOverlapSizeInTokens, Tokenizer tokenizer) {
         this(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, null);
     }
 
@@ -84,10 +90,8 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
      * @param tokenizer              The tokenizer to use to estimate the number of tokens in a text.
      * @param subSplitter            The sub-splitter to use when a single segment is too long.
      */
-    protected HierarchicalDocumentSplitter(int maxSegmentSizeInTokens,
-                                           int maxOverlapSizeInTokens,
-                                           Tokenizer tokenizer,
-                                           DocumentSplitter subSplitter) {
+    protected HierarchicalDocumentSplitter(
+            int maxSegmentSizeInTokens, int maxOverlapSizeInTokens, Tokenizer tokenizer, DocumentSplitter subSplitter) {
         this.maxSegmentSize = ensureGreaterThanZero(maxSegmentSizeInTokens, "maxSegmentSize");
         this.maxOverlapSize = ensureBetween(maxOverlapSizeInTokens, 0, maxSegmentSize, "maxOverlapSize");
         this.tokenizer = tokenizer;
@@ -132,7 +136,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                segmentBuilder.append(part, partSize);
                 continue;
             }
 
@@ -142,14 +146,15 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
                 if (!segmentText.equals(overlap)) {
                     segments.add(createSegment(segmentText, document, index.getAndIncrement()));
 
-                    overlap = overlapFrom(segmentText);
+                    List<String> overlapSentences = overlapFrom(segmentBuilder);
+                    overlap = String.join(joinDelimiter(), overlapSentences).trim();
 
                     segmentBuilder.reset();
-                    segmentBuilder.append(overlap);
+                    overlapSentences.forEach(segmentBuilder::append);
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
+                        segmentBuilder.append(part, partSize);
                         continue;
                     }
                 }
@@ -158,26 +163,27 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
             // Enforce that we have a sub-splitter defined.
             if (subSplitter == null) {
                 throw new RuntimeException(String.format(
-                        "The text \"%s...\" (%s %s long) doesn't fit into the maximum segment size (%s %s), " +
-                                "and there is no subSplitter defined to split it further.",
+                        "The text \"%s...\" (%s %s long) doesn't fit into the maximum segment size (%s %s), "
+                                + "and there is no subSplitter defined to split it further.",
                         firstChars(part, 30),
-                        estimateSize(part), tokenizer == null ? "characters" : "tokens",
-                        maxSegmentSize, tokenizer == null ? "characters" : "tokens"
-
-                ));
+                        partSize,
+                        tokenizer == null ? "characters" : "tokens",
+                        maxSegmentSize,
+                        tokenizer == null ? "characters" : "tokens"));
             }
 
             // Delegate the splitting of the part to the sub-splitter.
-            segmentBuilder.append(part);
+            segmentBuilder.append(part, partSize);
             for (TextSegment segment : subSplitter.split(Document.from(segmentBuilder.toString()))) {
                 segments.add(createSegment(segment.text(), document, index.getAndIncrement()));
             }
 
             TextSegment lastSegment = segments.get(segments.size() - 1);
-            overlap = overlapFrom(lastSegment.text());
+            List<String> overlapSentences = overlapFrom(lastSegment.text());
+            overlap = String.join(joinDelimiter(), overlapSentences).trim();
 
             segmentBuilder.reset();
-            segmentBuilder.append(overlap);
+            overlapSentences.forEach(segmentBuilder::append);
         }
 
         if (segmentBuilder.isNotEmpty() && !segmentBuilder.toString().equals(overlap)) {
@@ -188,29 +194,89 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
     }
 
     /**
-     * Returns the overlap region at the end of the provided segment text.
+     * Returns {@code true} if the parts returned by {@link #split(String)} are sentences.
+     * In this case, the parts are reused as they are to build the overlap,
+     * instead of detecting sentences in the segment again.
+     *
+     * @return {@code true} if this splitter splits by sentences.
+     */
+    boolean splitsIntoSentences() {
+        return false;
+    }
+
+    /**
+     * Returns the sentences of the overlap region at the end of the segment being built.
+     *
+     * <p>Only the end of the segment can be part of the overlap, so sentences are detected
+     * in the last parts of the segment only, instead of in the whole segment.
+     *
+     * @param segmentBuilder The builder of the segment.
+     * @return The sentences of the overlap region, in order, or an empty list if there is no overlap.
+     */
+    List<String> overlapFrom(SegmentBuilder segmentBuilder) {
+        if (maxOverlapSize == 0) {
+            return List.of();
+        }
+
+        List<String> parts = segmentBuilder.parts();
+        if (splitsIntoSentences()) {
+            return overlapOf(parts);
+        }
+
+        // Starts with the last parts that are at least as big as the overlap, plus one more part,
+        // as the first sentence found in them might start in an earlier part.
+        int partCount = 1;
+        int tailSize = segmentBuilder.sizeOfPart(parts.size() - 1);
+        while (partCount < parts.size() && tailSize <= maxOverlapSize) {
+            partCount++;
+            tailSize += segmentBuilder.sizeOfPart(parts.size() - partCount) + segmentBuilder.joinSeparatorSize();
+        }
+        partCount++;
+
+        while (true) {
+            int from = Math.max(parts.size() - partCount, 0);
+            String tail = String.join(joinDelimiter(), parts.subList(from, parts.size()));
+            List<String> sentences = Arrays.asList(getOverlapSentenceSplitter().split(tail));
+            if (from > 0 && !sentences.isEmpty()) {
+                // the first sentence might be incomplete
+                sentences = sentences.subList(1, sentences.size());
+            }
+            List<String> overlap = overlapOf(sentences);
+            if (from == 0 || overlap.size() < sentences.size()) {
+                return overlap;
+            }
+            // all sentences fit, so the overlap might extend into earlier parts
+            partCount *= 2;
+        }
+    }
+
+    /**
+     * Returns the sentences of the overlap region at the end of the provided segment text.
      *
      * @param segmentText The segment text.
-     * @return The overlap region, or an empty string if there is no overlap.
+     * @return The sentences of the overlap region, in order, or an empty list if there is no overlap.
      */
-    String overlapFrom(String segmentText) {
+    List<String> overlapFrom(String segmentText) {
         if (maxOverlapSize == 0) {
-            return "";
+            return List.of();
         }
 
         // always split by sentence, as it is the smallest meaningful unit of text
-        List<String> sentences = Arrays.asList(getOverlapSentenceSplitter().split(segmentText));
-        Collections.reverse(sentences);
+        return overlapOf(Arrays.asList(getOverlapSentenceSplitter().split(segmentText)));
+    }
 
+    private List<String> overlapOf(List<String> sentences) {
         SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter());
-        for (String sentence : sentences) {
-            if (overlapBuilder.hasSpaceFor(sentence)) {
-                overlapBuilder.prepend(sentence);
+        for (int i = sentences.size() - 1; i >= 0; i--) {
+            String sentence = sentences.get(i);
+            int sentenceSize = overlapBuilder.sizeOf(sentence);
+            if (overlapBuilder.hasSpaceFor(sentenceSize)) {
+                overlapBuilder.prepend(sentence, sentenceSize);
             } else {
                 break;
             }
         }
-        return overlapBuilder.toString();
+        return new ArrayList<>(overlapBuilder.parts());
     }
 
     /**
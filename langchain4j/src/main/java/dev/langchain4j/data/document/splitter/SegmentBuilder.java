@@ -1,20 +1,32 @@
 package dev.langchain4j.data.document.splitter;
 
-import java.util.function.Function;
-
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ *
+ * <p>The size of the segment is accounted incrementally: appending a text adds the size of the text
+ * and the size of the separator, so the accumulated segment does not have to be re-measured on every append.
+ * This sum is an upper bound of the actual size, assuming that joining texts does not make them bigger
+ * (which holds for characters and, in practice, for tokens).
+ * The segment is re-measured only when the upper bound is not precise enough to decide whether a text still fits.
  */
 class SegmentBuilder {
     private final int maxSegmentSize;
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final StringBuilder segment = new StringBuilder();
+    private final List<String> parts = new ArrayList<>();
+    private final List<Integer> partSizes = new ArrayList<>();
     private int segmentSize = 0;
+    private boolean segmentSizeIsExact = true;
 
     /**
      * Creates a new instance of {@link SegmentBuilder}.
@@ -36,6 +48,10 @@ class SegmentBuilder {
      * @return The current size of the segment.
      */
     public int getSize() {
+        if (!segmentSizeIsExact) {
+            segmentSize = sizeOf(segment.toString());
+            segmentSizeIsExact = true;
+        }
         return segmentSize;
     }
 
@@ -46,11 +62,7 @@ class SegmentBuilder {
      * @return {@code true} if the provided text can be added to the current segment.
      */
     public boolean hasSpaceFor(String text) {
-        int totalSize = sizeOf(text);
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
-        }
-        return totalSize <= maxSegmentSize;
+        return hasSpaceFor(sizeOf(text));
     }
 
     /**
@@ -60,11 +72,14 @@ class SegmentBuilder {
      * @return {@code true} if the provided size can be added to the current segment.
      */
     public boolean hasSpaceFor(int size) {
-        int totalSize = size;
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
+        if (!isNotEmpty()) {
+            return size <= maxSegmentSize;
+        }
+        if (segmentSize + joinSeparatorSize + size <= maxSegmentSize) {
+            return true;
         }
-        return totalSize <= maxSegmentSize;
+        // the accumulated size might overestimate the segment, so it is measured before giving up
+        return !segmentSizeIsExact && getSize() + joinSeparatorSize + size <= maxSegmentSize;
     }
 
     /**
@@ -83,11 +98,30 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
+        append(text, sizeOf(text));
+    }
+
+    /**
+     * Appends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text     The text to append.
+     * @param textSize The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void append(String text, int textSize) {
         if (isNotEmpty()) {
-            segment += joinSeparator;
+            segment.append(joinSeparator);
+            segmentSize += joinSeparatorSize;
+            segmentSizeIsExact = false;
+        } else {
+            // previously added empty texts did not make the segment non-empty, so they are dropped
+            parts.clear();
+            partSizes.clear();
+            segmentSize = 0;
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        segment.append(text);
+        segmentSize += textSize;
+        parts.add(text);
+        partSizes.add(textSize);
     }
 
     /**
@@ -96,12 +130,29 @@ class SegmentBuilder {
      * @param text The text to prepend.
      */
     public void prepend(String text) {
+        prepend(text, sizeOf(text));
+    }
+
+    /**
+     * Prepends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text     The text to prepend.
+     * @param textSize The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void prepend(String text, int textSize) {
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
+            segment.insert(0, joinSeparator);
+            segmentSize += joinSeparatorSize;
+            segmentSizeIsExact = false;
         } else {
-            segment = text;
+            parts.clear();
+            partSizes.clear();
+            segmentSize = 0;
         }
-        segmentSize = sizeOf(segment);
+        segment.insert(0, text);
+        segmentSize += textSize;
+        parts.add(0, text);
+        partSizes.add(0, textSize);
     }
 
     /**
@@ -113,16 +164,47 @@ class SegmentBuilder {
         return !segment.isEmpty();
     }
 
+    /**
+     * Returns the texts the current segment consists of, in order.
+     *
+     * @return The parts of the current segment.
+     */
+    List<String> parts() {
+        return Collections.unmodifiableList(parts);
+    }
+
+    /**
+     * Returns the size of the part at the provided index, as it was measured when the part was added.
+     *
+     * @param index The index of the part.
+     * @return The size of the part.
+     */
+    int sizeOfPart(int index) {
+        return partSizes.get(index);
+    }
+
+    /**
+     * Returns the size of the separator used to join the parts.
+     *
+     * @return The size of the separator.
+     */
+    int joinSeparatorSize() {
+        return joinSeparatorSize;
+    }
+
     @Override
     public String toString() {
-        return segment.trim();
+        return segment.toString().trim();
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        segment.setLength(0);
+        parts.clear();
+        partSizes.clear();
         segmentSize = 0;
+        segmentSizeIsExact = true;
     }
 }
@@ -30,12 +30,14 @@ import dev.langchain4j.retriever.Retriever;
 import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.service.tool.ToolProvider;
 import dev.langchain4j.spi.services.AiServicesFactory;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
@@ -362,6 +364,52 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Executes the tools requested by the LLM in a single response concurrently instead of one after another.
+     * Virtual threads are used if the JVM supports them, a cached thread pool otherwise.
+     * The results of the tools are added to the chat memory in the order in which the LLM requested them.
+     * <br>
+     * Only use this if the tools are independent of each other and thread-safe.
+     *
+     * @return builder
+     */
+    public AiServices<T> executeToolsConcurrently() {
+        context.toolService.executeToolsConcurrently();
+        return this;
+    }
+
+    /**
+     * Executes the tools requested by the LLM in a single response concurrently on the provided executor
+     * instead of one after another.
+     * The results of the tools are added to the chat memory in the order in which the LLM requested them.
+     * <br>
+     * Only use this if the tools are independent of each other and thread-safe.
+     *
+     * @param executor The executor to execute the tools on.
+     * @return builder
+     */
+    public AiServices<T> executeToolsConcurrently(Executor executor) {
+        context.toolService.executeToolsConcurrently(executor);
+        return this;
+    }
+
+    /**
+     * Configures the maximum duration of a single tool execution.
+     * When a tool does not complete in time, it is interrupted, and an error message is provided to the LLM
+     * as the result of the tool, so that it can decide how to proceed.
+     * <br>
+     * Only applies when tools are executed concurrently (see {@link #executeToolsConcurrently()}),
+     * in which case even a single requested tool is executed on the executor.
+     * Tools executed sequentially stay in the calling thread and are not timed out.
+     *
+     * @param toolExecutionTimeout The maximum duration of a single tool execution.
+     * @return builder
+     */
+    public AiServices<T> toolExecutionTimeout(Duration toolExecutionTimeout) {
+        context.toolService.toolExecutionTimeout(toolExecutionTimeout);
+        return this;
+    }
+
     /**
      * @param retriever The retriever to be used by the AI Service.
      * @return builder
@@ -0,0 +1,340 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
+import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
+import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
+import static dev.langchain4j.service.output.JsonSchemas.jsonSchemaFrom;
+
+import dev.langchain4j.model.chat.request.ResponseFormat;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.model.input.structured.StructuredPrompt;
+import dev.langchain4j.model.input.structured.StructuredPromptProcessor;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import dev.langchain4j.spi.services.TokenStreamAdapter;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+
+/**
+ * Everything about a method of an AI service that does not depend on the arguments of an invocation:
+ * the roles of the parameters, the compiled prompt templates, how the response is requested and returned.
+ * <br>
+ * A plan is created when a method is invoked for the first time and is reused for all subsequent invocations,
+ * so that an invocation only has to bind its arguments.
+ */
+final class InvocationPlan {
+
+    private final Method method;
+    private final Parameter[] parameters;
+    private final String[] variableNames;
+    private final int memoryIdIndex;
+    private final int userNameIndex;
+    private final int userMessageIndex;
+    private final int itIndex;
+    private final boolean templateFromTheOnlyArgument;
+
+    private final Optional<PromptTemplate> systemMessageTemplate;
+    private final Optional<PromptTemplate> userMessageTemplate;
+
+    private final Type returnType;
+    private final boolean streaming;
+    private final TokenStreamAdapter tokenStreamAdapter;
+    private final ResponseFormat responseFormat;
+    private final String outputFormatInstructions;
+    private final boolean moderated;
+    private final boolean returnsResult;
+
+    InvocationPlan(
+            Method method,
+            AiServiceContext context,
+            ServiceOutputParser serviceOutputParser,
+            Collection<TokenStreamAdapter> tokenStreamAdapters) {
+        validateParameters(method);
+
+        this.method = method;
+        this.parameters = method.getParameters();
+        this.variableNames = new String[parameters.length];
+        int memoryIdIndex = -1;
+        int userNameIndex = -1;
+        int userMessageIndex = -1;
+        for (int i = parameters.length - 1; i >= 0; i--) {
+            variableNames[i] = getVariableName(parameters[i]);
+            if (parameters[i].isAnnotationPresent(MemoryId.class)) {
+                memoryIdIndex = i;
+            }
+            if (parameters[i].isAnnotationPresent(UserName.class)) {
+                userNameIndex = i;
+            }
+            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
+                userMessageIndex = i;
+            }
+        }
+        this.memoryIdIndex = memoryIdIndex;
+        this.userNameIndex = userNameIndex;
+        this.userMessageIndex = userMessageIndex;
+        this.itIndex = findIndexOfVariableIt(parameters);
+        this.templateFromTheOnlyArgument = parameters.length == 1 && parameters[0].getAnnotations().length == 0;
+
+        this.systemMessageTemplate = Optional.ofNullable(
+                        method.getAnnotation(dev.langchain4j.service.SystemMessage.class))
+                .map(a -> getTemplate(method, "System", a.fromResource(), a.value(), a.delimiter()))
+                .map(PromptTemplate::from);
+        this.userMessageTemplate = Optional.ofNullable(method.getAnnotation(dev.langchain4j.service.UserMessage.class))
+                .map(a -> getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter()))
+                .map(PromptTemplate::from);
+
+        // TODO give user ability to provide custom OutputParser
+        this.returnType = method.getGenericReturnType();
+        this.tokenStreamAdapter = returnType == TokenStream.class
+                ? null
+                : tokenStreamAdapters.stream()
+                        .filter(adapter -> adapter.canAdaptTokenStreamTo(returnType))
+                        .findFirst()
+                        .orElse(null);
+        this.streaming = returnType == TokenStream.class || tokenStreamAdapter != null;
+
+        boolean supportsJsonSchema = context.chatModel != null
+                && context.chatModel
+                        .supportedCapabilities()
+                        .contains(RESPONSE_FORMAT_JSON_SCHEMA); // TODO should it be called for returnType==String?
+        Optional<JsonSchema> jsonSchema = Optional.empty();
+        if (supportsJsonSchema && !streaming) {
+            jsonSchema = jsonSchemaFrom(returnType);
+        }
+        this.responseFormat = jsonSchema
+                .map(schema ->
+                        ResponseFormat.builder().type(JSON).jsonSchema(schema).build())
+                .orElse(null);
+        String outputFormatInstructions = null;
+        if ((!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming) {
+            outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+        }
+        this.outputFormatInstructions = isNullOrEmpty(outputFormatInstructions) ? null : outputFormatInstructions;
+
+        this.moderated = method.isAnnotationPresent(Moderate.class);
+        this.returnsResult = typeHasRawClass(returnType, Result.class);
+    }
+
+    static void validateParameters(Method method) {
+        Parameter[] parameters = method.getParameters();
+        if (parameters == null || parameters.length < 2) {
+            return;
+        }
+
+        for (Parameter parameter : parameters) {
+            V v = parameter.getAnnotation(V.class);
+            dev.langchain4j.service.UserMessage userMessage =
+                    parameter.getAnnotation(dev.langchain4j.service.UserMessage.class);
+            MemoryId memoryId = parameter.getAnnotation(MemoryId.class);
+            UserName userName = parameter.getAnnotation(UserName.class);
+            if (v == null && userMessage == null && memoryId == null && userName == null) {
+                throw illegalConfiguration(
+                        "Parameter '%s' of method '%s' should be annotated with @V or @UserMessage "
+                                + "or @UserName or @MemoryId",
+                        parameter.getName(), method.getName());
+            }
+        }
+    }
+
+    Type returnType() {
+        return returnType;
+    }
+
+    boolean streaming() {
+        return streaming;
+    }
+
+    /**
+     * @return the adapter of the {@link TokenStream} to the return type,
+     * or {@code null} if the method returns a {@link TokenStream} or does not stream.
+     */
+    TokenStreamAdapter tokenStreamAdapter() {
+        return tokenStreamAdapter;
+    }
+
+    /**
+     * @return the response format with the JSON schema of the return type,
+     * or {@code null} if the chat model does not support JSON schemas or the return type has no schema.
+     */
+    ResponseFormat responseFormat() {
+        return responseFormat;
+    }
+
+    /**
+     * @return the output format instructions to append to the user message, or {@code null} if there are none.
+     */
+    String outputFormatInstructions() {
+        return outputFormatInstructions;
+    }
+
+    boolean moderated() {
+        return moderated;
+    }
+
+    boolean returnsResult() {
+        return returnsResult;
+    }
+
+    Optional<PromptTemplate> systemMessageTemplate() {
+        return systemMessageTemplate;
+    }
+
+    Optional<Object> memoryId(Object[] args) {
+        if (memoryIdIndex < 0) {
+            return Optional.empty();
+        }
+        Object memoryId = args[memoryIdIndex];
+        if (memoryId == null) {
+            throw illegalArgument(
+                    "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                    parameters[memoryIdIndex].getName(), method.getName());
+        }
+        return Optional.of(memoryId);
+    }
+
+    Optional<String> userName(Object[] args) {
+        if (userNameIndex < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(args[userNameIndex].toString());
+    }
+
+    PromptTemplate userMessageTemplate(Object[] args) {
+
+        if (userMessageTemplate.isPresent() && userMessageIndex >= 0) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                    method.getName());
+        }
+
+        if (userMessageTemplate.isPresent()) {
+            return userMessageTemplate.get();
+        }
+        if (userMessageIndex >= 0) {
+            return PromptTemplate.from(toString(args[userMessageIndex]));
+        }
+        if (templateFromTheOnlyArgument) {
+            return PromptTemplate.from(toString(args[0]));
+        }
+
+        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
+    }
+
+    Map<String, Object> templateVariables(String template, Object[] args) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < parameters.length; i++) {
+            variables.put(variableNames[i], args[i]);
+        }
+
+        if (template.contains("{{it}}") && !variables.containsKey("it")) {
+            if (itIndex < 0) {
+                throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+            }
+            variables.put("it", toString(args[itIndex]));
+        }
+
+        return variables;
+    }
+
+    private static String getVariableName(Parameter parameter) {
+        V annotation = parameter.getAnnotation(V.class);
+        if (annotation != null) {
+            return annotation.value();
+        } else {
+            return parameter.getName();
+        }
+    }
+
+    private static int findIndexOfVariableIt(Parameter[] parameters) {
+        if (parameters.length == 1) {
+            Parameter parameter = parameters[0];
+            if (!parameter.isAnnotationPresent(MemoryId.class)
+                    && !parameter.isAnnotationPresent(dev.langchain4j.service.UserMessage.class)
+                    && !parameter.isAnnotationPresent(UserName.class)
+                    && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
+                return 0;
+            }
+        }
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (isAnnotatedWithIt(parameters[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean isAnnotatedWithIt(Parameter parameter) {
+        V annotation = parameter.getAnnotation(V.class);
+        return annotation != null && "it".equals(annotation.value());
+    }
+
+    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
+        String messageTemplate;
+        if (!resource.trim().isEmpty()) {
+            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
+            if (messageTemplate == null) {
+                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
+            }
+        } else {
+            messageTemplate = String.join(delimiter, value);
+        }
+        if (messageTemplate.trim().isEmpty()) {
+            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
+        }
+        return messageTemplate;
+    }
+
+    private static String getResourceText(Class<?> clazz, String resource) {
+        InputStream inputStream = clazz.getResourceAsStream(resource);
+        if (inputStream == null) {
+            inputStream = clazz.getResourceAsStream("/" + resource);
+        }
+        return getText(inputStream);
+    }
+
+    private static String getText(InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(inputStream);
+                Scanner s = scanner.useDelimiter("\\A")) {
+            return s.hasNext() ? s.next() : "";
+        }
+    }
+
+    private static String toString(Object arg) {
+        if (arg.getClass().isArray()) {
+            return arrayToString(arg);
+        } else if (arg.getClass().isAnnotationPresent(StructuredPrompt.class)) {
+            return StructuredPromptProcessor.toPrompt(arg).text();
+        } else {
+            return arg.toString();
+        }
+    }
+
+    private static String arrayToString(Object arg) {
+        StringBuilder sb = new StringBuilder("[");
+        int length = Array.getLength(arg);
+        for (int i = 0; i < length; i++) {
+            sb.append(toString(Array.get(arg, i)));
+            if (i < length - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
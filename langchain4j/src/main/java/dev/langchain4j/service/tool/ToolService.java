@@ -2,6 +2,7 @@ package dev.langchain4j.service.tool;
 
 import static dev.langchain4j.agent.tool.ToolSpecifications.toolSpecificationFrom;
 import static dev.langchain4j.internal.Exceptions.runtime;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
 
 import dev.langchain4j.agent.tool.Tool;
@@ -19,11 +20,20 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.service.IllegalConfigurationException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 public class ToolService {
@@ -37,11 +47,49 @@ public class ToolService {
     private Function<ToolExecutionRequest, ToolExecutionResultMessage> toolHallucinationStrategy =
             HallucinatedToolNameStrategy.THROW_EXCEPTION;
 
+    private Executor executor;
+    private Duration toolExecutionTimeout;
+
     public void hallucinatedToolNameStrategy(
             Function<ToolExecutionRequest, ToolExecutionResultMessage> toolHallucinationStrategy) {
         this.toolHallucinationStrategy = toolHallucinationStrategy;
     }
 
+    /**
+     * Executes the tools requested in a single {@link AiMessage} concurrently,
+     * on virtual threads if the JVM supports them and on a cached thread pool otherwise.
+     * The results are still added to the chat memory in the order of the requests.
+     */
+    public void executeToolsConcurrently() {
+        this.executor = DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Executes the tools requested in a single {@link AiMessage} concurrently on the provided executor.
+     * The results are still added to the chat memory in the order of the requests.
+     *
+     * @param executor the executor to execute the tools on.
+     */
+    public void executeToolsConcurrently(Executor executor) {
+        this.executor = ensureNotNull(executor, "executor");
+    }
+
+    /**
+     * Limits the time a single tool execution may take.
+     * When a tool does not complete in time, it is interrupted,
+     * and the LLM receives an error message as the result of this tool.
+     * <br>
+     * Only applies when the tools are {@link #executeToolsConcurrently(Executor) executed concurrently},
+     * in which case even a single requested tool is executed on the executor.
+     * Tools executed sequentially stay in the calling thread (so that, e.g., thread-local state is available to them)
+     * and are not timed out.
+     *
+     * @param toolExecutionTimeout the maximum duration of a single tool execution.
+     */
+    public void toolExecutionTimeout(Duration toolExecutionTimeout) {
+        this.toolExecutionTimeout = ensureNotNull(toolExecutionTimeout, "toolExecutionTimeout");
+    }
+
     public void toolProvider(ToolProvider toolProvider) {
         if (toolSpecifications != null || toolExecutors != null) {
             throw new IllegalArgumentException(
@@ -149,16 +197,15 @@ public class ToolService {
                 break;
             }
 
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+            List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                    executeTools(toolExecutionRequests, toolExecutors, memoryId);
 
-                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutor == null
-                        ? applyToolHallucinationStrategy(toolExecutionRequest)
-                        : ToolExecutionResultMessage.from(
-                                toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+            for (int i = 0; i < toolExecutionRequests.size(); i++) {
+                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutionResultMessages.get(i);
 
                 toolExecutions.add(ToolExecution.builder()
-                        .request(toolExecutionRequest)
+                        .request(toolExecutionRequests.get(i))
                         .result(toolExecutionResultMessage.text())
                         .build());
 
@@ -187,6 +234,99 @@ public class ToolService {
         return new ToolExecutionResult(chatResponse, toolExecutions, tokenUsageAccumulator);
     }
 
+    /**
+     * Executes the requested tools, concurrently if configured so.
+     *
+     * @param toolExecutionRequests the tool execution requests of a single {@link AiMessage}.
+     * @param toolExecutors         the available tools, by name.
+     * @param memoryId              the memory ID passed to the tools.
+     * @return the results of the tool executions, in the order of the requests.
+     */
+    public List<ToolExecutionResultMessage> executeTools(
+            List<ToolExecutionRequest> toolExecutionRequests,
+            Map<String, ToolExecutor> toolExecutors,
+            Object memoryId) {
+        List<ToolExecutionResultMessage> toolExecutionResultMessages = new ArrayList<>(toolExecutionRequests.size());
+
+        // a tool executed in the calling thread cannot be timed out, so with a timeout
+        // even a single tool is executed on the executor, if one is configured
+        boolean onExecutor = executor != null && (toolExecutionRequests.size() > 1 || toolExecutionTimeout != null);
+        if (!onExecutor) {
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                toolExecutionResultMessages.add(executeTool(toolExecutionRequest, toolExecutors, memoryId));
+            }
+            return toolExecutionResultMessages;
+        }
+
+        long startNanos = System.nanoTime();
+        List<FutureTask<ToolExecutionResultMessage>> tasks = new ArrayList<>(toolExecutionRequests.size());
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+            if (toolExecutor == null) {
+                FutureTask<ToolExecutionResultMessage> task =
+                        new FutureTask<>(() -> applyToolHallucinationStrategy(toolExecutionRequest));
+                task.run();
+                tasks.add(task);
+            } else {
+                FutureTask<ToolExecutionResultMessage> task = new FutureTask<>(() -> ToolExecutionResultMessage.from(
+                        toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId)));
+                executor.execute(task);
+                tasks.add(task);
+            }
+        }
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                toolExecutionResultMessages.add(await(tasks.get(i), toolExecutionRequests.get(i), startNanos));
+            }
+        } finally {
+            // tools whose results are not awaited anymore, e.g. after another tool failed, are interrupted
+            tasks.forEach(task -> task.cancel(true));
+        }
+        return toolExecutionResultMessages;
+    }
+
+    private ToolExecutionResultMessage executeTool(
+            ToolExecutionRequest toolExecutionRequest, Map<String, ToolExecutor> toolExecutors, Object memoryId) {
+        ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+        return toolExecutor == null
+                ? applyToolHallucinationStrategy(toolExecutionRequest)
+                : ToolExecutionResultMessage.from(
+                        toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+    }
+
+    private ToolExecutionResultMessage timeoutResult(ToolExecutionRequest toolExecutionRequest) {
+        return ToolExecutionResultMessage.from(
+                toolExecutionRequest,
+                String.format(
+                        "The execution of the tool '%s' did not complete within %s ms",
+                        toolExecutionRequest.name(), toolExecutionTimeout.toMillis()));
+    }
+
+    private ToolExecutionResultMessage await(
+            FutureTask<ToolExecutionResultMessage> task, ToolExecutionRequest toolExecutionRequest, long startNanos) {
+        try {
+            if (toolExecutionTimeout == null) {
+                return task.get();
+            }
+            long remainingNanos = toolExecutionTimeout.toNanos() - (System.nanoTime() - startNanos);
+            return task.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            return timeoutResult(toolExecutionRequest);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
     public ToolExecutionResultMessage applyToolHallucinationStrategy(ToolExecutionRequest toolExecutionRequest) {
         return toolHallucinationStrategy.apply(toolExecutionRequest);
     }
@@ -202,4 +342,22 @@ public class ToolService {
     public ToolProvider toolProvider() {
         return toolProvider;
     }
+
+    /**
+     * The executor used when no executor is provided. Virtual threads are used when the JVM supports them.
+     */
+    private static class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = createExecutor();
+
+        private static Executor createExecutor() {
+            try {
+                return (Executor) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (ReflectiveOperationException e) {
+                return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, TimeUnit.SECONDS, new SynchronousQueue<>());
+            }
+        }
+    }
 }
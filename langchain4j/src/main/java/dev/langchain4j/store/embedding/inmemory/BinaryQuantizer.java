@@ -0,0 +1,82 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * {@link VectorQuantizer} of the {@link StorageMode#BINARY_QUANTIZED} mode.
+ * <p>
+ * Each dimension is encoded as a single bit: its sign. Codes are padded to whole {@code long} words,
+ * so that the Hamming distance {@code h} between two codes is computed 64 dimensions at a time.
+ * The similarity {@code 1 - 2h / dimension} is the exact cosine similarity between
+ * the {@code ±1} sign vectors of the query and the stored vector.
+ */
+final class BinaryQuantizer implements VectorQuantizer {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final int dimension;
+    private final int words;
+
+    BinaryQuantizer(int dimension) {
+        this.dimension = dimension;
+        this.words = (dimension + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    @Override
+    public int codeLength() {
+        return words * Long.BYTES;
+    }
+
+    @Override
+    public VectorQuantizer calibratedWith(List<float[]> sample) {
+        // signs do not depend on any range
+        return this;
+    }
+
+    @Override
+    public void encode(float[] vector, byte[] codes, int offset) {
+        for (int word = 0; word < words; word++) {
+            LONGS.set(codes, offset + word * Long.BYTES, signBits(vector, word));
+        }
+    }
+
+    @Override
+    public float[] decode(byte[] codes, int offset) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            long bits = (long) LONGS.get(codes, offset + (i / Long.SIZE) * Long.BYTES);
+            vector[i] = (bits & (1L << i)) != 0 ? 1 : -1;
+        }
+        return vector;
+    }
+
+    @Override
+    public QueryScorer scorer(float[] vector, double norm) {
+        long[] query = new long[words];
+        for (int word = 0; word < words; word++) {
+            query[word] = signBits(vector, word);
+        }
+        return (codes, offset, codeNorm) -> {
+            int hammingDistance = 0;
+            for (int word = 0; word < words; word++) {
+                hammingDistance += Long.bitCount(query[word] ^ (long) LONGS.get(codes, offset + word * Long.BYTES));
+            }
+            return 1 - 2.0 * hammingDistance / dimension;
+        };
+    }
+
+    private long signBits(float[] vector, int word) {
+        long bits = 0;
+        int from = word * Long.SIZE;
+        int to = Math.min(from + Long.SIZE, dimension);
+        for (int i = from; i < to; i++) {
+            if (vector[i] > 0) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+}
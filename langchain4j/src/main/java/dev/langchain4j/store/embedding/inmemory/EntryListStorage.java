@@ -0,0 +1,98 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.util.Collections.unmodifiableList;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiPredicate;
+
+/**
+ * {@link EntryStorage} of the {@link StorageMode#ENTRIES} mode, keeping each {@link Entry} as a separate object
+ * in a {@link CopyOnWriteArrayList}.
+ */
+class EntryListStorage<Embedded> implements EntryStorage<Embedded> {
+
+    private final CopyOnWriteArrayList<Entry<Embedded>> entries;
+
+    EntryListStorage(CopyOnWriteArrayList<Entry<Embedded>> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public void addAll(List<Entry<Embedded>> entries) {
+        this.entries.addAll(entries);
+    }
+
+    @Override
+    public void removeIf(BiPredicate<String, Embedded> predicate) {
+        entries.removeIf(entry -> predicate.test(entry.id, entry.embedded));
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Cloning a {@link CopyOnWriteArrayList} does not copy its elements: the clone shares the current array,
+     * which is never modified in place, so it is an O(1) point-in-time view of the entries.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Snapshot<Embedded> snapshot() {
+        return new ListSnapshot<>((List<Entry<Embedded>>) entries.clone());
+    }
+
+    private static final class ListSnapshot<Embedded> implements Snapshot<Embedded> {
+
+        private static final SimilarityKernel KERNEL = SimilarityKernels.defaultKernel();
+
+        private final List<Entry<Embedded>> entries;
+
+        private ListSnapshot(List<Entry<Embedded>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public String id(int slot) {
+            return entries.get(slot).id;
+        }
+
+        @Override
+        public Embedded embedded(int slot) {
+            return entries.get(slot).embedded;
+        }
+
+        @Override
+        public Embedding embedding(int slot) {
+            return entries.get(slot).embedding;
+        }
+
+        @Override
+        public double cosineSimilarity(int slot, float[] vector, double norm) {
+            Entry<Embedded> entry = entries.get(slot);
+            float[] stored = entry.embedding.vector();
+            if (stored.length != vector.length) {
+                throw illegalArgument(
+                        "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        stored.length, vector.length);
+            }
+            return KERNEL.cosineSimilarity(stored, 0, entry.norm, vector, 0, norm, stored.length);
+        }
+
+        @Override
+        public List<Entry<Embedded>> entries() {
+            return unmodifiableList(entries);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Holds the entries of an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * Implementations must be safe for concurrent use: mutations can be serialized internally,
+ * but a {@link Snapshot} must never observe a partially applied mutation.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ */
+interface EntryStorage<Embedded> {
+
+    void addAll(List<Entry<Embedded>> entries);
+
+    /**
+     * Removes all entries matching the given predicate.
+     *
+     * @param predicate the predicate receiving the ID and the embedded object of each entry.
+     */
+    void removeIf(BiPredicate<String, Embedded> predicate);
+
+    /**
+     * Removes all entries with the given IDs.
+     * Storages that decode embedded objects on access can override it to test the IDs only.
+     */
+    default void removeAll(Collection<String> ids) {
+        removeIf((id, embedded) -> ids.contains(id));
+    }
+
+    /**
+     * Removes all entries whose embedded object is in the given set, which compares them by identity.
+     * Storages that decode embedded objects on access can override it to skip the ones never decoded,
+     * as they cannot be in the set.
+     */
+    default void removeEmbedded(Set<Embedded> embedded) {
+        removeIf((id, candidate) -> embedded.contains(candidate));
+    }
+
+    void clear();
+
+    /**
+     * Calibrates the quantization of the stored vectors again, on all of them.
+     * Does nothing for storages that do not quantize vectors.
+     */
+    default void recalibrate() {}
+
+    /**
+     * Returns an immutable, point-in-time view of the stored entries.
+     * Later mutations of the storage are not visible through the returned snapshot.
+     */
+    Snapshot<Embedded> snapshot();
+
+    /**
+     * A point-in-time view of the stored entries, addressed by slots {@code [0..size)}.
+     */
+    interface Snapshot<Embedded> {
+
+        int size();
+
+        String id(int slot);
+
+        Embedded embedded(int slot);
+
+        Embedding embedding(int slot);
+
+        /**
+         * Calculates the cosine similarity between the vector stored in the given slot and the given vector,
+         * with the same semantics as {@link dev.langchain4j.store.embedding.CosineSimilarity#between}.
+         * The norms of the stored vectors are cached, so this only computes a dot product.
+         *
+         * @param vector the vector to compare with.
+         * @param norm   the norm of {@code vector}, as computed by {@link SimilarityKernel#norm}.
+         */
+        double cosineSimilarity(int slot, float[] vector, double norm);
+
+        /**
+         * Returns a {@link SlotScorer} calculating the similarities between the stored vectors and the given vector.
+         * Storages can override it to prepare the given vector once for all slots.
+         * The similarities are approximations when {@link #isApproximate()}.
+         *
+         * @param vector the vector to compare with.
+         * @param norm   the norm of {@code vector}, as computed by {@link SimilarityKernel#norm}.
+         */
+        default SlotScorer scorer(float[] vector, double norm) {
+            return slot -> cosineSimilarity(slot, vector, norm);
+        }
+
+        /**
+         * Whether the similarities calculated by {@link #scorer(float[], double)} are approximations,
+         * computed from quantized vectors.
+         */
+        default boolean isApproximate() {
+            return false;
+        }
+
+        /**
+         * Calculates the exact cosine similarity between the full-precision vector stored in the given slot
+         * and the given vector, if full-precision vectors are kept by the storage.
+         */
+        default double exactCosineSimilarity(int slot, float[] vector, double norm) {
+            return cosineSimilarity(slot, vector, norm);
+        }
+
+        default List<Entry<Embedded>> entries() {
+            List<Entry<Embedded>> entries = new ArrayList<>(size());
+            for (int slot = 0; slot < size(); slot++) {
+                entries.add(new Entry<>(id(slot), embedding(slot), embedded(slot)));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Calculates the similarities between the stored vectors and a given vector.
+     * Must be safe for concurrent use, as the slots can be scanned in parallel.
+     */
+    @FunctionalInterface
+    interface SlotScorer {
+
+        double cosineSimilarity(int slot);
+    }
+}
@@ -0,0 +1,378 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static java.util.Comparator.comparingDouble;
+
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A Hierarchical Navigable Small World (HNSW) graph over the entries of an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * Nodes are inserted incrementally. Removed entries are only marked as deleted (tombstoned):
+ * they keep participating in the navigation of the graph, but are never returned by {@link #search}.
+ * Once tombstones outnumber live nodes, the graph is rebuilt from the live nodes only.
+ * <p>
+ * Searches can run concurrently, while insertions and removals are exclusive.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ */
+class HnswIndex<Embedded> {
+
+    private static final SimilarityKernel KERNEL = SimilarityKernels.defaultKernel();
+
+    private final int m;
+    private final int maxConnectionsOnBottomLayer;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Node<Embedded>> nodes = new ArrayList<>();
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    HnswIndex(HnswIndexConfig config) {
+        this.m = config.m();
+        this.maxConnectionsOnBottomLayer = 2 * config.m();
+        this.efConstruction = config.efConstruction();
+        this.efSearch = config.efSearch();
+        this.levelMultiplier = 1 / Math.log(Math.max(config.m(), 2));
+        this.random = config.seed() == null ? new Random() : new Random(config.seed());
+    }
+
+    void addAll(Collection<Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            entries.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks all live entries matching the given predicate as deleted.
+     */
+    void removeIf(BiPredicate<String, Embedded> predicate) {
+        lock.writeLock().lock();
+        try {
+            for (Node<Embedded> node : nodes) {
+                if (!node.deleted && predicate.test(node.entry.id, node.entry.embedded)) {
+                    node.deleted = true;
+                    deletedCount++;
+                }
+            }
+            if (deletedCount > nodes.size() - deletedCount) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size() - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds approximately the {@code maxResults} live entries most similar to the given vector.
+     *
+     * @param vector     The query vector.
+     * @param maxResults The maximum number of entries to return.
+     * @param filter     The predicate that returned entries must satisfy.
+     * @return The found entries along with their cosine similarity, sorted from the most to the least similar.
+     */
+    List<ScoredEntry<Embedded>> search(float[] vector, int maxResults, Predicate<Entry<Embedded>> filter) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0) {
+                return new ArrayList<>();
+            }
+
+            Query query = new Query(vector);
+
+            int closest = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                closest = searchLayer(query, List.of(closest), 1, level, node -> true)
+                        .peek()
+                        .node;
+            }
+
+            IntPredicate accept = node -> !nodes.get(node).deleted && filter.test(nodes.get(node).entry);
+            int ef = Math.max(efSearch, maxResults);
+            PriorityQueue<Candidate> found = searchLayer(query, List.of(closest), ef, 0, accept);
+
+            while (found.size() > maxResults) {
+                found.poll();
+            }
+            List<ScoredEntry<Embedded>> result = new ArrayList<>(found.size());
+            while (!found.isEmpty()) {
+                Candidate candidate = found.poll();
+                result.add(0, new ScoredEntry<>(nodes.get(candidate.node).entry, candidate.similarity));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Entry<Embedded> entry) {
+        int level = randomLevel();
+        int newNode = nodes.size();
+        Node<Embedded> node = new Node<>(entry, level, m, maxConnectionsOnBottomLayer);
+        nodes.add(node);
+
+        if (entryPoint < 0) {
+            entryPoint = newNode;
+            maxLevel = level;
+            return;
+        }
+
+        Query query = new Query(node.vector, node.norm);
+
+        int closest = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            closest = searchLayer(query, List.of(closest), 1, l, n -> true).peek().node;
+        }
+
+        List<Integer> entryPoints = List.of(closest);
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            PriorityQueue<Candidate> found = searchLayer(query, entryPoints, efConstruction, l, n -> true);
+            List<Candidate> candidates = sortedMostSimilarFirst(found);
+
+            for (Candidate neighbour : selectNeighbours(candidates, m)) {
+                connect(newNode, neighbour.node, l);
+                connect(neighbour.node, newNode, l);
+            }
+
+            List<Integer> nextEntryPoints = new ArrayList<>(candidates.size());
+            candidates.forEach(candidate -> nextEntryPoints.add(candidate.node));
+            entryPoints = nextEntryPoints;
+        }
+
+        if (level > maxLevel) {
+            entryPoint = newNode;
+            maxLevel = level;
+        }
+    }
+
+    private void connect(int from, int to, int level) {
+        Node<Embedded> node = nodes.get(from);
+        int[] neighbours = node.neighbours[level];
+        int count = node.neighbourCounts[level];
+        if (count < neighbours.length) {
+            neighbours[count] = to;
+            node.neighbourCounts[level]++;
+            return;
+        }
+
+        // the node has too many connections, keeping only the most diverse ones
+        Query query = new Query(node.vector, node.norm);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(comparingDouble(Candidate::similarity));
+        for (int i = 0; i < count; i++) {
+            candidates.add(new Candidate(neighbours[i], query.similarityTo(nodes.get(neighbours[i]))));
+        }
+        candidates.add(new Candidate(to, query.similarityTo(nodes.get(to))));
+
+        List<Candidate> selected = selectNeighbours(sortedMostSimilarFirst(candidates), neighbours.length);
+        for (int i = 0; i < selected.size(); i++) {
+            neighbours[i] = selected.get(i).node;
+        }
+        node.neighbourCounts[level] = selected.size();
+    }
+
+    /**
+     * Selects up to {@code maxCount} neighbours using the heuristic from the HNSW paper:
+     * a candidate is only kept if it is closer to the base node than to any already selected neighbour.
+     * This keeps connections pointing in diverse directions, which preserves the navigability of the graph.
+     *
+     * @param candidates candidates sorted from the most to the least similar to the base node.
+     */
+    private List<Candidate> selectNeighbours(List<Candidate> candidates, int maxCount) {
+        List<Candidate> selected = new ArrayList<>(maxCount);
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= maxCount) {
+                break;
+            }
+            Node<Embedded> candidateNode = nodes.get(candidate.node);
+            Query candidateQuery = new Query(candidateNode.vector, candidateNode.norm);
+            boolean diverse = true;
+            for (Candidate alreadySelected : selected) {
+                if (candidateQuery.similarityTo(nodes.get(alreadySelected.node)) > candidate.similarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Searches a single layer of the graph, starting from the given entry points.
+     * All visited nodes are used for navigation, but only the accepted ones are collected.
+     *
+     * @return up to {@code ef} accepted nodes, with the least similar one at the head of the queue.
+     */
+    private PriorityQueue<Candidate> searchLayer(
+            Query query, List<Integer> entryPoints, int ef, int level, IntPredicate accept) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates =
+                new PriorityQueue<>(comparingDouble(Candidate::similarity).reversed());
+        PriorityQueue<Candidate> found = new PriorityQueue<>(comparingDouble(Candidate::similarity));
+
+        for (int entryPoint : entryPoints) {
+            visited.set(entryPoint);
+            Candidate candidate = new Candidate(entryPoint, query.similarityTo(nodes.get(entryPoint)));
+            candidates.add(candidate);
+            if (accept.test(entryPoint)) {
+                found.add(candidate);
+            }
+        }
+        while (found.size() > ef) {
+            found.poll();
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (found.size() >= ef && current.similarity < found.peek().similarity) {
+                break;
+            }
+
+            Node<Embedded> node = nodes.get(current.node);
+            int[] neighbours = node.neighbours[level];
+            for (int i = 0; i < node.neighbourCounts[level]; i++) {
+                int neighbour = neighbours[i];
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+
+                double similarity = query.similarityTo(nodes.get(neighbour));
+                if (found.size() < ef || similarity > found.peek().similarity) {
+                    Candidate candidate = new Candidate(neighbour, similarity);
+                    candidates.add(candidate);
+                    if (accept.test(neighbour)) {
+                        found.add(candidate);
+                        if (found.size() > ef) {
+                            found.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private void rebuild() {
+        List<Entry<Embedded>> live = new ArrayList<>(nodes.size() - deletedCount);
+        for (Node<Embedded> node : nodes) {
+            if (!node.deleted) {
+                live.add(node.entry);
+            }
+        }
+        reset();
+        live.forEach(this::insert);
+    }
+
+    private void reset() {
+        nodes.clear();
+        deletedCount = 0;
+        entryPoint = -1;
+        maxLevel = -1;
+    }
+
+    private static List<Candidate> sortedMostSimilarFirst(PriorityQueue<Candidate> queue) {
+        List<Candidate> sorted = new ArrayList<>(queue);
+        sorted.sort(comparingDouble(Candidate::similarity).reversed());
+        return sorted;
+    }
+
+    /**
+     * Computes cosine similarity like {@link CosineSimilarity#between}, but with pre-computed norms.
+     */
+    private static final class Query {
+
+        private final float[] vector;
+        private final double norm;
+
+        private Query(float[] vector) {
+            this(vector, KERNEL.norm(vector, 0, vector.length));
+        }
+
+        private Query(float[] vector, double norm) {
+            this.vector = vector;
+            this.norm = norm;
+        }
+
+        private double similarityTo(Node<?> node) {
+            float[] other = node.vector;
+            if (vector.length != other.length) {
+                throw new IllegalArgumentException(String.format(
+                        "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        vector.length, other.length));
+            }
+            return KERNEL.cosineSimilarity(vector, 0, norm, other, 0, node.norm, vector.length);
+        }
+    }
+
+    private static final class Node<Embedded> {
+
+        private final Entry<Embedded> entry;
+        private final float[] vector;
+        private final double norm;
+        private final int[][] neighbours;
+        private final int[] neighbourCounts;
+        private boolean deleted;
+
+        private Node(Entry<Embedded> entry, int level, int maxConnections, int maxConnectionsOnBottomLayer) {
+            this.entry = entry;
+            this.vector = entry.embedding.vector();
+            this.norm = entry.norm;
+            this.neighbours = new int[level + 1][];
+            this.neighbourCounts = new int[level + 1];
+            for (int l = 0; l <= level; l++) {
+                this.neighbours[l] = new int[l == 0 ? maxConnectionsOnBottomLayer : maxConnections];
+            }
+        }
+    }
+
+    private record Candidate(int node, double similarity) {}
+
+    record ScoredEntry<Embedded>(Entry<Embedded> entry, double cosineSimilarity) {}
+}
@@ -0,0 +1,129 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.Experimental;
+import java.util.Objects;
+
+/**
+ * Configuration of the HNSW (Hierarchical Navigable Small World) approximate nearest neighbour index
+ * that can be enabled for an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * See <a href="https://arxiv.org/abs/1603.09320">"Efficient and robust approximate nearest neighbor search
+ * using Hierarchical Navigable Small World graphs"</a> for a detailed description of the parameters.
+ */
+@Experimental
+public class HnswIndexConfig {
+
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final Long seed;
+
+    /**
+     * Creates an instance of an {@code HnswIndexConfig}.
+     *
+     * @param m              The maximum number of connections per node on the upper layers of the graph.
+     *                       The bottom layer allows {@code 2 * m} connections.
+     *                       Higher values improve recall at the cost of memory and insertion time.
+     *                       This is an optional parameter. Default: 16
+     * @param efConstruction The size of the dynamic candidate list used while inserting nodes.
+     *                       Higher values build a better graph at the cost of insertion time.
+     *                       This is an optional parameter. Default: 200
+     * @param efSearch       The size of the dynamic candidate list used while searching.
+     *                       The effective value is never smaller than {@code EmbeddingSearchRequest.maxResults()}.
+     *                       Higher values improve recall at the cost of query latency.
+     *                       This is an optional parameter. Default: 50
+     * @param seed           The seed of the random generator used to assign graph layers to nodes.
+     *                       Useful to get reproducible graphs. This is an optional parameter.
+     */
+    public HnswIndexConfig(Integer m, Integer efConstruction, Integer efSearch, Long seed) {
+        this.m = ensureGreaterThanZero(getOrDefault(m, 16), "m");
+        this.efConstruction = ensureGreaterThanZero(getOrDefault(efConstruction, 200), "efConstruction");
+        this.efSearch = ensureGreaterThanZero(getOrDefault(efSearch, 50), "efSearch");
+        this.seed = seed;
+    }
+
+    public static HnswIndexConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int m() {
+        return m;
+    }
+
+    public int efConstruction() {
+        return efConstruction;
+    }
+
+    public int efSearch() {
+        return efSearch;
+    }
+
+    public Long seed() {
+        return seed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HnswIndexConfig that)) return false;
+        return this.m == that.m
+                && this.efConstruction == that.efConstruction
+                && this.efSearch == that.efSearch
+                && Objects.equals(this.seed, that.seed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(m, efConstruction, efSearch, seed);
+    }
+
+    @Override
+    public String toString() {
+        return "HnswIndexConfig{" + "m="
+                + m + ", efConstruction="
+                + efConstruction + ", efSearch="
+                + efSearch + ", seed="
+                + seed + '}';
+    }
+
+    public static class Builder {
+
+        private Integer m;
+        private Integer efConstruction;
+        private Integer efSearch;
+        private Long seed;
+
+        private Builder() {}
+
+        public Builder m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        public Builder seed(Long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public HnswIndexConfig build() {
+            return new HnswIndexConfig(m, efConstruction, efSearch, seed);
+        }
+    }
+}
@@ -1,63 +1,188 @@
 package dev.langchain4j.store.embedding.inmemory;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static dev.langchain4j.store.embedding.inmemory.StorageMode.BINARY_QUANTIZED;
+import static dev.langchain4j.store.embedding.inmemory.StorageMode.ENTRIES;
+import static dev.langchain4j.store.embedding.inmemory.StorageMode.SCALAR_QUANTIZED;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import dev.langchain4j.Experimental;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.spi.store.embedding.inmemory.InMemoryEmbeddingStoreJsonCodecFactory;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
 import dev.langchain4j.store.embedding.filter.Filter;
-
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
-
-import static dev.langchain4j.internal.Utils.randomUUID;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-import static dev.langchain4j.spi.ServiceHelper.loadFactories;
-import static java.nio.file.StandardOpenOption.CREATE;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
-import static java.util.Arrays.asList;
-import static java.util.Comparator.comparingDouble;
-import static java.util.stream.Collectors.toList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 /**
  * An {@link EmbeddingStore} that stores embeddings in memory.
  * <p>
- * Uses a brute force approach by iterating over all embeddings to find the best matches.
+ * By default, uses a brute force approach by iterating over all embeddings to find the best matches.
+ * Optionally, an approximate HNSW index can be enabled via {@link Builder#hnswIndex(HnswIndexConfig)},
+ * trading a small loss of recall for much lower query latency on large stores.
+ * Searches with selective metadata filters can be sped up by indexing metadata keys,
+ * see {@link Builder#metadataIndex(Collection)}.
+ * Similarities are computed by {@link SimilarityKernels#defaultKernel()}, with the norms of stored vectors cached.
  * <p>
- * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods.
+ * By default, each entry is kept as a separate object in a copy-on-write list.
+ * For large stores, consider {@link StorageMode#CONTIGUOUS}, see {@link Builder#storageMode(StorageMode)}.
+ * To reduce memory usage further, vectors can be quantized ({@link StorageMode#SCALAR_QUANTIZED},
+ * {@link StorageMode#BINARY_QUANTIZED}), optionally with exact rescoring, see {@link Builder#rescoring(Integer)}.
  * <p>
- * It can also be recreated from JSON or a file using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods.
+ * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods,
+ * or in a compact binary format, suited for large stores, using {@link #serializeToBinaryFile(Path)}.
+ * <p>
+ * It can also be recreated from JSON or a file using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods,
+ * or from a binary file using {@link #fromBinaryFile(Path)}.
  *
  * @param <Embedded> The class of the object that has been embedded.
  *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
  */
 public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
 
+    private static final SimilarityKernel KERNEL = SimilarityKernels.defaultKernel();
+    /**
+     * Orders by score, and then prefers lower slots, so that the best matches are the same
+     * regardless of the order in which the slots are scanned.
+     */
+    private static final Comparator<ScoredSlot> SCORED_SLOT_COMPARATOR = (a, b) -> {
+        int byScore = Double.compare(a.score(), b.score());
+        return byScore != 0 ? byScore : Integer.compare(b.slot(), a.slot());
+    };
+    /**
+     * The maximum estimated fraction of entries matching a filter for which only the candidates found
+     * by the metadata index are scanned, instead of testing the filter on all entries.
+     */
+    private static final double PREFILTER_MAX_SELECTIVITY = 0.5;
+    /**
+     * The maximum estimated fraction of entries matching a filter for which the candidates found
+     * by the metadata index are scanned exactly, instead of searching the HNSW index.
+     */
+    private static final double HNSW_PREFILTER_MAX_SELECTIVITY = 0.05;
+    /**
+     * The default number of vectors on which the {@link StorageMode#SCALAR_QUANTIZED} quantization is calibrated.
+     */
+    private static final int DEFAULT_CALIBRATION_SAMPLE_SIZE = 1024;
+
+    /**
+     * The entries of the {@link StorageMode#ENTRIES} mode, {@code null} in other modes.
+     */
     final CopyOnWriteArrayList<Entry<Embedded>> entries;
 
+    private final EntryStorage<Embedded> storage;
+    private final HnswIndex<Embedded> hnswIndex;
+    private final Integer rescoringOversampling;
+    private final MetadataIndex<Embedded> metadataIndex;
+    private final ReentrantLock mutationLock = new ReentrantLock();
+    private final Integer parallelSearchThreshold;
+    private final Executor searchExecutor;
+
     public InMemoryEmbeddingStore() {
-        this.entries = new CopyOnWriteArrayList<>();
+        this(new ArrayList<>());
     }
 
     private InMemoryEmbeddingStore(Collection<Entry<Embedded>> entries) {
         this.entries = new CopyOnWriteArrayList<>(entries);
+        this.storage = new EntryListStorage<>(this.entries);
+        this.hnswIndex = null;
+        this.rescoringOversampling = null;
+        this.metadataIndex = null;
+        this.parallelSearchThreshold = null;
+        this.searchExecutor = null;
+    }
+
+    InMemoryEmbeddingStore(EntryStorage<Embedded> storage) {
+        this.entries = null;
+        this.storage = storage;
+        this.hnswIndex = null;
+        this.rescoringOversampling = null;
+        this.metadataIndex = null;
+        this.parallelSearchThreshold = null;
+        this.searchExecutor = null;
+    }
+
+    private InMemoryEmbeddingStore(Builder<Embedded> builder) {
+        StorageMode storageMode = getOrDefault(builder.storageMode, ENTRIES);
+        boolean quantized = storageMode == SCALAR_QUANTIZED || storageMode == BINARY_QUANTIZED;
+        if (builder.rescoringOversampling != null && !quantized) {
+            throw illegalArgument(
+                    "Rescoring can only be enabled for the %s and %s storage modes, " + "but the storage mode is %s",
+                    SCALAR_QUANTIZED, BINARY_QUANTIZED, storageMode);
+        }
+        if (builder.hnswIndex != null && storageMode != ENTRIES) {
+            // the graph keeps a reference to every entry, which would duplicate the vectors of other storage modes
+            throw illegalArgument(
+                    "The HNSW index can only be enabled for the %s storage mode, " + "but the storage mode is %s",
+                    ENTRIES, storageMode);
+        }
+        if (builder.calibrationSampleSize != null && storageMode != SCALAR_QUANTIZED) {
+            throw illegalArgument(
+                    "The calibration sample size can only be set for the %s storage mode, "
+                            + "but the storage mode is %s",
+                    SCALAR_QUANTIZED, storageMode);
+        }
+        this.rescoringOversampling = builder.rescoringOversampling;
+        boolean keepFullPrecision = rescoringOversampling != null;
+        this.entries = storageMode == ENTRIES ? new CopyOnWriteArrayList<>() : null;
+        this.storage = switch (storageMode) {
+            case ENTRIES -> new EntryListStorage<>(this.entries);
+            case CONTIGUOUS -> new VectorArena<>();
+            case SCALAR_QUANTIZED -> new QuantizedStorage<>(
+                    ScalarQuantizer::new,
+                    keepFullPrecision,
+                    getOrDefault(builder.calibrationSampleSize, DEFAULT_CALIBRATION_SAMPLE_SIZE));
+                // binary quantization does not need any calibration
+            case BINARY_QUANTIZED -> new QuantizedStorage<>(BinaryQuantizer::new, keepFullPrecision, 1);
+        };
+        this.hnswIndex = builder.hnswIndex == null ? null : new HnswIndex<>(builder.hnswIndex);
+        this.metadataIndex = builder.metadataIndexKeys == null || builder.metadataIndexKeys.isEmpty()
+                ? null
+                : new MetadataIndex<>(builder.metadataIndexKeys, storage.snapshot());
+        this.parallelSearchThreshold = builder.parallelSearchThreshold;
+        this.searchExecutor = getOrDefault(builder.searchExecutor, ForkJoinPool::commonPool);
+    }
+
+    public static <Embedded> Builder<Embedded> builder() {
+        return new Builder<>();
     }
 
     @Override
@@ -80,7 +205,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     public void add(String id, Embedding embedding, Embedded embedded) {
-        entries.add(new Entry<>(id, embedding, embedded));
+        add(singletonList(new Entry<>(id, embedding, embedded)));
     }
 
     @Override
@@ -109,74 +234,390 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
-        entries.addAll(newEntries);
+        mutate(true, () -> {
+            storage.addAll(newEntries);
+            if (hnswIndex != null) {
+                hnswIndex.addAll(newEntries);
+            }
+        });
 
-        return newEntries.stream()
-                .map(entry -> entry.id)
-                .collect(toList());
+        return newEntries.stream().map(entry -> entry.id).collect(toList());
     }
 
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
 
-        entries.removeIf(entry -> ids.contains(entry.id));
+        mutate(false, () -> {
+            storage.removeAll(ids);
+            if (hnswIndex != null) {
+                hnswIndex.removeIf((id, embedded) -> ids.contains(id));
+            }
+        });
     }
 
     @Override
     public void removeAll(Filter filter) {
         ensureNotNull(filter, "filter");
 
-        entries.removeIf(entry -> {
-            if (entry.embedded instanceof TextSegment) {
-                return filter.test(((TextSegment) entry.embedded).metadata());
-            } else if (entry.embedded == null) {
+        Predicate<Metadata> compiledFilter = filter.compile();
+        BiPredicate<String, Embedded> predicate = (id, embedded) -> {
+            if (embedded instanceof TextSegment) {
+                return compiledFilter.test(((TextSegment) embedded).metadata());
+            } else if (embedded == null) {
                 return false;
             } else {
                 throw new UnsupportedOperationException("Not supported yet.");
             }
+        };
+        if (metadataIndex == null) {
+            removeIf(predicate);
+            return;
+        }
+
+        mutate(false, () -> {
+            MetadataIndex.State<Embedded> indexed = metadataIndex.state();
+            BitSet candidates = indexed.candidates(filter, 1);
+            if (candidates == null) {
+                removeIf(predicate);
+                return;
+            }
+            // only the candidates are tested, the removal then matches the embedded objects by identity
+            EntryStorage.Snapshot<Embedded> snapshot = indexed.snapshot();
+            Set<Embedded> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (predicate.test(snapshot.id(slot), snapshot.embedded(slot))) {
+                    removed.add(snapshot.embedded(slot));
+                }
+            }
+            if (!removed.isEmpty()) {
+                storage.removeEmbedded(removed);
+                if (hnswIndex != null) {
+                    hnswIndex.removeIf((id, embedded) -> removed.contains(embedded));
+                }
+            }
         });
     }
 
+    private void removeIf(BiPredicate<String, Embedded> predicate) {
+        storage.removeIf(predicate);
+        if (hnswIndex != null) {
+            hnswIndex.removeIf(predicate);
+        }
+    }
+
+    /**
+     * Calibrates the quantization of the {@link StorageMode#SCALAR_QUANTIZED} storage mode again,
+     * on all stored vectors, and quantizes all of them again.
+     * This is useful when the vectors added after the calibration sample (see {@link Builder#calibrationSampleSize(Integer)})
+     * are distributed differently, so that many of their values were clipped.
+     * <p>
+     * Without rescoring, only the quantized vectors are kept, so the values that were clipped cannot be recovered:
+     * the new calibration only improves the quantization of the vectors added afterwards.
+     * Does nothing in other storage modes.
+     */
+    public void recalibrateQuantization() {
+        mutate(true, storage::recalibrate);
+    }
+
     @Override
     public void removeAll() {
-        entries.clear();
+        mutate(false, () -> {
+            storage.clear();
+            if (hnswIndex != null) {
+                hnswIndex.clear();
+            }
+        });
+    }
+
+    /**
+     * Applies the given mutation of the storage and the HNSW index, then updates the metadata index (if any).
+     * When there is a metadata index, mutations are serialized, so that it is updated in the same order.
+     */
+    private void mutate(boolean appendOnly, Runnable mutation) {
+        if (metadataIndex == null) {
+            mutation.run();
+            return;
+        }
+        mutationLock.lock();
+        try {
+            mutation.run();
+            metadataIndex.update(storage.snapshot(), appendOnly);
+        } finally {
+            mutationLock.unlock();
+        }
     }
 
     @Override
     public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
-        Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
+        if (metadataIndex != null && embeddingSearchRequest.filter() != null) {
+            MetadataIndex.State<Embedded> indexed = metadataIndex.state();
+            BitSet candidates = indexed.candidates(
+                    embeddingSearchRequest.filter(),
+                    hnswIndex == null ? PREFILTER_MAX_SELECTIVITY : HNSW_PREFILTER_MAX_SELECTIVITY);
+            if (candidates != null) {
+                return search(embeddingSearchRequest, indexed.snapshot(), candidates);
+            }
+        }
+
+        if (hnswIndex != null) {
+            return searchHnswIndex(embeddingSearchRequest);
+        }
+
+        return search(embeddingSearchRequest, storage.snapshot(), null);
+    }
+
+    /**
+     * Performs several searches at once.
+     * <br>
+     * Searches that are not answered from the metadata index or the HNSW index share a single pass
+     * over the stored embeddings: each stored vector is loaded once and scored against all queries,
+     * instead of scanning the whole store once per query.
+     */
+    @Override
+    public List<EmbeddingSearchResult<Embedded>> searchAll(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+
+        List<EmbeddingSearchResult<Embedded>> results =
+                new ArrayList<>(Collections.nCopies(embeddingSearchRequests.size(), null));
+        List<Integer> exhaustive = new ArrayList<>(embeddingSearchRequests.size());
+
+        for (int i = 0; i < embeddingSearchRequests.size(); i++) {
+            EmbeddingSearchRequest embeddingSearchRequest = embeddingSearchRequests.get(i);
+            if (hnswIndex != null || (metadataIndex != null && embeddingSearchRequest.filter() != null)) {
+                results.set(i, search(embeddingSearchRequest));
+            } else {
+                exhaustive.add(i);
+            }
+        }
+
+        if (!exhaustive.isEmpty()) {
+            List<EmbeddingSearchRequest> batch = new ArrayList<>(exhaustive.size());
+            for (int i : exhaustive) {
+                batch.add(embeddingSearchRequests.get(i));
+            }
+            List<EmbeddingSearchResult<Embedded>> batchResults = search(batch, storage.snapshot(), null);
+            for (int i = 0; i < exhaustive.size(); i++) {
+                results.set(exhaustive.get(i), batchResults.get(i));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Searches the given snapshot exhaustively.
+     *
+     * @param candidates the slots to scan, or {@code null} to scan all slots.
+     */
+    private EmbeddingSearchResult<Embedded> search(
+            EmbeddingSearchRequest embeddingSearchRequest,
+            EntryStorage.Snapshot<Embedded> snapshot,
+            BitSet candidates) {
+        return search(singletonList(embeddingSearchRequest), snapshot, candidates)
+                .get(0);
+    }
+
+    /**
+     * Searches the given snapshot exhaustively for all requests in a single pass.
+     *
+     * @param candidates the slots to scan, or {@code null} to scan all slots.
+     */
+    private List<EmbeddingSearchResult<Embedded>> search(
+            List<EmbeddingSearchRequest> embeddingSearchRequests,
+            EntryStorage.Snapshot<Embedded> snapshot,
+            BitSet candidates) {
+
+        boolean rescoring = rescoringOversampling != null && snapshot.isApproximate();
+
+        ScanQuery[] queries = new ScanQuery[embeddingSearchRequests.size()];
+        for (int i = 0; i < queries.length; i++) {
+            EmbeddingSearchRequest embeddingSearchRequest = embeddingSearchRequests.get(i);
+            float[] queryVector = embeddingSearchRequest.queryEmbedding().vector();
+            double queryNorm = KERNEL.norm(queryVector, 0, queryVector.length);
+            int maxResults = embeddingSearchRequest.maxResults();
+            queries[i] = new ScanQuery(
+                    compile(embeddingSearchRequest.filter()),
+                    snapshot.scorer(queryVector, queryNorm),
+                    queryNorm,
+                    // with rescoring, minScore is applied to the exact scores only
+                    rescoring ? 0 : embeddingSearchRequest.minScore(),
+                    rescoring
+                            ? (int) Math.min((long) maxResults * rescoringOversampling, Integer.MAX_VALUE)
+                            : maxResults);
+        }
+
+        int size = snapshot.size();
+        int scannedSlots = candidates == null ? size : candidates.cardinality();
+        List<PriorityQueue<ScoredSlot>> allMatches =
+                parallelSearchThreshold != null && scannedSlots >= parallelSearchThreshold
+                        ? scanInParallel(snapshot, candidates, queries)
+                        : scan(snapshot, candidates, 0, size, queries);
+
+        List<EmbeddingSearchResult<Embedded>> results = new ArrayList<>(queries.length);
+        for (int i = 0; i < queries.length; i++) {
+            EmbeddingSearchRequest embeddingSearchRequest = embeddingSearchRequests.get(i);
+            PriorityQueue<ScoredSlot> matches = allMatches.get(i);
+
+            if (rescoring) {
+                float[] queryVector = embeddingSearchRequest.queryEmbedding().vector();
+                PriorityQueue<ScoredSlot> approximateMatches = matches;
+                matches = new PriorityQueue<>(SCORED_SLOT_COMPARATOR);
+                for (ScoredSlot candidate : approximateMatches) {
+                    int slot = candidate.slot();
+                    double score = RelevanceScore.fromCosineSimilarity(
+                            snapshot.exactCosineSimilarity(slot, queryVector, queries[i].queryNorm()));
+                    addIfBetter(
+                            matches,
+                            new ScoredSlot(slot, score),
+                            embeddingSearchRequest.minScore(),
+                            embeddingSearchRequest.maxResults());
+                }
+            }
+
+            List<ScoredSlot> scoredSlots = new ArrayList<>(matches);
+            scoredSlots.sort(SCORED_SLOT_COMPARATOR);
+            Collections.reverse(scoredSlots);
+
+            List<EmbeddingMatch<Embedded>> result = new ArrayList<>(scoredSlots.size());
+            for (ScoredSlot scoredSlot : scoredSlots) {
+                int slot = scoredSlot.slot();
+                result.add(new EmbeddingMatch<>(
+                        scoredSlot.score(), snapshot.id(slot), snapshot.embedding(slot), snapshot.embedded(slot)));
+            }
+            results.add(new EmbeddingSearchResult<>(result));
+        }
+
+        return results;
+    }
+
+    /**
+     * Scans the slots {@code [from..to)} (only the candidates among them, if any),
+     * returning the best {@link ScanQuery#maxResults} matches for each query.
+     * Each slot is visited once and scored against all queries while its vector is hot in the CPU cache.
+     */
+    private static <Embedded> List<PriorityQueue<ScoredSlot>> scan(
+            EntryStorage.Snapshot<Embedded> snapshot, BitSet candidates, int from, int to, ScanQuery[] queries) {
+        List<PriorityQueue<ScoredSlot>> allMatches = new ArrayList<>(queries.length);
+        for (int i = 0; i < queries.length; i++) {
+            allMatches.add(new PriorityQueue<>(SCORED_SLOT_COMPARATOR));
+        }
 
-        Filter filter = embeddingSearchRequest.filter();
+        for (int slot = nextSlot(candidates, from); slot >= 0 && slot < to; slot = nextSlot(candidates, slot + 1)) {
 
-        for (Entry<Embedded> entry : entries) {
+            Metadata metadata = snapshot.embedded(slot) instanceof TextSegment segment ? segment.metadata() : null;
 
-            if (filter != null && entry.embedded instanceof TextSegment) {
-                Metadata metadata = ((TextSegment) entry.embedded).metadata();
-                if (!filter.test(metadata)) {
+            for (int i = 0; i < queries.length; i++) {
+                ScanQuery query = queries[i];
+                if (query.filter() != null
+                        && metadata != null
+                        && !query.filter().test(metadata)) {
                     continue;
                 }
+
+                double score =
+                        RelevanceScore.fromCosineSimilarity(query.scorer().cosineSimilarity(slot));
+                addIfBetter(allMatches.get(i), new ScoredSlot(slot, score), query.minScore(), query.maxResults());
             }
+        }
 
-            double cosineSimilarity = CosineSimilarity.between(entry.embedding, embeddingSearchRequest.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-            if (score >= embeddingSearchRequest.minScore()) {
-                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
-                if (matches.size() > embeddingSearchRequest.maxResults()) {
-                    matches.poll();
+        return allMatches;
+    }
+
+    /**
+     * Splits the slots into one chunk per available thread of the {@link #searchExecutor},
+     * scans the chunks concurrently (the last one in the calling thread), and merges their best matches.
+     * The result is the same as {@link #scan} over all slots.
+     */
+    private List<PriorityQueue<ScoredSlot>> scanInParallel(
+            EntryStorage.Snapshot<Embedded> snapshot, BitSet candidates, ScanQuery[] queries) {
+        int size = snapshot.size();
+        int parallelism = searchExecutor instanceof ForkJoinPool pool
+                ? pool.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        int chunks = Math.max(1, Math.min(parallelism, size));
+        int chunkSize = (size + chunks - 1) / chunks;
+
+        List<CompletableFuture<List<PriorityQueue<ScoredSlot>>>> futures = new ArrayList<>(chunks - 1);
+        for (int from = 0; from + chunkSize < size; from += chunkSize) {
+            int chunkFrom = from;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> scan(snapshot, candidates, chunkFrom, chunkFrom + chunkSize, queries), searchExecutor));
+        }
+        int lastChunkFrom = futures.size() * chunkSize;
+        List<PriorityQueue<ScoredSlot>> allMatches = scan(snapshot, candidates, lastChunkFrom, size, queries);
+
+        for (CompletableFuture<List<PriorityQueue<ScoredSlot>>> future : futures) {
+            List<PriorityQueue<ScoredSlot>> chunkMatches;
+            try {
+                chunkMatches = future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+            for (int i = 0; i < queries.length; i++) {
+                for (ScoredSlot scoredSlot : chunkMatches.get(i)) {
+                    addIfBetter(allMatches.get(i), scoredSlot, queries[i].minScore(), queries[i].maxResults());
                 }
             }
         }
 
-        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(matches);
-        result.sort(comparator);
-        Collections.reverse(result);
+        return allMatches;
+    }
+
+    private static int nextSlot(BitSet candidates, int slot) {
+        return candidates == null ? slot : candidates.nextSetBit(slot);
+    }
+
+    private static Predicate<Metadata> compile(Filter filter) {
+        return filter == null ? null : filter.compile();
+    }
+
+    private static void addIfBetter(
+            PriorityQueue<ScoredSlot> matches, ScoredSlot scoredSlot, double minScore, int maxResults) {
+        if (scoredSlot.score() >= minScore) {
+            matches.add(scoredSlot);
+            if (matches.size() > maxResults) {
+                matches.poll();
+            }
+        }
+    }
+
+    private EmbeddingSearchResult<Embedded> searchHnswIndex(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        Predicate<Metadata> filter = compile(embeddingSearchRequest.filter());
+        Predicate<Entry<Embedded>> predicate = entry -> filter == null
+                || !(entry.embedded instanceof TextSegment)
+                || filter.test(((TextSegment) entry.embedded).metadata());
+
+        List<HnswIndex.ScoredEntry<Embedded>> found = hnswIndex.search(
+                embeddingSearchRequest.queryEmbedding().vector(), embeddingSearchRequest.maxResults(), predicate);
+
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(found.size());
+        for (HnswIndex.ScoredEntry<Embedded> scoredEntry : found) {
+            double score = RelevanceScore.fromCosineSimilarity(scoredEntry.cosineSimilarity());
+            if (score >= embeddingSearchRequest.minScore()) {
+                Entry<Embedded> entry = scoredEntry.entry();
+                result.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
+            }
+        }
 
         return new EmbeddingSearchResult<>(result);
     }
 
+    /**
+     * Returns a point-in-time copy of all entries, regardless of the {@link StorageMode}.
+     */
+    List<Entry<Embedded>> copyOfEntries() {
+        return storage.snapshot().entries();
+    }
+
+    EntryStorage<Embedded> storage() {
+        return storage;
+    }
+
     public String serializeToJson() {
         return loadCodec().toJson(this);
     }
@@ -194,6 +635,32 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         serializeToFile(Paths.get(filePath));
     }
 
+    /**
+     * Writes this store into the given file in a compact binary format: a vector block
+     * followed by ID and payload sections, see {@link #fromBinaryFile(Path)}.
+     * Unlike {@link #serializeToFile(Path)}, the store is written incrementally,
+     * without building the whole content in memory first.
+     * <p>
+     * All embeddings must have the same dimension, and embedded objects must be {@link TextSegment}s.
+     * The HNSW index (if any) is not persisted.
+     *
+     * @param filePath the file to write into. It is created or replaced: the store is first written
+     *                 into a temporary file in the same directory, so stores loaded from the file keep working.
+     */
+    @Experimental
+    public void serializeToBinaryFile(Path filePath) {
+        try {
+            InMemoryEmbeddingStoreBinaryFormat.write(storage.snapshot(), filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Experimental
+    public void serializeToBinaryFile(String filePath) {
+        serializeToBinaryFile(Paths.get(filePath));
+    }
+
     public static InMemoryEmbeddingStore<TextSegment> fromJson(String json) {
         return loadCodec().fromJson(json);
     }
@@ -211,15 +678,41 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return fromFile(Paths.get(filePath));
     }
 
+    /**
+     * Loads a store from a file written by {@link #serializeToBinaryFile(Path)}.
+     * <p>
+     * The file is memory-mapped, and the loaded store searches the vectors directly in the mapping,
+     * without copying them onto the heap. IDs and embedded objects are only decoded when they are accessed.
+     * Entries added to the loaded store are kept on the heap; the file itself is never modified.
+     *
+     * @param filePath the file to load from.
+     * @return the loaded store.
+     */
+    @Experimental
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath) {
+        try {
+            return new InMemoryEmbeddingStore<>(
+                    new MappedEntryStorage(InMemoryEmbeddingStoreBinaryFormat.read(filePath)));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Experimental
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath) {
+        return fromBinaryFile(Paths.get(filePath));
+    }
+
     /**
      * Merges given {@code InMemoryEmbeddingStore}s into a single {@code InMemoryEmbeddingStore},
      * copying all entries from each store.
      */
-    public static <Embedded> InMemoryEmbeddingStore<Embedded> merge(Collection<InMemoryEmbeddingStore<Embedded>> stores) {
+    public static <Embedded> InMemoryEmbeddingStore<Embedded> merge(
+            Collection<InMemoryEmbeddingStore<Embedded>> stores) {
         ensureNotNull(stores, "stores");
         List<Entry<Embedded>> entries = new ArrayList<>();
         for (InMemoryEmbeddingStore<Embedded> store : stores) {
-            entries.addAll(store.entries);
+            entries.addAll(store.copyOfEntries());
         }
         return new InMemoryEmbeddingStore<>(entries);
     }
@@ -228,16 +721,182 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
      * Merges given {@code InMemoryEmbeddingStore}s into a single {@code InMemoryEmbeddingStore},
      * copying all entries from each store.
      */
-    public static <Embedded> InMemoryEmbeddingStore<Embedded> merge(InMemoryEmbeddingStore<Embedded> first,
-                                                                    InMemoryEmbeddingStore<Embedded> second) {
+    public static <Embedded> InMemoryEmbeddingStore<Embedded> merge(
+            InMemoryEmbeddingStore<Embedded> first, InMemoryEmbeddingStore<Embedded> second) {
         return merge(asList(first, second));
     }
 
+    public static class Builder<Embedded> {
+
+        private StorageMode storageMode;
+        private HnswIndexConfig hnswIndex;
+        private Integer rescoringOversampling;
+        private Integer calibrationSampleSize;
+        private List<String> metadataIndexKeys;
+        private Integer parallelSearchThreshold;
+        private Executor searchExecutor;
+
+        private Builder() {}
+
+        /**
+         * Enables the approximate HNSW index. Optional.
+         * If none is specified, a brute force search over all embeddings is performed.
+         * <p>
+         * The index is not persisted by {@link #serializeToJson()} and {@link #serializeToFile(Path)}.
+         * The index can only be combined with the default {@link StorageMode#ENTRIES} storage mode.
+         *
+         * @param hnswIndex the configuration of the index. Use {@link HnswIndexConfig#defaultConfig()} for defaults.
+         * @return {@code this}
+         */
+        public Builder<Embedded> hnswIndex(HnswIndexConfig hnswIndex) {
+            this.hnswIndex = hnswIndex;
+            return this;
+        }
+
+        /**
+         * Sets the way entries are kept in memory. Optional. Default: {@link StorageMode#ENTRIES}
+         *
+         * @param storageMode the storage mode.
+         * @return {@code this}
+         */
+        public Builder<Embedded> storageMode(StorageMode storageMode) {
+            this.storageMode = storageMode;
+            return this;
+        }
+
+        /**
+         * Enables full-precision rescoring for the {@link StorageMode#SCALAR_QUANTIZED}
+         * and {@link StorageMode#BINARY_QUANTIZED} storage modes. Optional. By default, rescoring is disabled.
+         * <p>
+         * A search first selects the best {@code maxResults * oversampling} candidates using the quantized vectors.
+         * The candidates are then scored exactly with the full-precision vectors, and the best {@code maxResults}
+         * of them scoring at least {@code minScore} are returned.
+         * <p>
+         * The full-precision vectors are kept in memory in addition to the quantized ones,
+         * so rescoring trades the memory savings of quantization for accuracy, while keeping the faster scans.
+         *
+         * @param oversampling the number of candidates to rescore per requested result. Must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder<Embedded> rescoring(Integer oversampling) {
+            this.rescoringOversampling =
+                    oversampling == null ? null : ensureGreaterThanZero(oversampling, "oversampling");
+            return this;
+        }
+
+        /**
+         * Sets the number of vectors on which the {@link StorageMode#SCALAR_QUANTIZED} quantization is calibrated.
+         * Optional. Default: 1024
+         * <p>
+         * Until this number of vectors has been added, they are kept at full precision and searched exactly.
+         * The range of values of each dimension is then taken from these vectors, and all of them are quantized.
+         * Values of vectors added later, falling outside these ranges, are clipped to them,
+         * so the sample should be representative of the vectors that will be stored.
+         * See also {@link InMemoryEmbeddingStore#recalibrateQuantization()}.
+         *
+         * @param calibrationSampleSize the number of vectors in the calibration sample. Must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder<Embedded> calibrationSampleSize(Integer calibrationSampleSize) {
+            this.calibrationSampleSize = calibrationSampleSize == null
+                    ? null
+                    : ensureGreaterThanZero(calibrationSampleSize, "calibrationSampleSize");
+            return this;
+        }
+
+        /**
+         * Enables an index on the values of the given metadata keys of {@link TextSegment}s. Optional.
+         * By default, there is no metadata index, and the filter of a search is tested on every entry.
+         * <p>
+         * Searches with a {@link Filter} on indexed keys ({@code isEqualTo}, {@code isIn}, range comparisons,
+         * combined with {@code and} and {@code or}) first look up the candidate entries in the index.
+         * When the filter is estimated to be selective enough, only these candidates are tested and scored.
+         * With an HNSW index, the candidates of very selective filters are scored exhaustively,
+         * which is both faster and more accurate than filtering the HNSW graph.
+         * {@link InMemoryEmbeddingStore#removeAll(Filter)} also uses the index to find the entries to remove.
+         * <p>
+         * The index is kept up to date on every addition and removal, which are then serialized.
+         * It is not persisted.
+         *
+         * @param keys the metadata keys to index.
+         * @return {@code this}
+         */
+        public Builder<Embedded> metadataIndex(Collection<String> keys) {
+            this.metadataIndexKeys = keys == null ? null : new ArrayList<>(keys);
+            return this;
+        }
+
+        /**
+         * Enables an index on the values of the given metadata keys of {@link TextSegment}s. Optional.
+         * See {@link #metadataIndex(Collection)}.
+         *
+         * @param keys the metadata keys to index.
+         * @return {@code this}
+         */
+        public Builder<Embedded> metadataIndex(String... keys) {
+            return metadataIndex(asList(keys));
+        }
+
+        /**
+         * Enables parallel exact search. Optional. By default, searches scan all entries in the calling thread.
+         * <p>
+         * When a search scans at least {@code minEntries} entries, they are split into chunks,
+         * one per thread of the {@link #searchExecutor(Executor)}, which are scanned concurrently.
+         * The best matches of each chunk are then merged, so the results are identical to a sequential search.
+         * It does not apply to searches of the HNSW index.
+         *
+         * @param minEntries the minimum number of entries to scan in parallel. Must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder<Embedded> parallelSearch(Integer minEntries) {
+            this.parallelSearchThreshold = minEntries == null ? null : ensureGreaterThanZero(minEntries, "minEntries");
+            return this;
+        }
+
+        /**
+         * Sets the executor scanning chunks of entries in parallel, see {@link #parallelSearch(Integer)}. Optional.
+         * Default: {@link ForkJoinPool#commonPool()}.
+         * One chunk is scanned per thread of a {@link ForkJoinPool}, or per available processor otherwise.
+         *
+         * @param searchExecutor the executor.
+         * @return {@code this}
+         */
+        public Builder<Embedded> searchExecutor(Executor searchExecutor) {
+            this.searchExecutor = searchExecutor;
+            return this;
+        }
+
+        public InMemoryEmbeddingStore<Embedded> build() {
+            return new InMemoryEmbeddingStore<>(this);
+        }
+    }
+
+    private record ScoredSlot(int slot, double score) {}
+
+    /**
+     * A query prepared for an exhaustive scan.
+     *
+     * @param filter     the compiled filter, or {@code null}
+     * @param minScore   the minimum score of the candidates
+     * @param maxResults the maximum number of candidates
+     */
+    private record ScanQuery(
+            Predicate<Metadata> filter,
+            EntryStorage.SlotScorer scorer,
+            double queryNorm,
+            double minScore,
+            int maxResults) {}
+
     static class Entry<Embedded> {
 
         String id;
         Embedding embedding;
         Embedded embedded;
+        /**
+         * The cached norm of the {@link #embedding}, so that searches only need to compute dot products.
+         * It is {@code transient}, so it is not serialized.
+         */
+        transient double norm;
 
         Entry(String id, Embedding embedding) {
             this(id, embedding, null);
@@ -247,6 +906,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
             this.id = ensureNotBlank(id, "id");
             this.embedding = ensureNotNull(embedding, "embedding");
             this.embedded = embedded;
+            this.norm = KERNEL.norm(embedding.vector(), 0, embedding.dimension());
         }
 
         @Override
@@ -266,7 +926,8 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     private static InMemoryEmbeddingStoreJsonCodec loadCodec() {
-        for (InMemoryEmbeddingStoreJsonCodecFactory factory : loadFactories(InMemoryEmbeddingStoreJsonCodecFactory.class)) {
+        for (InMemoryEmbeddingStoreJsonCodecFactory factory :
+                loadFactories(InMemoryEmbeddingStoreJsonCodecFactory.class)) {
             return factory.create();
         }
         return new JacksonInMemoryEmbeddingStoreJsonCodec();
@@ -0,0 +1,508 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Reads and writes {@link InMemoryEmbeddingStore}s in a compact binary format,
+ * designed to be loaded through memory-mapping ({@link FileChannel#map}) without any parsing of the vectors.
+ * <p>
+ * The magic number and the format version are big-endian, so that files of any version can be identified.
+ * All other numbers are little-endian, the native byte order of common platforms,
+ * so that the mapped vectors are read without swapping their bytes. The file consists of:
+ * <ul>
+ *     <li>a header of {@value #HEADER_SIZE} bytes: magic number, format version, number of entries,
+ *     dimension, and the positions of the following sections;</li>
+ *     <li>the vector block: all vectors one after another, as {@code float}s;</li>
+ *     <li>the IDs, as UTF-8 bytes, followed by a table of {@code count + 1} {@code long} positions
+ *     delimiting the ID of each entry;</li>
+ *     <li>the payloads (embedded {@link TextSegment}s with their {@link Metadata}),
+ *     followed by a table of {@code count + 1} {@code long} positions delimiting the payload of each entry.</li>
+ * </ul>
+ * All vectors must have the same dimension.
+ * Embedded objects must be {@link TextSegment}s (or {@code null}).
+ */
+class InMemoryEmbeddingStoreBinaryFormat {
+
+    static final int MAGIC = 0x4C43344A; // "LC4J"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 64;
+
+    private static final byte NO_PAYLOAD = 0;
+    private static final byte TEXT_SEGMENT_PAYLOAD = 1;
+
+    private static final byte STRING = 0;
+    private static final byte UUID_TYPE = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DOUBLE = 5;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long MAX_MAPPED_BYTES = Integer.MAX_VALUE;
+
+    private InMemoryEmbeddingStoreBinaryFormat() {}
+
+    /**
+     * Writes the given snapshot into a temporary file, which then replaces the given file.
+     * The given file is never overwritten in place, as it can be mapped by stores loaded from it.
+     */
+    static void write(EntryStorage.Snapshot<?> snapshot, Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        Path temporaryFile =
+                Files.createTempFile(directory, filePath.getFileName().toString(), ".tmp");
+        try {
+            writeInto(snapshot, temporaryFile);
+            Files.move(temporaryFile, filePath, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void writeInto(EntryStorage.Snapshot<?> snapshot, Path file) throws IOException {
+        int count = snapshot.size();
+        int dimension = count == 0 ? 0 : snapshot.embedding(0).dimension();
+
+        try (FileChannel channel = FileChannel.open(file, WRITE);
+                Output output = new Output(channel, HEADER_SIZE)) {
+
+            long vectorsPosition = output.position();
+            for (int slot = 0; slot < count; slot++) {
+                Embedding embedding = snapshot.embedding(slot);
+                if (embedding.dimension() != dimension) {
+                    throw illegalArgument(
+                            "All embeddings must have the same dimension to be written "
+                                    + "in the binary format, but found %s and %s",
+                            dimension, embedding.dimension());
+                }
+                for (float value : embedding.vector()) {
+                    output.putFloat(value);
+                }
+            }
+
+            long idsPosition = output.position();
+            long[] idPositions = new long[count + 1];
+            for (int slot = 0; slot < count; slot++) {
+                idPositions[slot] = output.position();
+                output.putBytes(snapshot.id(slot).getBytes(UTF_8));
+            }
+            idPositions[count] = output.position();
+            long idTablePosition = output.position();
+            for (long position : idPositions) {
+                output.putLong(position);
+            }
+
+            long payloadsPosition = output.position();
+            long[] payloadPositions = new long[count + 1];
+            for (int slot = 0; slot < count; slot++) {
+                payloadPositions[slot] = output.position();
+                writePayload(output, snapshot.embedded(slot));
+            }
+            payloadPositions[count] = output.position();
+            long payloadTablePosition = output.position();
+            for (long position : payloadPositions) {
+                output.putLong(position);
+            }
+            output.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .order(LITTLE_ENDIAN)
+                    .putInt(count)
+                    .putInt(dimension)
+                    .putLong(vectorsPosition)
+                    .putLong(idsPosition)
+                    .putLong(idTablePosition)
+                    .putLong(payloadsPosition)
+                    .putLong(payloadTablePosition);
+            header.clear();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+        }
+    }
+
+    static MappedFile read(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, READ)) {
+
+            if (channel.size() < HEADER_SIZE) {
+                throw notBinaryFormat(filePath);
+            }
+            MappedByteBuffer header = channel.map(READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw notBinaryFormat(filePath);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw illegalArgument("Unsupported version %s of the binary format in file %s", version, filePath);
+            }
+            header.order(LITTLE_ENDIAN);
+            int count = header.getInt();
+            int dimension = header.getInt();
+            long vectorsPosition = header.getLong();
+            long idsPosition = header.getLong();
+            long idTablePosition = header.getLong();
+            long payloadsPosition = header.getLong();
+            long payloadTablePosition = header.getLong();
+
+            // the vector block can exceed the maximum size of a single mapping, so it is mapped in chunks
+            long vectorBytes = (long) dimension * Float.BYTES;
+            int vectorsPerChunk =
+                    vectorBytes == 0 ? Math.max(1, count) : (int) Math.max(1, MAX_MAPPED_BYTES / vectorBytes);
+            FloatBuffer[] vectors = new FloatBuffer[(count + vectorsPerChunk - 1) / vectorsPerChunk];
+            for (int chunk = 0; chunk < vectors.length; chunk++) {
+                long from = (long) chunk * vectorsPerChunk;
+                long to = Math.min(count, from + vectorsPerChunk);
+                vectors[chunk] = channel.map(READ_ONLY, vectorsPosition + from * vectorBytes, (to - from) * vectorBytes)
+                        .order(LITTLE_ENDIAN)
+                        .asFloatBuffer();
+            }
+
+            // mappings stay valid after the channel is closed
+            return new MappedFile(
+                    count,
+                    dimension,
+                    vectorsPerChunk,
+                    vectors,
+                    map(channel, idsPosition, payloadsPosition - idsPosition),
+                    idsPosition,
+                    idTablePosition,
+                    map(channel, payloadsPosition, channel.size() - payloadsPosition),
+                    payloadsPosition,
+                    payloadTablePosition);
+        }
+    }
+
+    private static IllegalArgumentException notBinaryFormat(Path filePath) {
+        return illegalArgument("File %s is not an InMemoryEmbeddingStore binary file", filePath);
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (size > MAX_MAPPED_BYTES) {
+            throw illegalArgument(
+                    "The IDs and payloads of the binary format cannot exceed %s bytes per section, "
+                            + "but found %s bytes",
+                    MAX_MAPPED_BYTES, size);
+        }
+        return channel.map(READ_ONLY, position, size).order(LITTLE_ENDIAN);
+    }
+
+    private static void writePayload(Output output, Object embedded) throws IOException {
+        if (embedded == null) {
+            output.putByte(NO_PAYLOAD);
+            return;
+        }
+        if (!(embedded instanceof TextSegment textSegment)) {
+            throw illegalArgument(
+                    "Only TextSegments can be written in the binary format, but found %s",
+                    embedded.getClass().getName());
+        }
+        output.putByte(TEXT_SEGMENT_PAYLOAD);
+        writeString(output, textSegment.text());
+        Map<String, Object> metadata = textSegment.metadata().toMap();
+        output.putInt(metadata.size());
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            writeString(output, entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof String string) {
+                output.putByte(STRING);
+                writeString(output, string);
+            } else if (value instanceof UUID uuid) {
+                output.putByte(UUID_TYPE);
+                output.putLong(uuid.getMostSignificantBits());
+                output.putLong(uuid.getLeastSignificantBits());
+            } else if (value instanceof Integer integer) {
+                output.putByte(INTEGER);
+                output.putInt(integer);
+            } else if (value instanceof Long longValue) {
+                output.putByte(LONG);
+                output.putLong(longValue);
+            } else if (value instanceof Float floatValue) {
+                output.putByte(FLOAT);
+                output.putFloat(floatValue);
+            } else if (value instanceof Double doubleValue) {
+                output.putByte(DOUBLE);
+                output.putDouble(doubleValue);
+            } else {
+                throw illegalArgument(
+                        "Unsupported type of the metadata value of the key '%s': %s",
+                        entry.getKey(), value.getClass().getName());
+            }
+        }
+    }
+
+    private static TextSegment readPayload(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        if (kind == NO_PAYLOAD) {
+            return null;
+        }
+        String text = readString(buffer);
+        int metadataSize = buffer.getInt();
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        for (int i = 0; i < metadataSize; i++) {
+            String key = readString(buffer);
+            byte type = buffer.get();
+            Object value =
+                    switch (type) {
+                        case STRING -> readString(buffer);
+                        case UUID_TYPE -> new UUID(buffer.getLong(), buffer.getLong());
+                        case INTEGER -> buffer.getInt();
+                        case LONG -> buffer.getLong();
+                        case FLOAT -> buffer.getFloat();
+                        case DOUBLE -> buffer.getDouble();
+                        default -> throw illegalArgument(
+                                "Unknown type %s of the metadata value of the key '%s'", type, key);
+                    };
+            metadata.put(key, value);
+        }
+        return TextSegment.from(text, new Metadata(metadata));
+    }
+
+    private static void writeString(Output output, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        output.putInt(bytes.length);
+        output.putBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String string = readString(buffer, buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    private static String readString(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * The entries of a file in the binary format, read directly from its memory mappings.
+     * <p>
+     * Vectors are never copied onto the heap: similarities are calculated on the mapped vector block.
+     * IDs are decoded on every access, and embedded objects on their first access.
+     * Only the norms of the vectors are calculated up front, which reads the vector block once.
+     */
+    static final class MappedFile {
+
+        private static final Object NOT_DECODED = new Object();
+
+        private final int count;
+        private final int dimension;
+        private final int vectorsPerChunk;
+        private final FloatBuffer[] vectors;
+        private final double[] norms;
+        private final ByteBuffer ids;
+        private final long idsPosition;
+        private final int idTable;
+        private final ByteBuffer payloads;
+        private final long payloadsPosition;
+        private final int payloadTable;
+        private final AtomicReferenceArray<Object> decodedPayloads;
+
+        private MappedFile(
+                int count,
+                int dimension,
+                int vectorsPerChunk,
+                FloatBuffer[] vectors,
+                ByteBuffer ids,
+                long idsPosition,
+                long idTablePosition,
+                ByteBuffer payloads,
+                long payloadsPosition,
+                long payloadTablePosition) {
+            this.count = count;
+            this.dimension = dimension;
+            this.vectorsPerChunk = vectorsPerChunk;
+            this.vectors = vectors;
+            this.ids = ids;
+            this.idsPosition = idsPosition;
+            this.idTable = (int) (idTablePosition - idsPosition);
+            this.payloads = payloads;
+            this.payloadsPosition = payloadsPosition;
+            this.payloadTable = (int) (payloadTablePosition - payloadsPosition);
+            this.decodedPayloads = new AtomicReferenceArray<>(count);
+            for (int slot = 0; slot < count; slot++) {
+                decodedPayloads.setPlain(slot, NOT_DECODED);
+            }
+            this.norms = new double[count];
+            for (int slot = 0; slot < count; slot++) {
+                norms[slot] = norm(slot);
+            }
+        }
+
+        int count() {
+            return count;
+        }
+
+        int dimension() {
+            return dimension;
+        }
+
+        String id(int slot) {
+            int start = (int) (ids.getLong(idTable + slot * Long.BYTES) - idsPosition);
+            int end = (int) (ids.getLong(idTable + (slot + 1) * Long.BYTES) - idsPosition);
+            return readString(ids, start, end - start);
+        }
+
+        TextSegment embedded(int slot) {
+            Object decoded = decodedPayloads.get(slot);
+            if (decoded == NOT_DECODED) {
+                int start = (int) (payloads.getLong(payloadTable + slot * Long.BYTES) - payloadsPosition);
+                // decoded from a duplicate, as the position of the shared buffer cannot be moved concurrently,
+                // and a duplicate is big-endian whatever the order of the original buffer
+                TextSegment payload =
+                        readPayload(payloads.duplicate().order(LITTLE_ENDIAN).position(start));
+                decoded = decodedPayloads.compareAndExchange(slot, NOT_DECODED, payload);
+                if (decoded == NOT_DECODED) {
+                    decoded = payload;
+                }
+            }
+            return (TextSegment) decoded;
+        }
+
+        /**
+         * Returns the embedded object of the given slot if it has already been decoded, {@code null} otherwise.
+         */
+        TextSegment decodedEmbedded(int slot) {
+            Object decoded = decodedPayloads.get(slot);
+            return decoded == NOT_DECODED ? null : (TextSegment) decoded;
+        }
+
+        float[] vector(int slot) {
+            float[] vector = new float[dimension];
+            vectors[slot / vectorsPerChunk].get((slot % vectorsPerChunk) * dimension, vector);
+            return vector;
+        }
+
+        /**
+         * Calculates the cosine similarity with the same arithmetic as
+         * {@link dev.langchain4j.store.embedding.similarity.ScalarSimilarityKernel}, directly on the mapping.
+         */
+        double cosineSimilarity(int slot, float[] vector, double norm) {
+            return dotProduct(slot, vector) / Math.max(norms[slot] * norm, CosineSimilarity.EPSILON);
+        }
+
+        private double dotProduct(int slot, float[] vector) {
+            FloatBuffer chunk = vectors[slot / vectorsPerChunk];
+            int offset = (slot % vectorsPerChunk) * dimension;
+            double dotProduct = 0.0;
+            for (int i = 0; i < dimension; i++) {
+                dotProduct += chunk.get(offset + i) * vector[i];
+            }
+            return dotProduct;
+        }
+
+        private double norm(int slot) {
+            FloatBuffer chunk = vectors[slot / vectorsPerChunk];
+            int offset = (slot % vectorsPerChunk) * dimension;
+            double squaredNorm = 0.0;
+            for (int i = 0; i < dimension; i++) {
+                float value = chunk.get(offset + i);
+                squaredNorm += value * value;
+            }
+            return Math.sqrt(squaredNorm);
+        }
+    }
+
+    /**
+     * Buffered sequential writer to a {@link FileChannel}, keeping track of the current position in the file.
+     */
+    private static final class Output implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(LITTLE_ENDIAN);
+        private long position;
+
+        private Output(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        private long position() {
+            return position + buffer.position();
+        }
+
+        private void putByte(byte value) throws IOException {
+            ensureRemaining(Byte.BYTES);
+            buffer.put(value);
+        }
+
+        private void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        private void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        private void putFloat(float value) throws IOException {
+            ensureRemaining(Float.BYTES);
+            buffer.putFloat(value);
+        }
+
+        private void putDouble(double value) throws IOException {
+            ensureRemaining(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        private void putBytes(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+                while (wrapped.hasRemaining()) {
+                    position += channel.write(wrapped, position);
+                }
+                return;
+            }
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package dev.langchain4j.store.embedding.inmemory;
 
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -9,21 +14,20 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-
-import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
-import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
+import java.util.Collection;
+import java.util.List;
 
 class JacksonInMemoryEmbeddingStoreJsonCodec implements InMemoryEmbeddingStoreJsonCodec {
 
     private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
             .visibility(FIELD, ANY)
+            .addMixIn(InMemoryEmbeddingStore.class, InMemoryEmbeddingStoreMixIn.class)
             .addMixIn(InMemoryEmbeddingStore.Entry.class, EntryMixIn.class)
             .addMixIn(Embedding.class, EmbeddingMixIn.class)
             .addMixIn(TextSegment.class, TextSegmentMixin.class)
             .build();
 
-    private static final TypeReference<InMemoryEmbeddingStore<TextSegment>> TYPE_REFERENCE = new TypeReference<>() {
-    };
+    private static final TypeReference<InMemoryEmbeddingStore<TextSegment>> TYPE_REFERENCE = new TypeReference<>() {};
 
     @Override
     public InMemoryEmbeddingStore<TextSegment> fromJson(String json) {
@@ -43,19 +47,26 @@ class JacksonInMemoryEmbeddingStoreJsonCodec implements InMemoryEmbeddingStoreJs
         }
     }
 
+    @JsonAutoDetect(fieldVisibility = NONE)
+    private abstract static class InMemoryEmbeddingStoreMixIn<T> {
+        @JsonCreator
+        InMemoryEmbeddingStoreMixIn(@JsonProperty("entries") Collection<InMemoryEmbeddingStore.Entry<T>> entries) {}
+
+        @JsonProperty("entries")
+        abstract List<InMemoryEmbeddingStore.Entry<T>> copyOfEntries();
+    }
+
     private abstract static class EntryMixIn<T> {
         @JsonCreator
         EntryMixIn(
                 @JsonProperty("id") String id,
                 @JsonProperty("embedding") Embedding embedding,
-                @JsonProperty("embedded") T embedded) {
-        }
+                @JsonProperty("embedded") T embedded) {}
     }
 
     private abstract static class EmbeddingMixIn {
         @JsonCreator
-        EmbeddingMixIn(@JsonProperty("vector") float[] vector) {
-        }
+        EmbeddingMixIn(@JsonProperty("vector") float[] vector) {}
 
         @JsonProperty("vector")
         abstract float[] vector();
@@ -64,8 +75,6 @@ class JacksonInMemoryEmbeddingStoreJsonCodec implements InMemoryEmbeddingStoreJs
     private abstract static class TextSegmentMixin {
 
         @JsonCreator
-        public TextSegmentMixin(@JsonProperty("text") String text, @JsonProperty("metadata") Metadata metadata) {
-
-        }
+        public TextSegmentMixin(@JsonProperty("text") String text, @JsonProperty("metadata") Metadata metadata) {}
     }
 }
@@ -0,0 +1,180 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStoreBinaryFormat.MappedFile;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.IntPredicate;
+
+/**
+ * {@link EntryStorage} of the stores loaded by {@link InMemoryEmbeddingStore#fromBinaryFile(java.nio.file.Path)}.
+ * <p>
+ * The loaded entries are served from the {@link MappedFile}, so loading a store does not copy its vectors
+ * onto the heap. The mapped file is never modified: entries added later are kept in a {@link VectorArena},
+ * and removed loaded entries are only left out of the slots of the published {@link State}.
+ */
+class MappedEntryStorage implements EntryStorage<TextSegment> {
+
+    private final MappedFile file;
+    private final VectorArena<TextSegment> added = new VectorArena<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile State state;
+
+    MappedEntryStorage(MappedFile file) {
+        this.file = file;
+        this.state = new State(file, null, file.count(), added.snapshot());
+    }
+
+    @Override
+    public void addAll(List<Entry<TextSegment>> entries) {
+        writeLock.lock();
+        try {
+            State current = state;
+            if (current.mappedSize > 0) {
+                for (Entry<TextSegment> entry : entries) {
+                    if (entry.embedding.dimension() != file.dimension()) {
+                        throw illegalArgument(
+                                "The dimension of the embedding (%s) must be equal to the dimension "
+                                        + "of the embeddings already stored (%s)",
+                                entry.embedding.dimension(), file.dimension());
+                    }
+                }
+            }
+            added.addAll(entries);
+            state = new State(file, current.mappedSlots, current.mappedSize, added.snapshot());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeIf(BiPredicate<String, TextSegment> predicate) {
+        remove(slot -> predicate.test(file.id(slot), file.embedded(slot)), () -> added.removeIf(predicate));
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        // only the IDs are tested, so the payloads of the loaded entries are not decoded
+        remove(slot -> ids.contains(file.id(slot)), () -> added.removeAll(ids));
+    }
+
+    @Override
+    public void removeEmbedded(Set<TextSegment> embedded) {
+        // a payload that has never been decoded cannot be in the set
+        remove(
+                slot -> {
+                    TextSegment decoded = file.decodedEmbedded(slot);
+                    return decoded != null && embedded.contains(decoded);
+                },
+                () -> added.removeEmbedded(embedded));
+    }
+
+    /**
+     * Removes the loaded entries whose slot in the file matches the given predicate,
+     * and the added entries with the given action.
+     */
+    private void remove(IntPredicate fileSlotPredicate, Runnable removeAdded) {
+        writeLock.lock();
+        try {
+            State current = state;
+            int[] mappedSlots = new int[current.mappedSize];
+            int mappedSize = 0;
+            for (int slot = 0; slot < current.mappedSize; slot++) {
+                if (!fileSlotPredicate.test(current.mappedSlot(slot))) {
+                    mappedSlots[mappedSize++] = current.mappedSlot(slot);
+                }
+            }
+            removeAdded.run();
+            state = mappedSize == current.mappedSize
+                    ? new State(file, current.mappedSlots, current.mappedSize, added.snapshot())
+                    : new State(file, Arrays.copyOf(mappedSlots, mappedSize), mappedSize, added.snapshot());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            added.clear();
+            state = new State(file, new int[0], 0, added.snapshot());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Snapshot<TextSegment> snapshot() {
+        return state;
+    }
+
+    /**
+     * The remaining loaded entries, followed by the added ones.
+     */
+    private static final class State implements Snapshot<TextSegment> {
+
+        private final MappedFile file;
+        /**
+         * The slots of the remaining loaded entries in the file, {@code null} if none has been removed.
+         */
+        private final int[] mappedSlots;
+
+        private final int mappedSize;
+        private final Snapshot<TextSegment> added;
+
+        private State(MappedFile file, int[] mappedSlots, int mappedSize, Snapshot<TextSegment> added) {
+            this.file = file;
+            this.mappedSlots = mappedSlots;
+            this.mappedSize = mappedSize;
+            this.added = added;
+        }
+
+        private int mappedSlot(int slot) {
+            return mappedSlots == null ? slot : mappedSlots[slot];
+        }
+
+        @Override
+        public int size() {
+            return mappedSize + added.size();
+        }
+
+        @Override
+        public String id(int slot) {
+            return slot < mappedSize ? file.id(mappedSlot(slot)) : added.id(slot - mappedSize);
+        }
+
+        @Override
+        public TextSegment embedded(int slot) {
+            return slot < mappedSize ? file.embedded(mappedSlot(slot)) : added.embedded(slot - mappedSize);
+        }
+
+        @Override
+        public Embedding embedding(int slot) {
+            return slot < mappedSize
+                    ? Embedding.from(file.vector(mappedSlot(slot)))
+                    : added.embedding(slot - mappedSize);
+        }
+
+        @Override
+        public double cosineSimilarity(int slot, float[] vector, double norm) {
+            if (slot >= mappedSize) {
+                return added.cosineSimilarity(slot - mappedSize, vector, norm);
+            }
+            if (vector.length != file.dimension()) {
+                throw illegalArgument(
+                        "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        file.dimension(), vector.length);
+            }
+            return file.cosineSimilarity(mappedSlot(slot), vector, norm);
+        }
+    }
+}
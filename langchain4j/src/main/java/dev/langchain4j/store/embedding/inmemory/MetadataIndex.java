@@ -0,0 +1,453 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * An inverted index over the values of chosen metadata keys of the {@link TextSegment}s in an {@link EntryStorage},
+ * used by {@link InMemoryEmbeddingStore} to find the candidate slots of a {@link Filter} without testing every entry.
+ * <p>
+ * For each indexed key, slots are posted by value: numbers in a sorted map (serving both equality and ranges),
+ * strings in a sorted map, and UUIDs in a hash map. The postings of a filter tree are combined into a {@link BitSet}
+ * by intersection for {@link And} and union for {@link Or}. Filters that cannot be answered by the index
+ * (non-indexed keys, {@code Not}, negated comparisons, etc.) match all slots.
+ * <p>
+ * The candidates are a superset of the matching slots: numbers are looked up with a small tolerance, so that
+ * the different ways filters compare numbers of different types are all covered, and candidates must still
+ * be tested against the filter. Slots of entries without a {@link TextSegment} are always candidates,
+ * as such entries are never filtered out by a search. When a filter would fail on an indexed value
+ * (e.g. because of a type mismatch), it is not answered by the index either, so that the failure is reported.
+ * <p>
+ * The index is immutable and published together with the {@link EntryStorage.Snapshot} it was built from.
+ * It consists of segments covering consecutive ranges of slots: appends index only the new slots into a new segment,
+ * merging it with the previous segments when they are not larger, while removals re-index all slots.
+ * Updates must be serialized by the caller.
+ */
+class MetadataIndex<Embedded> {
+
+    /**
+     * Relative tolerance of number lookups, much larger than the precision of {@code float}s.
+     */
+    private static final double NUMBER_TOLERANCE = 1e-6;
+
+    private final Set<String> keys;
+    private volatile State<Embedded> state;
+
+    MetadataIndex(Collection<String> keys, EntryStorage.Snapshot<Embedded> snapshot) {
+        this.keys = new LinkedHashSet<>(keys);
+        this.state = new State<>(snapshot, new Segment[0]);
+        update(snapshot, true);
+    }
+
+    Set<String> keys() {
+        return keys;
+    }
+
+    /**
+     * Returns the latest index, together with the snapshot it was built from.
+     */
+    State<Embedded> state() {
+        return state;
+    }
+
+    /**
+     * Updates the index after a mutation of the storage.
+     *
+     * @param snapshot   the snapshot of the storage after the mutation.
+     * @param appendOnly whether entries were only appended since the last update.
+     */
+    void update(EntryStorage.Snapshot<Embedded> snapshot, boolean appendOnly) {
+        if (!appendOnly) {
+            state = new State<>(
+                    snapshot,
+                    snapshot.size() == 0
+                            ? new Segment[0]
+                            : new Segment[] {Segment.build(keys, snapshot, 0, snapshot.size())});
+            return;
+        }
+
+        Segment[] segments = state.segments;
+        int indexedSize = segments.length == 0 ? 0 : segments[segments.length - 1].to;
+        if (snapshot.size() > indexedSize) {
+            List<Segment> merged = new ArrayList<>(Arrays.asList(segments));
+            int from = indexedSize;
+            while (!merged.isEmpty() && merged.get(merged.size() - 1).size() <= snapshot.size() - from) {
+                from = merged.remove(merged.size() - 1).from;
+            }
+            merged.add(Segment.build(keys, snapshot, from, snapshot.size()));
+            segments = merged.toArray(new Segment[0]);
+        }
+        state = new State<>(snapshot, segments);
+    }
+
+    /**
+     * An immutable index of a {@link EntryStorage.Snapshot}.
+     */
+    static final class State<Embedded> {
+
+        private final EntryStorage.Snapshot<Embedded> snapshot;
+        private final Segment[] segments;
+
+        private State(EntryStorage.Snapshot<Embedded> snapshot, Segment[] segments) {
+            this.snapshot = snapshot;
+            this.segments = segments;
+        }
+
+        EntryStorage.Snapshot<Embedded> snapshot() {
+            return snapshot;
+        }
+
+        /**
+         * Estimates the selectivity of the given filter and, if it is selective enough, returns its candidate slots.
+         *
+         * @param filter         the filter.
+         * @param maxSelectivity the maximum estimated fraction of slots matching the filter.
+         * @return the candidate slots, or {@code null} if the filter is not selective enough
+         * (or not answered by the index), so all slots should be tested instead.
+         */
+        BitSet candidates(Filter filter, double maxSelectivity) {
+            long estimate = estimate(filter);
+            if (estimate < 0) {
+                return null;
+            }
+            for (Segment segment : segments) {
+                estimate += segment.unfiltered.size;
+            }
+            if (estimate > maxSelectivity * snapshot.size()) {
+                return null;
+            }
+            BitSet candidates = evaluate(filter);
+            for (Segment segment : segments) {
+                segment.unfiltered.addTo(candidates);
+            }
+            return candidates;
+        }
+
+        /**
+         * Returns an upper bound of the number of slots matching the given filter,
+         * or {@code -1} if it is not answered by the index.
+         */
+        private long estimate(Filter filter) {
+            if (filter instanceof And and) {
+                long left = estimate(and.left());
+                long right = estimate(and.right());
+                return left < 0 ? right : (right < 0 ? left : Math.min(left, right));
+            }
+            if (filter instanceof Or or) {
+                long left = estimate(or.left());
+                long right = estimate(or.right());
+                return left < 0 || right < 0 ? -1 : left + right;
+            }
+            List<Postings> postings = lookup(filter);
+            if (postings == null) {
+                return -1;
+            }
+            long estimate = 0;
+            for (Postings posting : postings) {
+                estimate += posting.size;
+            }
+            return estimate;
+        }
+
+        /**
+         * Returns the candidate slots of the given filter, or {@code null} if it is not answered by the index.
+         */
+        private BitSet evaluate(Filter filter) {
+            if (filter instanceof And and) {
+                BitSet left = evaluate(and.left());
+                BitSet right = evaluate(and.right());
+                if (left == null) {
+                    return right;
+                }
+                if (right != null) {
+                    left.and(right);
+                }
+                return left;
+            }
+            if (filter instanceof Or or) {
+                BitSet left = evaluate(or.left());
+                BitSet right = evaluate(or.right());
+                if (left == null || right == null) {
+                    return null;
+                }
+                left.or(right);
+                return left;
+            }
+            List<Postings> postings = lookup(filter);
+            if (postings == null) {
+                return null;
+            }
+            BitSet slots = new BitSet(snapshot.size());
+            for (Postings posting : postings) {
+                posting.addTo(slots);
+            }
+            return slots;
+        }
+
+        /**
+         * Returns the postings of all values matching the given comparison,
+         * or {@code null} if it is not answered by the index.
+         */
+        private List<Postings> lookup(Filter filter) {
+            if (filter instanceof IsEqualTo isEqualTo) {
+                return lookupEqual(isEqualTo.key(), isEqualTo.comparisonValue(), false);
+            }
+            if (filter instanceof IsIn isIn) {
+                Object first = isIn.comparisonValues().iterator().next();
+                if (!isCompatible(isIn.key(), first)) {
+                    return null;
+                }
+                List<Postings> postings = new ArrayList<>();
+                for (Object comparisonValue : isIn.comparisonValues()) {
+                    boolean sameType = first instanceof Number
+                            ? comparisonValue instanceof Number
+                            : comparisonValue.getClass() == first.getClass();
+                    List<Postings> found = sameType ? lookupEqual(isIn.key(), comparisonValue, true) : null;
+                    if (found == null) {
+                        return null;
+                    }
+                    postings.addAll(found);
+                }
+                return postings;
+            }
+            if (filter instanceof IsGreaterThan isGreaterThan) {
+                return lookupRange(isGreaterThan.key(), isGreaterThan.comparisonValue(), false, false);
+            }
+            if (filter instanceof IsGreaterThanOrEqualTo isGreaterThanOrEqualTo) {
+                return lookupRange(isGreaterThanOrEqualTo.key(), isGreaterThanOrEqualTo.comparisonValue(), false, true);
+            }
+            if (filter instanceof IsLessThan isLessThan) {
+                return lookupRange(isLessThan.key(), isLessThan.comparisonValue(), true, false);
+            }
+            if (filter instanceof IsLessThanOrEqualTo isLessThanOrEqualTo) {
+                return lookupRange(isLessThanOrEqualTo.key(), isLessThanOrEqualTo.comparisonValue(), true, true);
+            }
+            return null;
+        }
+
+        private List<Postings> lookupEqual(String key, Object comparisonValue, boolean parsesStrings) {
+            if (!isCompatible(key, comparisonValue)) {
+                return null;
+            }
+            List<Postings> postings = new ArrayList<>();
+            for (Segment segment : segments) {
+                KeyPostings keyPostings = segment.postings.get(key);
+                if (keyPostings == null) {
+                    return null;
+                }
+                if (comparisonValue instanceof Number number) {
+                    if (keyPostings.nonFiniteNumbers || !isFinite(number)) {
+                        return null;
+                    }
+                    double value = number.doubleValue();
+                    double tolerance = tolerance(value);
+                    postings.addAll(keyPostings
+                            .numbers
+                            .subMap(value - tolerance, true, value + tolerance, true)
+                            .values());
+                } else if (comparisonValue instanceof String string) {
+                    addIfPresent(postings, keyPostings.strings.get(string));
+                } else if (comparisonValue instanceof UUID uuid) {
+                    if (parsesStrings && !keyPostings.strings.isEmpty()) {
+                        // strings are parsed leniently into UUIDs, so they cannot be looked up
+                        return null;
+                    }
+                    addIfPresent(postings, keyPostings.uuids.get(uuid));
+                    addIfPresent(postings, keyPostings.strings.get(uuid.toString()));
+                } else {
+                    return null;
+                }
+            }
+            return postings;
+        }
+
+        private List<Postings> lookupRange(String key, Object comparisonValue, boolean less, boolean inclusive) {
+            if (!isCompatible(key, comparisonValue)) {
+                return null;
+            }
+            List<Postings> postings = new ArrayList<>();
+            for (Segment segment : segments) {
+                KeyPostings keyPostings = segment.postings.get(key);
+                if (keyPostings == null) {
+                    return null;
+                }
+                if (comparisonValue instanceof Number number) {
+                    if (keyPostings.nonFiniteNumbers || !isFinite(number)) {
+                        return null;
+                    }
+                    double value = number.doubleValue();
+                    double tolerance = tolerance(value);
+                    postings.addAll(
+                            less
+                                    ? keyPostings
+                                            .numbers
+                                            .headMap(value + tolerance, true)
+                                            .values()
+                                    : keyPostings
+                                            .numbers
+                                            .tailMap(value - tolerance, true)
+                                            .values());
+                } else if (comparisonValue instanceof String string) {
+                    NavigableMap<String, Postings> strings = keyPostings.strings;
+                    postings.addAll(
+                            less
+                                    ? strings.headMap(string, inclusive).values()
+                                    : strings.tailMap(string, inclusive).values());
+                } else {
+                    return null;
+                }
+            }
+            return postings;
+        }
+
+        /**
+         * Whether a filter comparing the given value with the indexed values of the given key
+         * cannot fail because of a type mismatch.
+         */
+        private boolean isCompatible(String key, Object comparisonValue) {
+            for (Segment segment : segments) {
+                KeyPostings keyPostings = segment.postings.get(key);
+                if (keyPostings == null) {
+                    return false;
+                }
+                for (Class<?> type : keyPostings.types) {
+                    boolean compatible = (Number.class.isAssignableFrom(type) && comparisonValue instanceof Number)
+                            || (type == String.class && comparisonValue instanceof UUID)
+                            || type == comparisonValue.getClass();
+                    if (!compatible) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static void addIfPresent(List<Postings> postings, Postings found) {
+            if (found != null) {
+                postings.add(found);
+            }
+        }
+    }
+
+    private static boolean isFinite(Number number) {
+        return Double.isFinite(number.doubleValue());
+    }
+
+    private static double tolerance(double value) {
+        return Math.max(Math.abs(value) * NUMBER_TOLERANCE, Float.MIN_NORMAL);
+    }
+
+    /**
+     * The postings of the slots {@code [from..to)}.
+     */
+    private static final class Segment {
+
+        private final int from;
+        private final int to;
+        private final Map<String, KeyPostings> postings;
+        private final Postings unfiltered;
+
+        private Segment(int from, int to, Map<String, KeyPostings> postings, Postings unfiltered) {
+            this.from = from;
+            this.to = to;
+            this.postings = postings;
+            this.unfiltered = unfiltered;
+        }
+
+        private int size() {
+            return to - from;
+        }
+
+        private static Segment build(Set<String> keys, EntryStorage.Snapshot<?> snapshot, int from, int to) {
+            Map<String, KeyPostings> postings = new HashMap<>();
+            for (String key : keys) {
+                postings.put(key, new KeyPostings());
+            }
+            Postings unfiltered = new Postings();
+            for (int slot = from; slot < to; slot++) {
+                if (!(snapshot.embedded(slot) instanceof TextSegment textSegment)) {
+                    unfiltered.add(slot);
+                    continue;
+                }
+                Metadata metadata = textSegment.metadata();
+                for (String key : keys) {
+                    Object value = metadata.getObject(key);
+                    if (value != null) {
+                        postings.get(key).add(value, slot);
+                    }
+                }
+            }
+            return new Segment(from, to, postings, unfiltered);
+        }
+    }
+
+    private static final class KeyPostings {
+
+        private final NavigableMap<Double, Postings> numbers = new TreeMap<>();
+        private final NavigableMap<String, Postings> strings = new TreeMap<>();
+        private final Map<UUID, Postings> uuids = new HashMap<>();
+        private final Set<Class<?>> types = new HashSet<>();
+        private boolean nonFiniteNumbers;
+
+        private void add(Object value, int slot) {
+            types.add(value.getClass());
+            if (value instanceof Number number) {
+                if (!isFinite(number)) {
+                    nonFiniteNumbers = true;
+                    return;
+                }
+                // negative zero is posted as zero
+                numbers.computeIfAbsent(number.doubleValue() + 0.0, k -> new Postings())
+                        .add(slot);
+            } else if (value instanceof String string) {
+                strings.computeIfAbsent(string, k -> new Postings()).add(slot);
+            } else if (value instanceof UUID uuid) {
+                uuids.computeIfAbsent(uuid, k -> new Postings()).add(slot);
+            }
+        }
+    }
+
+    /**
+     * Ascending slots. Only appended to while the index is built.
+     */
+    private static final class Postings {
+
+        private int[] slots = new int[2];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        private void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(slots[i]);
+            }
+        }
+    }
+}
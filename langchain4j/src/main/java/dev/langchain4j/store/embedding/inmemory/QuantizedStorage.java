@@ -0,0 +1,401 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+
+/**
+ * {@link EntryStorage} of the {@link StorageMode#SCALAR_QUANTIZED} and {@link StorageMode#BINARY_QUANTIZED} modes.
+ * <p>
+ * Vectors are encoded by a {@link VectorQuantizer} into a single {@code byte[]}, with the norms of the decoded
+ * vectors, IDs and embedded objects kept in parallel arrays. Similarities computed by {@link Snapshot#scorer}
+ * are approximations. When full precision is kept, the added {@link Embedding}s are also referenced,
+ * so that candidates can be rescored exactly and are returned unchanged in search results.
+ * Otherwise, the returned {@link Embedding}s are reconstructed from the codes.
+ * <p>
+ * The quantizer is calibrated once, on a sample of the first added vectors. Until the sample is complete,
+ * the vectors are only kept at full precision and scored exactly. Once it is complete, the quantizer is fitted
+ * to all vectors of the sample, they are encoded, and the quantizer is not changed anymore: later vectors
+ * falling outside its ranges are clipped. All vectors are encoded again only by an explicit {@link #recalibrate()}.
+ * <p>
+ * Mutations are serialized and copy-on-write, like in {@link VectorArena}:
+ * appends write past the size of the published {@link State} (growing the arrays geometrically),
+ * while removals, calibration and recalibration write into new arrays.
+ */
+class QuantizedStorage<Embedded> implements EntryStorage<Embedded> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final SimilarityKernel KERNEL = SimilarityKernels.defaultKernel();
+
+    private final IntFunction<VectorQuantizer> quantizerFactory;
+    private final boolean keepFullPrecision;
+    private final int calibrationSampleSize;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile State<Embedded> state;
+
+    /**
+     * @param quantizerFactory      creates the initial (not calibrated) quantizer for the given dimension.
+     * @param keepFullPrecision     whether the added embeddings are kept, see {@link Snapshot#exactCosineSimilarity}.
+     * @param calibrationSampleSize the number of vectors the quantizer is calibrated on.
+     */
+    QuantizedStorage(
+            IntFunction<VectorQuantizer> quantizerFactory, boolean keepFullPrecision, int calibrationSampleSize) {
+        this.quantizerFactory = quantizerFactory;
+        this.keepFullPrecision = keepFullPrecision;
+        this.calibrationSampleSize = calibrationSampleSize;
+        this.state = State.empty(keepFullPrecision);
+    }
+
+    @Override
+    public void addAll(List<Entry<Embedded>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            State<Embedded> current = state;
+
+            int dimension = current.size == 0 ? entries.get(0).embedding.dimension() : current.dimension;
+            for (Entry<Embedded> entry : entries) {
+                if (entry.embedding.dimension() != dimension) {
+                    throw illegalArgument(
+                            "The dimension of the embedding (%s) must be equal to the dimension "
+                                    + "of the embeddings already stored (%s)",
+                            entry.embedding.dimension(), dimension);
+                }
+            }
+
+            int size = current.size + entries.size();
+
+            State<Embedded> next;
+            if (current.quantizer == null && size >= calibrationSampleSize) {
+                // the calibration sample is complete: all vectors are encoded for the first time
+                List<float[]> sample = new ArrayList<>(size);
+                for (int slot = 0; slot < current.size; slot++) {
+                    sample.add(current.embeddings[slot].vector());
+                }
+                entries.forEach(entry -> sample.add(entry.embedding.vector()));
+                next = current.encodedWith(
+                        quantizerFactory.apply(dimension).calibratedWith(sample),
+                        sample,
+                        capacityFor(size),
+                        dimension,
+                        keepFullPrecision);
+            } else if (current.size == 0 || size > current.capacity()) {
+                next = current.withCapacity(capacityFor(size), dimension, keepFullPrecision);
+            } else {
+                next = current;
+            }
+
+            int slot = current.size;
+            for (Entry<Embedded> entry : entries) {
+                next.set(slot++, entry.id, entry.embedding.vector(), entry.embedding, entry.norm, entry.embedded);
+            }
+
+            state = next.withSize(size);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Calibrates the quantizer on all stored vectors and encodes them again.
+     * Without full precision, the vectors are reconstructed from their current codes,
+     * so the values that were clipped by the previous calibration cannot be recovered.
+     */
+    @Override
+    public void recalibrate() {
+        writeLock.lock();
+        try {
+            State<Embedded> current = state;
+            if (current.size == 0) {
+                return;
+            }
+
+            List<float[]> vectors = new ArrayList<>(current.size);
+            for (int slot = 0; slot < current.size; slot++) {
+                vectors.add(
+                        current.embeddings != null
+                                ? current.embeddings[slot].vector()
+                                : current.quantizer.decode(current.codes, slot * current.quantizer.codeLength()));
+            }
+            VectorQuantizer quantizer =
+                    quantizerFactory.apply(current.dimension).calibratedWith(vectors);
+            state = current.encodedWith(quantizer, vectors, current.capacity(), current.dimension, keepFullPrecision)
+                    .withSize(current.size);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeIf(BiPredicate<String, Embedded> predicate) {
+        writeLock.lock();
+        try {
+            State<Embedded> current = state;
+
+            boolean[] removed = new boolean[current.size];
+            int remainingSize = current.size;
+            for (int slot = 0; slot < current.size; slot++) {
+                if (predicate.test(current.ids[slot], current.embedded(slot))) {
+                    removed[slot] = true;
+                    remainingSize--;
+                }
+            }
+            if (remainingSize == current.size) {
+                return;
+            }
+            if (remainingSize == 0) {
+                state = State.empty(keepFullPrecision);
+                return;
+            }
+
+            State<Embedded> next =
+                    new State<>(current.quantizer, capacityFor(remainingSize), 0, current.dimension, keepFullPrecision);
+            int codeLength = current.quantizer == null ? 0 : current.quantizer.codeLength();
+            int target = 0;
+            for (int slot = 0; slot < current.size; slot++) {
+                if (removed[slot]) {
+                    continue;
+                }
+                System.arraycopy(current.codes, slot * codeLength, next.codes, target * codeLength, codeLength);
+                next.codeNorms[target] = current.codeNorms[slot];
+                next.ids[target] = current.ids[slot];
+                next.embedded[target] = current.embedded[slot];
+                if (next.embeddings != null) {
+                    next.embeddings[target] = current.embeddings[slot];
+                    next.norms[target] = current.norms[slot];
+                }
+                target++;
+            }
+            state = next.withSize(remainingSize);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            state = State.empty(keepFullPrecision);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Snapshot<Embedded> snapshot() {
+        return state;
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < size) {
+            capacity = capacity > Integer.MAX_VALUE / 2 ? size : capacity * 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * The quantizer is {@code null} until it is calibrated. Until then, there are no codes,
+     * the full-precision embeddings are always kept, and similarities are exact.
+     */
+    private static final class State<Embedded> implements Snapshot<Embedded> {
+
+        private final VectorQuantizer quantizer;
+        private final int size;
+        private final int dimension;
+        private final byte[] codes;
+        private final double[] codeNorms;
+        private final String[] ids;
+        private final Object[] embedded;
+        private final Embedding[] embeddings;
+        private final double[] norms;
+
+        private State(VectorQuantizer quantizer, int capacity, int size, int dimension, boolean keepFullPrecision) {
+            this(
+                    quantizer,
+                    size,
+                    dimension,
+                    new byte[quantizer == null ? 0 : capacity * quantizer.codeLength()],
+                    new double[capacity],
+                    new String[capacity],
+                    new Object[capacity],
+                    keepFullPrecision || quantizer == null ? new Embedding[capacity] : null,
+                    keepFullPrecision || quantizer == null ? new double[capacity] : null);
+        }
+
+        private State(
+                VectorQuantizer quantizer,
+                int size,
+                int dimension,
+                byte[] codes,
+                double[] codeNorms,
+                String[] ids,
+                Object[] embedded,
+                Embedding[] embeddings,
+                double[] norms) {
+            this.quantizer = quantizer;
+            this.size = size;
+            this.dimension = dimension;
+            this.codes = codes;
+            this.codeNorms = codeNorms;
+            this.ids = ids;
+            this.embedded = embedded;
+            this.embeddings = embeddings;
+            this.norms = norms;
+        }
+
+        private static <Embedded> State<Embedded> empty(boolean keepFullPrecision) {
+            return new State<>(null, 0, 0, 0, keepFullPrecision);
+        }
+
+        private int capacity() {
+            return ids.length;
+        }
+
+        private State<Embedded> withSize(int size) {
+            return new State<>(quantizer, size, dimension, codes, codeNorms, ids, embedded, embeddings, norms);
+        }
+
+        /**
+         * Returns a state with the same slots, but new arrays of the given capacity.
+         */
+        private State<Embedded> withCapacity(int capacity, int dimension, boolean keepFullPrecision) {
+            State<Embedded> grown = new State<>(quantizer, capacity, size, dimension, keepFullPrecision);
+            System.arraycopy(codes, 0, grown.codes, 0, quantizer == null ? 0 : size * quantizer.codeLength());
+            System.arraycopy(codeNorms, 0, grown.codeNorms, 0, size);
+            System.arraycopy(ids, 0, grown.ids, 0, size);
+            System.arraycopy(embedded, 0, grown.embedded, 0, size);
+            if (grown.embeddings != null) {
+                System.arraycopy(embeddings, 0, grown.embeddings, 0, size);
+                System.arraycopy(norms, 0, grown.norms, 0, size);
+            }
+            return grown;
+        }
+
+        /**
+         * Returns a state with the same slots, encoded by the given quantizer into new arrays of the given capacity.
+         *
+         * @param vectors the vectors of the slots of this state.
+         */
+        private State<Embedded> encodedWith(
+                VectorQuantizer quantizer,
+                List<float[]> vectors,
+                int capacity,
+                int dimension,
+                boolean keepFullPrecision) {
+            State<Embedded> encoded = new State<>(quantizer, capacity, size, dimension, keepFullPrecision);
+            for (int slot = 0; slot < size; slot++) {
+                encoded.set(
+                        slot,
+                        ids[slot],
+                        vectors.get(slot),
+                        fullPrecisionEmbedding(slot),
+                        fullPrecisionNorm(slot),
+                        embedded[slot]);
+            }
+            return encoded;
+        }
+
+        private void set(int slot, String id, float[] vector, Embedding embedding, double norm, Object embedded) {
+            if (quantizer != null) {
+                int offset = slot * quantizer.codeLength();
+                quantizer.encode(vector, codes, offset);
+                float[] decoded = quantizer.decode(codes, offset);
+                codeNorms[slot] = KERNEL.norm(decoded, 0, decoded.length);
+            }
+            ids[slot] = id;
+            this.embedded[slot] = embedded;
+            if (embeddings != null) {
+                embeddings[slot] = embedding;
+                norms[slot] = norm;
+            }
+        }
+
+        private Embedding fullPrecisionEmbedding(int slot) {
+            return embeddings == null ? null : embeddings[slot];
+        }
+
+        private double fullPrecisionNorm(int slot) {
+            return norms == null ? 0 : norms[slot];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String id(int slot) {
+            return ids[slot];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Embedded embedded(int slot) {
+            return (Embedded) embedded[slot];
+        }
+
+        @Override
+        public Embedding embedding(int slot) {
+            if (embeddings != null) {
+                return embeddings[slot];
+            }
+            return Embedding.from(quantizer.decode(codes, slot * quantizer.codeLength()));
+        }
+
+        @Override
+        public double cosineSimilarity(int slot, float[] vector, double norm) {
+            return scorer(vector, norm).cosineSimilarity(slot);
+        }
+
+        @Override
+        public SlotScorer scorer(float[] vector, double norm) {
+            if (size == 0) {
+                return slot -> {
+                    throw new IndexOutOfBoundsException(slot);
+                };
+            }
+            if (vector.length != dimension) {
+                throw illegalArgument(
+                        "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        dimension, vector.length);
+            }
+            if (quantizer == null) {
+                return slot ->
+                        KERNEL.cosineSimilarity(embeddings[slot].vector(), 0, norms[slot], vector, 0, norm, dimension);
+            }
+            VectorQuantizer.QueryScorer queryScorer = quantizer.scorer(vector, norm);
+            int codeLength = quantizer.codeLength();
+            return slot -> queryScorer.cosineSimilarity(codes, slot * codeLength, codeNorms[slot]);
+        }
+
+        @Override
+        public boolean isApproximate() {
+            return quantizer != null;
+        }
+
+        @Override
+        public double exactCosineSimilarity(int slot, float[] vector, double norm) {
+            if (embeddings == null) {
+                return cosineSimilarity(slot, vector, norm);
+            }
+            if (vector.length != dimension) {
+                throw illegalArgument(
+                        "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        dimension, vector.length);
+            }
+            return KERNEL.cosineSimilarity(embeddings[slot].vector(), 0, norms[slot], vector, 0, norm, dimension);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link VectorQuantizer} of the {@link StorageMode#SCALAR_QUANTIZED} mode.
+ * <p>
+ * Each dimension is mapped linearly from the {@code [min..max]} range observed for that dimension
+ * in the calibration sample to 256 levels, stored as a single signed byte.
+ * Values outside of the range are clipped to its bounds.
+ * <p>
+ * The dot product with a query is computed directly from the codes:
+ * {@code q·x = Σ q[i] * (min[i] + 128 * step[i]) + Σ (q[i] * step[i]) * code[i]},
+ * where the first sum and the {@code q[i] * step[i]} factors are computed once per query.
+ */
+final class ScalarQuantizer implements VectorQuantizer {
+
+    private static final int LEVELS = 255;
+    private static final int CODE_OFFSET = 128;
+
+    private final float[] minimums;
+    private final float[] maximums;
+    private final float[] steps;
+
+    /**
+     * Creates a quantizer without any observed range, which must be calibrated before encoding any vector.
+     */
+    ScalarQuantizer(int dimension) {
+        this(filled(dimension, Float.POSITIVE_INFINITY), filled(dimension, Float.NEGATIVE_INFINITY));
+    }
+
+    private ScalarQuantizer(float[] minimums, float[] maximums) {
+        this.minimums = minimums;
+        this.maximums = maximums;
+        this.steps = new float[minimums.length];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = maximums[i] > minimums[i] ? (maximums[i] - minimums[i]) / LEVELS : 0;
+        }
+    }
+
+    @Override
+    public int codeLength() {
+        return minimums.length;
+    }
+
+    @Override
+    public VectorQuantizer calibratedWith(List<float[]> sample) {
+        float[] sampleMinimums = filled(minimums.length, Float.POSITIVE_INFINITY);
+        float[] sampleMaximums = filled(maximums.length, Float.NEGATIVE_INFINITY);
+        for (float[] vector : sample) {
+            for (int i = 0; i < vector.length; i++) {
+                sampleMinimums[i] = Math.min(sampleMinimums[i], vector[i]);
+                sampleMaximums[i] = Math.max(sampleMaximums[i], vector[i]);
+            }
+        }
+        return new ScalarQuantizer(sampleMinimums, sampleMaximums);
+    }
+
+    @Override
+    public void encode(float[] vector, byte[] codes, int offset) {
+        for (int i = 0; i < vector.length; i++) {
+            int level = 0;
+            if (steps[i] > 0) {
+                level = Math.round((vector[i] - minimums[i]) / steps[i]);
+                level = Math.max(0, Math.min(LEVELS, level));
+            }
+            codes[offset + i] = (byte) (level - CODE_OFFSET);
+        }
+    }
+
+    @Override
+    public float[] decode(byte[] codes, int offset) {
+        float[] vector = new float[minimums.length];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = minimums[i] + (codes[offset + i] + CODE_OFFSET) * steps[i];
+        }
+        return vector;
+    }
+
+    @Override
+    public QueryScorer scorer(float[] vector, double norm) {
+        float[] scaledQuery = new float[vector.length];
+        double constant = 0;
+        for (int i = 0; i < vector.length; i++) {
+            scaledQuery[i] = vector[i] * steps[i];
+            constant += vector[i] * (minimums[i] + CODE_OFFSET * steps[i]);
+        }
+        double dotProductConstant = constant;
+        return (codes, offset, codeNorm) -> {
+            float sum0 = 0;
+            float sum1 = 0;
+            float sum2 = 0;
+            float sum3 = 0;
+            int length = scaledQuery.length;
+            int i = 0;
+            for (int upperBound = length & ~3; i < upperBound; i += 4) {
+                sum0 += scaledQuery[i] * codes[offset + i];
+                sum1 += scaledQuery[i + 1] * codes[offset + i + 1];
+                sum2 += scaledQuery[i + 2] * codes[offset + i + 2];
+                sum3 += scaledQuery[i + 3] * codes[offset + i + 3];
+            }
+            for (; i < length; i++) {
+                sum0 += scaledQuery[i] * codes[offset + i];
+            }
+            double dotProduct = dotProductConstant + ((sum0 + sum1) + (sum2 + sum3));
+            return dotProduct / Math.max(norm * codeNorm, CosineSimilarity.EPSILON);
+        };
+    }
+
+    private static float[] filled(int length, float value) {
+        float[] array = new float[length];
+        Arrays.fill(array, value);
+        return array;
+    }
+}
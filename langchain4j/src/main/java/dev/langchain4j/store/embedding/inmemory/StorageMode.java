@@ -0,0 +1,54 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+
+/**
+ * Defines how an {@link InMemoryEmbeddingStore} keeps its entries in memory.
+ */
+@Experimental
+public enum StorageMode {
+
+    /**
+     * Each entry is kept as a separate object, referencing the added {@link Embedding},
+     * in a copy-on-write list.
+     * <p>
+     * Every addition copies the whole list, so this mode is best suited for small stores or stores
+     * that are populated once. This is the default mode.
+     */
+    ENTRIES,
+
+    /**
+     * The vectors of all entries are copied into large contiguous {@code float[]} segments,
+     * with IDs and embedded objects kept in parallel arrays.
+     * <p>
+     * Additions are amortized O(1), searches scan the vectors sequentially through memory,
+     * and there is no per-entry object overhead. All embeddings must have the same dimension.
+     * {@link Embedding}s returned in search results are copies of the stored vectors.
+     */
+    CONTIGUOUS,
+
+    /**
+     * Each dimension of a vector is quantized to a single byte (int8), using the range of values
+     * observed in that dimension across a calibration sample of the first added vectors.
+     * This takes 4x less memory than {@code float}s. Values of later vectors falling outside the observed ranges
+     * are clipped, see {@link InMemoryEmbeddingStore.Builder#calibrationSampleSize(Integer)}.
+     * <p>
+     * Search scores are approximations, unless rescoring is enabled
+     * (see {@link InMemoryEmbeddingStore.Builder#rescoring(Integer)}).
+     * Without rescoring, {@link Embedding}s returned in search results are reconstructed from the quantized vectors.
+     * All embeddings must have the same dimension.
+     */
+    SCALAR_QUANTIZED,
+
+    /**
+     * Each dimension of a vector is quantized to a single bit (its sign), which takes 32x less memory
+     * than {@code float}s. Similarity is calculated from the Hamming distance between the quantized query and
+     * the quantized vectors, which is much coarser than {@link #SCALAR_QUANTIZED},
+     * so it is best used together with rescoring (see {@link InMemoryEmbeddingStore.Builder#rescoring(Integer)}).
+     * <p>
+     * Without rescoring, {@link Embedding}s returned in search results consist of {@code -1} and {@code 1} values.
+     * All embeddings must have the same dimension.
+     */
+    BINARY_QUANTIZED
+}
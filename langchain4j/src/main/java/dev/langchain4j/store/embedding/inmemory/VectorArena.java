@@ -0,0 +1,264 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+
+/**
+ * {@link EntryStorage} of the {@link StorageMode#CONTIGUOUS} mode.
+ * <p>
+ * Vectors are packed into large {@code float[]} segments, {@value #SEGMENT_CAPACITY} vectors each,
+ * with their norms, IDs and embedded objects kept in parallel arrays. All segments except the last one are full,
+ * so a slot is addressed without any lookup, and scans run sequentially through memory.
+ * <p>
+ * Mutations are serialized and use segmented copy-on-write: the published {@link State} is never modified
+ * in a way that is visible to its readers. Appends write past the size of the published state
+ * (growing the last segment geometrically), so they are amortized O(1).
+ * Removals only copy the segments starting from the first removed slot.
+ */
+class VectorArena<Embedded> implements EntryStorage<Embedded> {
+
+    static final int SEGMENT_CAPACITY = 1 << 12;
+    private static final int SEGMENT_SHIFT = 12;
+    private static final int SEGMENT_MASK = SEGMENT_CAPACITY - 1;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+    private static final SimilarityKernel KERNEL = SimilarityKernels.defaultKernel();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile State<Embedded> state = State.empty();
+
+    @Override
+    public void addAll(List<Entry<Embedded>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            int dimension = dimensionFor(entries.get(0).embedding.dimension());
+            for (Entry<Embedded> entry : entries) {
+                ensureDimension(entry.embedding.dimension(), dimension);
+            }
+            append(entries.size(), dimension, (segment, offset, i) -> segment.set(offset, entries.get(i), dimension));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private int dimensionFor(int firstDimension) {
+        return state.size == 0 ? firstDimension : state.dimension;
+    }
+
+    private static void ensureDimension(int dimension, int expectedDimension) {
+        if (dimension != expectedDimension) {
+            throw illegalArgument(
+                    "The dimension of the embedding (%s) must be equal to the dimension "
+                            + "of the embeddings already stored (%s)",
+                    dimension, expectedDimension);
+        }
+    }
+
+    private void append(int count, int dimension, SlotWriter<Embedded> writer) {
+        State<Embedded> current = state;
+
+        int size = current.size;
+        int requiredSegments = (size + count + SEGMENT_CAPACITY - 1) >>> SEGMENT_SHIFT;
+        Segment<Embedded>[] segments = Arrays.copyOf(current.segments, requiredSegments);
+        for (int i = 0; i < count; i++) {
+            int segmentIndex = size >>> SEGMENT_SHIFT;
+            int offset = size & SEGMENT_MASK;
+            int required = Math.min(offset + count - i, SEGMENT_CAPACITY);
+            Segment<Embedded> segment = segments[segmentIndex];
+            if (segment == null) {
+                segment = new Segment<>(Math.max(required, INITIAL_SEGMENT_CAPACITY), dimension);
+                segments[segmentIndex] = segment;
+            } else if (offset == segment.capacity()) {
+                segment = segment.grow(offset, Math.max(required, 2 * offset), dimension);
+                segments[segmentIndex] = segment;
+            }
+            writer.write(segment, offset, i);
+            size++;
+        }
+
+        state = new State<>(segments, size, dimension);
+    }
+
+    @Override
+    public void removeIf(BiPredicate<String, Embedded> predicate) {
+        writeLock.lock();
+        try {
+            State<Embedded> current = state;
+
+            int firstRemoved = -1;
+            for (int slot = 0; slot < current.size; slot++) {
+                if (predicate.test(current.id(slot), current.embedded(slot))) {
+                    firstRemoved = slot;
+                    break;
+                }
+            }
+            if (firstRemoved < 0) {
+                return;
+            }
+
+            // segments before the first removed slot are kept as they are, all others are compacted into new ones
+            int firstRewrittenSegment = firstRemoved >>> SEGMENT_SHIFT;
+            int remainingSize = firstRewrittenSegment << SEGMENT_SHIFT;
+            int maxSegments = current.segments.length;
+            Segment<Embedded>[] segments = Arrays.copyOf(current.segments, maxSegments);
+            Arrays.fill(segments, firstRewrittenSegment, maxSegments, null);
+
+            for (int slot = remainingSize; slot < current.size; slot++) {
+                if (slot >= firstRemoved && predicate.test(current.id(slot), current.embedded(slot))) {
+                    continue;
+                }
+                int segmentIndex = remainingSize >>> SEGMENT_SHIFT;
+                if (segments[segmentIndex] == null) {
+                    int left = current.size - slot;
+                    segments[segmentIndex] = new Segment<>(Math.min(left, SEGMENT_CAPACITY), current.dimension);
+                }
+                segments[segmentIndex].copy(remainingSize & SEGMENT_MASK, current, slot);
+                remainingSize++;
+            }
+
+            int usedSegments = (remainingSize + SEGMENT_CAPACITY - 1) >>> SEGMENT_SHIFT;
+            state = remainingSize == 0
+                    ? State.empty()
+                    : new State<>(Arrays.copyOf(segments, usedSegments), remainingSize, current.dimension);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            state = State.empty();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Snapshot<Embedded> snapshot() {
+        return state;
+    }
+
+    private static final class Segment<Embedded> {
+
+        private final float[] vectors;
+        private final double[] norms;
+        private final String[] ids;
+        private final Object[] embedded;
+
+        private Segment(int capacity, int dimension) {
+            this.vectors = new float[capacity * dimension];
+            this.norms = new double[capacity];
+            this.ids = new String[capacity];
+            this.embedded = new Object[capacity];
+        }
+
+        private int capacity() {
+            return ids.length;
+        }
+
+        /**
+         * Returns a copy of this segment with the given capacity (up to {@link #SEGMENT_CAPACITY}),
+         * containing the first {@code size} slots.
+         */
+        private Segment<Embedded> grow(int size, int capacity, int dimension) {
+            Segment<Embedded> grown = new Segment<>(Math.min(capacity, SEGMENT_CAPACITY), dimension);
+            System.arraycopy(vectors, 0, grown.vectors, 0, size * dimension);
+            System.arraycopy(norms, 0, grown.norms, 0, size);
+            System.arraycopy(ids, 0, grown.ids, 0, size);
+            System.arraycopy(embedded, 0, grown.embedded, 0, size);
+            return grown;
+        }
+
+        private void set(int offset, Entry<Embedded> entry, int dimension) {
+            System.arraycopy(entry.embedding.vector(), 0, vectors, offset * dimension, dimension);
+            norms[offset] = entry.norm;
+            ids[offset] = entry.id;
+            embedded[offset] = entry.embedded;
+        }
+
+        private void copy(int offset, State<Embedded> source, int slot) {
+            Segment<Embedded> sourceSegment = source.segments[slot >>> SEGMENT_SHIFT];
+            int sourceOffset = slot & SEGMENT_MASK;
+            int dimension = source.dimension;
+            System.arraycopy(sourceSegment.vectors, sourceOffset * dimension, vectors, offset * dimension, dimension);
+            norms[offset] = sourceSegment.norms[sourceOffset];
+            ids[offset] = sourceSegment.ids[sourceOffset];
+            embedded[offset] = sourceSegment.embedded[sourceOffset];
+        }
+    }
+
+    @FunctionalInterface
+    private interface SlotWriter<Embedded> {
+
+        void write(Segment<Embedded> segment, int offset, int index);
+    }
+
+    private static final class State<Embedded> implements Snapshot<Embedded> {
+
+        @SuppressWarnings("rawtypes")
+        private static final State EMPTY = new State<>(new Segment[0], 0, 0);
+
+        private final Segment<Embedded>[] segments;
+        private final int size;
+        private final int dimension;
+
+        private State(Segment<Embedded>[] segments, int size, int dimension) {
+            this.segments = segments;
+            this.size = size;
+            this.dimension = dimension;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <Embedded> State<Embedded> empty() {
+            return EMPTY;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String id(int slot) {
+            return segments[slot >>> SEGMENT_SHIFT].ids[slot & SEGMENT_MASK];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Embedded embedded(int slot) {
+            return (Embedded) segments[slot >>> SEGMENT_SHIFT].embedded[slot & SEGMENT_MASK];
+        }
+
+        @Override
+        public Embedding embedding(int slot) {
+            int from = (slot & SEGMENT_MASK) * dimension;
+            float[] vectors = segments[slot >>> SEGMENT_SHIFT].vectors;
+            return Embedding.from(Arrays.copyOfRange(vectors, from, from + dimension));
+        }
+
+        @Override
+        public double cosineSimilarity(int slot, float[] vector, double norm) {
+            if (vector.length != dimension) {
+                throw illegalArgument(
+                        "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        dimension, vector.length);
+            }
+            Segment<Embedded> segment = segments[slot >>> SEGMENT_SHIFT];
+            int offset = slot & SEGMENT_MASK;
+            return KERNEL.cosineSimilarity(
+                    segment.vectors, offset * dimension, segment.norms[offset], vector, 0, norm, dimension);
+        }
+    }
+}
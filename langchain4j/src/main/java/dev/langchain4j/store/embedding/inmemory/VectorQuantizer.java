@@ -0,0 +1,50 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.List;
+
+/**
+ * Encodes {@code float} vectors into compact codes, see {@link QuantizedStorage}.
+ * <p>
+ * Implementations are immutable: calibrating a quantizer returns a new instance,
+ * and all stored vectors have to be encoded again with it.
+ */
+interface VectorQuantizer {
+
+    /**
+     * Returns the number of bytes of the code of a single vector.
+     */
+    int codeLength();
+
+    /**
+     * Returns a quantizer fitted to the given sample of vectors.
+     * Vectors encoded later, which fall outside the ranges of the sample, are clipped to them.
+     */
+    VectorQuantizer calibratedWith(List<float[]> sample);
+
+    void encode(float[] vector, byte[] codes, int offset);
+
+    /**
+     * Reconstructs an approximation of an encoded vector.
+     */
+    float[] decode(byte[] codes, int offset);
+
+    /**
+     * Prepares the given query vector for the calculation of its similarity to encoded vectors.
+     *
+     * @param vector the query vector.
+     * @param norm   the norm of the query vector.
+     */
+    QueryScorer scorer(float[] vector, double norm);
+
+    interface QueryScorer {
+
+        /**
+         * Approximates the cosine similarity between the query and an encoded vector.
+         *
+         * @param codes    the array containing the code.
+         * @param offset   the offset of the code in {@code codes}.
+         * @param codeNorm the norm of the decoded vector, see {@link #decode(byte[], int)}.
+         */
+        double cosineSimilarity(byte[] codes, int offset, double codeNorm);
+    }
+}
@@ -3,6 +3,14 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocument;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocuments;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocumentsRecursively;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocuments;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocumentsRecursively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
@@ -16,6 +24,7 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.stream.Stream;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -268,6 +277,52 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
                 .isEqualTo(documents);
     }
 
+    @Test
+    void should_stream_same_documents_as_loaded() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**.banana");
+
+        // when-then
+        try (Stream<Document> documents = streamDocuments(resourceDirectory)) {
+            assertThat(documents).containsExactlyInAnyOrderElementsOf(loadDocuments(resourceDirectory));
+        }
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory)) {
+            assertThat(documents).containsExactlyInAnyOrderElementsOf(loadDocumentsRecursively(resourceDirectory));
+        }
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory, pathMatcher)) {
+            assertThat(documents)
+                    .containsExactlyInAnyOrderElementsOf(loadDocumentsRecursively(resourceDirectory, pathMatcher))
+                    .hasSize(4);
+        }
+    }
+
+    @Test
+    void should_load_documents_only_when_stream_is_consumed() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        DocumentParser parser = mock(DocumentParser.class);
+        when(parser.parse(any())).thenReturn(Document.from("text"));
+
+        // when
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory, parser)) {
+
+            // then
+            verifyNoInteractions(parser);
+            assertThat(documents.limit(2)).hasSize(2);
+            verify(parser, times(2)).parse(any());
+        }
+    }
+
+    @Test
+    void stream_bad_directory() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> streamDocumentsRecursively(Paths.get("bad_directory")))
+                .withMessageContaining("'bad_directory' is not a directory");
+    }
+
     private static Path resourceDirectory() {
         String userDir = System.getProperty("user.dir");
         Path resourceDirectory = Paths.get(userDir, "langchain4j/src/test/resources");
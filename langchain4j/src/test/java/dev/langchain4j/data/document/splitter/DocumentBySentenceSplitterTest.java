@@ -1,19 +1,21 @@
 package dev.langchain4j.data.document.splitter;
 
-import dev.langchain4j.data.document.Document;
-import dev.langchain4j.data.document.DocumentSplitter;
-import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.model.openai.OpenAiTokenizer;
-import org.junit.jupiter.api.Test;
-
-import java.util.List;
-
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static dev.langchain4j.model.openai.OpenAiModelName.GPT_3_5_TURBO;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
 class DocumentBySentenceSplitterTest {
 
     @Test
@@ -29,21 +31,17 @@ class DocumentBySentenceSplitterTest {
 
         assertThat(firstSentence + " " + secondSentence).hasSizeGreaterThan(maxSegmentSize);
 
-        Document document = Document.from(
-                format(" %s  %s ", firstSentence, secondSentence),
-                metadata("document", "0")
-        );
+        Document document = Document.from(format(" %s  %s ", firstSentence, secondSentence), metadata("document", "0"));
 
         DocumentSplitter splitter = new DocumentBySentenceSplitter(maxSegmentSize, 0);
 
         List<TextSegment> segments = splitter.split(document);
 
-        segments.forEach(segment ->
-                assertThat(segment.text().length()).isLessThanOrEqualTo(maxSegmentSize));
-        assertThat(segments).containsExactly(
-                textSegment(firstSentence, metadata("index", "0").put("document", "0")),
-                textSegment(secondSentence, metadata("index", "1").put("document", "0"))
-        );
+        segments.forEach(segment -> assertThat(segment.text().length()).isLessThanOrEqualTo(maxSegmentSize));
+        assertThat(segments)
+                .containsExactly(
+                        textSegment(firstSentence, metadata("index", "0").put("document", "0")),
+                        textSegment(secondSentence, metadata("index", "1").put("document", "0")));
     }
 
     @Test
@@ -56,24 +54,22 @@ class DocumentBySentenceSplitterTest {
         assertThat(firstSentence + " " + secondSentence).hasSizeLessThan(maxSegmentSize);
 
         String thirdSentence = "This is a third sentence.";
-        assertThat(firstSentence + " " + secondSentence + " " + thirdSentence)
-                .hasSizeGreaterThan(maxSegmentSize);
+        assertThat(firstSentence + " " + secondSentence + " " + thirdSentence).hasSizeGreaterThan(maxSegmentSize);
 
         Document document = Document.from(
-                format(" %s  %s  %s ", firstSentence, secondSentence, thirdSentence),
-                metadata("document", "0")
-        );
+                format(" %s  %s  %s ", firstSentence, secondSentence, thirdSentence), metadata("document", "0"));
 
         DocumentSplitter splitter = new DocumentBySentenceSplitter(maxSegmentSize, 0);
 
         List<TextSegment> segments = splitter.split(document);
 
-        segments.forEach(segment ->
-                assertThat(segment.text().length()).isLessThanOrEqualTo(maxSegmentSize));
-        assertThat(segments).containsExactly(
-                textSegment(firstSentence + " " + secondSentence, metadata("index", "0").put("document", "0")),
-                textSegment(thirdSentence, metadata("index", "1").put("document", "0"))
-        );
+        segments.forEach(segment -> assertThat(segment.text().length()).isLessThanOrEqualTo(maxSegmentSize));
+        assertThat(segments)
+                .containsExactly(
+                        textSegment(
+                                firstSentence + " " + secondSentence,
+                                metadata("index", "0").put("document", "0")),
+                        textSegment(thirdSentence, metadata("index", "1").put("document", "0")));
     }
 
     @Test
@@ -91,22 +87,22 @@ class DocumentBySentenceSplitterTest {
         assertThat(thirdSentence).hasSizeLessThan(maxSegmentSize);
 
         Document document = Document.from(
-                format(" %s  %s  %s ", firstSentence, secondSentence, thirdSentence),
-                metadata("document", "0")
-        );
+                format(" %s  %s  %s ", firstSentence, secondSentence, thirdSentence), metadata("document", "0"));
 
         DocumentSplitter splitter = new DocumentBySentenceSplitter(maxSegmentSize, 0);
 
         List<TextSegment> segments = splitter.split(document);
 
-        segments.forEach(segment ->
-                assertThat(segment.text().length()).isLessThanOrEqualTo(maxSegmentSize));
-        assertThat(segments).containsExactly(
-                textSegment(firstSentence, metadata("index", "0").put("document", "0")),
-                textSegment("This is a very long sentence that does", metadata("index", "1").put("document", "0")),
-                textSegment("not fit into segment.", metadata("index", "2").put("document", "0")),
-                textSegment(thirdSentence, metadata("index", "3").put("document", "0"))
-        );
+        segments.forEach(segment -> assertThat(segment.text().length()).isLessThanOrEqualTo(maxSegmentSize));
+        assertThat(segments)
+                .containsExactly(
+                        textSegment(firstSentence, metadata("index", "0").put("document", "0")),
+                        textSegment(
+                                "This is a very long sentence that does",
+                                metadata("index", "1").put("document", "0")),
+                        textSegment(
+                                "not fit into segment.", metadata("index", "2").put("document", "0")),
+                        textSegment(thirdSentence, metadata("index", "3").put("document", "0")));
     }
 
     @Test
@@ -118,8 +114,8 @@ class DocumentBySentenceSplitterTest {
         String s3 = "Fields of gold stretched as far as the eye could see, punctuated by tiny blossoms.";
         String s4 = "The wind whispered.";
 
-        String s5p1 = "Sometimes, it would carry fragrances from the neighboring towns, which included chocolate, " +
-                "freshly baked bread, and the salty tang of";
+        String s5p1 = "Sometimes, it would carry fragrances from the neighboring towns, which included chocolate, "
+                + "freshly baked bread, and the salty tang of";
 
         String s5p2 = "the sea.";
 
@@ -146,10 +142,8 @@ class DocumentBySentenceSplitterTest {
         Document document = Document.from(
                 format(
                         "%s %s %s %s %s %s %s %s %s %s %s %s %s %s %s %s %s %s %s",
-                        s1, s2, s3, s4, s5p1, s5p2, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18
-                ),
-                metadata("document", "0")
-        );
+                        s1, s2, s3, s4, s5p1, s5p2, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18),
+                metadata("document", "0"));
 
         int maxSegmentSize = 26;
         OpenAiTokenizer tokenizer = new OpenAiTokenizer(GPT_3_5_TURBO);
@@ -159,18 +153,50 @@ class DocumentBySentenceSplitterTest {
 
         segments.forEach(segment ->
                 assertThat(tokenizer.estimateTokenCountInText(segment.text())).isLessThanOrEqualTo(maxSegmentSize));
-        assertThat(segments).containsExactly(
-                textSegment(s1 + " " + s2, metadata("index", "0").put("document", "0")),
-                textSegment(s3 + " " + s4, metadata("index", "1").put("document", "0")),
-                textSegment(s5p1, metadata("index", "2").put("document", "0")),
-                textSegment(s5p2, metadata("index", "3").put("document", "0")),
-                textSegment(s6, metadata("index", "4").put("document", "0")),
-                textSegment(s7, metadata("index", "5").put("document", "0")),
-                textSegment(s8 + " " + s9, metadata("index", "6").put("document", "0")),
-                textSegment(s10, metadata("index", "7").put("document", "0")),
-                textSegment(s11 + " " + s12 + " " + s13 + " " + s14, metadata("index", "8").put("document", "0")),
-                textSegment(s15 + " " + s16 + " " + s17, metadata("index", "9").put("document", "0")),
-                textSegment(s18, metadata("index", "10").put("document", "0"))
-        );
+        assertThat(segments)
+                .containsExactly(
+                        textSegment(s1 + " " + s2, metadata("index", "0").put("document", "0")),
+                        textSegment(s3 + " " + s4, metadata("index", "1").put("document", "0")),
+                        textSegment(s5p1, metadata("index", "2").put("document", "0")),
+                        textSegment(s5p2, metadata("index", "3").put("document", "0")),
+                        textSegment(s6, metadata("index", "4").put("document", "0")),
+                        textSegment(s7, metadata("index", "5").put("document", "0")),
+                        textSegment(s8 + " " + s9, metadata("index", "6").put("document", "0")),
+                        textSegment(s10, metadata("index", "7").put("document", "0")),
+                        textSegment(
+                                s11 + " " + s12 + " " + s13 + " " + s14,
+                                metadata("index", "8").put("document", "0")),
+                        textSegment(
+                                s15 + " " + s16 + " " + s17,
+                                metadata("index", "9").put("document", "0")),
+                        textSegment(s18, metadata("index", "10").put("document", "0")));
+    }
+
+    @Test
+    void should_split_documents_in_parallel() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            documents.add(Document.from(
+                    format(
+                            "This is sentence %s of Mr. Smith. It is followed by sentence %s. And by another one.",
+                            i, i + 1),
+                    metadata("document", String.valueOf(i))));
+        }
+        DocumentSplitter splitter = new DocumentBySentenceSplitter(50, 20);
+        List<TextSegment> expected = splitter.splitAll(documents);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+
+            // when
+            List<TextSegment> segments = splitter.splitAll(documents, executor);
+
+            // then
+            assertThat(segments).containsExactlyElementsOf(expected);
+        } finally {
+            executor.shutdown();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package dev.langchain4j.data.document.splitter;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +67,29 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void should_measure_segment_only_when_needed() {
+        List<String> measured = new ArrayList<>();
+        SegmentBuilder builder = new SegmentBuilder(
+                10,
+                text -> {
+                    measured.add(text);
+                    return text.length();
+                },
+                " ");
+        measured.clear();
+
+        builder.append("one", 3);
+        builder.append("two", 3);
+        assertThat(builder.hasSpaceFor(2)).isTrue();
+        assertThat(measured).isEmpty();
+
+        assertThat(builder.hasSpaceFor(3)).isFalse();
+        assertThat(measured).containsExactly("one two");
+        assertThat(builder.getSize()).isEqualTo(7);
+
+        assertThat(builder.parts()).containsExactly("one", "two");
+        assertThat(builder.sizeOfPart(1)).isEqualTo(3);
+    }
 }
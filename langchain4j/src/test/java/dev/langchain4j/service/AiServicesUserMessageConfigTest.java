@@ -162,6 +162,24 @@ class AiServicesUserMessageConfigTest {
         verify(chatLanguageModel).supportedCapabilities();
     }
 
+    @Test
+    void should_resolve_method_configuration_only_once() {
+
+        // given
+        AiService aiService = AiServices.builder(AiService.class)
+                .chatLanguageModel(chatLanguageModel)
+                .build();
+
+        // when
+        aiService.chat6("Germany");
+        aiService.chat6("France");
+
+        // then
+        verify(chatLanguageModel).chat(chatRequest("What is the capital of Germany?"));
+        verify(chatLanguageModel).chat(chatRequest("What is the capital of France?"));
+        verify(chatLanguageModel).supportedCapabilities();
+    }
+
     @Test
     void user_message_configuration_7() {
 
@@ -0,0 +1,150 @@
+package dev.langchain4j.service.tool;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class ToolServiceTest implements WithAssertions {
+
+    @Test
+    void should_execute_tools_concurrently_and_keep_order_of_results() throws Exception {
+
+        // given
+        CountDownLatch allStarted = new CountDownLatch(2);
+        ToolExecutor waitingForOtherTool = (request, memoryId) -> {
+            allStarted.countDown();
+            try {
+                return allStarted.await(5, SECONDS) ? "result of " + request.name() : "not executed concurrently";
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        ToolService toolService = new ToolService();
+        toolService.tools(tools(Map.of("first", waitingForOtherTool, "second", waitingForOtherTool)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        toolService.executeToolsConcurrently(executor);
+
+        try {
+            // when
+            List<ToolExecutionResultMessage> results = toolService.executeTools(
+                    List.of(request("1", "second"), request("2", "first")), toolService.toolExecutors(), "default");
+
+            // then
+            assertThat(results)
+                    .extracting(ToolExecutionResultMessage::id, ToolExecutionResultMessage::text)
+                    .containsExactly(tuple("1", "result of second"), tuple("2", "result of first"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_return_error_to_llm_and_interrupt_tool_when_tool_times_out() throws Exception {
+
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ToolExecutor slow = (request, memoryId) -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new RuntimeException(e);
+            }
+            return "too late";
+        };
+        ToolExecutor fast = (request, memoryId) -> "done";
+
+        ToolService toolService = new ToolService();
+        Map<String, ToolExecutor> executors = new LinkedHashMap<>();
+        executors.put("slow", slow);
+        executors.put("fast", fast);
+        toolService.tools(tools(executors));
+        toolService.executeToolsConcurrently();
+        toolService.toolExecutionTimeout(Duration.ofMillis(100));
+
+        // when
+        List<ToolExecutionResultMessage> results = toolService.executeTools(
+                List.of(request("1", "slow"), request("2", "fast")), toolService.toolExecutors(), "default");
+
+        // then
+        assertThat(results)
+                .extracting(ToolExecutionResultMessage::text)
+                .containsExactly("The execution of the tool 'slow' did not complete within 100 ms", "done");
+        assertThat(interrupted.await(1, SECONDS)).isTrue();
+    }
+
+    @Test
+    void should_not_time_out_tools_executed_in_calling_thread() {
+
+        // given
+        ToolExecutor slow = (request, memoryId) -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return Thread.currentThread().getName();
+        };
+
+        ToolService toolService = new ToolService();
+        toolService.tools(tools(Map.of("slow", slow)));
+        toolService.toolExecutionTimeout(Duration.ofMillis(100));
+
+        // when
+        List<ToolExecutionResultMessage> results =
+                toolService.executeTools(List.of(request("1", "slow")), toolService.toolExecutors(), "default");
+
+        // then
+        assertThat(results)
+                .extracting(ToolExecutionResultMessage::text)
+                .containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void should_execute_tools_sequentially_by_default() {
+
+        // given
+        StringBuilder executionOrder = new StringBuilder();
+        ToolExecutor recording = (request, memoryId) -> {
+            executionOrder.append(request.name());
+            return Thread.currentThread().getName();
+        };
+
+        ToolService toolService = new ToolService();
+        toolService.tools(tools(Map.of("a", recording, "b", recording)));
+
+        // when
+        List<ToolExecutionResultMessage> results = toolService.executeTools(
+                List.of(request("1", "b"), request("2", "a")), toolService.toolExecutors(), "default");
+
+        // then
+        assertThat(executionOrder.toString()).isEqualTo("ba");
+        assertThat(results)
+                .extracting(ToolExecutionResultMessage::text)
+                .containsOnly(Thread.currentThread().getName());
+    }
+
+    private static Map<ToolSpecification, ToolExecutor> tools(Map<String, ToolExecutor> executors) {
+        Map<ToolSpecification, ToolExecutor> tools = new LinkedHashMap<>();
+        executors.forEach((name, executor) ->
+                tools.put(ToolSpecification.builder().name(name).build(), executor));
+        return tools;
+    }
+
+    private static ToolExecutionRequest request(String id, String name) {
+        return ToolExecutionRequest.builder().id(id).name(name).arguments("{}").build();
+    }
+}
@@ -0,0 +1,46 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class EntryListStorageTest {
+
+    @Test
+    void snapshot_should_not_see_later_mutations() {
+
+        // given
+        EntryListStorage<String> storage = new EntryListStorage<>(new CopyOnWriteArrayList<>());
+        List<Entry<String>> entries = entries(100);
+        storage.addAll(entries);
+
+        // when
+        EntryStorage.Snapshot<String> snapshot = storage.snapshot();
+        storage.removeIf((id, embedded) -> Integer.parseInt(id) % 2 == 0);
+        storage.addAll(entries(10));
+        EntryStorage.Snapshot<String> snapshotAfterMutations = storage.snapshot();
+        storage.clear();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(100);
+        assertThat(snapshot.entries()).isEqualTo(entries);
+        for (int slot = 0; slot < entries.size(); slot++) {
+            assertThat(snapshot.id(slot)).isEqualTo(entries.get(slot).id);
+        }
+        assertThat(snapshotAfterMutations.size()).isEqualTo(60);
+        assertThat(storage.snapshot().size()).isZero();
+    }
+
+    private static List<Entry<String>> entries(int count) {
+        List<Entry<String>> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry<>(String.valueOf(i), Embedding.from(new float[] {i, 1}), "embedded " + i));
+        }
+        return entries;
+    }
+}
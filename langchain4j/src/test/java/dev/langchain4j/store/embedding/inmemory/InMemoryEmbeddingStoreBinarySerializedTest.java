@@ -0,0 +1,256 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests if {@link InMemoryEmbeddingStore} works correctly after being written to and loaded back
+ * from the binary format.
+ */
+class InMemoryEmbeddingStoreBinarySerializedTest extends EmbeddingStoreWithFilteringIT {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_preserve_entries_and_metadata_types() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        Metadata metadata = new Metadata()
+                .put("string", "ünïcödé")
+                .put("uuid", UUID.randomUUID())
+                .put("integer", Integer.MIN_VALUE)
+                .put("long", Long.MAX_VALUE)
+                .put("float", 1.23f)
+                .put("double", -4.56d);
+        store.add("1", Embedding.from(new float[] {1, 2, 3}), TextSegment.from("first", metadata));
+        store.add("2", Embedding.from(new float[] {-1, 0, 0.5f}));
+        store.add("3", Embedding.from(new float[] {Float.MIN_VALUE, Float.MAX_VALUE, 0}), TextSegment.from("third"));
+        Path filePath = temporaryDirectory.resolve("store.bin");
+
+        // when
+        store.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> loaded = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // then
+        assertThat(loaded.copyOfEntries()).isEqualTo(store.copyOfEntries());
+        assertThat(loaded.copyOfEntries().get(0).embedded.metadata().toMap()).isEqualTo(metadata.toMap());
+    }
+
+    @Test
+    void should_write_and_load_empty_store() {
+
+        // given
+        Path filePath = temporaryDirectory.resolve("empty.bin");
+
+        // when
+        new InMemoryEmbeddingStore<TextSegment>().serializeToBinaryFile(filePath.toString());
+        InMemoryEmbeddingStore<TextSegment> loaded = InMemoryEmbeddingStore.fromBinaryFile(filePath.toString());
+
+        // then
+        assertThat(loaded.copyOfEntries()).isEmpty();
+    }
+
+    @Test
+    void should_fail_to_load_json_file() throws IOException {
+
+        // given
+        Path filePath = temporaryDirectory.resolve("store.json");
+        Files.writeString(filePath, new InMemoryEmbeddingStore<TextSegment>().serializeToJson() + " ".repeat(100));
+
+        // when-then
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.fromBinaryFile(filePath))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("File %s is not an InMemoryEmbeddingStore binary file", filePath);
+    }
+
+    @Test
+    void should_fail_to_write_embeddings_of_different_dimensions() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add(Embedding.from(new float[] {1, 2, 3}));
+        store.add(Embedding.from(new float[] {1, 2}));
+
+        // when-then
+        assertThatThrownBy(() -> store.serializeToBinaryFile(temporaryDirectory.resolve("store.bin")))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("All embeddings must have the same dimension to be written in the binary format, "
+                        + "but found 3 and 2");
+    }
+
+    @Test
+    void should_write_vectors_in_little_endian_order() throws IOException {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add("1", Embedding.from(new float[] {1.5f, -2, 3}), TextSegment.from("first"));
+        Path filePath = temporaryDirectory.resolve("store.bin");
+
+        // when
+        store.serializeToBinaryFile(filePath);
+
+        // then
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        assertThat(file.getInt(4)).isEqualTo(InMemoryEmbeddingStoreBinaryFormat.VERSION);
+        file.order(LITTLE_ENDIAN);
+        long vectorsPosition = file.getLong(16);
+        assertThat(file.getFloat((int) vectorsPosition)).isEqualTo(1.5f);
+        assertThat(file.getFloat((int) vectorsPosition + Float.BYTES)).isEqualTo(-2);
+    }
+
+    @Test
+    void should_fail_to_load_file_of_previous_version() throws IOException {
+
+        // given
+        Path filePath = temporaryDirectory.resolve("store.bin");
+        new InMemoryEmbeddingStore<TextSegment>().serializeToBinaryFile(filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(4, 1);
+        Files.write(filePath, bytes);
+
+        // when-then
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.fromBinaryFile(filePath))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported version 1 of the binary format in file %s", filePath);
+    }
+
+    @Test
+    void should_remove_loaded_entries_by_id_without_decoding_their_payloads() throws IOException {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add("1", Embedding.from(new float[] {1, 2, 3}), TextSegment.from("first"));
+        store.add("2", Embedding.from(new float[] {-1, 0, 0.5f}), TextSegment.from("second"));
+        store.add("3", Embedding.from(new float[] {0, 1, 0}), TextSegment.from("third"));
+        Path filePath = temporaryDirectory.resolve("store.bin");
+        store.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStoreBinaryFormat.MappedFile file = InMemoryEmbeddingStoreBinaryFormat.read(filePath);
+        MappedEntryStorage storage = new MappedEntryStorage(file);
+
+        // when
+        storage.removeAll(List.of("1", "3"));
+
+        // then
+        for (int slot = 0; slot < file.count(); slot++) {
+            assertThat(file.decodedEmbedded(slot)).isNull();
+        }
+        assertThat(storage.snapshot().size()).isEqualTo(1);
+        assertThat(storage.snapshot().id(0)).isEqualTo("2");
+        assertThat(storage.snapshot().embedded(0)).isEqualTo(TextSegment.from("second"));
+    }
+
+    @Test
+    void should_search_loaded_store_with_the_same_scores() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add("1", Embedding.from(new float[] {1, 2, 3}), TextSegment.from("first"));
+        store.add("2", Embedding.from(new float[] {-1, 0, 0.5f}), TextSegment.from("second"));
+        store.add("3", Embedding.from(new float[] {0.3f, -0.2f, 0.9f}));
+        Path filePath = temporaryDirectory.resolve("store.bin");
+        store.serializeToBinaryFile(filePath);
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] {0.5f, 1, -0.25f}))
+                .maxResults(3)
+                .build();
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> loaded = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // then
+        assertThat(loaded.search(request).matches())
+                .isEqualTo(store.search(request).matches());
+    }
+
+    @Test
+    void should_add_and_remove_entries_of_loaded_store_without_modifying_the_file() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add("1", Embedding.from(new float[] {1, 2, 3}), TextSegment.from("first"));
+        store.add("2", Embedding.from(new float[] {-1, 0, 0.5f}), TextSegment.from("second"));
+        Path filePath = temporaryDirectory.resolve("store.bin");
+        store.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> loaded = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // when
+        loaded.add("3", Embedding.from(new float[] {0, 1, 0}), TextSegment.from("third"));
+        loaded.remove("1");
+
+        // then
+        assertThat(loaded.copyOfEntries()).extracting(entry -> entry.id).containsExactly("2", "3");
+        assertThat(InMemoryEmbeddingStore.fromBinaryFile(filePath).copyOfEntries())
+                .isEqualTo(store.copyOfEntries());
+        assertThatThrownBy(() -> loaded.add(Embedding.from(new float[] {1, 2})))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The dimension of the embedding (2) must be equal to the dimension "
+                        + "of the embeddings already stored (3)");
+    }
+
+    @Test
+    void should_replace_file_the_store_was_loaded_from() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add("1", Embedding.from(new float[] {1, 2, 3}), TextSegment.from("first"));
+        Path filePath = temporaryDirectory.resolve("store.bin");
+        store.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> loaded = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // when
+        loaded.add("2", Embedding.from(new float[] {-1, 0, 0.5f}), TextSegment.from("second"));
+        loaded.serializeToBinaryFile(filePath);
+
+        // then
+        assertThat(loaded.copyOfEntries()).hasSize(2);
+        assertThat(InMemoryEmbeddingStore.fromBinaryFile(filePath).copyOfEntries())
+                .isEqualTo(loaded.copyOfEntries());
+        assertThat(temporaryDirectory.toFile().list()).noneMatch(name -> name.endsWith(".tmp"));
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        writeAndLoad();
+        return embeddingStore;
+    }
+
+    private void writeAndLoad() {
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        embeddingStore.serializeToBinaryFile(filePath);
+        embeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
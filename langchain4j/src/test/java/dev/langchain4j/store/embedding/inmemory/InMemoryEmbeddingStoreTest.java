@@ -6,16 +6,23 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
@@ -109,6 +116,65 @@ class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
         assertThat(matches.get(1).embedded()).isEqualTo(segment2);
     }
 
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    void search_all_should_return_same_results_as_search(StorageMode storageMode) {
+
+        // given
+        List<InMemoryEmbeddingStore<TextSegment>> stores = List.of(
+                InMemoryEmbeddingStore.<TextSegment>builder()
+                        .storageMode(storageMode)
+                        .build(),
+                InMemoryEmbeddingStore.<TextSegment>builder()
+                        .storageMode(storageMode)
+                        .parallelSearch(1)
+                        .build(),
+                InMemoryEmbeddingStore.<TextSegment>builder()
+                        .storageMode(storageMode)
+                        .metadataIndex("group")
+                        .build());
+
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = TextSegment.from("text " + i, new Metadata().put("group", i % 50));
+            for (InMemoryEmbeddingStore<TextSegment> store : stores) {
+                store.add(String.valueOf(i), embedding, segment);
+            }
+        }
+
+        List<EmbeddingSearchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requests.add(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .maxResults(1 + i)
+                    .minScore(i % 2 == 0 ? 0 : 0.6)
+                    .filter(i % 3 == 0 ? metadataKey("group").isEqualTo(i) : null)
+                    .build());
+        }
+
+        for (InMemoryEmbeddingStore<TextSegment> store : stores) {
+
+            // when
+            List<EmbeddingSearchResult<TextSegment>> results = store.searchAll(requests);
+
+            // then
+            assertThat(results).hasSize(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                assertThat(results.get(i).matches())
+                        .isEqualTo(store.search(requests.get(i)).matches());
+            }
+        }
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[16];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
     private InMemoryEmbeddingStore<TextSegment> createEmbeddingStore() {
 
         InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
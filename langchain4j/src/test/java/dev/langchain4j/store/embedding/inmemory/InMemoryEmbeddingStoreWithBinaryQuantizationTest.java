@@ -0,0 +1,98 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.inmemory.StorageMode.BINARY_QUANTIZED;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class InMemoryEmbeddingStoreWithBinaryQuantizationTest extends EmbeddingStoreWithFilteringIT {
+
+    private static final int DIMENSION = 128;
+    private static final int MAX_RESULTS = 10;
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .storageMode(BINARY_QUANTIZED)
+            .rescoring(4)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @ParameterizedTest
+    @CsvSource(
+            nullValues = "null",
+            value = {"null, 0.1", "10, 0.5", "50, 0.9"})
+    void should_approximate_exact_search(Integer oversampling, double minRecall) {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> exact = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> quantized = InMemoryEmbeddingStore.<TextSegment>builder()
+                .storageMode(BINARY_QUANTIZED)
+                .rescoring(oversampling)
+                .build();
+        for (int i = 0; i < 2000; i++) {
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = TextSegment.from("segment " + i);
+            exact.add(String.valueOf(i), embedding, segment);
+            quantized.add(String.valueOf(i), embedding, segment);
+        }
+
+        // when
+        int queries = 50;
+        double recall = 0;
+        for (int i = 0; i < queries; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .maxResults(MAX_RESULTS)
+                    .build();
+
+            Set<String> expected = exact.search(request).matches().stream()
+                    .map(EmbeddingMatch::embeddingId)
+                    .collect(toSet());
+            Set<String> actual = new HashSet<>();
+            quantized.search(request).matches().forEach(match -> actual.add(match.embeddingId()));
+
+            actual.retainAll(expected);
+            recall += (double) actual.size() / expected.size();
+        }
+
+        // then
+        assertThat(recall / queries).isGreaterThanOrEqualTo(minRecall);
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
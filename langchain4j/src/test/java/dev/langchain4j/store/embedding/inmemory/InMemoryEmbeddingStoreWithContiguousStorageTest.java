@@ -0,0 +1,73 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.inmemory.StorageMode.CONTIGUOUS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+
+class InMemoryEmbeddingStoreWithContiguousStorageTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .storageMode(CONTIGUOUS)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_serialize_to_and_deserialize_from_json() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .storageMode(CONTIGUOUS)
+                .build();
+        TextSegment segment = TextSegment.from("first");
+        store.add("1", embeddingModel.embed(segment).content(), segment);
+        TextSegment segmentWithMetadata = TextSegment.from("second", Metadata.from("key", "value"));
+        store.add("2", embeddingModel.embed(segmentWithMetadata).content(), segmentWithMetadata);
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> deserialized = InMemoryEmbeddingStore.fromJson(store.serializeToJson());
+
+        // then
+        assertThat(deserialized.entries).isEqualTo(store.copyOfEntries());
+    }
+
+    @Test
+    void should_fail_to_add_embedding_of_different_dimension() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .storageMode(CONTIGUOUS)
+                .build();
+        store.add(Embedding.from(new float[] {1, 2, 3}));
+
+        // when-then
+        assertThatThrownBy(() -> store.add(Embedding.from(new float[] {1, 2})))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The dimension of the embedding (2) must be equal to the dimension "
+                        + "of the embeddings already stored (3)");
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
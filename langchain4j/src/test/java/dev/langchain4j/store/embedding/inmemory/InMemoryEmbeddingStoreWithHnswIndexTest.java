@@ -0,0 +1,198 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class InMemoryEmbeddingStoreWithHnswIndexTest extends EmbeddingStoreWithFilteringIT {
+
+    private static final int DIMENSION = 32;
+    private static final int MAX_RESULTS = 10;
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .hnswIndex(HnswIndexConfig.defaultConfig())
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @ParameterizedTest
+    @CsvSource({"10, 0.6", "50, 0.9", "200, 0.97"})
+    void should_approximate_exact_search(int efSearch, double minRecall) {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> exact = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> approximate = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(
+                        HnswIndexConfig.builder().efSearch(efSearch).seed(42L).build())
+                .build();
+        for (int i = 0; i < 3000; i++) {
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = TextSegment.from("segment " + i, new Metadata().put("parity", i % 2));
+            exact.add(String.valueOf(i), embedding, segment);
+            approximate.add(String.valueOf(i), embedding, segment);
+        }
+
+        // when
+        double recall = averageRecall(exact, approximate, random, null);
+        double filteredRecall =
+                averageRecall(exact, approximate, random, metadataKey("parity").isEqualTo(1));
+
+        // then
+        assertThat(recall).isGreaterThanOrEqualTo(minRecall);
+        assertThat(filteredRecall).isGreaterThanOrEqualTo(minRecall);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = StorageMode.class, names = "ENTRIES", mode = EnumSource.Mode.EXCLUDE)
+    void should_fail_to_combine_index_with_other_storage_modes(StorageMode storageMode) {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.<TextSegment>builder()
+                        .hnswIndex(HnswIndexConfig.defaultConfig())
+                        .storageMode(storageMode)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The HNSW index can only be enabled for the ENTRIES storage mode, "
+                        + "but the storage mode is " + storageMode);
+    }
+
+    @Test
+    void should_not_return_removed_embeddings() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.builder().seed(42L).build())
+                .build();
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(random));
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("group", i % 5)));
+        }
+        store.addAll(ids, embeddings, segments);
+
+        // when
+        store.removeAll(ids.subList(0, 100));
+        store.removeAll(metadataKey("group").isEqualTo(4));
+
+        // then
+        for (int i = 0; i < 20; i++) {
+            List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                            .queryEmbedding(embeddings.get(100 + i))
+                            .maxResults(MAX_RESULTS)
+                            .build())
+                    .matches();
+
+            assertThat(matches).hasSize(MAX_RESULTS);
+            assertThat(matches).allSatisfy(match -> {
+                assertThat(Integer.parseInt(match.embeddingId())).isGreaterThanOrEqualTo(100);
+                assertThat(match.embedded().metadata().getInteger("group")).isNotEqualTo(4);
+            });
+        }
+    }
+
+    @Test
+    void should_rebuild_graph_when_most_embeddings_are_removed() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.builder().seed(42L).build())
+                .build();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Embedding embedding = randomEmbedding(random);
+            embeddings.add(embedding);
+            store.add(String.valueOf(i), embedding, TextSegment.from("segment " + i));
+        }
+
+        // when
+        List<String> removed = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            removed.add(String.valueOf(i));
+        }
+        store.removeAll(removed);
+
+        // then
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(299))
+                        .maxResults(100)
+                        .build())
+                .matches();
+        assertThat(matches).hasSize(50);
+        assertThat(matches.get(0).embeddingId()).isEqualTo("299");
+    }
+
+    private static double averageRecall(
+            InMemoryEmbeddingStore<TextSegment> exact,
+            InMemoryEmbeddingStore<TextSegment> approximate,
+            Random random,
+            Filter filter) {
+        int queries = 100;
+        double recall = 0;
+        for (int i = 0; i < queries; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .maxResults(MAX_RESULTS)
+                    .filter(filter)
+                    .build();
+
+            Set<String> expected = exact.search(request).matches().stream()
+                    .map(EmbeddingMatch::embeddingId)
+                    .collect(toSet());
+            Set<String> actual = new HashSet<>();
+            approximate.search(request).matches().forEach(match -> actual.add(match.embeddingId()));
+
+            actual.retainAll(expected);
+            recall += (double) actual.size() / expected.size();
+        }
+        return recall / queries;
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
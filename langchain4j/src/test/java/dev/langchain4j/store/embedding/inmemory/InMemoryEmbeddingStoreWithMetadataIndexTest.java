@@ -0,0 +1,173 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class InMemoryEmbeddingStoreWithMetadataIndexTest extends EmbeddingStoreWithFilteringIT {
+
+    private static final int DIMENSION = 16;
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .metadataIndex("key", "name", "age", "city")
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_return_same_results_as_without_index() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> unindexed = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> indexed = InMemoryEmbeddingStore.<TextSegment>builder()
+                .metadataIndex("tenant", "year", "score")
+                .build();
+        InMemoryEmbeddingStore<TextSegment> indexedHnsw = InMemoryEmbeddingStore.<TextSegment>builder()
+                .metadataIndex("tenant", "year", "score")
+                .hnswIndex(HnswIndexConfig.defaultConfig())
+                .build();
+
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            Metadata metadata = new Metadata()
+                    .put("tenant", "tenant-" + random.nextInt(100))
+                    .put("year", 2000 + random.nextInt(25))
+                    .put("score", random.nextInt(1000) / 10.0);
+            TextSegment segment = TextSegment.from("text " + i, metadata);
+            Embedding embedding = randomEmbedding(random);
+            // several small batches, so that the index consists of several segments
+            for (InMemoryEmbeddingStore<TextSegment> store : List.of(unindexed, indexed, indexedHnsw)) {
+                store.add(String.valueOf(i), embedding, segment);
+            }
+        }
+        unindexed.removeAll(metadataKey("tenant").isEqualTo("tenant-7"));
+        indexed.removeAll(metadataKey("tenant").isEqualTo("tenant-7"));
+        indexedHnsw.removeAll(metadataKey("tenant").isEqualTo("tenant-7"));
+
+        List<Filter> filters = List.of(
+                metadataKey("tenant").isEqualTo("tenant-3"),
+                metadataKey("tenant").isIn("tenant-1", "tenant-2", "tenant-7"),
+                metadataKey("tenant")
+                        .isEqualTo("tenant-3")
+                        .and(metadataKey("year").isGreaterThan(2010)),
+                metadataKey("year").isEqualTo(2003L).or(metadataKey("score").isLessThanOrEqualTo(1.5f)),
+                metadataKey("year")
+                        .isBetween(2001, 2002)
+                        .and(metadataKey("missing").isNotEqualTo("x")),
+                metadataKey("year")
+                        .isIn(2000d, 2020f)
+                        .and(Filter.not(metadataKey("tenant").isEqualTo("tenant-1"))),
+                metadataKey("year").isGreaterThan(2000));
+
+        for (Filter filter : filters) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .maxResults(10)
+                    .filter(filter)
+                    .build();
+
+            // when
+            List<EmbeddingMatch<TextSegment>> expected =
+                    unindexed.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> actual = indexed.search(request).matches();
+
+            // then
+            assertThat(expected).isNotEmpty();
+            assertThat(actual).as(filter.toString()).isEqualTo(expected);
+            if (filters.indexOf(filter) < 3) {
+                // very selective filters are answered exactly from the metadata index, even with an HNSW index
+                assertThat(indexedHnsw.search(request).matches())
+                        .as(filter.toString())
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void should_remove_entries_found_in_index() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .storageMode(StorageMode.CONTIGUOUS)
+                .metadataIndex("type")
+                .build();
+        store.add("1", Embedding.from(new float[] {1, 0}), TextSegment.from("first", Metadata.from("type", "a")));
+        store.add("2", Embedding.from(new float[] {0, 1}), TextSegment.from("second", Metadata.from("type", "b")));
+        store.add("3", Embedding.from(new float[] {1, 1}));
+
+        // when
+        store.removeAll(metadataKey("type").isEqualTo("a"));
+
+        // then
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(Embedding.from(new float[] {1, 0}))
+                        .maxResults(10)
+                        .build())
+                .matches();
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactly("3", "2");
+
+        matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(Embedding.from(new float[] {1, 0}))
+                        .filter(metadataKey("type").isEqualTo("b"))
+                        .maxResults(10)
+                        .build())
+                .matches();
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactly("3", "2");
+    }
+
+    @Test
+    void should_fail_on_type_mismatch_of_indexed_values() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .metadataIndex("key")
+                .build();
+        store.add("1", Embedding.from(new float[] {1, 0}), TextSegment.from("first", Metadata.from("key", "a")));
+        store.add("2", Embedding.from(new float[] {0, 1}), TextSegment.from("second", new Metadata().put("key", 1)));
+
+        // when-then
+        assertThatThrownBy(() -> store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(Embedding.from(new float[] {1, 0}))
+                        .filter(metadataKey("key").isEqualTo("a"))
+                        .build()))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Type mismatch");
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
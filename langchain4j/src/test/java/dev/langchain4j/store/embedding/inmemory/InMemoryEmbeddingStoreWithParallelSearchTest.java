@@ -0,0 +1,127 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class InMemoryEmbeddingStoreWithParallelSearchTest extends EmbeddingStoreWithFilteringIT {
+
+    private static final int DIMENSION = 16;
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    EmbeddingStore<TextSegment> embeddingStore =
+            InMemoryEmbeddingStore.<TextSegment>builder().parallelSearch(1).build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    void should_return_same_results_as_sequential_search(StorageMode storageMode) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> sequential = InMemoryEmbeddingStore.<TextSegment>builder()
+                .storageMode(storageMode)
+                .build();
+        InMemoryEmbeddingStore<TextSegment> parallel = InMemoryEmbeddingStore.<TextSegment>builder()
+                .storageMode(storageMode)
+                .parallelSearch(100)
+                .searchExecutor(executor)
+                .build();
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            // every embedding is added twice, so that there are many ties
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = TextSegment.from("text " + i, new Metadata().put("group", i % 10));
+            for (InMemoryEmbeddingStore<TextSegment> store : List.of(sequential, parallel)) {
+                store.add(i + "a", embedding, segment);
+                store.add(i + "b", embedding, segment);
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .maxResults(25)
+                    .minScore(i % 2 == 0 ? 0 : 0.6)
+                    .filter(i % 3 == 0 ? metadataKey("group").isLessThan(5) : null)
+                    .build();
+
+            // when
+            List<EmbeddingMatch<TextSegment>> expected =
+                    sequential.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> actual = parallel.search(request).matches();
+
+            // then
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void should_propagate_exceptions_of_parallel_chunks() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .parallelSearch(1)
+                .searchExecutor(executor)
+                .build();
+        store.add("1", Embedding.from(new float[] {1, 0}), TextSegment.from("first", new Metadata().put("key", 1)));
+        store.add("2", Embedding.from(new float[] {0, 1}), TextSegment.from("second", new Metadata().put("key", 2)));
+        store.add("3", Embedding.from(new float[] {1, 1}), TextSegment.from("third", new Metadata().put("key", "3")));
+
+        // when-then
+        assertThatThrownBy(() -> store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(Embedding.from(new float[] {1, 0}))
+                        .filter(metadataKey("key").isEqualTo(1))
+                        .build()))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Type mismatch");
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
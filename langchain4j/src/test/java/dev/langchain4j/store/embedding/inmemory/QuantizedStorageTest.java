@@ -0,0 +1,232 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class QuantizedStorageTest {
+
+    private static final int DIMENSION = 70;
+
+    Random random = new Random(42);
+
+    @Test
+    void should_approximate_vectors_with_scalar_quantization() {
+
+        // given
+        QuantizedStorage<String> storage = new QuantizedStorage<>(ScalarQuantizer::new, false, 1);
+        List<Entry<String>> entries = randomEntries(0, 100, 1);
+
+        // when
+        storage.addAll(entries);
+
+        // then
+        EntryStorage.Snapshot<String> snapshot = storage.snapshot();
+        assertThat(snapshot.size()).isEqualTo(entries.size());
+        for (int slot = 0; slot < entries.size(); slot++) {
+            assertThat(snapshot.id(slot)).isEqualTo(entries.get(slot).id);
+            assertThat(snapshot.embedded(slot)).isEqualTo(entries.get(slot).embedded);
+            float[] expected = entries.get(slot).embedding.vector();
+            float[] actual = snapshot.embedding(slot).vector();
+            for (int i = 0; i < DIMENSION; i++) {
+                // half of a step of the [-1..1] range divided into 255 levels
+                assertThat(actual[i]).isCloseTo(expected[i], within(1f / 255 + 1e-6f));
+            }
+        }
+    }
+
+    @Test
+    void should_keep_full_precision_until_calibration_sample_is_complete() {
+
+        // given
+        QuantizedStorage<String> storage = new QuantizedStorage<>(ScalarQuantizer::new, false, 50);
+        List<Entry<String>> entries = randomEntries(0, 30, 1);
+        Embedding query = randomEmbedding(1);
+
+        // when
+        storage.addAll(entries);
+
+        // then
+        EntryStorage.Snapshot<String> snapshot = storage.snapshot();
+        assertThat(snapshot.isApproximate()).isFalse();
+        assertThat(snapshot.entries()).isEqualTo(entries);
+        assertScoresAreClose(snapshot, entries, query, 1e-6);
+
+        // when
+        List<Entry<String>> more = randomEntries(30, 30, 1);
+        storage.addAll(more);
+
+        // then
+        List<Entry<String>> all = new ArrayList<>(entries);
+        all.addAll(more);
+        EntryStorage.Snapshot<String> calibrated = storage.snapshot();
+        assertThat(calibrated.isApproximate()).isTrue();
+        assertThat(calibrated.size()).isEqualTo(all.size());
+        assertScoresAreClose(calibrated, all, query, 0.05);
+        assertThat(snapshot.isApproximate()).isFalse();
+    }
+
+    @Test
+    void should_clip_vectors_outside_calibrated_range_without_encoding_stored_vectors_again() {
+
+        // given
+        QuantizedStorage<String> storage = new QuantizedStorage<>(ScalarQuantizer::new, false, 50);
+        storage.addAll(randomEntries(0, 50, 1));
+        EntryStorage.Snapshot<String> calibrated = storage.snapshot();
+
+        // when
+        storage.addAll(randomEntries(50, 50, 4));
+
+        // then
+        EntryStorage.Snapshot<String> snapshot = storage.snapshot();
+        for (int slot = 0; slot < calibrated.size(); slot++) {
+            assertThat(snapshot.embedding(slot)).isEqualTo(calibrated.embedding(slot));
+        }
+        for (int slot = calibrated.size(); slot < snapshot.size(); slot++) {
+            for (float value : snapshot.embedding(slot).vector()) {
+                assertThat(Math.abs(value)).isLessThanOrEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    void should_quantize_all_vectors_again_when_recalibrated() {
+
+        // given
+        QuantizedStorage<String> storage = new QuantizedStorage<>(ScalarQuantizer::new, true, 50);
+        List<Entry<String>> entries = randomEntries(0, 50, 1);
+        List<Entry<String>> wider = randomEntries(50, 50, 4);
+        storage.addAll(entries);
+        storage.addAll(wider);
+        EntryStorage.Snapshot<String> before = storage.snapshot();
+
+        // when
+        storage.recalibrate();
+
+        // then
+        List<Entry<String>> all = new ArrayList<>(entries);
+        all.addAll(wider);
+        EntryStorage.Snapshot<String> recalibrated = storage.snapshot();
+        assertThat(recalibrated.entries()).isEqualTo(all);
+        assertScoresAreClose(recalibrated, all, randomEmbedding(1), 0.05);
+        assertThat(before.entries()).isEqualTo(all);
+    }
+
+    @Test
+    void should_score_like_cosine_similarity_between_sign_vectors_with_binary_quantization() {
+
+        // given
+        QuantizedStorage<String> storage = new QuantizedStorage<>(BinaryQuantizer::new, false, 1);
+        List<Entry<String>> entries = randomEntries(0, 20, 1);
+        storage.addAll(entries);
+        Embedding query = randomEmbedding(1);
+
+        // when
+        EntryStorage.Snapshot<String> snapshot = storage.snapshot();
+        EntryStorage.SlotScorer scorer = snapshot.scorer(query.vector(), norm(query));
+
+        // then
+        Embedding querySigns = signs(query);
+        for (int slot = 0; slot < entries.size(); slot++) {
+            Embedding signs = signs(entries.get(slot).embedding);
+            assertThat(snapshot.embedding(slot)).isEqualTo(signs);
+            assertThat(scorer.cosineSimilarity(slot))
+                    .isCloseTo(CosineSimilarity.between(querySigns, signs), within(1e-6));
+        }
+    }
+
+    @Test
+    void should_rescore_with_full_precision() {
+
+        // given
+        QuantizedStorage<String> storage = new QuantizedStorage<>(BinaryQuantizer::new, true, 1);
+        List<Entry<String>> entries = randomEntries(0, 20, 1);
+        storage.addAll(entries);
+        Embedding query = randomEmbedding(1);
+
+        // when
+        EntryStorage.Snapshot<String> snapshot = storage.snapshot();
+
+        // then
+        assertThat(snapshot.isApproximate()).isTrue();
+        assertThat(snapshot.entries()).isEqualTo(entries);
+        for (int slot = 0; slot < entries.size(); slot++) {
+            assertThat(snapshot.exactCosineSimilarity(slot, query.vector(), norm(query)))
+                    .isCloseTo(CosineSimilarity.between(entries.get(slot).embedding, query), within(1e-6));
+        }
+    }
+
+    @Test
+    void should_remove_entries_and_keep_snapshots_unchanged() {
+
+        // given
+        QuantizedStorage<String> storage = new QuantizedStorage<>(ScalarQuantizer::new, true, 1);
+        List<Entry<String>> entries = randomEntries(0, 100, 1);
+        storage.addAll(entries);
+        EntryStorage.Snapshot<String> before = storage.snapshot();
+
+        // when
+        storage.removeIf((id, embedded) -> Integer.parseInt(id) % 3 == 0);
+        List<Entry<String>> more = randomEntries(100, 10, 1);
+        storage.addAll(more);
+
+        // then
+        List<Entry<String>> expected = new ArrayList<>(entries);
+        expected.removeIf(entry -> Integer.parseInt(entry.id) % 3 == 0);
+        expected.addAll(more);
+        assertThat(storage.snapshot().entries()).isEqualTo(expected);
+        assertThat(before.entries()).isEqualTo(entries);
+
+        // when
+        storage.clear();
+
+        // then
+        assertThat(storage.snapshot().size()).isZero();
+        assertThat(before.entries()).isEqualTo(entries);
+    }
+
+    private static void assertScoresAreClose(
+            EntryStorage.Snapshot<String> snapshot, List<Entry<String>> entries, Embedding query, double tolerance) {
+        EntryStorage.SlotScorer scorer = snapshot.scorer(query.vector(), norm(query));
+        for (int slot = 0; slot < entries.size(); slot++) {
+            assertThat(scorer.cosineSimilarity(slot))
+                    .isCloseTo(CosineSimilarity.between(entries.get(slot).embedding, query), within(tolerance));
+        }
+    }
+
+    private static double norm(Embedding embedding) {
+        return SimilarityKernels.defaultKernel().norm(embedding.vector(), 0, embedding.dimension());
+    }
+
+    private static Embedding signs(Embedding embedding) {
+        float[] signs = new float[embedding.dimension()];
+        for (int i = 0; i < signs.length; i++) {
+            signs[i] = embedding.vector()[i] > 0 ? 1 : -1;
+        }
+        return Embedding.from(signs);
+    }
+
+    private List<Entry<String>> randomEntries(int firstId, int count, float range) {
+        List<Entry<String>> entries = new ArrayList<>(count);
+        for (int i = firstId; i < firstId + count; i++) {
+            entries.add(new Entry<>(String.valueOf(i), randomEmbedding(range), "embedded " + i));
+        }
+        return entries;
+    }
+
+    private Embedding randomEmbedding(float range) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (2 * random.nextFloat() - 1) * range;
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -0,0 +1,118 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.inmemory.VectorArena.SEGMENT_CAPACITY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class VectorArenaTest {
+
+    private static final int DIMENSION = 8;
+
+    Random random = new Random(42);
+
+    @Test
+    void should_add_entries_across_multiple_segments() {
+
+        // given
+        VectorArena<String> arena = new VectorArena<>();
+        List<Entry<String>> entries = randomEntries(2 * SEGMENT_CAPACITY + 10);
+
+        // when
+        arena.addAll(entries.subList(0, 1));
+        for (int i = 1; i < entries.size(); i += 1000) {
+            arena.addAll(entries.subList(i, Math.min(i + 1000, entries.size())));
+        }
+
+        // then
+        assertThat(arena.snapshot().entries()).isEqualTo(entries);
+    }
+
+    @Test
+    void should_remove_entries_across_multiple_segments() {
+
+        // given
+        VectorArena<String> arena = new VectorArena<>();
+        List<Entry<String>> entries = randomEntries(3 * SEGMENT_CAPACITY);
+        arena.addAll(entries);
+
+        // when
+        arena.removeIf((id, embedded) -> Integer.parseInt(id) > SEGMENT_CAPACITY && Integer.parseInt(id) % 3 == 0);
+
+        // then
+        List<Entry<String>> expected = new ArrayList<>(entries);
+        expected.removeIf(
+                entry -> Integer.parseInt(entry.id) > SEGMENT_CAPACITY && Integer.parseInt(entry.id) % 3 == 0);
+        assertThat(arena.snapshot().entries()).isEqualTo(expected);
+
+        // when
+        List<Entry<String>> more = randomEntries(10);
+        arena.addAll(more);
+
+        // then
+        expected.addAll(more);
+        assertThat(arena.snapshot().entries()).isEqualTo(expected);
+    }
+
+    @Test
+    void snapshot_should_not_see_later_mutations() {
+
+        // given
+        VectorArena<String> arena = new VectorArena<>();
+        List<Entry<String>> entries = randomEntries(100);
+        arena.addAll(entries);
+
+        // when
+        EntryStorage.Snapshot<String> snapshot = arena.snapshot();
+        arena.removeIf((id, embedded) -> Integer.parseInt(id) % 2 == 0);
+        arena.addAll(randomEntries(100));
+        arena.clear();
+
+        // then
+        assertThat(snapshot.entries()).isEqualTo(entries);
+    }
+
+    @Test
+    void should_calculate_cosine_similarity_like_cosine_similarity_between() {
+
+        // given
+        VectorArena<String> arena = new VectorArena<>();
+        List<Entry<String>> entries = randomEntries(100);
+        arena.addAll(entries);
+        Embedding query = randomEmbedding();
+
+        // when
+        EntryStorage.Snapshot<String> snapshot = arena.snapshot();
+        double queryNorm = SimilarityKernels.defaultKernel().norm(query.vector(), 0, query.dimension());
+
+        // then
+        for (int slot = 0; slot < entries.size(); slot++) {
+            assertThat(snapshot.cosineSimilarity(slot, query.vector(), queryNorm))
+                    .isCloseTo(CosineSimilarity.between(entries.get(slot).embedding, query), within(1e-6));
+        }
+    }
+
+    private List<Entry<String>> randomEntries(int count) {
+        List<Entry<String>> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry<>(String.valueOf(i), randomEmbedding(), "embedded " + i));
+        }
+        return entries;
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = random.nextFloat();
+        }
+        return Embedding.from(vector);
+    }
+}
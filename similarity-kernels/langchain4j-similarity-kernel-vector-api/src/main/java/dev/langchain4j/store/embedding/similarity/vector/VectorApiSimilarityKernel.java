@@ -0,0 +1,140 @@
+package dev.langchain4j.store.embedding.similarity.vector;
+
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.similarity.ScalarSimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A {@link SimilarityKernel} using the JDK Vector API ({@code jdk.incubator.vector}),
+ * which is compiled to SIMD instructions (e.g., AVX2, AVX-512 or NEON) of the current CPU.
+ * <p>
+ * Vectors are processed in chunks of {@link FloatVector#SPECIES_PREFERRED} lanes using fused multiply-adds,
+ * and the remaining tail is processed by scalar code.
+ * Cosine similarities and norms are accumulated in {@code double} lanes, like {@link ScalarSimilarityKernel},
+ * so that they stay within rounding of the scalar results at any dimension.
+ * <p>
+ * This class can only be loaded when the {@code jdk.incubator.vector} module is available,
+ * see {@link VectorApiSimilarityKernelFactory}.
+ */
+public class VectorApiSimilarityKernel implements SimilarityKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /**
+     * The number of {@link #DOUBLE_SPECIES} vectors that a {@link #SPECIES} vector is widened to.
+     */
+    private static final int PARTS = SPECIES.length() / DOUBLE_SPECIES.length();
+
+    @Override
+    public float dotProduct(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            sum = va.fma(vb, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public float squaredEuclideanDistance(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            FloatVector difference = va.sub(vb);
+            sum = difference.fma(difference, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float difference = a[aOffset + i] - b[bOffset + i];
+            result += difference * difference;
+        }
+        return result;
+    }
+
+    @Override
+    public double cosineSimilarity(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        DoubleVector dotProductSum = DoubleVector.zero(DOUBLE_SPECIES);
+        DoubleVector normASum = DoubleVector.zero(DOUBLE_SPECIES);
+        DoubleVector normBSum = DoubleVector.zero(DOUBLE_SPECIES);
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            FloatVector dotProducts = va.mul(vb);
+            FloatVector squaresA = va.mul(va);
+            FloatVector squaresB = vb.mul(vb);
+            for (int part = 0; part < PARTS; part++) {
+                dotProductSum = dotProductSum.add(toDoubles(dotProducts, part));
+                normASum = normASum.add(toDoubles(squaresA, part));
+                normBSum = normBSum.add(toDoubles(squaresB, part));
+            }
+        }
+        double dotProduct = dotProductSum.reduceLanes(VectorOperators.ADD);
+        double normA = normASum.reduceLanes(VectorOperators.ADD);
+        double normB = normBSum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float valueA = a[aOffset + i];
+            float valueB = b[bOffset + i];
+            dotProduct += valueA * valueB;
+            normA += valueA * valueA;
+            normB += valueB * valueB;
+        }
+        return dotProduct / Math.max(Math.sqrt(normA) * Math.sqrt(normB), CosineSimilarity.EPSILON);
+    }
+
+    @Override
+    public double cosineSimilarity(
+            float[] a, int aOffset, double aNorm, float[] b, int bOffset, double bNorm, int length) {
+        return doubleDotProduct(a, aOffset, b, bOffset, length) / Math.max(aNorm * bNorm, CosineSimilarity.EPSILON);
+    }
+
+    @Override
+    public double norm(float[] vector, int offset, int length) {
+        return Math.sqrt(doubleDotProduct(vector, offset, vector, offset, length));
+    }
+
+    /**
+     * Calculates a dot product accumulated in {@code double}, like {@link ScalarSimilarityKernel},
+     * so that cosine similarities and norms do not lose precision at high dimensions.
+     * The products are calculated in {@code float} lanes, as the scalar kernel does, and only their sums are
+     * widened, so the results only differ from the scalar kernel by the order of the additions.
+     */
+    private static double doubleDotProduct(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        DoubleVector sum = DoubleVector.zero(DOUBLE_SPECIES);
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            FloatVector products = va.mul(vb);
+            for (int part = 0; part < PARTS; part++) {
+                sum = sum.add(toDoubles(products, part));
+            }
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    private static DoubleVector toDoubles(FloatVector vector, int part) {
+        return (DoubleVector) vector.convertShape(VectorOperators.F2D, DOUBLE_SPECIES, part);
+    }
+
+    @Override
+    public String toString() {
+        return "VectorApiSimilarityKernel{" + "species=" + SPECIES + '}';
+    }
+}
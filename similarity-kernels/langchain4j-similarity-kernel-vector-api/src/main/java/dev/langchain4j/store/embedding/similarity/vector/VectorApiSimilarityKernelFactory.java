@@ -0,0 +1,31 @@
+package dev.langchain4j.store.embedding.similarity.vector;
+
+import dev.langchain4j.spi.store.embedding.similarity.SimilarityKernelFactory;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides {@link VectorApiSimilarityKernel} when the {@code jdk.incubator.vector} module
+ * has been added to the JVM (e.g., with {@code --add-modules jdk.incubator.vector}).
+ * Otherwise, {@code null} is returned, so that the default scalar kernel is used.
+ */
+public class VectorApiSimilarityKernelFactory implements SimilarityKernelFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(VectorApiSimilarityKernelFactory.class);
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    @Override
+    public SimilarityKernel create() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            log.debug(
+                    "Module {} is not available, add it with '--add-modules {}' to use {}",
+                    VECTOR_MODULE,
+                    VECTOR_MODULE,
+                    VectorApiSimilarityKernel.class.getSimpleName());
+            return null;
+        }
+        return new VectorApiSimilarityKernel();
+    }
+}
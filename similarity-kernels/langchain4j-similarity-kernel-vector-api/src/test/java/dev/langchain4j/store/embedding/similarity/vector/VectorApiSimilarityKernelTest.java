@@ -0,0 +1,88 @@
+package dev.langchain4j.store.embedding.similarity.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.langchain4j.store.embedding.similarity.ScalarSimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernel;
+import dev.langchain4j.store.embedding.similarity.SimilarityKernels;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class VectorApiSimilarityKernelTest {
+
+    private final SimilarityKernel kernel = new VectorApiSimilarityKernel();
+    private final SimilarityKernel scalarKernel = new ScalarSimilarityKernel();
+
+    @Test
+    void should_be_loaded_as_default_kernel() {
+        assertThat(SimilarityKernels.defaultKernel()).isInstanceOf(VectorApiSimilarityKernel.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 8, 16, 33, 384, 1025})
+    void should_compute_same_results_as_scalar_kernel(int dimension) {
+
+        // given
+        Random random = new Random(dimension);
+        int aOffset = 3;
+        int bOffset = 5;
+        float[] a = randomVector(random, aOffset + dimension);
+        float[] b = randomVector(random, bOffset + dimension);
+        double aNorm = scalarKernel.norm(a, aOffset, dimension);
+        double bNorm = scalarKernel.norm(b, bOffset, dimension);
+
+        // when-then
+        assertThat(kernel.dotProduct(a, aOffset, b, bOffset, dimension))
+                .isCloseTo(scalarKernel.dotProduct(a, aOffset, b, bOffset, dimension), within(1e-3f));
+        assertThat(kernel.squaredEuclideanDistance(a, aOffset, b, bOffset, dimension))
+                .isCloseTo(scalarKernel.squaredEuclideanDistance(a, aOffset, b, bOffset, dimension), within(1e-3f));
+        assertThat(kernel.cosineSimilarity(a, aOffset, b, bOffset, dimension))
+                .isCloseTo(scalarKernel.cosineSimilarity(a, aOffset, b, bOffset, dimension), within(1e-5));
+        assertThat(kernel.cosineSimilarity(a, aOffset, aNorm, b, bOffset, bNorm, dimension))
+                .isCloseTo(scalarKernel.cosineSimilarity(a, aOffset, b, bOffset, dimension), within(1e-5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 8, 16, 33, 384, 1025, 4096})
+    void should_compute_norms_and_cosine_similarities_as_scalar_kernel_within_double_rounding(int dimension) {
+
+        // given
+        Random random = new Random(dimension);
+        int aOffset = 3;
+        int bOffset = 5;
+        float[] a = randomVector(random, aOffset + dimension);
+        float[] b = randomVector(random, bOffset + dimension);
+        double aNorm = scalarKernel.norm(a, aOffset, dimension);
+        double bNorm = scalarKernel.norm(b, bOffset, dimension);
+
+        // when-then
+        assertThat(kernel.norm(a, aOffset, dimension)).isCloseTo(aNorm, within(1e-12 * aNorm));
+        assertThat(kernel.norm(b, bOffset, dimension)).isCloseTo(bNorm, within(1e-12 * bNorm));
+        assertThat(kernel.cosineSimilarity(a, aOffset, b, bOffset, dimension))
+                .isCloseTo(scalarKernel.cosineSimilarity(a, aOffset, b, bOffset, dimension), within(1e-12));
+        assertThat(kernel.cosineSimilarity(a, aOffset, aNorm, b, bOffset, bNorm, dimension))
+                .isCloseTo(
+                        scalarKernel.cosineSimilarity(a, aOffset, aNorm, b, bOffset, bNorm, dimension), within(1e-12));
+    }
+
+    @Test
+    void should_consider_zero_vectors_orthogonal() {
+
+        // given
+        float[] zeros = new float[20];
+
+        // when-then
+        assertThat(kernel.cosineSimilarity(zeros, 0, zeros, 0, zeros.length)).isZero();
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}